@@ -0,0 +1,108 @@
+package codes.castled.gpexpansion.gp;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shaped-claim geometry on a synthetic staircase claim: map-page coverage, rasterizing the
+ * polygon, tracing it back to corners, and the raster work of a map merge and subtract.
+ * <p>
+ * The staircase has {@code size / 8} steps, so every claim size is a genuinely shaped polygon and
+ * per-block containment has to walk a proportional number of edges.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClaimGeometryBenchmark {
+
+    private static final int ORIGIN = 1000;
+    private static final int MAP_COLUMNS = 9;
+    private static final int MAP_ROWS = 5;
+
+    @Param({"64", "256", "1024"})
+    public int size;
+
+    private GPBridge.PolygonView polygon;
+    private CellRaster raster;
+    private int tileSize;
+
+    @Setup
+    public void setup() {
+        int steps = Math.max(2, size / 8);
+        int step = size / steps;
+        int[] xs = new int[2 * steps + 2];
+        int[] zs = new int[2 * steps + 2];
+        int n = 0;
+        int x = ORIGIN + size - 1;
+        int z = ORIGIN;
+        xs[n] = ORIGIN; zs[n++] = ORIGIN;
+        xs[n] = x; zs[n++] = z;
+        for (int i = 1; i <= steps; i++) {
+            z = i == steps ? ORIGIN + size - 1 : z + step;
+            xs[n] = x; zs[n++] = z;
+            if (i < steps) {
+                x -= step;
+                xs[n] = x; zs[n++] = z;
+            }
+        }
+        xs[n] = ORIGIN; zs[n++] = ORIGIN + size - 1;
+        xs = java.util.Arrays.copyOf(xs, n);
+        zs = java.util.Arrays.copyOf(zs, n);
+
+        int max = ORIGIN + size - 1;
+        polygon = new GPBridge.PolygonView(xs, zs, ORIGIN, max, ORIGIN, max);
+        raster = CellRaster.ofPolygon(xs, zs, ORIGIN, max, ORIGIN, max);
+        // A map page framed on the claim, as the claim-map editor opens it
+        tileSize = Math.max(1, (size + MAP_COLUMNS - 1) / MAP_COLUMNS);
+    }
+
+    /** One claim-map render: coverage of every tile on the page. */
+    @Benchmark
+    public void coverageMapPage(Blackhole bh) {
+        for (int col = 0; col < MAP_COLUMNS; col++) {
+            int minX = ORIGIN + col * tileSize;
+            for (int row = 0; row < MAP_ROWS; row++) {
+                int minZ = ORIGIN + row * tileSize * 2;
+                bh.consume(GPBridge.countCoverage(polygon, minX, minX + tileSize - 1, minZ, minZ + tileSize * 2 - 1));
+            }
+        }
+    }
+
+    @Benchmark
+    public CellRaster rasterizePolygon() {
+        return CellRaster.ofPolygon(polygon.xs, polygon.zs, polygon.minX, polygon.maxX, polygon.minZ, polygon.maxZ);
+    }
+
+    @Benchmark
+    public int[] traceBoundary() {
+        return raster.traceBoundary();
+    }
+
+    /** Merge a selection touching the claim's east edge and trace the result. */
+    @Benchmark
+    public int[] mergeSelection() {
+        int patchMinX = polygon.maxX + 1;
+        int patchMaxX = patchMinX + tileSize - 1;
+        CellRaster patch = new CellRaster(patchMinX, patchMaxX, polygon.minZ, polygon.minZ + tileSize - 1);
+        patch.fillRect(patchMinX, patchMaxX, polygon.minZ, polygon.minZ + tileSize - 1);
+        CellRaster merged = raster.copy();
+        if (!merged.touches(patch)) {
+            throw new IllegalStateException("Patch does not touch the claim");
+        }
+        merged.or(patch);
+        return merged.traceBoundary();
+    }
+
+    /** Cut a selection out of the claim's south-west corner and trace the remainder. */
+    @Benchmark
+    public int[] subtractSelection() {
+        CellRaster remaining = raster.copy();
+        remaining.clearRect(polygon.minX, polygon.minX + tileSize - 1, polygon.minZ, polygon.minZ + tileSize - 1);
+        return remaining.traceBoundary();
+    }
+}
@@ -0,0 +1,148 @@
+package codes.castled.gpexpansion.gp;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shaped-claim plan scoring in the claim map editor: finding the edge each direction would grow
+ * from for a selected map cell, and ranking the resulting plans by their resize previews.
+ * <p>
+ * The claim is the staircase from {@link ClaimGeometryBenchmark}, standing in for GriefPrevention:
+ * containment is read from its raster, its edges are taken from its corners, and previews are
+ * built from the plan instead of asking GP. Cells sit just outside each edge, one map tile deep.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClaimPlanScoringBenchmark {
+
+    private static final int ORIGIN = 1000;
+    private static final int MAP_COLUMNS = 9;
+    private static final int TOLERANCE = 2;
+
+    @Param({"64", "256", "1024"})
+    public int size;
+
+    private ClaimMapEditorBridge.ClaimColumns claim;
+    private final Map<GPBridge.ResizeDirection, List<GPBridge.SegmentEdgeInfo>> edges =
+            new EnumMap<>(GPBridge.ResizeDirection.class);
+    private ClaimMapEditorBridge.CellSelection[] cells;
+    private List<List<ClaimMapEditorBridge.OperationPlan>> rankable;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        int steps = Math.max(2, size / 8);
+        int step = size / steps;
+        int[] xs = new int[2 * steps + 2];
+        int[] zs = new int[2 * steps + 2];
+        int n = 0;
+        int x = ORIGIN + size - 1;
+        int z = ORIGIN;
+        xs[n] = ORIGIN; zs[n++] = ORIGIN;
+        xs[n] = x; zs[n++] = z;
+        for (int i = 1; i <= steps; i++) {
+            z = i == steps ? ORIGIN + size - 1 : z + step;
+            xs[n] = x; zs[n++] = z;
+            if (i < steps) {
+                x -= step;
+                xs[n] = x; zs[n++] = z;
+            }
+        }
+        xs[n] = ORIGIN; zs[n++] = ORIGIN + size - 1;
+        xs = java.util.Arrays.copyOf(xs, n);
+        zs = java.util.Arrays.copyOf(zs, n);
+
+        int max = ORIGIN + size - 1;
+        CellRaster raster = CellRaster.ofPolygon(xs, zs, ORIGIN, max, ORIGIN, max);
+        claim = raster::get;
+        int tileSize = Math.max(1, (size + MAP_COLUMNS - 1) / MAP_COLUMNS);
+
+        List<ClaimMapEditorBridge.CellSelection> outside = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            int x1 = xs[i], z1 = zs[i];
+            int x2 = xs[(i + 1) % n], z2 = zs[(i + 1) % n];
+            GPBridge.SegmentEdgeInfo edge;
+            ClaimMapEditorBridge.CellSelection cell;
+            if (z1 == z2) {
+                int minAlong = Math.min(x1, x2), maxAlong = Math.max(x1, x2);
+                int mid = (minAlong + maxAlong) / 2;
+                boolean north = !raster.get(mid, z1 - 1);
+                GPBridge.ResizeDirection direction = north ? GPBridge.ResizeDirection.NORTH : GPBridge.ResizeDirection.SOUTH;
+                edge = new GPBridge.SegmentEdgeInfo(i, direction, z1, minAlong, maxAlong, true);
+                int cellMinZ = north ? z1 - tileSize : z1 + 1;
+                cell = cell(mid - tileSize / 2, cellMinZ, tileSize);
+            } else {
+                int minAlong = Math.min(z1, z2), maxAlong = Math.max(z1, z2);
+                int mid = (minAlong + maxAlong) / 2;
+                boolean west = !raster.get(x1 - 1, mid);
+                GPBridge.ResizeDirection direction = west ? GPBridge.ResizeDirection.WEST : GPBridge.ResizeDirection.EAST;
+                edge = new GPBridge.SegmentEdgeInfo(i, direction, x1, minAlong, maxAlong, false);
+                int cellMinX = west ? x1 - tileSize : x1 + 1;
+                cell = cell(cellMinX, mid - tileSize / 2, tileSize);
+            }
+            edges.computeIfAbsent(edge.direction, d -> new ArrayList<>()).add(edge);
+            outside.add(cell);
+        }
+        cells = outside.toArray(new ClaimMapEditorBridge.CellSelection[0]);
+
+        // Cells that leave more than one plan are the ones the bridge has to rank
+        rankable = new ArrayList<>();
+        for (ClaimMapEditorBridge.CellSelection cell : cells) {
+            List<ClaimMapEditorBridge.OperationPlan> plans = candidates(cell);
+            if (plans.size() > 1) {
+                rankable.add(plans);
+            }
+        }
+        if (rankable.isEmpty()) {
+            rankable.add(candidates(cells[0]));
+        }
+    }
+
+    /** Candidate plans for the next cell, with the strict pass falling back to the tolerant one. */
+    @Benchmark
+    public List<ClaimMapEditorBridge.OperationPlan> buildCandidates() {
+        return candidates(cells[cursor++ % cells.length]);
+    }
+
+    @Benchmark
+    public ClaimMapEditorBridge.OperationPlan pickBestPlan() {
+        List<ClaimMapEditorBridge.OperationPlan> plans = rankable.get(cursor++ % rankable.size());
+        return ClaimMapEditorBridge.pickBestShapedPlan(plans, ClaimPlanScoringBenchmark::preview);
+    }
+
+    private List<ClaimMapEditorBridge.OperationPlan> candidates(ClaimMapEditorBridge.CellSelection cell) {
+        List<ClaimMapEditorBridge.OperationPlan> strict =
+                ClaimMapEditorBridge.buildShapedClaimPlanCandidates(claim, this::edgesFor, cell, 0);
+        return !strict.isEmpty()
+                ? strict
+                : ClaimMapEditorBridge.buildShapedClaimPlanCandidates(claim, this::edgesFor, cell, TOLERANCE);
+    }
+
+    private List<GPBridge.SegmentEdgeInfo> edgesFor(GPBridge.ResizeDirection direction) {
+        return edges.getOrDefault(direction, List.of());
+    }
+
+    private static ClaimMapEditorBridge.CellSelection cell(int minX, int minZ, int tileSize) {
+        int maxX = minX + tileSize - 1;
+        int maxZ = minZ + tileSize - 1;
+        return new ClaimMapEditorBridge.CellSelection(null, minX, maxX, minZ, maxZ, (minX + maxX) / 2, (minZ + maxZ) / 2);
+    }
+
+    /** A valid expansion covering the overlapped span, as GP would preview it for an unobstructed claim. */
+    private static GPBridge.ResizePreview preview(ClaimMapEditorBridge.OperationPlan plan) {
+        int overlap = plan.overlapLength() != null ? plan.overlapLength() : 1;
+        int delta = plan.offset() * overlap;
+        return new GPBridge.ResizePreview(true, true, GPBridge.ResizeFailureReason.NONE,
+                plan.offset(), plan.offset(), plan.offset(), 0, 5, 25, Integer.MAX_VALUE,
+                0, 0, 0, 0, 0, 0, 0, 0, delta, null, null);
+    }
+}
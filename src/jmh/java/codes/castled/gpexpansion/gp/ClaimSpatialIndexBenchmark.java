@@ -0,0 +1,79 @@
+package codes.castled.gpexpansion.gp;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Claim lookups against a world of synthetic rectangular claims: the point query behind every
+ * move and interaction check, the rectangle query behind a claim-map page, and a full rebuild.
+ * Claims are 10 to 100 blocks a side, scattered so roughly a quarter of the world is claimed.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClaimSpatialIndexBenchmark {
+
+    private static final String WORLD = "world";
+    private static final int QUERIES = 4096;
+
+    @Param({"1000", "10000", "100000"})
+    public int claims;
+
+    private int[][] boxes;
+    private ClaimSpatialIndex index;
+    private int[] pointX;
+    private int[] pointZ;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42L);
+        int extent = (int) Math.sqrt(claims * 55.0 * 55.0 * 4.0);
+        boxes = new int[claims][];
+        index = new ClaimSpatialIndex();
+        for (int i = 0; i < claims; i++) {
+            int x = random.nextInt(-extent / 2, extent / 2);
+            int z = random.nextInt(-extent / 2, extent / 2);
+            boxes[i] = new int[]{x, z, x + random.nextInt(10, 101), z + random.nextInt(10, 101)};
+            index.put(String.valueOf(i), WORLD, boxes[i][0], boxes[i][1], boxes[i][2], boxes[i][3]);
+        }
+        pointX = new int[QUERIES];
+        pointZ = new int[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            pointX[i] = random.nextInt(-extent / 2, extent / 2);
+            pointZ[i] = random.nextInt(-extent / 2, extent / 2);
+        }
+    }
+
+    @Benchmark
+    public List<ClaimSpatialIndex.Bounds> pointLookup() {
+        int i = cursor++ & (QUERIES - 1);
+        return index.intersecting(WORLD, pointX[i], pointX[i], pointZ[i], pointZ[i]);
+    }
+
+    /** A 9x5 map page at 32 blocks per tile. */
+    @Benchmark
+    public List<ClaimSpatialIndex.Bounds> mapPageLookup() {
+        int i = cursor++ & (QUERIES - 1);
+        return index.intersecting(WORLD, pointX[i], pointX[i] + 9 * 32 - 1, pointZ[i], pointZ[i] + 5 * 32 - 1);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 10)
+    public ClaimSpatialIndex rebuild() {
+        ClaimSpatialIndex rebuilt = new ClaimSpatialIndex();
+        for (int i = 0; i < boxes.length; i++) {
+            rebuilt.put(String.valueOf(i), WORLD, boxes[i][0], boxes[i][1], boxes[i][2], boxes[i][3]);
+        }
+        return rebuilt;
+    }
+}
@@ -0,0 +1,182 @@
+package codes.castled.gpexpansion.storage;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * claimdata.yml and its binary cache at different claim counts: rendering and parsing the YAML the
+ * way the repository's base rewrite and load do, and encoding and decoding the cache.
+ * <p>
+ * Claims are synthetic plain maps in the shape {@link ClaimDataStore} writes: most carry an icon,
+ * a name and a few trusted players; every fifth has a spawn, every tenth is rented and every
+ * twentieth bans someone. Worlds come from a {@link StandInServer}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ClaimDataBenchmark {
+
+    private static final String[] ICONS = {"GRASS_BLOCK", "OAK_LOG", "STONE_BRICKS", "CHEST", "BEACON"};
+
+    @Param({"1000", "10000", "100000"})
+    public int claims;
+
+    private Map<String, Map<String, Object>> data;
+    private String yaml;
+    private byte[] yamlBytes;
+    private long yamlChecksum;
+    private File directory;
+    private File cacheFile;
+    private File scratchFile;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        StandInServer.install();
+        data = syntheticClaims(claims);
+
+        yaml = render(data);
+        yamlBytes = yaml.getBytes(StandardCharsets.UTF_8);
+        yamlChecksum = ClaimDataCache.checksum(yamlBytes);
+        directory = Files.createTempDirectory("gpx-claimdata").toFile();
+        cacheFile = new File(directory, "claimdata.cache");
+        scratchFile = new File(directory, "scratch.cache");
+        ClaimDataCache.write(cacheFile, data, yamlBytes.length, yamlChecksum);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        directory.delete();
+    }
+
+    @Benchmark
+    public String yamlSave() {
+        return render(data);
+    }
+
+    @Benchmark
+    public Map<String, Map<String, Object>> yamlLoad() throws InvalidConfigurationException {
+        YamlConfiguration config = new YamlConfiguration();
+        config.loadFromString(yaml);
+        Map<String, Map<String, Object>> loaded = new LinkedHashMap<>();
+        ConfigurationSection section = config.getConfigurationSection("claims");
+        for (String claimId : section.getKeys(false)) {
+            loaded.put(claimId, ClaimDataStore.toPlainMap(section.getConfigurationSection(claimId)));
+        }
+        return loaded;
+    }
+
+    @Benchmark
+    public long checksum() {
+        return ClaimDataCache.checksum(yamlBytes);
+    }
+
+    @Benchmark
+    public File cacheWrite() throws IOException {
+        ClaimDataCache.write(scratchFile, data, yamlBytes.length, yamlChecksum);
+        return scratchFile;
+    }
+
+    @Benchmark
+    public Map<String, ClaimDataStore.ClaimData> cacheRead() {
+        ClaimDataCache.Snapshot loaded = ClaimDataCache.read(cacheFile, yamlBytes.length, yamlChecksum);
+        if (loaded == null || loaded.claims().size() != claims) {
+            throw new IllegalStateException("Cache did not round-trip");
+        }
+        return loaded.claims();
+    }
+
+    /** The synthetic claims described above, the same for a given count on every run. */
+    static Map<String, Map<String, Object>> syntheticClaims(int claims) {
+        SplittableRandom random = new SplittableRandom(7L);
+        List<UUID> players = new ArrayList<>();
+        for (int i = 0; i < Math.max(50, claims / 4); i++) {
+            players.add(new UUID(random.nextLong(), random.nextLong()));
+        }
+        Map<String, Map<String, Object>> data = new LinkedHashMap<>();
+        for (int i = 0; i < claims; i++) {
+            data.put(String.valueOf(i + 1), claim(i, random, players));
+        }
+        return data;
+    }
+
+    private static String render(Map<String, Map<String, Object>> claims) {
+        YamlConfiguration out = new YamlConfiguration();
+        out.createSection("claims");
+        for (Map.Entry<String, Map<String, Object>> entry : claims.entrySet()) {
+            out.createSection("claims." + entry.getKey(), entry.getValue());
+        }
+        return out.saveToString();
+    }
+
+    private static Map<String, Object> claim(int i, SplittableRandom random, List<UUID> players) {
+        Map<String, Object> claim = new LinkedHashMap<>();
+        claim.put("public", i % 7 == 0);
+        String icon = ICONS[random.nextInt(ICONS.length)];
+        claim.put("icons", List.of(icon));
+        claim.put("icon", icon);
+        claim.put("name", "Claim " + i);
+        if (i % 3 == 0) {
+            claim.put("description", "A synthetic claim used for storage benchmarks");
+        }
+
+        int trusted = random.nextInt(4);
+        if (trusted > 0) {
+            List<String> uuids = new ArrayList<>();
+            Map<String, Object> names = new LinkedHashMap<>();
+            for (int t = 0; t < trusted; t++) {
+                UUID player = players.get(random.nextInt(players.size()));
+                uuids.add(player.toString());
+                names.put(player.toString(), "Player" + Math.abs(player.hashCode() % 10000));
+            }
+            claim.put("trustedPlayers", new LinkedHashMap<>(Map.of("players", uuids, "names", names)));
+        }
+
+        if (i % 5 == 0) {
+            claim.put("spawn", "world," + random.nextInt(-30_000, 30_000) + ".5,64.0,"
+                + random.nextInt(-30_000, 30_000) + ".5," + random.nextInt(360) + ".0,0.0");
+        }
+
+        if (i % 10 == 0) {
+            Map<String, Object> rental = new LinkedHashMap<>();
+            rental.put("renter", players.get(random.nextInt(players.size())).toString());
+            rental.put("expiry", 1_760_000_000_000L + random.nextInt(1_000_000));
+            rental.put("start", 1_750_000_000_000L + random.nextInt(1_000_000));
+            rental.put("signWorld", "world");
+            rental.put("signX", random.nextInt(-30_000, 30_000));
+            rental.put("signY", random.nextInt(60, 120));
+            rental.put("signZ", random.nextInt(-30_000, 30_000));
+            rental.put("reminders", List.of());
+            rental.put("pendingPayment", false);
+            rental.put("paymentFailed", false);
+            claim.put("rental", rental);
+        }
+
+        if (i % 20 == 0) {
+            UUID banned = players.get(random.nextInt(players.size()));
+            Map<String, Object> bans = new LinkedHashMap<>();
+            bans.put("public", false);
+            bans.put("players", List.of(banned.toString()));
+            bans.put("names", new LinkedHashMap<>(Map.of(banned.toString(), "Griefer")));
+            claim.put("bans", bans);
+        }
+        return claim;
+    }
+}
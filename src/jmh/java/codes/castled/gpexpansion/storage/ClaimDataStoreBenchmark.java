@@ -0,0 +1,158 @@
+package codes.castled.gpexpansion.storage;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The claim conversions {@link ClaimDataStore} runs on load and save, at different claim counts,
+ * against a {@link StandInRepository} that holds claims in memory the way a backend would.
+ * <p>
+ * {@code loadFromMaps} is what a load costs from a backend that hands over maps (SQLite, a
+ * YAML parse or journal replay): each claim is read back through its section. {@code loadFromCache}
+ * is the cached startup: the binary cache is decoded into claims and the repository derives the
+ * maps it will rewrite from. {@code saveAll} stages every claim and flushes, as an import does;
+ * {@code saveDirty} stages the hundredth of claims a typical flush window has changed.
+ * <p>
+ * The store itself needs a running plugin, so the configured limits and the secondary indexes
+ * are left out; those are a handful of set updates per claim.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ClaimDataStoreBenchmark {
+
+    private static final long YAML_LENGTH = 1L;
+    private static final long YAML_CHECKSUM = 1L;
+
+    @Param({"1000", "10000", "100000"})
+    public int claims;
+
+    private StandInRepository repository;
+    private Map<String, ClaimDataStore.ClaimData> live;
+    private List<String> dirty;
+    private File directory;
+    private File cacheFile;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        StandInServer.install();
+        Map<String, Map<String, Object>> data = ClaimDataBenchmark.syntheticClaims(claims);
+        repository = new StandInRepository(data);
+        live = new LinkedHashMap<>();
+        for (Map.Entry<String, Map<String, Object>> entry : data.entrySet()) {
+            live.put(entry.getKey(), ClaimDataStore.readClaim(ClaimDataStore.toSection(entry.getValue())));
+        }
+        dirty = new ArrayList<>();
+        for (String claimId : live.keySet()) {
+            if (claimId.hashCode() % 100 == 0) {
+                dirty.add(claimId);
+            }
+        }
+
+        directory = Files.createTempDirectory("gpx-claimstore").toFile();
+        cacheFile = new File(directory, "claimdata.cache");
+        ClaimDataCache.write(cacheFile, data, YAML_LENGTH, YAML_CHECKSUM);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        directory.delete();
+    }
+
+    @Benchmark
+    public Map<String, ClaimDataStore.ClaimData> loadFromMaps() throws IOException {
+        Map<String, ClaimDataStore.ClaimData> loaded = new HashMap<>(claims * 4 / 3 + 1);
+        for (Map.Entry<String, Map<String, Object>> entry : repository.loadAll().entrySet()) {
+            loaded.put(entry.getKey(), ClaimDataStore.readClaim(ClaimDataStore.toSection(entry.getValue())));
+        }
+        return loaded;
+    }
+
+    @Benchmark
+    public Map<String, Map<String, Object>> loadFromCache() {
+        ClaimDataCache.Snapshot decoded = ClaimDataCache.read(cacheFile, YAML_LENGTH, YAML_CHECKSUM);
+        if (decoded == null || decoded.claims().size() != claims) {
+            throw new IllegalStateException("Cache did not round-trip");
+        }
+        Map<String, Map<String, Object>> persisted = new HashMap<>(claims * 4 / 3 + 1);
+        for (String claimId : decoded.claims().keySet()) {
+            persisted.put(claimId, decoded.plainMap(claimId));
+        }
+        return persisted;
+    }
+
+    @Benchmark
+    public boolean saveAll() {
+        for (Map.Entry<String, ClaimDataStore.ClaimData> entry : live.entrySet()) {
+            repository.stage(entry.getKey(), ClaimDataStore.toPlainMap(entry.getValue()));
+        }
+        return repository.flush(false);
+    }
+
+    @Benchmark
+    public boolean saveDirty() {
+        for (String claimId : dirty) {
+            repository.stage(claimId, ClaimDataStore.toPlainMap(live.get(claimId)));
+        }
+        return repository.flush(false);
+    }
+
+    /**
+     * A backend that keeps claims in memory: staged claims wait in a queue and a flush applies
+     * them, so only the store's own conversions are measured.
+     */
+    static final class StandInRepository implements ClaimMetadataRepository {
+        private final Map<String, Map<String, Object>> stored;
+        private final Map<String, Map<String, Object>> staged = new LinkedHashMap<>();
+
+        StandInRepository(Map<String, Map<String, Object>> initial) {
+            this.stored = new LinkedHashMap<>(initial);
+        }
+
+        @Override
+        public String getName() {
+            return "stand-in";
+        }
+
+        @Override
+        public Map<String, Map<String, Object>> loadAll() {
+            return new LinkedHashMap<>(stored);
+        }
+
+        @Override
+        public void stage(String claimId, Map<String, Object> data) {
+            staged.put(claimId, data);
+        }
+
+        @Override
+        public boolean flush(boolean shutdown) {
+            for (Map.Entry<String, Map<String, Object>> entry : staged.entrySet()) {
+                if (entry.getValue() == null) {
+                    stored.remove(entry.getKey());
+                } else {
+                    stored.put(entry.getKey(), entry.getValue());
+                }
+            }
+            staged.clear();
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
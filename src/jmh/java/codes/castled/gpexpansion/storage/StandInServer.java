@@ -0,0 +1,71 @@
+package codes.castled.gpexpansion.storage;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.bukkit.World;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * Just enough of a {@link Server} for claim data to load outside a running server: worlds are
+ * found by name, each a proxy answering its name and UID, and everything else returns a default.
+ * Installed once per JVM, before the first benchmark that decodes locations.
+ */
+final class StandInServer {
+
+    private static final Logger LOGGER = Logger.getLogger("StandInServer");
+    private static final Map<String, World> WORLDS = new ConcurrentHashMap<>();
+
+    private StandInServer() {}
+
+    static synchronized void install() {
+        if (Bukkit.getServer() != null) {
+            return;
+        }
+        Server server = (Server) Proxy.newProxyInstance(Server.class.getClassLoader(), new Class<?>[]{Server.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getLogger" -> LOGGER;
+                    case "getWorld" -> args[0] instanceof String name ? world(name) : null;
+                    case "getName", "getVersion", "getBukkitVersion" -> "StandInServer";
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> defaultValue(method);
+                });
+        Bukkit.setServer(server);
+    }
+
+    private static World world(String name) {
+        return WORLDS.computeIfAbsent(name, n -> {
+            UUID uid = UUID.nameUUIDFromBytes(n.getBytes(StandardCharsets.UTF_8));
+            return (World) Proxy.newProxyInstance(World.class.getClassLoader(), new Class<?>[]{World.class},
+                    (proxy, method, args) -> switch (method.getName()) {
+                        case "getName", "toString" -> n;
+                        case "getUID" -> uid;
+                        case "getMaxHeight" -> 320;
+                        case "getMinHeight" -> -64;
+                        case "hashCode" -> uid.hashCode();
+                        case "equals" -> proxy == args[0];
+                        default -> defaultValue(method);
+                    });
+        });
+    }
+
+    private static Object defaultValue(Method method) {
+        Class<?> type = method.getReturnType();
+        if (type == boolean.class) return false;
+        if (type == int.class) return 0;
+        if (type == long.class) return 0L;
+        if (type == double.class) return 0D;
+        if (type == float.class) return 0F;
+        if (type == short.class) return (short) 0;
+        if (type == byte.class) return (byte) 0;
+        if (type == char.class) return '\0';
+        return null;
+    }
+}
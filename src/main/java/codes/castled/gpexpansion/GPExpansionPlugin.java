@@ -19,7 +19,6 @@ import codes.castled.gpexpansion.listener.MailboxListener;
 import codes.castled.gpexpansion.listener.BanEnforcementListener;
 import codes.castled.gpexpansion.command.PaperCommandWrapper;
 import codes.castled.gpexpansion.permission.SignLimitManager;
-import codes.castled.gpexpansion.scheduler.SchedulerAdapter;
 import codes.castled.gpexpansion.util.Messages;
 import org.bukkit.Bukkit;
 import org.bukkit.plugin.java.JavaPlugin;
@@ -38,11 +37,13 @@ public final class GPExpansionPlugin extends JavaPlugin {
     private codes.castled.gpexpansion.economy.EconomyManager economyManager;
     private codes.castled.gpexpansion.economy.TaxManager taxManager;
     private codes.castled.gpexpansion.sign.RentalSignManager rentalSignManager;
+    private codes.castled.gpexpansion.sign.ManagedSignRegistry managedSignRegistry;
     private codes.castled.gpexpansion.scheduler.SchedulerFacade schedulerFacade;
     private codes.castled.gpexpansion.permission.PermissionService permissionService;
     private codes.castled.gpexpansion.reminder.RentalReminderService reminderService;
     private codes.castled.gpexpansion.confirm.ConfirmationService confirmationService;
     private codes.castled.gpexpansion.storage.ClaimDataStore claimDataStore;
+    private GPBridge gpBridge;
     private codes.castled.gpexpansion.storage.ClaimSnapshotStore snapshotStore;
     private codes.castled.gpexpansion.gui.GUIManager guiManager;
     private SignLimitManager signLimitManager;
@@ -56,11 +57,14 @@ public final class GPExpansionPlugin extends JavaPlugin {
     private ClaimCommand claimCommand;
     private boolean gp3dClaimMode;
     private codes.castled.gpexpansion.listener.SignDisplayListener signDisplayListener;
-    private codes.castled.gpexpansion.scheduler.TaskHandle evictionDisplayTickTask;
+    private codes.castled.gpexpansion.sign.CountdownSignScheduler countdownSignScheduler;
+    private codes.castled.gpexpansion.scheduler.PlayerTimingWheel playerTimingWheel;
     private ClaimFlyManager claimFlyManager;
     private codes.castled.gpexpansion.waypoint.ClaimWaypointManager claimWaypointManager;
     private codes.castled.gpexpansion.pack.ClaimWaypointPackService claimWaypointPackService;
     private codes.castled.gpexpansion.listener.ClaimFlyListener claimFlyListener;
+    private codes.castled.gpexpansion.listener.ClaimPositionTracker claimPositionTracker;
+    private codes.castled.gpexpansion.placeholder.PlaceholderClaimContext placeholderClaimContext;
     private codes.castled.gpexpansion.api.ClaimMetadataService metadataService;
 
     @Override
@@ -79,12 +83,19 @@ public final class GPExpansionPlugin extends JavaPlugin {
             GPBridge.setDebug(true);
             getLogger().info("Debug mode enabled for GPBridge");
         }
+
+        // One bridge for the whole plugin, so GriefPrevention accessors are bound only once
+        gpBridge = new GPBridge();
         
         // Initialize managers
         economyManager = new codes.castled.gpexpansion.economy.EconomyManager(this);
         taxManager = new codes.castled.gpexpansion.economy.TaxManager(this);
         rentalSignManager = new codes.castled.gpexpansion.sign.RentalSignManager(this);
+        managedSignRegistry = new codes.castled.gpexpansion.sign.ManagedSignRegistry(this);
+        countdownSignScheduler = new codes.castled.gpexpansion.sign.CountdownSignScheduler(this);
         schedulerFacade = new codes.castled.gpexpansion.scheduler.SchedulerFacade(this);
+        playerTimingWheel = new codes.castled.gpexpansion.scheduler.PlayerTimingWheel(this);
+        playerTimingWheel.start();
         permissionService = new codes.castled.gpexpansion.permission.PermissionService();
 
         // Load tax settings
@@ -112,6 +123,7 @@ public final class GPExpansionPlugin extends JavaPlugin {
         // Initialize sign limit manager
         signLimitManager = new codes.castled.gpexpansion.permission.SignLimitManager(this);
         claimFlyManager = new ClaimFlyManager(this);
+        claimFlyManager.start();
         claimWaypointManager = new codes.castled.gpexpansion.waypoint.ClaimWaypointManager(this);
 
         // Initialize permission manager (handles dynamic gpx.player permissions)
@@ -134,13 +146,22 @@ public final class GPExpansionPlugin extends JavaPlugin {
 
         registerPluginCommands();
 
+        // Register listeners
+        getLogger().info("Registering event listeners...");
+
+        // Per-player claim position, resolved once per block moved for every listener below
+        claimPositionTracker = new codes.castled.gpexpansion.listener.ClaimPositionTracker(this);
+        Bukkit.getPluginManager().registerEvents(claimPositionTracker, this);
+
         if (Bukkit.getPluginManager().isPluginEnabled("PlaceholderAPI")) {
+            // Current-claim placeholders are served from a per-player context the tracker keeps current
+            claimPositionTracker.followMoves();
+            placeholderClaimContext = new codes.castled.gpexpansion.placeholder.PlaceholderClaimContext(this);
+            Bukkit.getPluginManager().registerEvents(placeholderClaimContext, this);
+            placeholderClaimContext.start();
             new codes.castled.gpexpansion.placeholder.GPXPlaceholderExpansion(this).register();
             getLogger().info("- Registered PlaceholderAPI placeholders (%gpx_*)");
         }
-
-        // Register listeners
-        getLogger().info("Registering event listeners...");
         
         SignListener signListener = new SignListener(this);
         Bukkit.getPluginManager().registerEvents(signListener, this);
@@ -164,10 +185,15 @@ public final class GPExpansionPlugin extends JavaPlugin {
         Bukkit.getPluginManager().registerEvents(new codes.castled.gpexpansion.listener.ClaimAbandonListener(this), this);
         // Join reminders
         Bukkit.getPluginManager().registerEvents(new codes.castled.gpexpansion.listener.ReminderJoinListener(this), this);
+        // Managed sign locations, so sign displays visit only our signs
+        Bukkit.getPluginManager().registerEvents(new codes.castled.gpexpansion.listener.ManagedSignListener(this), this);
         // Dynamic sign display ([Renew], [Evicted] countdown, item scroll)
         signDisplayListener = new codes.castled.gpexpansion.listener.SignDisplayListener(this);
         Bukkit.getPluginManager().registerEvents(signDisplayListener, this);
-        startEvictionDisplayTick();
+        // Rent signs wake only when their countdown text changes or the rental runs out
+        countdownSignScheduler.start();
+        // GP ownership changes for the claim data indexes
+        Bukkit.getPluginManager().registerEvents(new codes.castled.gpexpansion.listener.ClaimIndexListener(this), this);
         // Economy late-hook listener
         Bukkit.getPluginManager().registerEvents(new codes.castled.gpexpansion.listener.EconomyHookListener(this), this);
         // Claim flight listener
@@ -305,7 +331,7 @@ public final class GPExpansionPlugin extends JavaPlugin {
 
     private void registerPluginCommands() {
         ClaimCommand claimCommand = new ClaimCommand(this);
-        boolean gp3dPresent = new codes.castled.gpexpansion.gp.GPBridge().isGP3D();
+        boolean gp3dPresent = gpBridge.isGP3D();
         if (gp3dPresent) {
             try {
                 unregisterClaimlistCommands();
@@ -658,23 +684,6 @@ public final class GPExpansionPlugin extends JavaPlugin {
         }
     }
 
-    /** Starts a periodic task (every 1 second) that updates eviction countdowns for all online players, even when standing still. */
-    @SuppressWarnings("all")
-    private void startEvictionDisplayTick() {
-        if (signDisplayListener == null) return;
-        if (evictionDisplayTickTask != null) {
-            evictionDisplayTickTask.cancel();
-        }
-        // Run every 20 ticks (1 second); for each player run sign update on their entity region (Folia-safe)
-        evictionDisplayTickTask = SchedulerAdapter.runRepeatingGlobal(this, () -> {
-            for (Player p : Bukkit.getOnlinePlayers()) {
-                if (p.isValid() && p.getWorld() != null) {
-                    schedulerFacade.runAtEntity(p, () -> signDisplayListener.tickEvictionDisplays(p));
-                }
-            }
-        }, 20L, 20L);
-    }
-
     /** Unregister claimlist and adminclaimlist so our enhanced display takes over (used when sharing /claim with GP3D) */
     @SuppressWarnings("unchecked")
     private void unregisterClaimlistCommands() throws ReflectiveOperationException {
@@ -718,15 +727,17 @@ public final class GPExpansionPlugin extends JavaPlugin {
         if (claimWaypointManager != null) {
             claimWaypointManager.shutdown();
         }
-        if (evictionDisplayTickTask != null) {
-            evictionDisplayTickTask.cancel();
-            evictionDisplayTickTask = null;
+        if (countdownSignScheduler != null) {
+            countdownSignScheduler.stop();
+        }
+        if (playerTimingWheel != null) {
+            playerTimingWheel.stop();
         }
         if (claimDataStore != null) {
-            claimDataStore.save();
+            claimDataStore.shutdown();
         }
         if (claimFlyManager != null) {
-            claimFlyManager.save();
+            claimFlyManager.shutdown();
         }
         getLogger().info(() -> "GPExpansion disabled");
     }
@@ -779,6 +790,11 @@ public final class GPExpansionPlugin extends JavaPlugin {
         return permissionManager;
     }
 
+    /** Shared GriefPrevention bridge */
+    public GPBridge getGPBridge() {
+        return gpBridge;
+    }
+
     /**
      * Get the consolidated claim data store
      */
@@ -825,6 +841,14 @@ public final class GPExpansionPlugin extends JavaPlugin {
         return claimFlyListener;
     }
 
+    public codes.castled.gpexpansion.listener.ClaimPositionTracker getClaimPositionTracker() {
+        return claimPositionTracker;
+    }
+
+    public codes.castled.gpexpansion.placeholder.PlaceholderClaimContext getPlaceholderClaimContext() {
+        return placeholderClaimContext;
+    }
+
     public codes.castled.gpexpansion.reminder.RentalReminderService getReminderService() {
         return reminderService;
     }
@@ -854,6 +878,23 @@ public final class GPExpansionPlugin extends JavaPlugin {
     public codes.castled.gpexpansion.sign.RentalSignManager getRentalSignManager() {
         return rentalSignManager;
     }
+
+    public codes.castled.gpexpansion.sign.ManagedSignRegistry getManagedSignRegistry() {
+        return managedSignRegistry;
+    }
+
+    public codes.castled.gpexpansion.sign.CountdownSignScheduler getCountdownSignScheduler() {
+        return countdownSignScheduler;
+    }
+
+    public codes.castled.gpexpansion.listener.SignDisplayListener getSignDisplayListener() {
+        return signDisplayListener;
+    }
+
+    /** Shared per-player recurring timer, batched per region. */
+    public codes.castled.gpexpansion.scheduler.PlayerTimingWheel getPlayerTimingWheel() {
+        return playerTimingWheel;
+    }
     
     public codes.castled.gpexpansion.scheduler.SchedulerFacade getSchedulerFacade() {
         return schedulerFacade;
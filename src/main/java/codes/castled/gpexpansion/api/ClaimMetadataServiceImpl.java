@@ -1,5 +1,6 @@
 package codes.castled.gpexpansion.api;
 
+import codes.castled.gpexpansion.storage.ClaimDataStore;
 import me.ryanhamshire.GriefPrevention.Claim;
 import me.ryanhamshire.GriefPrevention.GriefPrevention;
 import org.bukkit.Material;
@@ -12,12 +13,13 @@ import java.util.Optional;
 
 /**
  * Implementation of {@link ClaimMetadataService} that delegates to internal {@code ClaimDataStore}.
+ * Reads go through the store's immutable claim views, so API consumers may call from any thread.
  */
 class ClaimMetadataServiceImpl implements ClaimMetadataService {
 
-    private final codes.castled.gpexpansion.storage.ClaimDataStore dataStore;
+    private final ClaimDataStore dataStore;
 
-    public ClaimMetadataServiceImpl(codes.castled.gpexpansion.storage.ClaimDataStore dataStore) {
+    public ClaimMetadataServiceImpl(ClaimDataStore dataStore) {
         this.dataStore = dataStore;
     }
 
@@ -28,7 +30,7 @@ class ClaimMetadataServiceImpl implements ClaimMetadataService {
 
     @Override
     public @NotNull Optional<String> getName(@NotNull String claimId) {
-        return dataStore.getCustomName(claimId);
+        return dataStore.getView(claimId).map(ClaimDataStore.ClaimView::customName);
     }
 
     @Override
@@ -38,7 +40,7 @@ class ClaimMetadataServiceImpl implements ClaimMetadataService {
 
     @Override
     public @NotNull Optional<String> getDescription(@NotNull String claimId) {
-        return dataStore.getDescription(claimId);
+        return dataStore.getView(claimId).map(ClaimDataStore.ClaimView::description);
     }
 
     @Override
@@ -48,7 +50,7 @@ class ClaimMetadataServiceImpl implements ClaimMetadataService {
 
     @Override
     public @NotNull Optional<Material> getIcon(@NotNull String claimId) {
-        return dataStore.getIcon(claimId);
+        return dataStore.getView(claimId).map(ClaimDataStore.ClaimView::icon);
     }
 
     @Override
@@ -58,7 +60,7 @@ class ClaimMetadataServiceImpl implements ClaimMetadataService {
 
     @Override
     public @NotNull Optional<String> getWaypointColor(@NotNull String claimId) {
-        return dataStore.getWaypointColor(claimId);
+        return dataStore.getView(claimId).map(ClaimDataStore.ClaimView::waypointColor);
     }
 
     @Override
@@ -75,20 +77,17 @@ class ClaimMetadataServiceImpl implements ClaimMetadataService {
 
         java.util.List<ClaimMetadata> result = new ArrayList<>();
         for (Claim claim : claims) {
-            String claimId = String.valueOf(claim.getID());
-            Optional<String> name = dataStore.getCustomName(claimId);
-            Optional<String> description = dataStore.getDescription(claimId);
-            Optional<Material> icon = dataStore.getIcon(claimId);
-            Optional<String> waypointColor = dataStore.getWaypointColor(claimId);
+            ClaimDataStore.ClaimView view = dataStore.getView(String.valueOf(claim.getID())).orElse(null);
+            if (view == null) continue;
 
             // Only include claims that have at least one metadata field set
-            if (name.isPresent() || description.isPresent() || icon.isPresent() || waypointColor.isPresent()) {
+            if (view.customName() != null || view.description() != null || view.icon() != null || view.waypointColor() != null) {
                 result.add(new ClaimMetadata(
                     claim,
-                    name.orElse(null),
-                    description.orElse(null),
-                    icon.orElse(null),
-                    waypointColor.orElse(null)
+                    view.customName(),
+                    view.description(),
+                    view.icon(),
+                    view.waypointColor()
                 ));
             }
         }
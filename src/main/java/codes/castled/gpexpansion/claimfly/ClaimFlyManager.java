@@ -1,23 +1,55 @@
 package codes.castled.gpexpansion.claimfly;
 
 import codes.castled.gpexpansion.GPExpansionPlugin;
+import codes.castled.gpexpansion.scheduler.SchedulerAdapter;
+import codes.castled.gpexpansion.scheduler.TaskHandle;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.HashSet;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Claim flight balances and toggles, kept in memory and written behind to claim-flight.yml.
+ *
+ * <p>Flight time is metered rather than debited per tick: {@link #startMetering(UUID)} notes when a
+ * player starts being charged and {@link #stopMetering(UUID)} debits the elapsed time on the monotonic
+ * clock. Balances read while metering already have the running time taken off. A checkpoint every
+ * {@link #CHECKPOINT_TICKS} ticks folds running time into the stored balances, which bounds what a
+ * crash can lose. Changes mark players dirty and are flushed together after
+ * {@code storage.save-delay-ticks}: only dirty players are re-serialised, and the file is replaced
+ * off the main thread through a temp file and atomic move.
+ */
 public class ClaimFlyManager {
+    private static final long CHECKPOINT_TICKS = 60L * 20L;
+
     private final GPExpansionPlugin plugin;
     private final File file;
     private FileConfiguration data;
     private final ConcurrentHashMap<UUID, Long> remainingMillis = new ConcurrentHashMap<>();
     private final Set<UUID> enabledPlayers = ConcurrentHashMap.newKeySet();
+    // Players being charged for flight -> System.nanoTime() their balance is settled up to
+    private final ConcurrentHashMap<UUID, Long> meteredSince = new ConcurrentHashMap<>();
+
+    // Write-behind state: players changed since the last flush
+    private final Set<UUID> dirtyPlayers = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+    private final Object dataLock = new Object();
+    private final Object writeLock = new Object();
+    private final AtomicLong snapshotSeq = new AtomicLong();
+    private long writtenSeq;
+    private TaskHandle checkpointTask;
 
     public ClaimFlyManager(GPExpansionPlugin plugin) {
         this.plugin = plugin;
@@ -35,54 +67,189 @@ public class ClaimFlyManager {
             }
         }
 
-        data = YamlConfiguration.loadConfiguration(file);
-        remainingMillis.clear();
-        enabledPlayers.clear();
+        synchronized (dataLock) {
+            data = YamlConfiguration.loadConfiguration(file);
+            remainingMillis.clear();
+            enabledPlayers.clear();
+            dirtyPlayers.clear();
 
-        if (data.isConfigurationSection("players")) {
-            for (String key : data.getConfigurationSection("players").getKeys(false)) {
-                try {
-                    UUID uuid = UUID.fromString(key);
-                    long remaining = Math.max(0L, data.getLong("players." + key + ".remaining-millis", 0L));
-                    boolean enabled = data.getBoolean("players." + key + ".enabled", true);
-                    if (data.contains("players." + key + ".remaining-millis")) {
-                        remainingMillis.put(uuid, remaining);
-                    }
-                    if (enabled) {
-                        enabledPlayers.add(uuid);
+            if (data.isConfigurationSection("players")) {
+                for (String key : data.getConfigurationSection("players").getKeys(false)) {
+                    try {
+                        UUID uuid = UUID.fromString(key);
+                        long remaining = Math.max(0L, data.getLong("players." + key + ".remaining-millis", 0L));
+                        boolean enabled = data.getBoolean("players." + key + ".enabled", true);
+                        if (data.contains("players." + key + ".remaining-millis")) {
+                            remainingMillis.put(uuid, remaining);
+                        }
+                        if (enabled) {
+                            enabledPlayers.add(uuid);
+                        }
+                    } catch (IllegalArgumentException ignored) {
                     }
-                } catch (IllegalArgumentException ignored) {
                 }
             }
         }
+        // Anyone still flying is charged from now against the balance just read
+        long now = System.nanoTime();
+        meteredSince.replaceAll((uuid, since) -> now);
     }
 
+    /** Start the periodic checkpoint of running flight time. */
+    public void start() {
+        if (checkpointTask != null) return;
+        checkpointTask = SchedulerAdapter.runRepeatingGlobal(plugin, this::checkpoint, CHECKPOINT_TICKS, CHECKPOINT_TICKS);
+    }
+
+    /** Settle everyone being charged and write synchronously. Called on disable. */
+    public void shutdown() {
+        if (checkpointTask != null) {
+            checkpointTask.cancel();
+            checkpointTask = null;
+        }
+        for (UUID uuid : meteredSince.keySet()) {
+            settle(uuid);
+        }
+        meteredSince.clear();
+        saveNow();
+    }
+
+    /**
+     * Request that pending changes reach disk. Write-behind, like the claim data store: any number of
+     * calls within the flush window cost one write.
+     */
     public void save() {
-        for (String key : new HashSet<>(data.getKeys(false))) {
-            if (key.equals("players")) {
-                data.set(key, null);
-            }
+        if (dirtyPlayers.isEmpty()) {
+            return;
+        }
+        if (!plugin.isEnabled()) {
+            saveNow();
+            return;
+        }
+        if (!flushScheduled.compareAndSet(false, true)) {
+            return;
         }
+        long delay = plugin.getConfigManager().getClaimDataSaveDelayTicks();
+        try {
+            SchedulerAdapter.runLaterGlobal(plugin, this::flushAsync, delay);
+        } catch (UnsupportedOperationException e) {
+            flushScheduled.set(false);
+            saveNow();
+        }
+    }
 
-        Set<UUID> uuids = new HashSet<>();
-        uuids.addAll(remainingMillis.keySet());
-        uuids.addAll(enabledPlayers);
+    /** Write pending changes synchronously. */
+    public boolean saveNow() {
+        flushScheduled.set(false);
+        Snapshot snapshot = collectDirtyPlayers();
+        return snapshot == null || write(snapshot);
+    }
 
-        for (UUID uuid : uuids) {
-            String path = "players." + uuid;
-            data.set(path + ".remaining-millis", getRemainingMillis(uuid));
-            data.set(path + ".enabled", enabledPlayers.contains(uuid));
+    private void flushAsync() {
+        flushScheduled.set(false);
+        Snapshot snapshot = collectDirtyPlayers();
+        if (snapshot == null) {
+            return;
         }
+        SchedulerAdapter.runAsyncNow(plugin, () -> write(snapshot));
+    }
 
-        try {
-            data.save(file);
-        } catch (IOException e) {
-            plugin.getLogger().warning("Could not save claim-flight.yml: " + e.getMessage());
+    private record Snapshot(long seq, String yaml) {}
+
+    /** Copy the dirty players into the file's contents and render it, or null if nothing changed. */
+    private Snapshot collectDirtyPlayers() {
+        synchronized (dataLock) {
+            if (dirtyPlayers.isEmpty()) {
+                return null;
+            }
+            Iterator<UUID> it = dirtyPlayers.iterator();
+            while (it.hasNext()) {
+                UUID uuid = it.next();
+                it.remove();
+                String path = "players." + uuid;
+                Long stored = remainingMillis.get(uuid);
+                boolean enabled = enabledPlayers.contains(uuid);
+                if (stored == null && !enabled) {
+                    data.set(path, null);
+                    continue;
+                }
+                data.set(path + ".remaining-millis", capMillis(Math.max(0L, stored != null ? stored : 0L)));
+                data.set(path + ".enabled", enabled);
+            }
+            return new Snapshot(snapshotSeq.incrementAndGet(), data.saveToString());
+        }
+    }
+
+    /** Replace claim-flight.yml via a temp file, skipping snapshots older than one already written. */
+    private boolean write(Snapshot snapshot) {
+        synchronized (writeLock) {
+            if (snapshot.seq() <= writtenSeq) {
+                return true;
+            }
+            File temp = new File(file.getParentFile(), file.getName() + ".tmp");
+            try {
+                Files.write(temp.toPath(), snapshot.yaml().getBytes(StandardCharsets.UTF_8));
+                try {
+                    Files.move(temp.toPath(), file.toPath(),
+                        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                }
+                writtenSeq = snapshot.seq();
+                return true;
+            } catch (IOException e) {
+                plugin.getLogger().warning("Could not save claim-flight.yml: " + e.getMessage());
+                return false;
+            }
+        }
+    }
+
+    /** Begin charging the player for flight. Does nothing if already charging or flight is passive. */
+    public void startMetering(UUID uuid) {
+        if (isPassiveClaimFlightEnabled() || meteredSince.containsKey(uuid)) return;
+        ensureDefaultTime(uuid);
+        meteredSince.putIfAbsent(uuid, System.nanoTime());
+    }
+
+    /** Stop charging the player, debiting the time since charging started or was last settled. */
+    public void stopMetering(UUID uuid) {
+        if (!meteredSince.containsKey(uuid)) return;
+        settle(uuid);
+        meteredSince.remove(uuid);
+        save();
+    }
+
+    public boolean isMetering(UUID uuid) {
+        return meteredSince.containsKey(uuid);
+    }
+
+    /** Fold running flight time into the stored balances so a crash loses at most one interval. */
+    private void checkpoint() {
+        for (UUID uuid : meteredSince.keySet()) {
+            settle(uuid);
         }
+        save();
     }
 
+    /** Debit whole milliseconds charged since the player was last settled; keeps the remainder running. */
+    private void settle(UUID uuid) {
+        meteredSince.computeIfPresent(uuid, (key, since) -> {
+            long elapsedMillis = (System.nanoTime() - since) / 1_000_000L;
+            if (elapsedMillis <= 0L) return since;
+            remainingMillis.compute(uuid, (k, stored) -> Math.max(0L, (stored != null ? stored : 0L) - elapsedMillis));
+            dirtyPlayers.add(uuid);
+            return since + elapsedMillis * 1_000_000L;
+        });
+    }
+
+    private long runningMillis(UUID uuid) {
+        Long since = meteredSince.get(uuid);
+        return since != null ? Math.max(0L, (System.nanoTime() - since) / 1_000_000L) : 0L;
+    }
+
+    /** The player's balance, less any flight time currently being charged. */
     public long getRemainingMillis(UUID uuid) {
-        return capMillis(Math.max(0L, remainingMillis.getOrDefault(uuid, 0L)));
+        return capMillis(Math.max(0L, remainingMillis.getOrDefault(uuid, 0L) - runningMillis(uuid)));
     }
 
     public boolean hasTime(UUID uuid) {
@@ -114,14 +281,13 @@ public class ClaimFlyManager {
     }
 
     public boolean toggle(UUID uuid) {
-        if (enabledPlayers.contains(uuid)) {
-            enabledPlayers.remove(uuid);
-            save();
-            return false;
+        boolean enabled = !enabledPlayers.remove(uuid);
+        if (enabled) {
+            enabledPlayers.add(uuid);
         }
-        enabledPlayers.add(uuid);
+        dirtyPlayers.add(uuid);
         save();
-        return true;
+        return enabled;
     }
 
     public void setEnabled(UUID uuid, boolean enabled) {
@@ -130,13 +296,16 @@ public class ClaimFlyManager {
         } else {
             enabledPlayers.remove(uuid);
         }
+        dirtyPlayers.add(uuid);
         save();
     }
 
     public void addTime(UUID uuid, long millis) {
         if (millis <= 0L) return;
+        settle(uuid);
         remainingMillis.put(uuid, capMillis(getRemainingMillis(uuid) + millis));
         enabledPlayers.add(uuid);
+        dirtyPlayers.add(uuid);
         save();
     }
 
@@ -147,24 +316,33 @@ public class ClaimFlyManager {
 
     public void setTime(UUID uuid, long millis) {
         long normalized = capMillis(Math.max(0L, millis));
+        // Time flown before now is replaced along with the balance
+        settle(uuid);
         remainingMillis.put(uuid, normalized);
         if (normalized > 0L) {
             enabledPlayers.add(uuid);
         }
+        dirtyPlayers.add(uuid);
         save();
     }
 
     public void reset(UUID uuid) {
+        settle(uuid);
         remainingMillis.remove(uuid);
         enabledPlayers.remove(uuid);
+        dirtyPlayers.add(uuid);
         save();
     }
 
+    /** Debit a fixed amount straight away, outside of metering. */
     public long consume(UUID uuid, long millis) {
         if (isPassiveClaimFlightEnabled()) return getRemainingMillis(uuid);
         if (millis <= 0L) return getRemainingMillis(uuid);
-        long remaining = capMillis(Math.max(0L, ensureDefaultTime(uuid) - millis));
+        ensureDefaultTime(uuid);
+        settle(uuid);
+        long remaining = capMillis(Math.max(0L, remainingMillis.getOrDefault(uuid, 0L) - millis));
         remainingMillis.put(uuid, remaining);
+        dirtyPlayers.add(uuid);
         save();
         return remaining;
     }
@@ -182,13 +360,13 @@ public class ClaimFlyManager {
     }
 
     private long ensureDefaultTime(UUID uuid) {
-        Long stored = remainingMillis.get(uuid);
-        if (stored != null) {
-            return capMillis(Math.max(0L, stored));
+        if (remainingMillis.containsKey(uuid)) {
+            return getRemainingMillis(uuid);
         }
         long defaultMillis = capMillis(plugin.getConfigManager().getClaimFlightDefaultMillis());
         if (defaultMillis > 0L) {
             remainingMillis.put(uuid, defaultMillis);
+            dirtyPlayers.add(uuid);
             save();
         }
         return defaultMillis;
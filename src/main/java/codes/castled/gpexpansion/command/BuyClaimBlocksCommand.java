@@ -34,7 +34,7 @@ public class BuyClaimBlocksCommand implements TabExecutor {
     @Override
     public boolean onCommand(@NotNull CommandSender sender, @NotNull Command command,
                              @NotNull String label, @NotNull String[] args) {
-        GPBridge gp = new GPBridge();
+        GPBridge gp = plugin.getGPBridge();
 
         if (!(sender instanceof Player player)) {
             sender.sendMessage(gp.getGPMessageOr("CommandRequiresPlayer",
@@ -48,6 +48,18 @@ public class ClaimCommand implements CommandExecutor, TabCompleter {
     private final Map<UUID, PendingUnsafeClaimTeleport> pendingUnsafeClaimTeleports = new ConcurrentHashMap<>();
 
     private static final long UNSAFE_TELEPORT_CONFIRM_WINDOW_MS = 10_000L;
+    private static final int MAX_COMPLETION_SETS = 64;
+    // Checked when building /claim subcommand completions; part of their cache key
+    private static final String[] SUBCOMMAND_COMPLETION_PERMISSIONS = {
+            "griefprevention.claims",
+            "griefprevention.adminclaimslist",
+            "griefprevention.evict",
+            "griefprevention.claim.cancelrent",
+            "griefprevention.claim.gui.flags",
+            "griefprevention.claim.gui.options"
+    };
+    // Permission-set key -> sorted subcommand names that set may tab-complete
+    private final Map<String, String[]> subcommandCompletions = new ConcurrentHashMap<>();
 
     private record PendingUnsafeClaimTeleport(String claimId, long expiresAt) {
         boolean matches(String claimId) {
@@ -150,7 +162,7 @@ public class ClaimCommand implements CommandExecutor, TabCompleter {
 
     public ClaimCommand(GPExpansionPlugin plugin) {
         this.plugin = plugin;
-        this.gp = new GPBridge();
+        this.gp = plugin.getGPBridge();
     }
 
     /**
@@ -349,55 +361,38 @@ public class ClaimCommand implements CommandExecutor, TabCompleter {
     }
     
     private boolean executeCommand(@NotNull CommandSender sender, @NotNull Command command, @NotNull String label, @NotNull String[] args) {
-        // Support standalone /adminclaimlist command routed through this executor (including alias adminclaimslist)
-        if (command.getName().equalsIgnoreCase("adminclaimlist") || label.equalsIgnoreCase("adminclaimlist") || label.equalsIgnoreCase("adminclaimslist")) {
-            return handleAdminClaimsList(sender, args);
-        }
-        // Support standalone /claimslist command routed through this executor (including alias claimlist)
-        if (command.getName().equalsIgnoreCase("claimslist") || label.equalsIgnoreCase("claimslist") || label.equalsIgnoreCase("claimlist")) {
-            return handleList(sender, args);
-        }
-        // Support standalone /claimtp command
-        if (command.getName().equalsIgnoreCase("claimtp") || label.equalsIgnoreCase("claimtp")) {
-            return handleTeleport(sender, args);
-        }
-        // Support standalone /resizeclaim and GP-native aliases /expandclaim, /extendclaim
-        if (command.getName().equalsIgnoreCase("resizeclaim")
-            || label.equalsIgnoreCase("resizeclaim")
-            || command.getName().equalsIgnoreCase("expandclaim")
-            || label.equalsIgnoreCase("expandclaim")
-            || command.getName().equalsIgnoreCase("extendclaim")
-            || label.equalsIgnoreCase("extendclaim")) {
-            return handleResizeCommand(sender, args);
-        }
-        // Support standalone /claimmap
-        if (command.getName().equalsIgnoreCase("claimmap")
-            || label.equalsIgnoreCase("claimmap")) {
-            return handleMapCommand(sender, args);
-        }
-        // Support standalone /setclaimspawn command
-        if (command.getName().equalsIgnoreCase("setclaimspawn") || label.equalsIgnoreCase("setclaimspawn")) {
-            return handleSetSpawn(sender, args);
-        }
-        // Support standalone /globalclaimlist and /globalclaimslist commands
-        if (command.getName().equalsIgnoreCase("globalclaimlist")
-                || command.getName().equalsIgnoreCase("globalclaimslist")
-                || label.equalsIgnoreCase("globalclaimlist")
-                || label.equalsIgnoreCase("globalclaimslist")) {
-            return handleGlobalList(sender);
-        }
-        // Support standalone /globalclaim [true|false] [claimId] command (toggle when no args)
-        if (command.getName().equalsIgnoreCase("globalclaim") || label.equalsIgnoreCase("globalclaim")) {
-            return handleGlobalClaim(sender, args);
-        }
-        if (command.getName().equalsIgnoreCase("approveclaim")
-                || command.getName().equalsIgnoreCase("aclaim")
-                || label.equalsIgnoreCase("approveclaim")
-                || label.equalsIgnoreCase("aclaim")) {
-            return handleApproveClaim(sender, args);
-        }
-        if (command.getName().equalsIgnoreCase("cancelrent") || label.equalsIgnoreCase("cancelrent")) {
-            return handleCancelRent(sender, args);
+        // Standalone commands routed through this executor, by registered name or alias
+        CommandRouter.Route route = CommandRouter.route(command.getName());
+        if (route == null || route == CommandRouter.Route.CLAIM) {
+            route = CommandRouter.route(label);
+        }
+        if (route != null) {
+            switch (route) {
+                case ADMIN_CLAIM_LIST:
+                    return handleAdminClaimsList(sender, args);
+                case CLAIM_LIST:
+                    return handleList(sender, args);
+                case TELEPORT:
+                    return handleTeleport(sender, args);
+                case RESIZE:
+                    // /resizeclaim and the GP-native aliases /expandclaim, /extendclaim
+                    return handleResizeCommand(sender, args);
+                case MAP:
+                    return handleMapCommand(sender, args);
+                case SET_SPAWN:
+                    return handleSetSpawn(sender, args);
+                case GLOBAL_LIST:
+                    return handleGlobalList(sender);
+                case GLOBAL:
+                    // /globalclaim [true|false] [claimId] (toggle when no args)
+                    return handleGlobalClaim(sender, args);
+                case APPROVE:
+                    return handleApproveClaim(sender, args);
+                case CANCEL_RENT:
+                    return handleCancelRent(sender, args);
+                default:
+                    break;
+            }
         }
         if (args.length == 0) {
             // Check if GUI mode is enabled and sender is a player
@@ -410,13 +405,14 @@ public class ClaimCommand implements CommandExecutor, TabCompleter {
                 "{subs}", String.join("|", SUBS)));
             return true;
         }
-        String sub = args[0].toLowerCase(Locale.ROOT);
+        // Aliases resolve to the subcommand they stand for; unknown ones fall through to GP3D
+        CommandRouter.Subcommand known = CommandRouter.subcommand(args[0]);
+        String sub = known != null ? known.name() : args[0].toLowerCase(Locale.ROOT);
         String[] subArgs = Arrays.copyOfRange(args, 1, args.length);
         switch (sub) {
             case "!":
                 return handleReturnToGUI(sender);
             case "gui":
-            case "menu":
                 return handleOpenMainMenu(sender);
             case "trust":
                 return handleTrustDispatch(sender, subArgs);
@@ -450,7 +446,6 @@ public class ClaimCommand implements CommandExecutor, TabCompleter {
                 // Alias to GP's /createclaim [radius] to avoid recursion
                 return handleDispatch(sender, "createclaim", subArgs);
             case "resize":
-            case "expand":
                 return handleResizeCommand(sender, subArgs);
             case "map":
                 return handleMapCommand(sender, subArgs);
@@ -479,7 +474,6 @@ public class ClaimCommand implements CommandExecutor, TabCompleter {
             case "snapshot":
                 return handleSnapshot(sender, subArgs);
             case "tp":
-            case "teleport":
                 return handleTeleport(sender, subArgs);
             case "setspawn":
                 return handleSetSpawn(sender, subArgs);
@@ -490,7 +484,6 @@ public class ClaimCommand implements CommandExecutor, TabCompleter {
             case "icon":
                 return handleIcon(sender, subArgs);
             case "desc":
-            case "description":
                 return handleDescription(sender, subArgs);
             case "flags":
                 return handleClaimFlags(sender, subArgs);
@@ -2048,6 +2041,7 @@ plugin.getSchedulerFacade().teleportEntity(player, centerOpt.get());
         dataStore.setEviction(ctx.claimId, ownerId, rental.renter, initiatedAt, effectiveAt);
         rental.paymentFailed = true; // reuse as "being evicted"
         dataStore.save();
+        plugin.getCountdownSignScheduler().track(ctx.claimId);
 
         String renterName = Bukkit.getOfflinePlayer(rental.renter).getName();
         if (renterName == null) renterName = rental.renter.toString();
@@ -2111,6 +2105,7 @@ plugin.getSchedulerFacade().teleportEntity(player, centerOpt.get());
 
         // Cancel the eviction
         dataStore.clearEviction(ctx.claimId);
+        plugin.getCountdownSignScheduler().track(ctx.claimId);
 
         // Update rental store
         ClaimDataStore.RentalData rental = dataStore.getRental(ctx.claimId).orElse(null);
@@ -3406,6 +3401,113 @@ plugin.getSchedulerFacade().teleportEntity(player, centerOpt.get());
         return null;
     }
     
+    /**
+     * Subcommands the sender may tab-complete that start with the prefix, sorted. The full sorted set
+     * is cached per permission set (the configured player-commands and the permissions below, as the
+     * sender holds them) and the prefix is found by binary search, rather than rebuilding and
+     * re-sorting the list on every keystroke.
+     */
+    private List<String> completeSubcommand(CommandSender sender, String typed) {
+        List<String> playerCommands = plugin.getConfig().getStringList("player-commands");
+        String snapshotPermission = codes.castled.gpexpansion.storage.ClaimSnapshotStore.getPermission();
+        StringBuilder key = new StringBuilder(64 + playerCommands.size() * 24);
+        key.append(plugin.getConfigManager().isGlobalClaimsEnabled() ? 'G' : 'g').append(snapshotPermission).append('|');
+        for (String perm : playerCommands) {
+            key.append(perm).append(sender.hasPermission("griefprevention." + perm) ? '+' : '-');
+        }
+        for (String perm : SUBCOMMAND_COMPLETION_PERMISSIONS) {
+            key.append(sender.hasPermission(perm) ? '+' : '-');
+        }
+        key.append(sender.hasPermission(snapshotPermission) ? '+' : '-');
+        String cacheKey = key.toString();
+        String[] sorted = subcommandCompletions.get(cacheKey);
+        if (sorted == null) {
+            if (subcommandCompletions.size() >= MAX_COMPLETION_SETS) {
+                // Config reloads leave stale permission sets behind
+                subcommandCompletions.clear();
+            }
+            sorted = buildSubcommandCompletions(sender).stream().distinct().sorted().toArray(String[]::new);
+            subcommandCompletions.put(cacheKey, sorted);
+        }
+        String prefix = typed.toLowerCase(Locale.ROOT);
+        int from = Arrays.binarySearch(sorted, prefix);
+        if (from < 0) from = -from - 1;
+        List<String> result = new ArrayList<>();
+        for (int i = from; i < sorted.length && sorted[i].startsWith(prefix); i++) {
+            result.add(sorted[i]);
+        }
+        return result;
+    }
+
+    private List<String> buildSubcommandCompletions(CommandSender sender) {
+        List<String> availableCommands = getAvailablePlayerCommands(sender);
+        
+        // Also include GP commands from SUBS that the player has permission for
+        // These are commands we handle but may not be in player-commands config
+        List<String> allCommands = new ArrayList<>(availableCommands);
+        
+        // Add commands from SUBS that require specific permissions
+        if (sender.hasPermission("griefprevention.claims")) {
+            // Base commands available to all with claims permission
+            if (!allCommands.contains("gui")) allCommands.add("gui");
+            if (!allCommands.contains("menu")) allCommands.add("menu");
+            if (!allCommands.contains("list")) allCommands.add("list");
+            if (!allCommands.contains("create")) allCommands.add("create");
+            if (!allCommands.contains("!")) allCommands.add("!");
+            if (!allCommands.contains("resize")) allCommands.add("resize");
+            if (!allCommands.contains("map")) allCommands.add("map");
+        }
+        
+        if (sender.hasPermission("griefprevention.adminclaimslist")) {
+            if (!allCommands.contains("adminlist")) allCommands.add("adminlist");
+        }
+        
+        // GP commands that we dispatch (check base GP permissions)
+        if (sender.hasPermission("griefprevention.claims")) {
+            // Trust commands
+            if (!allCommands.contains("trust")) allCommands.add("trust");
+            if (!allCommands.contains("untrust")) allCommands.add("untrust");
+            if (!allCommands.contains("accesstrust")) allCommands.add("accesstrust");
+            if (!allCommands.contains("containertrust")) allCommands.add("containertrust");
+            if (!allCommands.contains("permissiontrust")) allCommands.add("permissiontrust");
+            
+            // Claim management
+            if (!allCommands.contains("abandon")) allCommands.add("abandon");
+            if (!allCommands.contains("abandonall")) allCommands.add("abandonall");
+            if (!allCommands.contains("transfer")) allCommands.add("transfer");
+            
+            // Subdivision commands
+            if (!allCommands.contains("subdivideclaim")) allCommands.add("subdivideclaim");
+            if (!allCommands.contains("3dsubdivideclaim")) allCommands.add("3dsubdivideclaim");
+            if (!allCommands.contains("restrictsubclaim")) allCommands.add("restrictsubclaim");
+            if (!allCommands.contains("basic")) allCommands.add("basic");
+            if (!allCommands.contains("explosions")) allCommands.add("explosions");
+        }
+        
+        // Rental/eviction commands
+        if (sender.hasPermission("griefprevention.evict")) {
+            if (!allCommands.contains("evict")) allCommands.add("evict");
+        }
+        if (sender.hasPermission("griefprevention.claim.cancelrent")) {
+            if (!allCommands.contains("cancelrent")) allCommands.add("cancelrent");
+        }
+        if (sender.hasPermission(codes.castled.gpexpansion.storage.ClaimSnapshotStore.getPermission())) {
+            if (!allCommands.contains("snapshot")) allCommands.add("snapshot");
+        }
+        if (sender.hasPermission("griefprevention.claim.gui.flags")) {
+            if (!allCommands.contains("flags")) allCommands.add("flags");
+        }
+        if (sender.hasPermission("griefprevention.claim.gui.options")) {
+            if (!allCommands.contains("options")) allCommands.add("options");
+        }
+        if (!plugin.getConfigManager().isGlobalClaimsEnabled()) {
+            allCommands.removeIf(commandName ->
+                commandName.equalsIgnoreCase("global") || commandName.equalsIgnoreCase("globallist"));
+        }
+        
+        return allCommands;
+    }
+
     @SuppressWarnings("all")
     private List<String> completeTab(CommandSender sender, Command command, String alias, String[] args) {
         // Standalone /claimlist and /claimslist: optional player target for console or claimslistother permission
@@ -3564,77 +3666,7 @@ plugin.getSchedulerFacade().teleportEntity(player, centerOpt.get());
                         ? Collections.singletonList("[claimId]")
                         : Collections.emptyList();
             }
-            // Get available player commands from config (filtered by permissions)
-            List<String> availableCommands = getAvailablePlayerCommands(sender);
-            
-            // Also include GP commands from SUBS that the player has permission for
-            // These are commands we handle but may not be in player-commands config
-            List<String> allCommands = new ArrayList<>(availableCommands);
-            
-            // Add commands from SUBS that require specific permissions
-            if (sender.hasPermission("griefprevention.claims")) {
-                // Base commands available to all with claims permission
-                if (!allCommands.contains("gui")) allCommands.add("gui");
-                if (!allCommands.contains("menu")) allCommands.add("menu");
-                if (!allCommands.contains("list")) allCommands.add("list");
-                if (!allCommands.contains("create")) allCommands.add("create");
-                if (!allCommands.contains("!")) allCommands.add("!");
-                if (!allCommands.contains("resize")) allCommands.add("resize");
-                if (!allCommands.contains("map")) allCommands.add("map");
-            }
-            
-            if (sender.hasPermission("griefprevention.adminclaimslist")) {
-                if (!allCommands.contains("adminlist")) allCommands.add("adminlist");
-            }
-            
-            // GP commands that we dispatch (check base GP permissions)
-            if (sender.hasPermission("griefprevention.claims")) {
-                // Trust commands
-                if (!allCommands.contains("trust")) allCommands.add("trust");
-                if (!allCommands.contains("untrust")) allCommands.add("untrust");
-                if (!allCommands.contains("accesstrust")) allCommands.add("accesstrust");
-                if (!allCommands.contains("containertrust")) allCommands.add("containertrust");
-                if (!allCommands.contains("permissiontrust")) allCommands.add("permissiontrust");
-                
-                // Claim management
-                if (!allCommands.contains("abandon")) allCommands.add("abandon");
-                if (!allCommands.contains("abandonall")) allCommands.add("abandonall");
-                if (!allCommands.contains("transfer")) allCommands.add("transfer");
-                
-                // Subdivision commands
-                if (!allCommands.contains("subdivideclaim")) allCommands.add("subdivideclaim");
-                if (!allCommands.contains("3dsubdivideclaim")) allCommands.add("3dsubdivideclaim");
-                if (!allCommands.contains("restrictsubclaim")) allCommands.add("restrictsubclaim");
-                if (!allCommands.contains("basic")) allCommands.add("basic");
-                if (!allCommands.contains("explosions")) allCommands.add("explosions");
-            }
-            
-            // Rental/eviction commands
-            if (sender.hasPermission("griefprevention.evict")) {
-                if (!allCommands.contains("evict")) allCommands.add("evict");
-            }
-            if (sender.hasPermission("griefprevention.claim.cancelrent")) {
-                if (!allCommands.contains("cancelrent")) allCommands.add("cancelrent");
-            }
-            if (sender.hasPermission(codes.castled.gpexpansion.storage.ClaimSnapshotStore.getPermission())) {
-                if (!allCommands.contains("snapshot")) allCommands.add("snapshot");
-            }
-            if (sender.hasPermission("griefprevention.claim.gui.flags")) {
-                if (!allCommands.contains("flags")) allCommands.add("flags");
-            }
-            if (sender.hasPermission("griefprevention.claim.gui.options")) {
-                if (!allCommands.contains("options")) allCommands.add("options");
-            }
-            if (!plugin.getConfigManager().isGlobalClaimsEnabled()) {
-                allCommands.removeIf(commandName ->
-                    commandName.equalsIgnoreCase("global") || commandName.equalsIgnoreCase("globallist"));
-            }
-            
-            // Filter by input and return
-            return allCommands.stream()
-                .filter(s -> s.toLowerCase().startsWith(args[0].toLowerCase()))
-                .sorted()
-                .collect(Collectors.toList());
+            return completeSubcommand(sender, args[0]);
         }
         if (args.length > 1) {
             String sub = (args[0] != null ? args[0].trim() : "").toLowerCase(Locale.ROOT);
@@ -30,7 +30,7 @@ public class ClaimFlyCommand implements CommandExecutor, TabCompleter {
     public ClaimFlyCommand(GPExpansionPlugin plugin) {
         this.plugin = plugin;
         this.manager = plugin.getClaimFlyManager();
-        this.gpBridge = new GPBridge();
+        this.gpBridge = plugin.getGPBridge();
     }
 
     @Override
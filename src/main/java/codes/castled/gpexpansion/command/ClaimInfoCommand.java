@@ -37,7 +37,7 @@ public class ClaimInfoCommand implements CommandExecutor, TabCompleter {
     
     public ClaimInfoCommand(GPExpansionPlugin plugin) {
         this.plugin = plugin;
-        this.gp = new GPBridge();
+        this.gp = plugin.getGPBridge();
         this.claimDataStore = plugin.getClaimDataStore();
     }
     
@@ -0,0 +1,241 @@
+package codes.castled.gpexpansion.command;
+
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandSender;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared parsing for the commands GPExpansion intercepts or executes, so a chat command is read once
+ * instead of being lowercased, regex-split and re-matched by every listener that looks at it.
+ *
+ * <p>Command labels and {@code /claim} subcommands, aliases included, are held in prefix tries built
+ * once at class load. {@link #parse(String)} checks the first character of the label against the set
+ * of first characters any known label starts with, so unrelated commands are turned away before
+ * anything else is read; otherwise it walks the label through the trie (stopping as soon as no label
+ * can match) and only then tokenizes the arguments, in the same pass over the message.
+ */
+public final class CommandRouter {
+
+    /** What a command label is handled as. */
+    public enum Route {
+        CLAIM,
+        /** /trust, /untrust, /accesstrust, /containertrust, /permissiontrust */
+        TRUST,
+        RESIZE,
+        CLAIM_LIST,
+        ADMIN_CLAIM_LIST,
+        ABANDON,
+        TELEPORT,
+        MAP,
+        SET_SPAWN,
+        GLOBAL_LIST,
+        GLOBAL,
+        APPROVE,
+        CANCEL_RENT
+    }
+
+    /** A {@code /claim} subcommand: its canonical name, and whether we take it over from GP3D. */
+    public record Subcommand(String name, boolean intercepted) {}
+
+    /** A parsed command: its route, the label as typed (lowercased), and its arguments. */
+    public record Invocation(Route route, String label, String[] args) {
+
+        /** The first argument as a {@code /claim} subcommand, or null if there is none or it is unknown. */
+        public Subcommand subcommand() {
+            return args.length > 0 ? CommandRouter.subcommand(args[0]) : null;
+        }
+
+        /** The arguments joined back together with single spaces. */
+        public String rest() {
+            return String.join(" ", args);
+        }
+    }
+
+    private static final String[] NO_ARGS = new String[0];
+
+    private static final Trie<Route> LABELS = new Trie<>();
+    private static final Trie<Subcommand> SUBCOMMANDS = new Trie<>();
+    // First characters of every label, indexed by ASCII code
+    private static final boolean[] FIRST_CHARS = new boolean[128];
+    private static final Map<String, Command> STUBS = new ConcurrentHashMap<>();
+
+    static {
+        label(Route.CLAIM, "claim");
+        label(Route.TRUST, "trust", "untrust", "accesstrust", "containertrust", "permissiontrust");
+        label(Route.RESIZE, "resizeclaim", "expandclaim", "extendclaim");
+        label(Route.CLAIM_LIST, "claimlist", "claimslist");
+        label(Route.ADMIN_CLAIM_LIST, "adminclaimlist", "adminclaimslist");
+        label(Route.ABANDON, "abandonclaim");
+        label(Route.TELEPORT, "claimtp");
+        label(Route.MAP, "claimmap");
+        label(Route.SET_SPAWN, "setclaimspawn");
+        label(Route.GLOBAL_LIST, "globalclaimlist", "globalclaimslist");
+        label(Route.GLOBAL, "globalclaim");
+        label(Route.APPROVE, "approveclaim", "aclaim");
+        label(Route.CANCEL_RENT, "cancelrent");
+
+        for (String sub : ClaimCommand.HANDLED_SUBCOMMANDS) {
+            SUBCOMMANDS.put(sub, new Subcommand(sub, true));
+        }
+        // Aliases run as the subcommand they stand for
+        SUBCOMMANDS.put("menu", new Subcommand("gui", true));
+        SUBCOMMANDS.put("teleport", new Subcommand("tp", true));
+        SUBCOMMANDS.put("expand", new Subcommand("resize", true));
+        // Not intercepted in GP3D mode, as before; GP3D has its own description command
+        SUBCOMMANDS.put("description", new Subcommand("desc", false));
+    }
+
+    private CommandRouter() {}
+
+    private static void label(Route route, String... labels) {
+        for (String label : labels) {
+            LABELS.put(label, route);
+            FIRST_CHARS[label.charAt(0)] = true;
+        }
+    }
+
+    /**
+     * Parse a chat command ({@code /label args...}). Null if it is not one of ours, including any
+     * namespaced label such as {@code /gpexpansion:claim}. Arguments keep their case; runs of
+     * whitespace separate them.
+     */
+    public static Invocation parse(String message) {
+        if (message == null || message.length() < 2 || message.charAt(0) != '/') return null;
+        return parse(message, 1, false);
+    }
+
+    /**
+     * Parse a tab-completion buffer, with or without the leading slash. A trailing space yields a
+     * final empty argument, meaning the next argument is being completed.
+     */
+    public static Invocation parseCompletion(String buffer) {
+        if (buffer == null || buffer.isEmpty()) return null;
+        return parse(buffer, buffer.charAt(0) == '/' ? 1 : 0, true);
+    }
+
+    /** The route a bare label (no slash, no arguments) is handled as, or null. */
+    public static Route route(String label) {
+        return label != null ? LABELS.get(label, 0, label.length()) : null;
+    }
+
+    /** The {@code /claim} subcommand the token names, aliases resolved, or null if unknown. */
+    public static Subcommand subcommand(String token) {
+        return token != null ? SUBCOMMANDS.get(token, 0, token.length()) : null;
+    }
+
+    /** Whether the token is a run of ASCII digits, as claim IDs are. */
+    public static boolean isNumeric(String token) {
+        if (token == null || token.isEmpty()) return false;
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (c < '0' || c > '9') return false;
+        }
+        return true;
+    }
+
+    /** A placeholder {@link Command} with this name, for calling our executors directly. */
+    public static Command stub(String name) {
+        return STUBS.computeIfAbsent(name, n -> new Command(n) {
+            @Override
+            public boolean execute(CommandSender sender, String commandLabel, String[] args) {
+                return false;
+            }
+        });
+    }
+
+    private static Invocation parse(String line, int start, boolean keepTrailingEmpty) {
+        if (start >= line.length()) return null;
+        char first = lower(line.charAt(start));
+        if (first >= FIRST_CHARS.length || !FIRST_CHARS[first]) return null;
+        Trie.Node<Route> node = LABELS.root;
+        int i = start;
+        for (; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (Character.isWhitespace(c)) break;
+            node = node.child(lower(c));
+            if (node == null) return null;
+        }
+        if (node.value == null) return null;
+        String label = line.substring(start, i).toLowerCase(java.util.Locale.ROOT);
+        return new Invocation(node.value, label, tokenize(line, i, keepTrailingEmpty));
+    }
+
+    private static String[] tokenize(String line, int from, boolean keepTrailingEmpty) {
+        List<String> tokens = null;
+        int tokenStart = -1;
+        for (int i = from; i < line.length(); i++) {
+            if (Character.isWhitespace(line.charAt(i))) {
+                if (tokenStart >= 0) {
+                    if (tokens == null) tokens = new ArrayList<>(4);
+                    tokens.add(line.substring(tokenStart, i));
+                    tokenStart = -1;
+                }
+            } else if (tokenStart < 0) {
+                tokenStart = i;
+            }
+        }
+        if (tokenStart >= 0) {
+            if (tokens == null) tokens = new ArrayList<>(1);
+            tokens.add(line.substring(tokenStart));
+        } else if (keepTrailingEmpty && line.length() > from) {
+            if (tokens == null) tokens = new ArrayList<>(1);
+            tokens.add("");
+        }
+        return tokens != null ? tokens.toArray(NO_ARGS) : NO_ARGS;
+    }
+
+    private static char lower(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    /** Case-insensitive (ASCII) prefix trie; read-only once the static initializer has filled it. */
+    private static final class Trie<V> {
+        final Node<V> root = new Node<>();
+
+        static final class Node<V> {
+            char[] keys = new char[0];
+            @SuppressWarnings("unchecked")
+            Node<V>[] children = new Node[0];
+            V value;
+
+            Node<V> child(char c) {
+                for (int i = 0; i < keys.length; i++) {
+                    if (keys[i] == c) return children[i];
+                }
+                return null;
+            }
+
+            Node<V> childOrAdd(char c) {
+                Node<V> existing = child(c);
+                if (existing != null) return existing;
+                keys = Arrays.copyOf(keys, keys.length + 1);
+                children = Arrays.copyOf(children, children.length + 1);
+                Node<V> created = new Node<>();
+                keys[keys.length - 1] = c;
+                children[children.length - 1] = created;
+                return created;
+            }
+        }
+
+        void put(String key, V value) {
+            Node<V> node = root;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.childOrAdd(lower(key.charAt(i)));
+            }
+            node.value = value;
+        }
+
+        V get(String key, int from, int to) {
+            Node<V> node = root;
+            for (int i = from; i < to && node != null; i++) {
+                node = node.child(lower(key.charAt(i)));
+            }
+            return node != null ? node.value : null;
+        }
+    }
+}
@@ -70,6 +70,16 @@ public class GPXCommand implements CommandExecutor, TabCompleter {
             return true;
         }
 
+        if (subCommand.equals("save")) {
+            int pending = plugin.getClaimDataStore().getDirtyCount();
+            if (plugin.getClaimDataStore().saveNow()) {
+                sender.sendMessage(plugin.getMessages().get("admin.save-success", "{count}", String.valueOf(pending)));
+            } else {
+                sender.sendMessage(plugin.getMessages().get("admin.save-failed"));
+            }
+            return true;
+        }
+
         if (subCommand.equals("waypoints")) {
             return handleWaypointDiagnostics(sender);
         }
@@ -250,6 +260,7 @@ public class GPXCommand implements CommandExecutor, TabCompleter {
         sender.sendMessage(plugin.getMessages().get("admin.gpx-debug"));
         sender.sendMessage(plugin.getMessages().get("admin.gpx-max"));
         sender.sendMessage(plugin.getMessages().get("admin.gpx-accruals"));
+        sender.sendMessage(plugin.getMessages().get("admin.gpx-save"));
     }
 
     /**
@@ -677,7 +688,7 @@ public class GPXCommand implements CommandExecutor, TabCompleter {
         
         if (args.length == 1) {
             // First argument: subcommands
-            for (String sub : Arrays.asList("reload", "debug", "max", "accruals", "waypoints")) {
+            for (String sub : Arrays.asList("reload", "debug", "max", "accruals", "waypoints", "save")) {
                 if (sub.startsWith(args[0].toLowerCase())) {
                     completions.add(sub);
                 }
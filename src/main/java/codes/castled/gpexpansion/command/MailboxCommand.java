@@ -30,7 +30,7 @@ public class MailboxCommand implements CommandExecutor, TabCompleter {
     
     public MailboxCommand(GPExpansionPlugin plugin) {
         this.plugin = plugin;
-        this.gp = new GPBridge();
+        this.gp = plugin.getGPBridge();
     }
     
     /**
@@ -32,7 +32,7 @@ public class RentClaimCommand implements CommandExecutor, TabCompleter {
     public RentClaimCommand(GPExpansionPlugin plugin, SetupWizardManager wizardManager) {
         this.plugin = plugin;
         this.wizardManager = wizardManager;
-        this.gp = new GPBridge();
+        this.gp = plugin.getGPBridge();
     }
     
     @Override
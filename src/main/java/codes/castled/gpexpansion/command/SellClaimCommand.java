@@ -35,7 +35,7 @@ public class SellClaimCommand implements CommandExecutor, TabCompleter {
     public SellClaimCommand(GPExpansionPlugin plugin, SetupWizardManager wizardManager) {
         this.plugin = plugin;
         this.wizardManager = wizardManager;
-        this.gp = new GPBridge();
+        this.gp = plugin.getGPBridge();
     }
     
     @Override
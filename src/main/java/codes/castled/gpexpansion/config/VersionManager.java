@@ -456,7 +456,7 @@ public class VersionManager {
         FileConfiguration config = plugin.getConfig();
         if (!config.contains("signs.mailbox.protocol")) {
             String existing = config.getString("mailbox-protocol", null);
-            GPBridge gp = new GPBridge();
+            GPBridge gp = plugin.getGPBridge();
             boolean gp3d = gp.isGP3D();
             String defaultProtocol = existing != null && !existing.isBlank() ? existing.trim() : (gp3d ? "real" : "virtual");
             config.set("signs.mailbox.protocol", defaultProtocol);
@@ -476,7 +476,7 @@ public class VersionManager {
         FileConfiguration config = plugin.getConfig();
         if (config.contains("signs.mailbox.protocol")) return;
         String existing = config.getString("mailbox-protocol", null);
-        GPBridge gp = new GPBridge();
+        GPBridge gp = plugin.getGPBridge();
         boolean gp3d = gp.isGP3D();
         String defaultProtocol = existing != null && !existing.isBlank() ? existing.trim() : (gp3d ? "real" : "virtual");
         config.set("signs.mailbox.protocol", defaultProtocol);
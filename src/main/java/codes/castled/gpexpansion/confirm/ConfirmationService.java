@@ -188,7 +188,7 @@ public class ConfirmationService {
                 return;
             }
             
-            GPBridge gpBridge = new GPBridge();
+            GPBridge gpBridge = plugin.getGPBridge();
             java.util.Optional<Object> claimOpt = gpBridge.findClaimById(claimId);
             if (!claimOpt.isPresent()) {
                 plugin.getMessages().send(player, "claim.not-found", "{id}", claimId);
@@ -286,7 +286,7 @@ public class ConfirmationService {
         pdc.set(new org.bukkit.NamespacedKey(plugin, "rent.expiry"), PersistentDataType.LONG, newExpiry);
 
         // Grant trust permissions to the renter for this claim
-        GPBridge gpBridge = new GPBridge();
+        GPBridge gpBridge = plugin.getGPBridge();
         java.util.Optional<Object> claimOpt = gpBridge.findClaimById(claimId);
         if (claimOpt.isPresent()) {
             Object claim = claimOpt.get();
@@ -352,6 +352,7 @@ public class ConfirmationService {
             updated.paymentFailed = false;  // clear eviction flag
         }
         dataStore.save();
+        plugin.getCountdownSignScheduler().track(claimId);
         long addedMillis = newExpiry - now;
         String costFormatted = formatEcoAmount(kind, ecoAmtRaw);
         plugin.getMessages().send(player, "sign-interaction.rent-success",
@@ -409,7 +410,7 @@ public class ConfirmationService {
                     player.giveExp((int) amt);
                     break;
                 case "CLAIMBLOCKS":
-                    new GPBridge().changeClaimBlocks(player, (int) amt);
+                    plugin.getGPBridge().changeClaimBlocks(player, (int) amt);
                     plugin.getMessages().send(player, "sign-interaction.owner-claimblocks",
                         "{amount}", String.valueOf((int) amt));
                     break;
@@ -0,0 +1,47 @@
+package codes.castled.gpexpansion.events;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.player.PlayerEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Called after the claim a player stands in changes: entering a claim, leaving one for the
+ * wilderness, or crossing straight from one claim into another, whether by walking or teleporting.
+ * <p>
+ * Plugin-internal. Claims are the GriefPrevention claim objects {@link codes.castled.gpexpansion.gp.GPBridge}
+ * hands out; a resize that swaps in a new claim object also counts as a change.
+ */
+public class PlayerClaimChangeEvent extends PlayerEvent {
+    private static final HandlerList HANDLERS = new HandlerList();
+
+    private final Object fromClaim;
+    private final Object toClaim;
+    private final Location to;
+
+    public PlayerClaimChangeEvent(
+            @NotNull Player player,
+            @Nullable Object fromClaim,
+            @Nullable Object toClaim,
+            @NotNull Location to) {
+        super(player);
+        this.fromClaim = fromClaim;
+        this.toClaim = toClaim;
+        this.to = to;
+    }
+
+    /** The claim the player was in, or null for the wilderness. */
+    public @Nullable Object getFromClaim() { return fromClaim; }
+
+    /** The claim the player is now in, or null for the wilderness. */
+    public @Nullable Object getToClaim() { return toClaim; }
+
+    /** The block location the new claim was resolved at. */
+    public @NotNull Location getTo() { return to; }
+
+    @Override
+    public @NotNull HandlerList getHandlers() { return HANDLERS; }
+    public static @NotNull HandlerList getHandlerList() { return HANDLERS; }
+}
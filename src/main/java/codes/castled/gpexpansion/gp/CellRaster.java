@@ -0,0 +1,412 @@
+package codes.castled.gpexpansion.gp;
+
+import java.util.Arrays;
+
+/**
+ * Bit-packed X/Z block raster used by the shaped-claim map edits.
+ * <p>
+ * Each row of blocks is a run of {@code long} words, one bit per block, over an inclusive
+ * bounding rectangle that grows as cells are added. Unions, adjacency and overlap tests work 64
+ * blocks at a time, and {@link #traceBoundary()} follows the outline straight off the bits, so a
+ * 500x500 claim is a few kilobytes instead of a quarter of a million boxed points. Bits outside
+ * the claimed columns of a row are always zero, which the word-wise operations rely on.
+ * <p>
+ * Not thread-safe; each edit builds and owns its rasters.
+ */
+final class CellRaster {
+
+    private static final int EAST = 0;
+    private static final int SOUTH = 1;
+    private static final int WEST = 2;
+    private static final int NORTH = 3;
+
+    private int minX;
+    private int minZ;
+    private int width;
+    private int depth;
+    private int wordsPerRow;
+    private long[] words;
+
+    CellRaster(int minX, int maxX, int minZ, int maxZ) {
+        this.minX = Math.min(minX, maxX);
+        this.minZ = Math.min(minZ, maxZ);
+        this.width = Math.abs(maxX - minX) + 1;
+        this.depth = Math.abs(maxZ - minZ) + 1;
+        this.wordsPerRow = (width + 63) >>> 6;
+        this.words = new long[wordsPerRow * depth];
+    }
+
+    /** A raster with no blocks set, for claims whose shape could not be read. */
+    static CellRaster empty() {
+        return new CellRaster(0, 0, 0, 0);
+    }
+
+    /**
+     * Rasterize an orthogonal polygon with the same rule as a per-block containment test: a block
+     * is in if it lies on an edge or its centre is inside. Rows are filled by scanline, one pass
+     * over the vertical edges per row, rather than by ray casting every block.
+     */
+    static CellRaster ofPolygon(int[] xs, int[] zs, int minX, int maxX, int minZ, int maxZ) {
+        CellRaster raster = new CellRaster(minX, maxX, minZ, maxZ);
+        int n = xs.length;
+        if (n == 4) {
+            raster.fillRect(minX, maxX, minZ, maxZ);
+            return raster;
+        }
+        int[] crossings = new int[n];
+        for (int z = minZ; z <= maxZ; z++) {
+            double sampleZ = z + 0.5D;
+            int count = 0;
+            for (int i = 0, j = n - 1; i < n; j = i++) {
+                int az = zs[i];
+                int bz = zs[j];
+                if ((az > sampleZ) != (bz > sampleZ)) {
+                    crossings[count++] = xs[i];
+                }
+                // Blocks on an edge are in the claim whatever the interior test says
+                if (xs[i] == xs[j] && z >= Math.min(az, bz) && z <= Math.max(az, bz)) {
+                    raster.fillRow(z, xs[i], xs[i]);
+                } else if (az == bz && z == az) {
+                    raster.fillRow(z, Math.min(xs[i], xs[j]), Math.max(xs[i], xs[j]));
+                }
+            }
+            Arrays.sort(crossings, 0, count);
+            for (int k = 0; k + 1 < count; k += 2) {
+                if (crossings[k] < crossings[k + 1]) {
+                    raster.fillRow(z, crossings[k], crossings[k + 1] - 1);
+                }
+            }
+        }
+        return raster;
+    }
+
+    int minX() {
+        return minX;
+    }
+
+    int maxX() {
+        return minX + width - 1;
+    }
+
+    int minZ() {
+        return minZ;
+    }
+
+    int maxZ() {
+        return minZ + depth - 1;
+    }
+
+    CellRaster copy() {
+        CellRaster copy = new CellRaster(minX, maxX(), minZ, maxZ());
+        System.arraycopy(words, 0, copy.words, 0, words.length);
+        return copy;
+    }
+
+    boolean get(int x, int z) {
+        int rx = x - minX;
+        int rz = z - minZ;
+        if (rx < 0 || rx >= width || rz < 0 || rz >= depth) return false;
+        return (words[rz * wordsPerRow + (rx >>> 6)] & (1L << rx)) != 0;
+    }
+
+    void set(int x, int z) {
+        include(x, x, z, z);
+        int rx = x - minX;
+        words[(z - minZ) * wordsPerRow + (rx >>> 6)] |= 1L << rx;
+    }
+
+    boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) return false;
+        }
+        return true;
+    }
+
+    void fillRect(int x1, int x2, int z1, int z2) {
+        int lowX = Math.min(x1, x2);
+        int highX = Math.max(x1, x2);
+        int lowZ = Math.min(z1, z2);
+        int highZ = Math.max(z1, z2);
+        include(lowX, highX, lowZ, highZ);
+        for (int z = lowZ; z <= highZ; z++) {
+            fillRow(z, lowX, highX);
+        }
+    }
+
+    /** Clear a rectangle, returning whether any block in it was set. */
+    boolean clearRect(int x1, int x2, int z1, int z2) {
+        int lowX = Math.max(Math.min(x1, x2), minX);
+        int highX = Math.min(Math.max(x1, x2), maxX());
+        int lowZ = Math.max(Math.min(z1, z2), minZ);
+        int highZ = Math.min(Math.max(z1, z2), maxZ());
+        boolean cleared = false;
+        for (int z = lowZ; z <= highZ; z++) {
+            int base = (z - minZ) * wordsPerRow;
+            for (int rx = lowX - minX; rx <= highX - minX; ) {
+                int index = base + (rx >>> 6);
+                long mask = rangeMask(rx & 63, Math.min(63, (highX - minX) - (rx & ~63)));
+                cleared |= (words[index] & mask) != 0;
+                words[index] &= ~mask;
+                rx = (rx | 63) + 1;
+            }
+        }
+        return cleared;
+    }
+
+    /** Add every block of another raster to this one, growing the bounds as needed. */
+    void or(CellRaster other) {
+        include(other.minX, other.maxX(), other.minZ, other.maxZ());
+        for (int z = other.minZ; z <= other.maxZ(); z++) {
+            for (int x = other.minX; x <= other.maxX(); x += 64) {
+                long bits = other.bits(x, z);
+                if (bits == 0) continue;
+                int rx = x - minX;
+                int index = (z - minZ) * wordsPerRow + (rx >>> 6);
+                int shift = rx & 63;
+                words[index] |= bits << shift;
+                if (shift != 0 && (rx >>> 6) + 1 < wordsPerRow) {
+                    words[index + 1] |= bits >>> (64 - shift);
+                }
+            }
+        }
+    }
+
+    /** Whether the rasters share a block. */
+    boolean intersects(CellRaster other) {
+        int lowZ = Math.max(minZ, other.minZ);
+        int highZ = Math.min(maxZ(), other.maxZ());
+        for (int z = lowZ; z <= highZ; z++) {
+            for (int x = other.minX; x <= other.maxX(); x += 64) {
+                long bits = other.bits(x, z);
+                if (bits != 0 && (bits & bits(x, z)) != 0) return true;
+            }
+        }
+        return false;
+    }
+
+    /** Whether the rasters share a block or have blocks side by side (not just diagonally). */
+    boolean touches(CellRaster other) {
+        for (int z = other.minZ; z <= other.maxZ(); z++) {
+            if (z < minZ - 1 || z > maxZ() + 1) continue;
+            for (int x = other.minX; x <= other.maxX(); x += 64) {
+                long bits = other.bits(x, z);
+                if (bits == 0) continue;
+                long near = bits(x, z) | bits(x - 1, z) | bits(x + 1, z) | bits(x, z - 1) | bits(x, z + 1);
+                if ((bits & near) != 0) return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Trace the outline of a single hole-free region clockwise and return its corner blocks as a
+     * closed path {@code x0, z0, x1, z1, ..., x0, z0}, collinear corners dropped.
+     * <p>
+     * The walk runs on block-corner vertices. At each vertex the four surrounding blocks decide the
+     * one boundary edge leaving it; zero or several (a diagonal pinch) mean the region cannot be a
+     * single polygon. Each turn is then mapped to the claimed block inside it.
+     *
+     * @throws IllegalArgumentException if the region is empty, pinched, split or has holes
+     */
+    int[] traceBoundary() {
+        int startX = Integer.MIN_VALUE;
+        int startZ = Integer.MIN_VALUE;
+        long edges = 0;
+        for (int z = minZ; z <= maxZ(); z++) {
+            for (int x = minX; x <= maxX(); x += 64) {
+                long bits = bits(x, z);
+                if (bits == 0) continue;
+                if (startX == Integer.MIN_VALUE) {
+                    startX = x + Long.numberOfTrailingZeros(bits);
+                    startZ = z;
+                }
+                edges += Long.bitCount(bits & ~bits(x, z - 1))
+                        + Long.bitCount(bits & ~bits(x, z + 1))
+                        + Long.bitCount(bits & ~bits(x - 1, z))
+                        + Long.bitCount(bits & ~bits(x + 1, z));
+            }
+        }
+        if (edges == 0) {
+            throw new IllegalArgumentException("Unable to trace merged claim boundary.");
+        }
+
+        // Vertex (i, j) is the corner shared by blocks i..i+1 and j..j+1; start at the north-west
+        // corner of the first block of the first row, whose only boundary edge runs east.
+        int originI = startX - 1;
+        int originJ = startZ - 1;
+        IntList cornerI = new IntList();
+        IntList cornerJ = new IntList();
+        IntList cornerDirection = new IntList();
+        int i = originI;
+        int j = originJ;
+        int previousDirection = -1;
+        long steps = 0;
+        while (true) {
+            int direction = outgoing(i, j);
+            if (direction != previousDirection) {
+                cornerI.add(i);
+                cornerJ.add(j);
+                cornerDirection.add(direction);
+            }
+            switch (direction) {
+                case EAST -> i++;
+                case SOUTH -> j++;
+                case WEST -> i--;
+                default -> j--;
+            }
+            previousDirection = direction;
+            if (++steps > edges) {
+                throw new IllegalArgumentException("Merged claim boundary did not close.");
+            }
+            if (i == originI && j == originJ) break;
+        }
+        if (steps != edges) {
+            throw new IllegalArgumentException("Merged claim boundary is disconnected.");
+        }
+
+        int corners = cornerI.size();
+        IntList mapped = new IntList();
+        for (int k = 0; k < corners; k++) {
+            int incoming = cornerDirection.get((k - 1 + corners) % corners);
+            int outgoing = cornerDirection.get(k);
+            int interiorIn = (incoming + 1) & 3;
+            int interiorOut = (outgoing + 1) & 3;
+
+            int x;
+            if (interiorIn == EAST || interiorOut == EAST) {
+                x = cornerI.get(k) + 1;
+            } else if (interiorIn == WEST || interiorOut == WEST) {
+                x = cornerI.get(k);
+            } else {
+                throw new IllegalArgumentException("Merged claim boundary could not be followed.");
+            }
+            int z;
+            if (interiorIn == SOUTH || interiorOut == SOUTH) {
+                z = cornerJ.get(k) + 1;
+            } else if (interiorIn == NORTH || interiorOut == NORTH) {
+                z = cornerJ.get(k);
+            } else {
+                throw new IllegalArgumentException("Merged claim boundary could not be followed.");
+            }
+            if (!get(x, z)) {
+                throw new IllegalArgumentException("Merged claim boundary could not be followed.");
+            }
+            int size = mapped.size();
+            if (size == 0 || mapped.get(size - 2) != x || mapped.get(size - 1) != z) {
+                mapped.add(x);
+                mapped.add(z);
+            }
+        }
+        int points = mapped.size() / 2;
+        if (points < 4) {
+            throw new IllegalArgumentException("Merged claim boundary is too small.");
+        }
+
+        // Adjacent corner blocks can line up once mapped inward; drop the ones that no longer turn
+        IntList path = new IntList();
+        for (int k = 0; k < points; k++) {
+            int previous = (k - 1 + points) % points;
+            int next = (k + 1) % points;
+            int x = mapped.get(2 * k);
+            int z = mapped.get(2 * k + 1);
+            int dx1 = Integer.compare(x, mapped.get(2 * previous));
+            int dz1 = Integer.compare(z, mapped.get(2 * previous + 1));
+            int dx2 = Integer.compare(mapped.get(2 * next), x);
+            int dz2 = Integer.compare(mapped.get(2 * next + 1), z);
+            if (k == 0 || dx1 != dx2 || dz1 != dz2) {
+                path.add(x);
+                path.add(z);
+            }
+        }
+        path.add(path.get(0));
+        path.add(path.get(1));
+        return path.toArray();
+    }
+
+    /** The single boundary edge leaving vertex (i, j), keeping claimed blocks on the right. */
+    private int outgoing(int i, int j) {
+        boolean nw = get(i, j);
+        boolean ne = get(i + 1, j);
+        boolean sw = get(i, j + 1);
+        boolean se = get(i + 1, j + 1);
+        int direction = -1;
+        int count = 0;
+        if (se && !ne) { direction = EAST; count++; }
+        if (sw && !se) { direction = SOUTH; count++; }
+        if (nw && !sw) { direction = WEST; count++; }
+        if (ne && !nw) { direction = NORTH; count++; }
+        if (count != 1) {
+            throw new IllegalArgumentException("Merged claim boundary could not be followed.");
+        }
+        return direction;
+    }
+
+    /** 64 blocks of row z starting at column x; bit n is block x + n. Zero outside the raster. */
+    private long bits(int x, int z) {
+        int rz = z - minZ;
+        int rx = x - minX;
+        if (rz < 0 || rz >= depth || rx >= width || rx <= -64) return 0;
+        int base = rz * wordsPerRow;
+        if (rx < 0) {
+            return words[base] << -rx;
+        }
+        int word = rx >>> 6;
+        int shift = rx & 63;
+        long result = words[base + word] >>> shift;
+        if (shift != 0 && word + 1 < wordsPerRow) {
+            result |= words[base + word + 1] << (64 - shift);
+        }
+        return result;
+    }
+
+    /** Set blocks lowX..highX of row z, which must already be inside the bounds. */
+    private void fillRow(int z, int lowX, int highX) {
+        int base = (z - minZ) * wordsPerRow;
+        int end = highX - minX;
+        for (int rx = lowX - minX; rx <= end; ) {
+            words[base + (rx >>> 6)] |= rangeMask(rx & 63, Math.min(63, end - (rx & ~63)));
+            rx = (rx | 63) + 1;
+        }
+    }
+
+    private static long rangeMask(int fromBit, int toBit) {
+        long upTo = toBit == 63 ? -1L : (1L << (toBit + 1)) - 1;
+        return upTo & (-1L << fromBit);
+    }
+
+    /** Grow the bounds to cover the rectangle, copying the existing rows across. */
+    private void include(int lowX, int highX, int lowZ, int highZ) {
+        if (lowX >= minX && highX <= maxX() && lowZ >= minZ && highZ <= maxZ()) return;
+        CellRaster grown = new CellRaster(Math.min(lowX, minX), Math.max(highX, maxX()),
+                Math.min(lowZ, minZ), Math.max(highZ, maxZ()));
+        grown.or(this);
+        minX = grown.minX;
+        minZ = grown.minZ;
+        width = grown.width;
+        depth = grown.depth;
+        wordsPerRow = grown.wordsPerRow;
+        words = grown.words;
+    }
+
+    private static final class IntList {
+        private int[] values = new int[16];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) values = Arrays.copyOf(values, size << 1);
+            values[size++] = value;
+        }
+
+        int get(int index) {
+            return values[index];
+        }
+
+        int size() {
+            return size;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
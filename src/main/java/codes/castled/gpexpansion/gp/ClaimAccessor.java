@@ -0,0 +1,488 @@
+package codes.castled.gpexpansion.gp;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.*;
+
+/**
+ * Typed facade over the GriefPrevention claim and data store API, bound once into method handles.
+ * <p>
+ * GriefPrevention is only reachable reflectively, and {@link GPBridge} used to resolve and
+ * {@link Method#invoke} the same getters on every call, often by catching
+ * {@link NoSuchMethodException} to find out which fork it was talking to. An accessor makes those
+ * decisions once when it is bound: each accessor is adapted to an {@code Object}-typed handle and
+ * kept in a final field, so a call is a plain {@code invokeExact} the JIT can inline.
+ * <p>
+ * Accessors the running fork does not have are left null. Getters then return null (or an empty
+ * collection) without probing again, and {@code has...} methods let callers pick a fallback up
+ * front. Failures thrown by GriefPrevention itself surface as {@link InvocationTargetException},
+ * as they did with {@link Method#invoke}, so existing {@code ReflectiveOperationException}
+ * handling carries over.
+ */
+public final class ClaimAccessor {
+
+    /** Which {@code DataStore.getClaimAt} overload the running fork provides. */
+    public enum ClaimAtMode {
+        NONE,
+        /** (Location, boolean ignoreHeight) */
+        TWO_ARG,
+        /** (Location, boolean ignoreHeight, Player) */
+        THREE_ARG_PLAYER,
+        /** (Location, boolean ignoreHeight, PlayerData) */
+        THREE_ARG_PLAYER_DATA,
+        /** (Location, boolean ignoreHeight, Claim cachedClaim) */
+        THREE_ARG_CACHED_CLAIM,
+        /** (Location, boolean ignoreHeight, boolean ignoreSubclaims, Claim cachedClaim) */
+        FOUR_ARG
+    }
+
+    private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType CONSUMER = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType CLAIM_AT = MethodType.methodType(Object.class, Location.class, Object.class);
+    private static final MethodType CONTAINS = MethodType.methodType(boolean.class, Object.class, Location.class);
+
+    private final Class<?> claimClass;
+
+    // Claim accessors, each (Object claim)Object unless noted
+    private final MethodHandle getId;
+    private final MethodHandle getOwnerId;
+    private final MethodHandle getLesserCorner;
+    private final MethodHandle getGreaterCorner;
+    private final MethodHandle isAdminClaim;
+    private final MethodHandle getArea;
+    private final MethodHandle getChildren;
+    private final MethodHandle getParent;
+    private final MethodHandle getSafeTeleportLocation;
+    private final MethodHandle inDataStore;
+    private final MethodHandle contains; // (Object claim, Location)boolean
+    private final MethodHandle addBuildTrust; // (Object claim, Object uuid)void
+    private final MethodHandle getBuildTrust;
+    private final MethodHandle setBuildTrust; // (Object claim, Object collection)void
+    private final MethodHandle setPermission; // (Object claim, Object uuidString)void, Build level bound in
+
+    // Data store accessors, bound to the data store instance
+    private final Object dataStore;
+    private final MethodHandle getClaims; // ()Object
+    private final MethodHandle claimsField; // ()Object
+    private final MethodHandle getPlayerData; // (Object uuid)Object
+    private final MethodHandle getClaimAt; // (Location, Object third)Object
+    private final ClaimAtMode claimAtMode;
+
+    private ClaimAccessor(Class<?> claimClass, Object dataStore) {
+        this.claimClass = claimClass;
+        this.dataStore = dataStore;
+
+        getId = getter(claimClass, "getID");
+        getOwnerId = getter(claimClass, "getOwnerID");
+        getLesserCorner = getter(claimClass, "getLesserBoundaryCorner");
+        getGreaterCorner = getter(claimClass, "getGreaterBoundaryCorner");
+        isAdminClaim = getter(claimClass, "isAdminClaim");
+        getArea = getter(claimClass, "getArea");
+        getChildren = firstNonNull(
+                getter(claimClass, "getChildren"),
+                getter(claimClass, "getChildClaims"),
+                fieldGetter(claimClass, "children"),
+                fieldGetter(claimClass, "childClaims"),
+                getter(claimClass, "getSubclaims"),
+                getter(claimClass, "getSubClaims"),
+                fieldGetter(claimClass, "subclaims"),
+                fieldGetter(claimClass, "subClaims"));
+        getParent = firstNonNull(
+                fieldGetter(claimClass, "parent"),
+                fieldGetter(claimClass, "parentClaim"),
+                getter(claimClass, "getParent"),
+                getter(claimClass, "getParentClaim"));
+        getSafeTeleportLocation = getter(claimClass, "getSafeTeleportLocation");
+        inDataStore = fieldGetter(claimClass, "inDataStore");
+        contains = bindContains(claimClass);
+        addBuildTrust = consumer(claimClass, "addBuildTrust", UUID.class);
+        getBuildTrust = getter(claimClass, "getBuildTrust");
+        setBuildTrust = consumer(claimClass, "setBuildTrust", Collection.class);
+        setPermission = bindSetBuildPermission(claimClass);
+
+        Class<?> storeClass = dataStore != null ? dataStore.getClass() : null;
+        MethodHandle claims = getter(storeClass, "getClaims");
+        getClaims = claims != null ? claims.bindTo(dataStore) : null;
+        MethodHandle claimsList = fieldGetter(storeClass, "claims");
+        claimsField = claimsList != null ? claimsList.bindTo(dataStore) : null;
+        MethodHandle playerData = unreflect(method(storeClass, "getPlayerData", UUID.class));
+        getPlayerData = playerData != null
+                ? playerData.bindTo(dataStore).asType(MethodType.methodType(Object.class, Object.class))
+                : null;
+
+        ClaimAtMode mode = ClaimAtMode.NONE;
+        MethodHandle claimAt = null;
+        Method claimAtMethod = null;
+        if (storeClass != null) {
+            for (Method m : storeClass.getMethods()) {
+                if (!m.getName().equals("getClaimAt")) continue;
+                Class<?>[] params = m.getParameterTypes();
+                if (params.length == 4
+                        && Location.class.isAssignableFrom(params[0])
+                        && params[1] == boolean.class
+                        && params[2] == boolean.class) {
+                    claimAtMethod = m;
+                    mode = ClaimAtMode.FOUR_ARG;
+                    break;
+                }
+                if (params.length == 3
+                        && Location.class.isAssignableFrom(params[0])
+                        && params[1] == boolean.class) {
+                    claimAtMethod = m;
+                    Class<?> third = params[2];
+                    if (Player.class.isAssignableFrom(third)) {
+                        mode = ClaimAtMode.THREE_ARG_PLAYER;
+                    } else if (third.getSimpleName().equals("PlayerData") || third.getName().endsWith(".PlayerData")) {
+                        mode = ClaimAtMode.THREE_ARG_PLAYER_DATA;
+                    } else {
+                        mode = ClaimAtMode.THREE_ARG_CACHED_CLAIM;
+                    }
+                    continue;
+                }
+                if (claimAtMethod == null
+                        && params.length == 2
+                        && Location.class.isAssignableFrom(params[0])
+                        && params[1] == boolean.class) {
+                    claimAtMethod = m;
+                    mode = ClaimAtMode.TWO_ARG;
+                }
+            }
+        }
+        MethodHandle raw = unreflect(claimAtMethod);
+        if (raw != null) {
+            raw = raw.bindTo(dataStore);
+            // ignoreHeight = true matches a strict superset of ignoreHeight = false.
+            claimAt = switch (mode) {
+                case FOUR_ARG -> MethodHandles.dropArguments(
+                        MethodHandles.insertArguments(raw, 1, true, false, null), 1, Object.class);
+                case TWO_ARG -> MethodHandles.dropArguments(
+                        MethodHandles.insertArguments(raw, 1, true), 1, Object.class);
+                default -> MethodHandles.insertArguments(raw, 1, true);
+            };
+            claimAt = claimAt.asType(CLAIM_AT);
+        } else {
+            mode = ClaimAtMode.NONE;
+        }
+        getClaimAt = claimAt;
+        claimAtMode = mode;
+    }
+
+    /**
+     * Bind the accessors for a claim class and data store. Either may be null, in which case the
+     * accessors that depend on it are absent.
+     */
+    public static ClaimAccessor bind(Class<?> claimClass, Object dataStore) {
+        return new ClaimAccessor(claimClass, dataStore);
+    }
+
+    /** True if this accessor was bound for the given claim's class (or a superclass of it). */
+    public boolean accepts(Object claim) {
+        return claimClass != null && claimClass.isInstance(claim);
+    }
+
+    public boolean isBoundTo(Object dataStore) {
+        return this.dataStore == dataStore;
+    }
+
+    // ---- claims ----
+
+    /** The claim's raw ID (a {@code Long} on current forks), or null if not exposed. */
+    public Object getId(Object claim) throws ReflectiveOperationException {
+        return get(getId, claim);
+    }
+
+    public boolean hasId() {
+        return getId != null;
+    }
+
+    public UUID getOwnerId(Object claim) throws ReflectiveOperationException {
+        return get(getOwnerId, claim) instanceof UUID owner ? owner : null;
+    }
+
+    public boolean hasOwnerId() {
+        return getOwnerId != null;
+    }
+
+    public Location getLesserCorner(Object claim) throws ReflectiveOperationException {
+        return get(getLesserCorner, claim) instanceof Location loc ? loc : null;
+    }
+
+    public Location getGreaterCorner(Object claim) throws ReflectiveOperationException {
+        return get(getGreaterCorner, claim) instanceof Location loc ? loc : null;
+    }
+
+    /** {@code Claim.isAdminClaim()}, or null when the fork only signals admin claims by a null owner. */
+    public Boolean isAdminClaim(Object claim) throws ReflectiveOperationException {
+        return get(isAdminClaim, claim) instanceof Boolean b ? b : null;
+    }
+
+    public Integer getArea(Object claim) throws ReflectiveOperationException {
+        return get(getArea, claim) instanceof Number n ? n.intValue() : null;
+    }
+
+    /** Direct children (subdivisions) of a claim; empty if none or not exposed. */
+    public Collection<Object> getChildren(Object claim) throws ReflectiveOperationException {
+        return asCollection(get(getChildren, claim));
+    }
+
+    /** The parent claim, or null for a top-level claim or when not exposed. */
+    public Object getParent(Object claim) throws ReflectiveOperationException {
+        return get(getParent, claim);
+    }
+
+    public boolean hasParent() {
+        return getParent != null;
+    }
+
+    public Location getSafeTeleportLocation(Object claim) throws ReflectiveOperationException {
+        return get(getSafeTeleportLocation, claim) instanceof Location loc ? loc : null;
+    }
+
+    /** GP's {@code inDataStore} flag, or null on forks without it. False once a claim is deleted or replaced. */
+    public Boolean isInDataStore(Object claim) throws ReflectiveOperationException {
+        return get(inDataStore, claim) instanceof Boolean b ? b : null;
+    }
+
+    public boolean hasContains() {
+        return contains != null;
+    }
+
+    /** {@code Claim.contains(location, ignoreHeight = true, excludeSubdivisions = false)}. */
+    public boolean contains(Object claim, Location location) throws ReflectiveOperationException {
+        if (contains == null) return false;
+        try {
+            return (boolean) contains.invokeExact(claim, location);
+        } catch (Throwable t) {
+            throw wrap(t);
+        }
+    }
+
+    // ---- trust ----
+
+    public boolean hasAddBuildTrust() {
+        return addBuildTrust != null;
+    }
+
+    public void addBuildTrust(Object claim, UUID playerId) throws ReflectiveOperationException {
+        accept(addBuildTrust, claim, playerId);
+    }
+
+    public boolean hasBuildTrustList() {
+        return getBuildTrust != null && setBuildTrust != null;
+    }
+
+    public Object getBuildTrust(Object claim) throws ReflectiveOperationException {
+        return get(getBuildTrust, claim);
+    }
+
+    public void setBuildTrust(Object claim, Collection<UUID> trusted) throws ReflectiveOperationException {
+        accept(setBuildTrust, claim, trusted);
+    }
+
+    /** True on forks with {@code setPermission(String, ClaimPermission)} and a Build level. */
+    public boolean hasSetBuildPermission() {
+        return setPermission != null;
+    }
+
+    public void setBuildPermission(Object claim, UUID playerId) throws ReflectiveOperationException {
+        accept(setPermission, claim, playerId.toString());
+    }
+
+    // ---- data store ----
+
+    /** Top-level claims from {@code DataStore.getClaims()}, falling back to its {@code claims} field. */
+    public List<Object> getTopLevelClaims() throws ReflectiveOperationException {
+        List<Object> claims = new ArrayList<>();
+        if (getClaims != null) {
+            claims.addAll(asCollection(call(getClaims)));
+        }
+        // GP3D's getClaims() may return a wrapper that is not a Collection
+        if (claims.isEmpty() && claimsField != null) {
+            claims.addAll(asCollection(call(claimsField)));
+        }
+        return claims;
+    }
+
+    public Object getPlayerData(UUID playerId) throws ReflectiveOperationException {
+        if (getPlayerData == null) return null;
+        try {
+            return (Object) getPlayerData.invokeExact((Object) playerId);
+        } catch (Throwable t) {
+            throw wrap(t);
+        }
+    }
+
+    public ClaimAtMode getClaimAtMode() {
+        return claimAtMode;
+    }
+
+    /**
+     * {@code DataStore.getClaimAt} with ignoreHeight = true.
+     *
+     * @param third the Player or PlayerData the resolved overload takes; ignored otherwise
+     */
+    public Object getClaimAt(Location location, Object third) throws ReflectiveOperationException {
+        if (getClaimAt == null) return null;
+        try {
+            return (Object) getClaimAt.invokeExact(location, third);
+        } catch (Throwable t) {
+            throw wrap(t);
+        }
+    }
+
+    // ---- binding ----
+
+    private static Object get(MethodHandle handle, Object target) throws ReflectiveOperationException {
+        if (handle == null || target == null) return null;
+        try {
+            return (Object) handle.invokeExact(target);
+        } catch (Throwable t) {
+            throw wrap(t);
+        }
+    }
+
+    private static Object call(MethodHandle handle) throws ReflectiveOperationException {
+        try {
+            return handle.invoke();
+        } catch (Throwable t) {
+            throw wrap(t);
+        }
+    }
+
+    private static void accept(MethodHandle handle, Object target, Object arg) throws ReflectiveOperationException {
+        if (handle == null) {
+            throw new NoSuchMethodException("not supported by this GriefPrevention build");
+        }
+        try {
+            handle.invokeExact(target, arg);
+        } catch (Throwable t) {
+            throw wrap(t);
+        }
+    }
+
+    private static ReflectiveOperationException wrap(Throwable t) {
+        if (t instanceof VirtualMachineError error) throw error;
+        if (t instanceof ReflectiveOperationException roe) return roe;
+        return new InvocationTargetException(t);
+    }
+
+    private static Collection<Object> asCollection(Object raw) {
+        if (raw == null) return Collections.emptyList();
+        if (raw instanceof Map<?, ?> map) return new ArrayList<>(map.values());
+        if (raw instanceof Collection<?> collection) {
+            @SuppressWarnings("unchecked")
+            Collection<Object> objects = (Collection<Object>) collection;
+            return objects;
+        }
+        if (raw instanceof Iterable<?> iterable) {
+            List<Object> list = new ArrayList<>();
+            for (Object o : iterable) list.add(o);
+            return list;
+        }
+        if (raw.getClass().isArray()) {
+            int len = java.lang.reflect.Array.getLength(raw);
+            List<Object> list = new ArrayList<>(len);
+            for (int i = 0; i < len; i++) list.add(java.lang.reflect.Array.get(raw, i));
+            return list;
+        }
+        return Collections.emptyList();
+    }
+
+    private static Method method(Class<?> owner, String name, Class<?>... params) {
+        if (owner == null) return null;
+        try {
+            return owner.getMethod(name, params);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        if (method == null) return null;
+        try {
+            return MethodHandles.publicLookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            try {
+                method.setAccessible(true);
+                return MethodHandles.lookup().unreflect(method);
+            } catch (RuntimeException | IllegalAccessException ignored) {
+                return null;
+            }
+        }
+    }
+
+    private static MethodHandle getter(Class<?> owner, String name) {
+        MethodHandle handle = unreflect(method(owner, name));
+        return handle != null ? handle.asType(GETTER) : null;
+    }
+
+    private static MethodHandle consumer(Class<?> owner, String name, Class<?> param) {
+        MethodHandle handle = unreflect(method(owner, name, param));
+        return handle != null ? handle.asType(CONSUMER) : null;
+    }
+
+    private static MethodHandle fieldGetter(Class<?> owner, String name) {
+        for (Class<?> c = owner; c != null && c != Object.class; c = c.getSuperclass()) {
+            try {
+                Field field = c.getDeclaredField(name);
+                field.setAccessible(true);
+                return MethodHandles.lookup().unreflectGetter(field).asType(GETTER);
+            } catch (NoSuchFieldException ignored) {
+            } catch (RuntimeException | IllegalAccessException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private static MethodHandle bindContains(Class<?> claimClass) {
+        MethodHandle handle = unreflect(method(claimClass, "contains", Location.class, boolean.class, boolean.class));
+        if (handle != null) {
+            return MethodHandles.insertArguments(handle, 2, true, false).asType(CONTAINS);
+        }
+        handle = unreflect(method(claimClass, "contains", Location.class, boolean.class));
+        if (handle != null) {
+            return MethodHandles.insertArguments(handle, 2, true).asType(CONTAINS);
+        }
+        handle = unreflect(method(claimClass, "contains", Location.class));
+        return handle != null ? handle.asType(CONTAINS) : null;
+    }
+
+    private static MethodHandle bindSetBuildPermission(Class<?> claimClass) {
+        if (claimClass == null || claimClass.getClassLoader() == null) return null;
+        Class<?> permissionClass = null;
+        for (String name : new String[]{
+                "me.ryanhamshire.GriefPrevention.ClaimPermission",
+                "me.ryanhamshire.griefprevention.ClaimPermission"}) {
+            try {
+                permissionClass = claimClass.getClassLoader().loadClass(name);
+                break;
+            } catch (ClassNotFoundException ignored) {}
+        }
+        if (permissionClass == null || permissionClass.getEnumConstants() == null) return null;
+        Object build = null;
+        for (Object constant : permissionClass.getEnumConstants()) {
+            if (constant != null && constant.toString().equalsIgnoreCase("Build")) {
+                build = constant;
+                break;
+            }
+        }
+        MethodHandle handle = unreflect(method(claimClass, "setPermission", String.class, permissionClass));
+        if (build == null || handle == null) return null;
+        return MethodHandles.insertArguments(handle, 2, build).asType(CONSUMER);
+    }
+
+    private static MethodHandle firstNonNull(MethodHandle... handles) {
+        for (MethodHandle handle : handles) {
+            if (handle != null) return handle;
+        }
+        return null;
+    }
+}
@@ -5,7 +5,10 @@ import org.bukkit.World;
 import org.bukkit.entity.Player;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Bridge operations for claim map editing.
@@ -20,7 +23,7 @@ public final class ClaimMapEditorBridge {
     private final GPBridge gp;
 
     public ClaimMapEditorBridge() {
-        this(new GPBridge());
+        this(codes.castled.gpexpansion.GPExpansionPlugin.getInstance().getGPBridge());
     }
 
     public ClaimMapEditorBridge(GPBridge gp) {
@@ -106,7 +109,17 @@ public final class ClaimMapEditorBridge {
         }
     }
 
-    private record OperationPlan(
+    /**
+     * Whether the claim being edited covers a block column. Plan scoring reads the claim only
+     * through this, so it can be measured against a stand-in claim as well as through
+     * {@link GPBridge#claimContains}.
+     */
+    @FunctionalInterface
+    interface ClaimColumns {
+        boolean contains(int x, int z);
+    }
+
+    record OperationPlan(
             GPBridge.ResizeDirection direction,
             int offset,
             GPBridge.SegmentEdgeInfo segmentEdge,
@@ -116,7 +129,7 @@ public final class ClaimMapEditorBridge {
             Integer bandDistance,
             Integer touchCount
     ) {
-        private OperationPlan(GPBridge.ResizeDirection direction, int offset) {
+        OperationPlan(GPBridge.ResizeDirection direction, int offset) {
             this(direction, offset, null, null, null, null, null, null);
         }
     }
@@ -770,25 +783,50 @@ public final class ClaimMapEditorBridge {
     }
 
     private List<OperationPlan> buildShapedClaimPlanCandidates(Object claim, CellSelection cell) {
-        List<OperationPlan> strict = buildShapedClaimPlanCandidates(claim, cell, 0);
+        if (claim == null || cell.world() == null) {
+            return new ArrayList<>();
+        }
+        ClaimColumns columns = columnsOf(claim, cell.world());
+        // Each direction's edges are read from GP at most once across both tolerance passes
+        Map<GPBridge.ResizeDirection, List<GPBridge.SegmentEdgeInfo>> edges = new EnumMap<>(GPBridge.ResizeDirection.class);
+        Function<GPBridge.ResizeDirection, List<GPBridge.SegmentEdgeInfo>> edgesFor =
+                direction -> edges.computeIfAbsent(direction, d -> gp.resolveSegmentEdges(claim, d));
+
+        List<OperationPlan> strict = buildShapedClaimPlanCandidates(columns, edgesFor, cell, 0);
         if (!strict.isEmpty()) {
             return strict;
         }
 
-        return buildShapedClaimPlanCandidates(claim, cell, CELL_ADJACENCY_TOLERANCE);
+        return buildShapedClaimPlanCandidates(columns, edgesFor, cell, CELL_ADJACENCY_TOLERANCE);
+    }
+
+    /** Samples GP's containment for the claim at the bottom of the world, as plan scoring always has. */
+    private ClaimColumns columnsOf(Object claim, World world) {
+        int sampleY = world.getMinHeight() + 1;
+        return (x, z) -> gp.claimContains(claim, world, x, sampleY, z);
     }
 
-    private List<OperationPlan> buildShapedClaimPlanCandidates(Object claim, CellSelection cell, int tolerance) {
+    /**
+     * The best edge to grow from in each direction the cell touches. Only reads the claim through
+     * {@code claim} and {@code edges}, so it runs the same against a stand-in claim.
+     */
+    static List<OperationPlan> buildShapedClaimPlanCandidates(
+            ClaimColumns claim,
+            Function<GPBridge.ResizeDirection, List<GPBridge.SegmentEdgeInfo>> edges,
+            CellSelection cell,
+            int tolerance
+    ) {
         List<OperationPlan> candidates = new ArrayList<>(4);
-        addShapedCandidate(claim, cell, GPBridge.ResizeDirection.NORTH, tolerance, candidates);
-        addShapedCandidate(claim, cell, GPBridge.ResizeDirection.SOUTH, tolerance, candidates);
-        addShapedCandidate(claim, cell, GPBridge.ResizeDirection.WEST, tolerance, candidates);
-        addShapedCandidate(claim, cell, GPBridge.ResizeDirection.EAST, tolerance, candidates);
+        addShapedCandidate(claim, edges, cell, GPBridge.ResizeDirection.NORTH, tolerance, candidates);
+        addShapedCandidate(claim, edges, cell, GPBridge.ResizeDirection.SOUTH, tolerance, candidates);
+        addShapedCandidate(claim, edges, cell, GPBridge.ResizeDirection.WEST, tolerance, candidates);
+        addShapedCandidate(claim, edges, cell, GPBridge.ResizeDirection.EAST, tolerance, candidates);
         return candidates;
     }
 
-    private void addShapedCandidate(
-            Object claim,
+    private static void addShapedCandidate(
+            ClaimColumns claim,
+            Function<GPBridge.ResizeDirection, List<GPBridge.SegmentEdgeInfo>> edgesFor,
             CellSelection cell,
             GPBridge.ResizeDirection direction,
             int tolerance,
@@ -799,7 +837,7 @@ public final class ClaimMapEditorBridge {
             return;
         }
 
-        List<GPBridge.SegmentEdgeInfo> edges = gp.resolveSegmentEdges(claim, direction);
+        List<GPBridge.SegmentEdgeInfo> edges = edgesFor.apply(direction);
         if (edges.isEmpty()) {
             return;
         }
@@ -865,7 +903,6 @@ public final class ClaimMapEditorBridge {
             int overlapLength = overlapMax - overlapMin + 1;
             int edgeSupport = scoreEdgeInteriorSupport(
                     claim,
-                    cell.world(),
                     direction,
                     edge,
                     overlapMin,
@@ -897,19 +934,26 @@ public final class ClaimMapEditorBridge {
             Object claim,
             List<OperationPlan> candidates,
             Location referenceLocation
+    ) {
+        return pickBestShapedPlan(candidates, candidate -> gp.previewResizeClaim(
+                player,
+                claim,
+                candidate.direction(),
+                candidate.offset(),
+                resolvePlanReferenceLocation(candidate, referenceLocation)
+        ));
+    }
+
+    /** The best candidate whose preview is a valid expansion, or null if none is. */
+    static OperationPlan pickBestShapedPlan(
+            List<OperationPlan> candidates,
+            Function<OperationPlan, GPBridge.ResizePreview> previewer
     ) {
         OperationPlan bestPlan = null;
         GPBridge.ResizePreview bestPreview = null;
 
         for (OperationPlan candidate : candidates) {
-            Location candidateReference = resolvePlanReferenceLocation(candidate, referenceLocation);
-            GPBridge.ResizePreview preview = gp.previewResizeClaim(
-                    player,
-                    claim,
-                    candidate.direction(),
-                    candidate.offset(),
-                    candidateReference
-            );
+            GPBridge.ResizePreview preview = previewer.apply(candidate);
             if (!preview.supported || !preview.valid) {
                 continue;
             }
@@ -926,7 +970,7 @@ public final class ClaimMapEditorBridge {
         return bestPlan;
     }
 
-    private boolean isBetterCandidate(
+    private static boolean isBetterCandidate(
             OperationPlan candidate,
             GPBridge.ResizePreview preview,
             OperationPlan incumbent,
@@ -975,7 +1019,7 @@ public final class ClaimMapEditorBridge {
         return directionRank(candidate.direction()) < directionRank(incumbent.direction());
     }
 
-    private int segmentSpan(OperationPlan plan) {
+    private static int segmentSpan(OperationPlan plan) {
         if (plan.segmentMinAlong() == null || plan.segmentMaxAlong() == null) {
             return Integer.MAX_VALUE;
         }
@@ -1013,7 +1057,7 @@ public final class ClaimMapEditorBridge {
         };
     }
 
-    private int directionRank(GPBridge.ResizeDirection direction) {
+    private static int directionRank(GPBridge.ResizeDirection direction) {
         return switch (direction) {
             case NORTH -> 0;
             case SOUTH -> 1;
@@ -1028,12 +1072,12 @@ public final class ClaimMapEditorBridge {
         return maxA >= minB && minA <= maxB;
     }
 
-    private boolean touchesCoordinateBand(int min, int max, int coordinate, int tolerance) {
+    private static boolean touchesCoordinateBand(int min, int max, int coordinate, int tolerance) {
         return min <= coordinate + Math.max(0, tolerance)
                 && max >= coordinate - Math.max(0, tolerance);
     }
 
-    private int coordinateBandDistance(int min, int max, int coordinate) {
+    private static int coordinateBandDistance(int min, int max, int coordinate) {
         if (coordinate < min) {
             return min - coordinate;
         }
@@ -1043,18 +1087,12 @@ public final class ClaimMapEditorBridge {
         return 0;
     }
 
-    private int countDirectionalTouchColumns(
-            Object claim,
+    private static int countDirectionalTouchColumns(
+            ClaimColumns claim,
             CellSelection cell,
             GPBridge.ResizeDirection direction,
             int tolerance
     ) {
-        World world = cell.world();
-        if (world == null || claim == null) {
-            return 0;
-        }
-
-        int sampleY = world.getMinHeight() + 1;
         int maxExtra = Math.max(0, tolerance);
         int best = 0;
 
@@ -1067,12 +1105,12 @@ public final class ClaimMapEditorBridge {
                     int interiorZ1 = adjacentZ + 1;
                     int interiorZ2 = adjacentZ + 2;
                     for (int x = cell.minX(); x <= cell.maxX(); x++) {
-                        if (gp.claimContains(claim, world, x, sampleY, adjacentZ)) {
+                        if (claim.contains(x, adjacentZ)) {
                             supportScore += 100;
-                            if (gp.claimContains(claim, world, x, sampleY, interiorZ1)) {
+                            if (claim.contains(x, interiorZ1)) {
                                 supportScore += 10;
                             }
-                            if (gp.claimContains(claim, world, x, sampleY, interiorZ2)) {
+                            if (claim.contains(x, interiorZ2)) {
                                 supportScore += 1;
                             }
                         }
@@ -1083,12 +1121,12 @@ public final class ClaimMapEditorBridge {
                     int interiorZ1 = adjacentZ - 1;
                     int interiorZ2 = adjacentZ - 2;
                     for (int x = cell.minX(); x <= cell.maxX(); x++) {
-                        if (gp.claimContains(claim, world, x, sampleY, adjacentZ)) {
+                        if (claim.contains(x, adjacentZ)) {
                             supportScore += 100;
-                            if (gp.claimContains(claim, world, x, sampleY, interiorZ1)) {
+                            if (claim.contains(x, interiorZ1)) {
                                 supportScore += 10;
                             }
-                            if (gp.claimContains(claim, world, x, sampleY, interiorZ2)) {
+                            if (claim.contains(x, interiorZ2)) {
                                 supportScore += 1;
                             }
                         }
@@ -1099,12 +1137,12 @@ public final class ClaimMapEditorBridge {
                     int interiorX1 = adjacentX + 1;
                     int interiorX2 = adjacentX + 2;
                     for (int z = cell.minZ(); z <= cell.maxZ(); z++) {
-                        if (gp.claimContains(claim, world, adjacentX, sampleY, z)) {
+                        if (claim.contains(adjacentX, z)) {
                             supportScore += 100;
-                            if (gp.claimContains(claim, world, interiorX1, sampleY, z)) {
+                            if (claim.contains(interiorX1, z)) {
                                 supportScore += 10;
                             }
-                            if (gp.claimContains(claim, world, interiorX2, sampleY, z)) {
+                            if (claim.contains(interiorX2, z)) {
                                 supportScore += 1;
                             }
                         }
@@ -1115,12 +1153,12 @@ public final class ClaimMapEditorBridge {
                     int interiorX1 = adjacentX - 1;
                     int interiorX2 = adjacentX - 2;
                     for (int z = cell.minZ(); z <= cell.maxZ(); z++) {
-                        if (gp.claimContains(claim, world, adjacentX, sampleY, z)) {
+                        if (claim.contains(adjacentX, z)) {
                             supportScore += 100;
-                            if (gp.claimContains(claim, world, interiorX1, sampleY, z)) {
+                            if (claim.contains(interiorX1, z)) {
                                 supportScore += 10;
                             }
-                            if (gp.claimContains(claim, world, interiorX2, sampleY, z)) {
+                            if (claim.contains(interiorX2, z)) {
                                 supportScore += 1;
                             }
                         }
@@ -1139,22 +1177,17 @@ public final class ClaimMapEditorBridge {
         return best;
     }
 
-    private int scoreEdgeInteriorSupport(
-            Object claim,
-            World world,
+    private static int scoreEdgeInteriorSupport(
+            ClaimColumns claim,
             GPBridge.ResizeDirection direction,
             GPBridge.SegmentEdgeInfo edge,
             int minAlong,
             int maxAlong
     ) {
-        if (claim == null || world == null || edge == null) {
-            return 0;
-        }
-        if (minAlong > maxAlong) {
+        if (edge == null || minAlong > maxAlong) {
             return 0;
         }
 
-        int sampleY = world.getMinHeight() + 1;
         int score = 0;
         switch (direction) {
             case NORTH -> {
@@ -1162,12 +1195,12 @@ public final class ClaimMapEditorBridge {
                 int interiorZ1 = boundaryZ + 1;
                 int interiorZ2 = boundaryZ + 2;
                 for (int x = minAlong; x <= maxAlong; x++) {
-                    if (gp.claimContains(claim, world, x, sampleY, boundaryZ)) {
+                    if (claim.contains(x, boundaryZ)) {
                         score += 100;
-                        if (gp.claimContains(claim, world, x, sampleY, interiorZ1)) {
+                        if (claim.contains(x, interiorZ1)) {
                             score += 10;
                         }
-                        if (gp.claimContains(claim, world, x, sampleY, interiorZ2)) {
+                        if (claim.contains(x, interiorZ2)) {
                             score += 1;
                         }
                     }
@@ -1178,12 +1211,12 @@ public final class ClaimMapEditorBridge {
                 int interiorZ1 = boundaryZ - 1;
                 int interiorZ2 = boundaryZ - 2;
                 for (int x = minAlong; x <= maxAlong; x++) {
-                    if (gp.claimContains(claim, world, x, sampleY, boundaryZ)) {
+                    if (claim.contains(x, boundaryZ)) {
                         score += 100;
-                        if (gp.claimContains(claim, world, x, sampleY, interiorZ1)) {
+                        if (claim.contains(x, interiorZ1)) {
                             score += 10;
                         }
-                        if (gp.claimContains(claim, world, x, sampleY, interiorZ2)) {
+                        if (claim.contains(x, interiorZ2)) {
                             score += 1;
                         }
                     }
@@ -1194,12 +1227,12 @@ public final class ClaimMapEditorBridge {
                 int interiorX1 = boundaryX + 1;
                 int interiorX2 = boundaryX + 2;
                 for (int z = minAlong; z <= maxAlong; z++) {
-                    if (gp.claimContains(claim, world, boundaryX, sampleY, z)) {
+                    if (claim.contains(boundaryX, z)) {
                         score += 100;
-                        if (gp.claimContains(claim, world, interiorX1, sampleY, z)) {
+                        if (claim.contains(interiorX1, z)) {
                             score += 10;
                         }
-                        if (gp.claimContains(claim, world, interiorX2, sampleY, z)) {
+                        if (claim.contains(interiorX2, z)) {
                             score += 1;
                         }
                     }
@@ -1210,12 +1243,12 @@ public final class ClaimMapEditorBridge {
                 int interiorX1 = boundaryX - 1;
                 int interiorX2 = boundaryX - 2;
                 for (int z = minAlong; z <= maxAlong; z++) {
-                    if (gp.claimContains(claim, world, boundaryX, sampleY, z)) {
+                    if (claim.contains(boundaryX, z)) {
                         score += 100;
-                        if (gp.claimContains(claim, world, interiorX1, sampleY, z)) {
+                        if (claim.contains(interiorX1, z)) {
                             score += 10;
                         }
-                        if (gp.claimContains(claim, world, interiorX2, sampleY, z)) {
+                        if (claim.contains(interiorX2, z)) {
                             score += 1;
                         }
                     }
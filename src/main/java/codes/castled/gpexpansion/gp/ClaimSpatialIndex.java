@@ -0,0 +1,301 @@
+package codes.castled.gpexpansion.gp;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Per-world chunk grid of top-level claim bounding boxes, keyed by claim ID.
+ * <p>
+ * Each world maps a packed chunk key to the boxes overlapping that chunk in an open-addressing
+ * {@code long}-keyed table, so a point lookup is one probe sequence with no boxing and a rectangle
+ * query only visits the chunks it covers. Boxes spanning more than {@link #MAX_GRID_CHUNKS} chunks
+ * (large admin claims) are kept in a per-world list checked by every query rather than copied into
+ * thousands of cells. Results are candidates by bounding box only; shaped claims still need their
+ * own containment test.
+ * <p>
+ * {@link GPBridge} keeps one over every top-level claim; features that only care about some claims
+ * (those banning somebody, say) keep their own. Writes take an exclusive lock and queries a shared
+ * one, so map rendering and move checks on several region threads do not contend with each other.
+ */
+public final class ClaimSpatialIndex {
+
+    static final int MAX_GRID_CHUNKS = 4096;
+
+    /** A claim's X/Z bounding box, inclusive block coordinates. */
+    public record Bounds(String claimId, String world, int minX, int minZ, int maxX, int maxZ) {
+        public boolean contains(int x, int z) {
+            return x >= minX && x <= maxX && z >= minZ && z <= maxZ;
+        }
+
+        public boolean intersects(int lowX, int lowZ, int highX, int highZ) {
+            return minX <= highX && maxX >= lowX && minZ <= highZ && maxZ >= lowZ;
+        }
+
+        long chunkCount() {
+            return ((long) (maxX >> 4) - (minX >> 4) + 1) * ((long) (maxZ >> 4) - (minZ >> 4) + 1);
+        }
+    }
+
+    private final Map<String, WorldGrid> worlds = new HashMap<>();
+    private final Map<String, Bounds> byId = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** Add or move a claim's box. */
+    public void put(String claimId, String world, int x1, int z1, int x2, int z2) {
+        Bounds bounds = new Bounds(claimId, world,
+                Math.min(x1, x2), Math.min(z1, z2), Math.max(x1, x2), Math.max(z1, z2));
+        lock.writeLock().lock();
+        try {
+            Bounds previous = byId.put(claimId, bounds);
+            if (previous != null) {
+                gridFor(previous.world()).remove(previous);
+            }
+            worlds.computeIfAbsent(world, k -> new WorldGrid()).add(bounds);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String claimId) {
+        lock.writeLock().lock();
+        try {
+            Bounds previous = byId.remove(claimId);
+            if (previous != null) {
+                gridFor(previous.world()).remove(previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** The claim's indexed box, or null. */
+    public Bounds get(String claimId) {
+        lock.readLock().lock();
+        try {
+            return byId.get(claimId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isEmpty() {
+        lock.readLock().lock();
+        try {
+            return byId.isEmpty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Whether any box covers the block, without collecting them. This is the per-move question, so it
+     * allocates nothing.
+     */
+    public boolean anyAt(String world, int x, int z) {
+        lock.readLock().lock();
+        try {
+            WorldGrid grid = worlds.get(world);
+            if (grid == null) return false;
+            Bounds[] cell = grid.cells.get(chunkKey(x >> 4, z >> 4));
+            if (cell != null) {
+                for (Bounds bounds : cell) {
+                    if (bounds.contains(x, z)) return true;
+                }
+            }
+            for (Bounds bounds : grid.large) {
+                if (bounds.contains(x, z)) return true;
+            }
+            return false;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Boxes intersecting the rectangle, each once. A point query is the 1x1 rectangle. */
+    public List<Bounds> intersecting(String world, int minX, int maxX, int minZ, int maxZ) {
+        int lowX = Math.min(minX, maxX);
+        int highX = Math.max(minX, maxX);
+        int lowZ = Math.min(minZ, maxZ);
+        int highZ = Math.max(minZ, maxZ);
+        List<Bounds> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            WorldGrid grid = worlds.get(world);
+            if (grid == null) return result;
+            long span = ((long) (highX >> 4) - (lowX >> 4) + 1) * ((long) (highZ >> 4) - (lowZ >> 4) + 1);
+            if (span > grid.boxes.size()) {
+                // Walking the cells would visit more chunks than there are claims in the world
+                for (Bounds bounds : grid.boxes) {
+                    if (bounds.intersects(lowX, lowZ, highX, highZ)) result.add(bounds);
+                }
+                return result;
+            }
+            // A point or single-chunk query cannot see a box twice
+            Set<Bounds> seen = span == 1 ? null : Collections.newSetFromMap(new IdentityHashMap<>());
+            for (int cx = lowX >> 4; cx <= highX >> 4; cx++) {
+                for (int cz = lowZ >> 4; cz <= highZ >> 4; cz++) {
+                    Bounds[] cell = grid.cells.get(chunkKey(cx, cz));
+                    if (cell == null) continue;
+                    for (Bounds bounds : cell) {
+                        if (bounds.intersects(lowX, lowZ, highX, highZ) && (seen == null || seen.add(bounds))) {
+                            result.add(bounds);
+                        }
+                    }
+                }
+            }
+            for (Bounds bounds : grid.large) {
+                if (bounds.intersects(lowX, lowZ, highX, highZ)) result.add(bounds);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xffffffffL);
+    }
+
+    private WorldGrid gridFor(String world) {
+        WorldGrid grid = worlds.get(world);
+        if (grid == null) {
+            throw new IllegalStateException("No grid for indexed world " + world);
+        }
+        return grid;
+    }
+
+    private static final class WorldGrid {
+        final ChunkTable cells = new ChunkTable();
+        final List<Bounds> large = new ArrayList<>();
+        final Set<Bounds> boxes = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        void add(Bounds bounds) {
+            boxes.add(bounds);
+            if (bounds.chunkCount() > MAX_GRID_CHUNKS) {
+                large.add(bounds);
+                return;
+            }
+            for (int cx = bounds.minX() >> 4; cx <= bounds.maxX() >> 4; cx++) {
+                for (int cz = bounds.minZ() >> 4; cz <= bounds.maxZ() >> 4; cz++) {
+                    long key = chunkKey(cx, cz);
+                    Bounds[] cell = cells.get(key);
+                    if (cell == null) {
+                        cells.put(key, new Bounds[]{bounds});
+                    } else {
+                        Bounds[] grown = Arrays.copyOf(cell, cell.length + 1);
+                        grown[cell.length] = bounds;
+                        cells.put(key, grown);
+                    }
+                }
+            }
+        }
+
+        void remove(Bounds bounds) {
+            boxes.remove(bounds);
+            if (bounds.chunkCount() > MAX_GRID_CHUNKS) {
+                large.remove(bounds);
+                return;
+            }
+            for (int cx = bounds.minX() >> 4; cx <= bounds.maxX() >> 4; cx++) {
+                for (int cz = bounds.minZ() >> 4; cz <= bounds.maxZ() >> 4; cz++) {
+                    long key = chunkKey(cx, cz);
+                    Bounds[] cell = cells.get(key);
+                    if (cell == null) continue;
+                    int at = -1;
+                    for (int i = 0; i < cell.length; i++) {
+                        if (cell[i] == bounds) {
+                            at = i;
+                            break;
+                        }
+                    }
+                    if (at < 0) continue;
+                    if (cell.length == 1) {
+                        cells.remove(key);
+                        continue;
+                    }
+                    Bounds[] shrunk = new Bounds[cell.length - 1];
+                    System.arraycopy(cell, 0, shrunk, 0, at);
+                    System.arraycopy(cell, at + 1, shrunk, at, cell.length - at - 1);
+                    cells.put(key, shrunk);
+                }
+            }
+        }
+    }
+
+    /**
+     * Open-addressing chunk key to cell table with linear probing. A null value marks a free slot,
+     * so chunk (0, 0) needs no special casing; removal shifts the rest of the probe run back.
+     */
+    private static final class ChunkTable {
+        private long[] keys = new long[64];
+        private Bounds[][] values = new Bounds[64][];
+        private int size;
+
+        Bounds[] get(long key) {
+            int mask = keys.length - 1;
+            for (int i = slot(key, mask); values[i] != null; i = (i + 1) & mask) {
+                if (keys[i] == key) return values[i];
+            }
+            return null;
+        }
+
+        void put(long key, Bounds[] value) {
+            int mask = keys.length - 1;
+            int i = slot(key, mask);
+            for (; values[i] != null; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    values[i] = value;
+                    return;
+                }
+            }
+            keys[i] = key;
+            values[i] = value;
+            if (++size * 4 > keys.length * 3) {
+                resize(keys.length << 1);
+            }
+        }
+
+        void remove(long key) {
+            int mask = keys.length - 1;
+            int i = slot(key, mask);
+            while (true) {
+                if (values[i] == null) return;
+                if (keys[i] == key) break;
+                i = (i + 1) & mask;
+            }
+            int free = i;
+            for (int j = (free + 1) & mask; values[j] != null; j = (j + 1) & mask) {
+                int home = slot(keys[j], mask);
+                // Move the entry back unless its home lies cyclically within (free, j]
+                boolean stays = free <= j ? free < home && home <= j : free < home || home <= j;
+                if (!stays) {
+                    keys[free] = keys[j];
+                    values[free] = values[j];
+                    free = j;
+                }
+            }
+            values[free] = null;
+            size--;
+        }
+
+        private void resize(int capacity) {
+            long[] oldKeys = keys;
+            Bounds[][] oldValues = values;
+            keys = new long[capacity];
+            values = new Bounds[capacity][];
+            int mask = capacity - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldValues[i] == null) continue;
+                int j = slot(oldKeys[i], mask);
+                while (values[j] != null) j = (j + 1) & mask;
+                keys[j] = oldKeys[i];
+                values[j] = oldValues[i];
+            }
+        }
+
+        private static int slot(long key, int mask) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32)) & mask;
+        }
+    }
+}
@@ -16,6 +16,14 @@ import java.util.*;
  */
 public class GPBridge {
     private static final double DOMINANT_CELL_COVERAGE_THRESHOLD = 0.50D;
+    /**
+     * Minimum time between claim-ID index rebuilds caused by lookup misses, so a loop over stale
+     * IDs (deleted claims still referenced by signs or metadata) costs one rebuild, not one each.
+     */
+    private static final long CLAIM_INDEX_MISS_REBUILD_MS = 5000L;
+    /** Numeric claim ID order, which is creation order and matches the data store's listing. */
+    private static final Comparator<String> CLAIM_ID_ORDER =
+            Comparator.comparingLong(GPBridge::claimIdOrder).thenComparing(Comparator.naturalOrder());
     /**
      * Upper bound on probes per axis when resolving the dominant claim of a map cell.
      * A 200x200 cell would otherwise be sampled 40,000 times, once per rendered tile.
@@ -28,12 +36,6 @@ public class GPBridge {
     private static final int COVERAGE_EXACT_AREA_LIMIT = 4096;
     /** Same idea as {@link #COVERAGE_EXACT_AREA_LIMIT}, for the reflective probe fallback. */
     private static final int COVERAGE_PROBE_AREA_LIMIT = 1024;
-    private static final int GET_CLAIM_AT_MODE_UNRESOLVED = 0;
-    private static final int GET_CLAIM_AT_MODE_TWO_ARG = 1;
-    private static final int GET_CLAIM_AT_MODE_THREE_ARG_PLAYER = 2;
-    private static final int GET_CLAIM_AT_MODE_THREE_ARG_PLAYER_DATA = 3;
-    private static final int GET_CLAIM_AT_MODE_THREE_ARG_CACHED_CLAIM = 4;
-    private static final int GET_CLAIM_AT_MODE_FOUR_ARG = 5;
 
     /**
      * Per-class cache of resolved reflective accessors, hits and misses alike.
@@ -65,10 +67,30 @@ public class GPBridge {
     private Class<?> claimClass;
     private Object gpInstance;
     private Object dataStore;
-    private volatile Method cachedGetClaimAtMethod;
-    private volatile int cachedGetClaimAtMode = GET_CLAIM_AT_MODE_UNRESOLVED;
-    private volatile boolean cachedGetClaimAtResolved;
-    private volatile Method cachedGetPlayerDataMethod;
+    // Claim and data store accessors as method handles, rebound if the data store changes.
+    private volatile ClaimAccessor accessor;
+    // Accessors for claim classes the main accessor does not accept, one per class, bound to the
+    // same data store and replaced along with it.
+    private volatile ClassValue<ClaimAccessor> accessorsByClass = accessorsByClass(null);
+
+    // Claim ID -> claim, subdivisions included. Kept current from GP events by ClaimIndexListener;
+    // a full rebuild is only the fallback for lookups the events did not cover.
+    private volatile Map<String, Object> claimsById = new java.util.concurrent.ConcurrentHashMap<>();
+    private volatile boolean claimIndexBuilt;
+    private volatile long lastClaimIndexRebuild;
+
+    // Reverse indexes over top-level claim IDs, updated alongside claimsById and, like it, rebuilt
+    // off to the side and swapped in whole. The trust side reads every trust list reflectively, so
+    // it is only built the first time it is queried.
+    private volatile ReverseIndex reverse = new ReverseIndex();
+    private volatile boolean trustIndexBuilt;
+    // Top-level claim bounding boxes on a chunk grid, built and swapped alongside claimsById.
+    private volatile ClaimSpatialIndex claimBounds = new ClaimSpatialIndex();
+
+    // Claim ID -> geometry read from GP. Entries are dropped when a claim is re-indexed, resized,
+    // reshaped or deleted; the epoch stops a read that raced an invalidation from caching its result.
+    private volatile Map<String, ClaimGeometry> geometryById = new java.util.concurrent.ConcurrentHashMap<>();
+    private final java.util.concurrent.atomic.AtomicLong geometryEpoch = new java.util.concurrent.atomic.AtomicLong();
 
     // Cached reflective accessors for OrthogonalPolygon/OrthogonalPoint2i. Resolving
     // Method handles via Paper's reflection remapper is expensive, so we resolve them
@@ -79,6 +101,10 @@ public class GPBridge {
     private volatile Method cachedPointXMethod;
     private volatile Method cachedPointZMethod;
 
+    /**
+     * Prefer {@link GPExpansionPlugin#getGPBridge()}, which shares one bridge and one set of
+     * bound accessors across the plugin.
+     */
     public GPBridge() {
         // Try both CamelCase and lowercase packages for compatibility across forks
         String[] gpCandidates = new String[]{
@@ -261,8 +287,7 @@ public class GPBridge {
     public Optional<ClaimStats> getPlayerClaimStats(UUID playerId) {
         if (!isAvailable()) return Optional.empty();
         try {
-            Method getPlayerData = dataStore.getClass().getMethod("getPlayerData", UUID.class);
-            Object pd = getPlayerData.invoke(dataStore, playerId);
+            Object pd = accessor().getPlayerData(playerId);
             if (pd == null) return Optional.empty();
 
             Integer accrued = invokeInt(pd, "getAccruedClaimBlocks");
@@ -295,8 +320,10 @@ public class GPBridge {
 
     @SuppressWarnings("all")
     private Integer invokeInt(Object target, String method) {
+        Method m = lookupMethod(target.getClass(), method);
+        if (m == null) return null;
         try {
-            Object res = target.getClass().getMethod(method).invoke(target);
+            Object res = m.invoke(target);
             if (res instanceof Number) return ((Number) res).intValue();
         } catch (ReflectiveOperationException ignored) {}
         return null;
@@ -336,29 +363,26 @@ public class GPBridge {
         return cached == ABSENT_METHOD ? null : cached;
     }
 
-    @SuppressWarnings("all")
     public int getClaimAreaSafe(Object claim) {
         if (claim == null) return 0;
-        Method getArea = lookupMethod(claim.getClass(), "getArea");
-        if (getArea != null) {
-            try {
-                Object val = getArea.invoke(claim);
-                if (val instanceof Number) return ((Number) val).intValue();
-            } catch (ReflectiveOperationException ignored) {}
-        }
+        return geometry(claim).area();
+    }
+
+    @SuppressWarnings("all")
+    private int readClaimArea(Object claim) {
+        ClaimAccessor gp = accessorFor(claim);
         try {
-            Method getLesser = lookupMethod(claim.getClass(), "getLesserBoundaryCorner");
-            Method getGreater = lookupMethod(claim.getClass(), "getGreaterBoundaryCorner");
-            if (getLesser == null || getGreater == null) return 0;
-            Object lesser = getLesser.invoke(claim);
-            Object greater = getGreater.invoke(claim);
-            Method getBlockX = lookupMethod(lesser.getClass(), "getBlockX");
-            Method getBlockZ = lookupMethod(lesser.getClass(), "getBlockZ");
-            if (getBlockX == null || getBlockZ == null) return 0;
-            int x1 = (Integer) getBlockX.invoke(lesser);
-            int z1 = (Integer) getBlockZ.invoke(lesser);
-            int x2 = (Integer) getBlockX.invoke(greater);
-            int z2 = (Integer) getBlockZ.invoke(greater);
+            Integer area = gp.getArea(claim);
+            if (area != null) return area;
+        } catch (ReflectiveOperationException ignored) {}
+        try {
+            Location lesser = gp.getLesserCorner(claim);
+            Location greater = gp.getGreaterCorner(claim);
+            if (lesser == null || greater == null) return 0;
+            int x1 = lesser.getBlockX();
+            int z1 = lesser.getBlockZ();
+            int x2 = greater.getBlockX();
+            int z2 = greater.getBlockZ();
             return Math.abs((x2 - x1 + 1) * (z2 - z1 + 1));
         } catch (ReflectiveOperationException ignored) {}
         return 0;
@@ -428,6 +452,53 @@ public class GPBridge {
         return "plugin=" + pluginPresent + ", gpClass=" + gpCls + ", gpInstance=" + gpInst + ", dataStore=" + ds;
     }
 
+    /**
+     * GriefPrevention accessors bound for the current data store. Binding happens once; it is
+     * only repeated if GriefPrevention swaps its data store, e.g. after a reload.
+     */
+    public ClaimAccessor getClaimAccessor() {
+        ClaimAccessor bound = accessor;
+        if (bound == null || !bound.isBoundTo(dataStore)) {
+            ensureInit();
+            Class<?> cls = claimClass;
+            if (cls == null && dataStore != null) {
+                cls = loadFirstClass(dataStore.getClass().getClassLoader(),
+                        "me.ryanhamshire.GriefPrevention.Claim", "me.ryanhamshire.griefprevention.Claim");
+            }
+            bound = ClaimAccessor.bind(cls, dataStore);
+            accessorsByClass = accessorsByClass(dataStore);
+            accessor = bound;
+            // A new data store holds new claim objects
+            claimIndexBuilt = false;
+        }
+        return bound;
+    }
+
+    private ClaimAccessor accessor() {
+        return getClaimAccessor();
+    }
+
+    /**
+     * The bound accessor, or one bound to the claim's runtime class if it is not the expected one.
+     * Those are kept per class, so claims of different classes do not keep rebinding each other's.
+     */
+    private ClaimAccessor accessorFor(Object claim) {
+        ClaimAccessor bound = getClaimAccessor();
+        if (claim != null && !bound.accepts(claim)) {
+            bound = accessorsByClass.get(claim.getClass());
+        }
+        return bound;
+    }
+
+    private static ClassValue<ClaimAccessor> accessorsByClass(Object dataStore) {
+        return new ClassValue<>() {
+            @Override
+            protected ClaimAccessor computeValue(Class<?> type) {
+                return ClaimAccessor.bind(type, dataStore);
+            }
+        };
+    }
+
     /**
      * Check whether a claim contains a specific X/Z column (ignore Y bounds).
      */
@@ -437,25 +508,13 @@ public class GPBridge {
         }
 
         Location probe = new Location(world, x + 0.5D, y, z + 0.5D);
-        Class<?> runtimeClass = claim.getClass();
-        try {
-            Method contains = lookupMethod(runtimeClass, "contains", Location.class, boolean.class, boolean.class);
-            if (contains != null) {
-                Object result = contains.invoke(claim, probe, true, false);
-                if (result instanceof Boolean b) return b;
-            }
-            contains = lookupMethod(runtimeClass, "contains", Location.class, boolean.class);
-            if (contains != null) {
-                Object result = contains.invoke(claim, probe, true);
-                if (result instanceof Boolean b) return b;
-            }
-            contains = lookupMethod(runtimeClass, "contains", Location.class);
-            if (contains != null) {
-                Object result = contains.invoke(claim, probe);
-                if (result instanceof Boolean b) return b;
+        ClaimAccessor gp = accessorFor(claim);
+        if (gp.hasContains()) {
+            try {
+                return gp.contains(claim, probe);
+            } catch (ReflectiveOperationException e) {
+                if (DEBUG) e.printStackTrace();
             }
-        } catch (ReflectiveOperationException e) {
-            if (DEBUG) e.printStackTrace();
         }
 
         // Fallback: compare claim identity from lookup API.
@@ -485,21 +544,21 @@ public class GPBridge {
         int lowZ = Math.min(minZ, maxZ);
         int highZ = Math.max(minZ, maxZ);
 
-        Object polygon = resolveClaimBoundaryPolygon(claim);
-        if (polygon != null) {
-            try {
-                return countPolygonCoverageInCell(polygon, lowX, highX, lowZ, highZ);
-            } catch (ReflectiveOperationException e) {
-                if (DEBUG) e.printStackTrace();
-            }
+        ClaimGeometry geometry = geometry(claim);
+        if (geometry.polygon() != null) {
+            return countCoverage(geometry.polygon(), lowX, highX, lowZ, highZ);
         }
 
-        ClaimCorners corners = getClaimCorners(claim).orElse(null);
-        if (corners == null) {
+        ClaimCorners corners = geometry.corners();
+        if (corners == null
+                || corners.x2 < lowX
+                || corners.x1 > highX
+                || corners.z2 < lowZ
+                || corners.z1 > highZ) {
             return 0;
         }
 
-        if (!isShapedClaim(claim)) {
+        if (!geometry.shaped()) {
             int overlapMinX = Math.max(lowX, Math.min(corners.x1, corners.x2));
             int overlapMaxX = Math.min(highX, Math.max(corners.x1, corners.x2));
             int overlapMinZ = Math.max(lowZ, Math.min(corners.z1, corners.z2));
@@ -677,6 +736,11 @@ public class GPBridge {
         int highX = Math.max(minX, maxX);
         int lowZ = Math.min(minZ, maxZ);
         int highZ = Math.max(minZ, maxZ);
+        // Wilderness cells, most of any map, are settled by the index without a single GP lookup
+        List<ClaimSpatialIndex.Bounds> boxes = liveClaimBounds(world.getName(), lowX, highX, lowZ, highZ);
+        if (boxes.isEmpty()) {
+            return Optional.empty();
+        }
         int width = highX - lowX + 1;
         int depth = highZ - lowZ + 1;
         int stepX = sampleStep(width);
@@ -707,6 +771,7 @@ public class GPBridge {
         for (long packed : samplePoints) {
             int x = unpackX(packed);
             int z = unpackZ(packed);
+            if (!anyContains(boxes, x, z)) continue;
             Location probe = new Location(world, x + 0.5, sampleY, z + 0.5);
             Object claim = getClaimAt(probe, player).orElse(null);
             if (claim == null) continue;
@@ -753,6 +818,13 @@ public class GPBridge {
         return Optional.of(best.claim());
     }
 
+    private static boolean anyContains(List<ClaimSpatialIndex.Bounds> boxes, int x, int z) {
+        for (ClaimSpatialIndex.Bounds bounds : boxes) {
+            if (bounds.contains(x, z)) return true;
+        }
+        return false;
+    }
+
     public Optional<Object> getClaimAt(Location location, Player player) {
         if (!isAvailable()) {
             if (DEBUG) {
@@ -760,35 +832,25 @@ public class GPBridge {
             }
             return Optional.empty();
         }
+        ClaimAccessor gp = accessor();
+        ClaimAccessor.ClaimAtMode mode = gp.getClaimAtMode();
+        if (mode == ClaimAccessor.ClaimAtMode.NONE) return Optional.empty();
         try {
-            Method target = resolveCachedGetClaimAtMethod();
-            if (target == null || cachedGetClaimAtMode == GET_CLAIM_AT_MODE_UNRESOLVED) return Optional.empty();
-
-            Object thirdArg = switch (cachedGetClaimAtMode) {
-                case GET_CLAIM_AT_MODE_THREE_ARG_PLAYER -> player;
-                case GET_CLAIM_AT_MODE_THREE_ARG_PLAYER_DATA -> player != null ? resolvePlayerData(player.getUniqueId()) : null;
-                case GET_CLAIM_AT_MODE_THREE_ARG_CACHED_CLAIM -> null;
+            Object thirdArg = switch (mode) {
+                case THREE_ARG_PLAYER -> player;
+                case THREE_ARG_PLAYER_DATA -> player != null ? resolvePlayerData(player.getUniqueId()) : null;
                 default -> null;
             };
 
-            // ignoreHeight = true matches a strict superset of ignoreHeight = false, so a
-            // null result here means there is genuinely no claim at this location; retrying
-            // with false would scan again for nothing.
-            Object claim;
-            if (cachedGetClaimAtMode == GET_CLAIM_AT_MODE_FOUR_ARG) {
-                // Signature: (Location, boolean ignoreHeight, boolean ignoreSubclaims, Claim cached)
-                claim = target.invoke(dataStore, location, true, false, null);
-            } else if (cachedGetClaimAtMode != GET_CLAIM_AT_MODE_TWO_ARG) {
-                claim = target.invoke(dataStore, location, true, thirdArg);
-            } else {
-                claim = target.invoke(dataStore, location, true);
-            }
+            // The accessor always passes ignoreHeight = true, which matches a strict superset of
+            // ignoreHeight = false, so a null result means there is genuinely no claim here.
+            Object claim = gp.getClaimAt(location, thirdArg);
 
             // Only the legacy two-arg signature (which cannot express subclaim selection)
-            // needs the brute-force sweep. Running it whenever a lookup misses walks every
-            // claim on the server, which is ruinous from move events and the claim map.
-            if (claim == null && cachedGetClaimAtMode == GET_CLAIM_AT_MODE_TWO_ARG) {
-                claim = bruteForceFindClaim(location, true);
+            // needs a second look. The spatial index narrows it to the claims boxed over this
+            // column, but a miss is usually real, so other signatures trust GP's answer.
+            if (claim == null && mode == ClaimAccessor.ClaimAtMode.TWO_ARG) {
+                claim = findIndexedClaimAt(location, true);
             }
             return Optional.ofNullable(claim);
         } catch (ReflectiveOperationException e) {
@@ -796,67 +858,6 @@ public class GPBridge {
         }
     }
 
-    private Method resolveCachedGetClaimAtMethod() {
-        if (cachedGetClaimAtResolved) {
-            return cachedGetClaimAtMethod;
-        }
-
-        synchronized (this) {
-            if (cachedGetClaimAtResolved) {
-                return cachedGetClaimAtMethod;
-            }
-
-            Method resolved = null;
-            int resolvedMode = GET_CLAIM_AT_MODE_UNRESOLVED;
-
-            for (Method method : dataStore.getClass().getMethods()) {
-                if (!method.getName().equals("getClaimAt")) continue;
-                Class<?>[] params = method.getParameterTypes();
-                if (params.length == 4
-                        && Location.class.isAssignableFrom(params[0])
-                        && params[1] == boolean.class
-                        && params[2] == boolean.class) {
-                    resolved = method;
-                    resolvedMode = GET_CLAIM_AT_MODE_FOUR_ARG;
-                    break;
-                }
-                if (params.length == 3
-                        && Location.class.isAssignableFrom(params[0])
-                        && params[1] == boolean.class) {
-                    resolved = method;
-                    Class<?> third = params[2];
-                    if (Player.class.isAssignableFrom(third)) {
-                        resolvedMode = GET_CLAIM_AT_MODE_THREE_ARG_PLAYER;
-                    } else if (third.getSimpleName().equals("PlayerData") || third.getName().endsWith(".PlayerData")) {
-                        resolvedMode = GET_CLAIM_AT_MODE_THREE_ARG_PLAYER_DATA;
-                    } else {
-                        resolvedMode = GET_CLAIM_AT_MODE_THREE_ARG_CACHED_CLAIM;
-                    }
-                    continue;
-                }
-                if (resolved == null
-                        && params.length == 2
-                        && Location.class.isAssignableFrom(params[0])
-                        && params[1] == boolean.class) {
-                    resolved = method;
-                    resolvedMode = GET_CLAIM_AT_MODE_TWO_ARG;
-                }
-            }
-
-            if (resolved == null && claimClass != null) {
-                try {
-                    resolved = dataStore.getClass().getMethod("getClaimAt", Location.class, boolean.class, claimClass);
-                    resolvedMode = GET_CLAIM_AT_MODE_THREE_ARG_CACHED_CLAIM;
-                } catch (NoSuchMethodException ignored) {}
-            }
-
-            cachedGetClaimAtMethod = resolved;
-            cachedGetClaimAtMode = resolvedMode;
-            cachedGetClaimAtResolved = true;
-            return cachedGetClaimAtMethod;
-        }
-    }
-
     private Class<?> loadFirstClass(ClassLoader loader, String... classNames) {
         if (loader == null) {
             return null;
@@ -936,22 +937,16 @@ public class GPBridge {
         return null;
     }
 
-    private Object bruteForceFindClaim(Location location, boolean ignoreHeight) {
+    /**
+     * Pick the most specific claim at a location from the spatial index's candidates: the smallest
+     * 3D claim spanning the location's Y, else the smallest claim containing it.
+     */
+    private Object findIndexedClaimAt(Location location, boolean ignoreHeight) {
+        World world = location.getWorld();
+        if (world == null) return null;
         try {
-            Method getClaims = dataStore.getClass().getMethod("getClaims");
-            Object raw = getClaims.invoke(dataStore);
-            if (raw == null) return null;
-            java.util.List<Object> claims = new java.util.ArrayList<>();
-            if (raw instanceof java.util.Map<?, ?>) {
-                claims.addAll(((java.util.Map<?, ?>) raw).values());
-            } else if (raw instanceof java.util.Collection<?>) {
-                claims.addAll((java.util.Collection<?>) raw);
-            } else if (raw instanceof Iterable<?>) {
-                for (Object c : (Iterable<?>) raw) claims.add(c);
-            } else if (raw.getClass().isArray()) {
-                int len = java.lang.reflect.Array.getLength(raw);
-                for (int i = 0; i < len; i++) claims.add(java.lang.reflect.Array.get(raw, i));
-            }
+            List<Object> claims = getClaimsIntersecting(world,
+                    location.getBlockX(), location.getBlockX(), location.getBlockZ(), location.getBlockZ());
             if (claims.isEmpty()) return null;
 
             Object smallestClaim = null;
@@ -1041,64 +1036,31 @@ public class GPBridge {
     }
 
     public List<Object> getClaimsFor(UUID playerId) {
-        List<Object> results = new ArrayList<>();
-        if (!isAvailable() || playerId == null) return results;
-        try {
-            Method getClaims = dataStore.getClass().getMethod("getClaims");
-            Object raw = getClaims.invoke(dataStore);
-
-            java.util.function.Consumer<Object> consider = claim -> {
-                try {
-                    Method getOwnerID = claim.getClass().getMethod("getOwnerID");
-                    Object owner = getOwnerID.invoke(claim);
-                    if (owner != null && owner.equals(playerId)) {
-                        results.add(claim);
-                    }
-                } catch (ReflectiveOperationException ignored2) {}
-            };
-
-            if (raw == null) return results;
-            if (raw instanceof java.util.Map<?, ?>) {
-                for (Object claim : ((java.util.Map<?, ?>) raw).values()) consider.accept(claim);
-            } else if (raw instanceof java.util.Collection<?>) {
-                for (Object claim : (java.util.Collection<?>) raw) consider.accept(claim);
-            } else if (raw instanceof Iterable<?>) {
-                for (Object claim : (Iterable<?>) raw) consider.accept(claim);
-            } else if (raw.getClass().isArray()) {
-                int len = java.lang.reflect.Array.getLength(raw);
-                for (int i = 0; i < len; i++) {
-                    Object claim = java.lang.reflect.Array.get(raw, i);
-                    consider.accept(claim);
-                }
-            }
-        } catch (ReflectiveOperationException ignored) {}
-        return results;
+        if (!isAvailable() || playerId == null) return new ArrayList<>();
+        if (!claimIndexBuilt) {
+            rebuildClaimIndex();
+        }
+        return claimsForIds(reverse.claimIdsByOwner.get(playerId));
     }
 
     public Optional<String> getClaimId(Object claim) {
         if (claim == null) return Optional.empty();
-        Class<?> runtimeClass = claim.getClass();
+        ClaimAccessor gp = accessorFor(claim);
         try {
             // Newer GP forks expose a numeric id
-            Method getId = lookupMethod(runtimeClass, "getID");
-            if (getId != null) {
-                Object id = getId.invoke(claim);
-                return Optional.ofNullable(id).map(Object::toString);
+            if (gp.hasId()) {
+                return Optional.ofNullable(gp.getId(claim)).map(Object::toString);
             }
         } catch (ReflectiveOperationException ignored) {
         }
         // Fallback: synthesize from owner + corners if IDs aren't available
         try {
-            Method getOwner = lookupMethod(runtimeClass, "getOwnerID");
-            Method getLesser = lookupMethod(runtimeClass, "getLesserBoundaryCorner");
-            Method getGreater = lookupMethod(runtimeClass, "getGreaterBoundaryCorner");
-            if (getOwner == null || getLesser == null || getGreater == null) return Optional.empty();
-            Object owner = getOwner.invoke(claim);
-            Object lesser = getLesser.invoke(claim);
-            Object greater = getGreater.invoke(claim);
-            Method toVector = lookupMethod(lesser.getClass(), "toVector");
-            if (toVector == null) return Optional.empty();
-            String synthetic = owner + ":" + toVector.invoke(lesser) + ":" + toVector.invoke(greater);
+            if (!gp.hasOwnerId()) return Optional.empty();
+            UUID owner = gp.getOwnerId(claim);
+            Location lesser = gp.getLesserCorner(claim);
+            Location greater = gp.getGreaterCorner(claim);
+            if (lesser == null || greater == null) return Optional.empty();
+            String synthetic = owner + ":" + lesser.toVector() + ":" + greater.toVector();
             return Optional.of(synthetic);
         } catch (ReflectiveOperationException e) {
             return Optional.empty();
@@ -1107,128 +1069,378 @@ public class GPBridge {
 
     public Optional<Object> findClaimById(String id) {
         if (!isAvailable() || id == null) return Optional.empty();
+        if (!claimIndexBuilt) {
+            rebuildClaimIndex();
+        }
+        Object claim = claimsById.get(id);
+        if (claim != null && isIndexedClaimLive(claim)) {
+            return Optional.of(claim);
+        }
+        // A stale hit always warrants a rebuild; a plain miss usually means the claim is gone,
+        // so only rebuild for one if the index has not been rebuilt recently.
+        if (claim != null || System.currentTimeMillis() - lastClaimIndexRebuild > CLAIM_INDEX_MISS_REBUILD_MS) {
+            rebuildClaimIndex();
+            claim = claimsById.get(id);
+        }
+        return Optional.ofNullable(claim);
+    }
+
+    /**
+     * Add a claim and its subdivisions to the claim-ID index, replacing any older claim objects
+     * with the same IDs (GP resizes by swapping in a new claim object).
+     */
+    public synchronized void indexClaim(Object claim) {
+        if (claim == null) return;
+        dropClaimGeometry(claim);
+        if (!claimIndexBuilt) return;
+        Map<String, Object> index = claimsById;
+        java.util.ArrayDeque<Object> stack = new java.util.ArrayDeque<>();
+        stack.push(claim);
+        while (!stack.isEmpty()) {
+            Object c = stack.pop();
+            getClaimId(c).ifPresent(id -> index.put(id, c));
+            for (Object child : getChildrenOfClaim(c)) {
+                if (child != null) stack.push(child);
+            }
+        }
+        if (isTopLevelClaim(claim)) {
+            getClaimId(claim).ifPresent(id -> {
+                indexTopLevelClaim(reverse, claim, id);
+                indexClaimBounds(claimBounds, claim, id);
+            });
+        }
+        // Again once the index holds the change, so a reader that saw the earlier bump looks again
+        geometryEpoch.incrementAndGet();
+    }
+
+    /** Remove a deleted claim and its subdivisions from the claim-ID index. */
+    public synchronized void unindexClaim(Object claim) {
+        if (claim == null) return;
+        dropClaimGeometry(claim);
+        Map<String, Object> index = claimsById;
+        String rootId = getClaimId(claim).orElse(null);
+        // Leave the owner/trust entries alone if a resize already put a new claim under this ID
+        if (rootId != null) {
+            Object current = index.get(rootId);
+            if (current == null || current == claim) {
+                unindexTopLevelClaim(rootId);
+            }
+        }
+        java.util.ArrayDeque<Object> stack = new java.util.ArrayDeque<>();
+        stack.push(claim);
+        while (!stack.isEmpty()) {
+            Object c = stack.pop();
+            // Only drop the entry if it is this object; a resize may already have replaced it
+            getClaimId(c).ifPresent(id -> index.remove(id, c));
+            for (Object child : getChildrenOfClaim(c)) {
+                if (child != null) stack.push(child);
+            }
+        }
+        geometryEpoch.incrementAndGet();
+    }
+
+    /**
+     * Re-read a claim's trust lists into the trustee index. GP announces trust changes with
+     * TrustChangedEvent before applying them, so callers run this a tick later.
+     */
+    public synchronized void reindexClaimTrust(Object claim) {
+        if (claim == null || !claimIndexBuilt || !trustIndexBuilt || !isTopLevelClaim(claim)) return;
+        getClaimId(claim).ifPresent(id -> indexClaimTrust(reverse, claim, id));
+    }
+
+    /** Drop the claim-ID index; the next lookup rebuilds it from the data store. */
+    public void invalidateClaimIndex() {
+        claimIndexBuilt = false;
+    }
+
+    /**
+     * Moves whenever a claim is created, resized, reshaped or deleted, so a caller remembering which
+     * claim is at a block knows when to look again. Only compare values; they carry no other meaning.
+     */
+    public long getClaimLayoutVersion() {
+        return geometryEpoch.get();
+    }
+
+    private synchronized void rebuildClaimIndex() {
+        Map<String, Object> index = new java.util.concurrent.ConcurrentHashMap<>();
+        ClaimSpatialIndex bounds = new ClaimSpatialIndex();
+        ReverseIndex owners = new ReverseIndex();
+        // Readers keep the old indexes until the swap; trust is carried into the new ones only if
+        // it was ever asked for, since reading it is the expensive part
+        boolean withTrust = trustIndexBuilt;
         try {
-            Method getClaims = dataStore.getClass().getMethod("getClaims");
-            Object raw = getClaims.invoke(dataStore);
-            java.util.List<Object> claims = new java.util.ArrayList<>();
-            if (raw instanceof java.util.Map<?, ?>) claims.addAll(((java.util.Map<?, ?>) raw).values());
-            else if (raw instanceof java.util.Collection<?>) claims.addAll((java.util.Collection<?>) raw);
-            else if (raw instanceof Iterable<?>) for (Object c : (Iterable<?>) raw) claims.add(c);
-            else if (raw != null && raw.getClass().isArray()) {
-                int len = java.lang.reflect.Array.getLength(raw);
-                for (int i = 0; i < len; i++) claims.add(java.lang.reflect.Array.get(raw, i));
-            }
+            List<Object> topLevel = accessor().getTopLevelClaims();
             // DFS over top-level and all subclaims
-            java.util.ArrayDeque<Object> stack = new java.util.ArrayDeque<>(claims);
+            java.util.ArrayDeque<Object> stack = new java.util.ArrayDeque<>(topLevel);
             while (!stack.isEmpty()) {
                 Object c = stack.pop();
-                try {
-                    Object cid = c.getClass().getMethod("getID").invoke(c);
-                    if (cid != null && id.equals(cid.toString())) return Optional.of(c);
-                } catch (ReflectiveOperationException ignoredInner) {}
-
-                // push children
+                getClaimId(c).ifPresent(id -> index.put(id, c));
                 for (Object child : getChildrenOfClaim(c)) {
                     if (child != null) stack.push(child);
                 }
             }
-        } catch (ReflectiveOperationException ignored) {}
-        return Optional.empty();
+            for (Object claim : topLevel) {
+                getClaimId(claim).ifPresent(id -> {
+                    indexTopLevelClaim(owners, claim, id, withTrust);
+                    indexClaimBounds(bounds, claim, id);
+                });
+            }
+        } catch (ReflectiveOperationException e) {
+            if (DEBUG) e.printStackTrace();
+        }
+        claimsById = index;
+        claimBounds = bounds;
+        reverse = owners;
+        geometryById = new java.util.concurrent.ConcurrentHashMap<>();
+        geometryEpoch.incrementAndGet();
+        claimIndexBuilt = true;
+        lastClaimIndexRebuild = System.currentTimeMillis();
     }
 
-    private java.util.Collection<Object> getChildrenOfClaim(Object claim) {
-        if (claim == null) return java.util.Collections.emptyList();
-        
-        // First try the new GP3D approach with Children
-        String[] newMethodNames = {"getChildren", "getChildClaims"};
-        for (String methodName : newMethodNames) {
-            try {
-                Method m = claim.getClass().getMethod(methodName);
-                Object res = m.invoke(claim);
-                if (res instanceof java.util.Collection<?>) {
-                    @SuppressWarnings("unchecked")
-                    java.util.Collection<Object> collection = (java.util.Collection<Object>) res;
-                    return collection;
-                }
-                if (res != null && res.getClass().isArray()) {
-                    int len = java.lang.reflect.Array.getLength(res);
-                    java.util.List<Object> list = new java.util.ArrayList<>(len);
-                    for (int i = 0; i < len; i++) list.add(java.lang.reflect.Array.get(res, i));
-                    return list;
-                }
-            } catch (ReflectiveOperationException ignored) {}
+    private synchronized void buildTrustIndex() {
+        if (trustIndexBuilt) return;
+        try {
+            for (Object claim : accessor().getTopLevelClaims()) {
+                getClaimId(claim).ifPresent(id -> indexClaimTrust(reverse, claim, id));
+            }
+        } catch (ReflectiveOperationException e) {
+            if (DEBUG) e.printStackTrace();
         }
-        
-        // Try field access for Children
-        String[] newFieldNames = {"children", "childClaims"};
-        for (String fieldName : newFieldNames) {
-            try {
-                Field f = claim.getClass().getDeclaredField(fieldName);
-                f.setAccessible(true);
-                Object res = f.get(claim);
-                if (res instanceof java.util.Collection<?>) {
-                    @SuppressWarnings("unchecked")
-                    java.util.Collection<Object> collection = (java.util.Collection<Object>) res;
-                    return collection;
-                }
-                if (res != null && res.getClass().isArray()) {
-                    int len = java.lang.reflect.Array.getLength(res);
-                    java.util.List<Object> list = new java.util.ArrayList<>(len);
-                    for (int i = 0; i < len; i++) list.add(java.lang.reflect.Array.get(res, i));
-                    return list;
-                }
-            } catch (ReflectiveOperationException ignored) {}
+        trustIndexBuilt = true;
+    }
+
+    /** Owner and trust lookups over top-level claim IDs, in both directions. */
+    private static final class ReverseIndex {
+        final Map<UUID, Set<String>> claimIdsByOwner = new java.util.concurrent.ConcurrentHashMap<>();
+        final Map<String, UUID> ownerByClaimId = new java.util.concurrent.ConcurrentHashMap<>();
+        final Map<UUID, Set<String>> trustedClaimIdsByPlayer = new java.util.concurrent.ConcurrentHashMap<>();
+        final Map<String, Set<UUID>> trusteesByClaimId = new java.util.concurrent.ConcurrentHashMap<>();
+    }
+
+    private void indexTopLevelClaim(ReverseIndex target, Object claim, String id) {
+        indexTopLevelClaim(target, claim, id, trustIndexBuilt);
+    }
+
+    private void indexTopLevelClaim(ReverseIndex target, Object claim, String id, boolean withTrust) {
+        UUID owner = getClaimOwner(claim);
+        UUID previous = owner != null ? target.ownerByClaimId.put(id, owner) : target.ownerByClaimId.remove(id);
+        if (previous != null && !previous.equals(owner)) {
+            removeIndexEntry(target.claimIdsByOwner, previous, id);
         }
-        
-        // Fallback to old GP approach
-        String[] oldMethodNames = {"getSubclaims", "getSubClaims"};
-        for (String methodName : oldMethodNames) {
-            try {
-                Method m = claim.getClass().getMethod(methodName);
-                Object res = m.invoke(claim);
-                if (res instanceof java.util.Collection<?>) {
-                    @SuppressWarnings("unchecked")
-                    java.util.Collection<Object> collection = (java.util.Collection<Object>) res;
-                    return collection;
-                }
-                if (res != null && res.getClass().isArray()) {
-                    int len = java.lang.reflect.Array.getLength(res);
-                    java.util.List<Object> list = new java.util.ArrayList<>(len);
-                    for (int i = 0; i < len; i++) list.add(java.lang.reflect.Array.get(res, i));
-                    return list;
+        if (owner != null) {
+            target.claimIdsByOwner.computeIfAbsent(owner, k -> java.util.concurrent.ConcurrentHashMap.newKeySet()).add(id);
+        }
+        if (withTrust) {
+            indexClaimTrust(target, claim, id);
+        }
+    }
+
+    private void unindexTopLevelClaim(String id) {
+        claimBounds.remove(id);
+        ReverseIndex target = reverse;
+        UUID previous = target.ownerByClaimId.remove(id);
+        if (previous != null) {
+            removeIndexEntry(target.claimIdsByOwner, previous, id);
+        }
+        Set<UUID> trustees = target.trusteesByClaimId.remove(id);
+        if (trustees != null) {
+            for (UUID trustee : trustees) {
+                removeIndexEntry(target.trustedClaimIdsByPlayer, trustee, id);
+            }
+        }
+    }
+
+    private void indexClaimBounds(ClaimSpatialIndex target, Object claim, String id) {
+        String world = getClaimWorld(claim).orElse(null);
+        ClaimCorners corners = getClaimCorners(claim).orElse(null);
+        if (world == null || corners == null) {
+            target.remove(id);
+        } else {
+            target.put(id, world, corners.x1, corners.z1, corners.x2, corners.z2);
+        }
+    }
+
+    /**
+     * Top-level claims whose bounding box intersects the rectangle, in claim ID order. Shaped
+     * claims are matched by bounding box, so callers needing exact cells still test each one.
+     */
+    public List<Object> getClaimsIntersecting(World world, int minX, int maxX, int minZ, int maxZ) {
+        if (!isAvailable() || world == null) return new ArrayList<>();
+        List<String> ids = new ArrayList<>();
+        for (ClaimSpatialIndex.Bounds bounds : liveClaimBounds(world.getName(), minX, maxX, minZ, maxZ)) {
+            ids.add(bounds.claimId());
+        }
+        return claimsForIds(ids);
+    }
+
+    /**
+     * Indexed boxes intersecting the rectangle. A candidate whose claim object has left the data
+     * store was resized or deleted ahead of its event, so the index is rebuilt and asked again.
+     */
+    private List<ClaimSpatialIndex.Bounds> liveClaimBounds(String world, int minX, int maxX, int minZ, int maxZ) {
+        if (!claimIndexBuilt) {
+            rebuildClaimIndex();
+        }
+        List<ClaimSpatialIndex.Bounds> found = claimBounds.intersecting(world, minX, maxX, minZ, maxZ);
+        Map<String, Object> index = claimsById;
+        for (ClaimSpatialIndex.Bounds bounds : found) {
+            Object claim = index.get(bounds.claimId());
+            if (claim == null || !isIndexedClaimLive(claim)) {
+                rebuildClaimIndex();
+                return claimBounds.intersecting(world, minX, maxX, minZ, maxZ);
+            }
+        }
+        return found;
+    }
+
+    private void indexClaimTrust(ReverseIndex target, Object claim, String id) {
+        Set<UUID> trustees = new HashSet<>(getTrustedPlayers(claim).keySet());
+        Set<UUID> previous = trustees.isEmpty() ? target.trusteesByClaimId.remove(id) : target.trusteesByClaimId.put(id, trustees);
+        if (previous != null) {
+            for (UUID trustee : previous) {
+                if (!trustees.contains(trustee)) {
+                    removeIndexEntry(target.trustedClaimIdsByPlayer, trustee, id);
                 }
-            } catch (ReflectiveOperationException ignored) {}
+            }
         }
-        
-        // Try old field names as final fallback
-        String[] oldFieldNames = {"subclaims", "subClaims"};
-        for (String fieldName : oldFieldNames) {
+        for (UUID trustee : trustees) {
+            target.trustedClaimIdsByPlayer.computeIfAbsent(trustee, k -> java.util.concurrent.ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    private static void removeIndexEntry(Map<UUID, Set<String>> index, UUID key, String id) {
+        index.computeIfPresent(key, (k, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    /** Live claims for indexed IDs, in ID order. A stale entry schedules a rebuild. */
+    private List<Object> claimsForIds(Collection<String> ids) {
+        List<Object> result = new ArrayList<>();
+        if (ids == null || ids.isEmpty()) return result;
+        List<String> sorted = new ArrayList<>(ids);
+        sorted.sort(CLAIM_ID_ORDER);
+        Map<String, Object> index = claimsById;
+        for (String id : sorted) {
+            Object claim = index.get(id);
+            if (claim != null && isIndexedClaimLive(claim)) {
+                result.add(claim);
+            } else {
+                claimIndexBuilt = false;
+            }
+        }
+        return result;
+    }
+
+    private boolean isTopLevelClaim(Object claim) {
+        try {
+            return accessorFor(claim).getParent(claim) == null;
+        } catch (ReflectiveOperationException e) {
+            return true;
+        }
+    }
+
+    private static long claimIdOrder(String id) {
+        try {
+            return Long.parseLong(id);
+        } catch (NumberFormatException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    /** Record a trust change made through this bridge; GP only fires TrustChangedEvent for its own commands. */
+    private boolean trustChanged(Object claim) {
+        reindexClaimTrust(claim);
+        return true;
+    }
+
+    /** Record an ownership change made through this bridge. */
+    private boolean ownerChanged(Object claim) {
+        indexClaim(claim);
+        return true;
+    }
+
+    /** Record a resize or shape update made through this bridge, ahead of GP's deferred resize event. */
+    private void geometryChanged(Object claim) {
+        indexClaim(claim);
+    }
+
+    /**
+     * A claim's shape as the bridge uses it, read from GP once and shared by every thread until the
+     * claim changes. The claim reference makes a resize that swaps in a new claim object a miss.
+     */
+    private record ClaimGeometry(Object claim, ClaimCorners corners, int area, boolean threeD, boolean shaped,
+                                 PolygonView polygon) {}
+
+    private ClaimGeometry geometry(Object claim) {
+        String id = getClaimId(claim).orElse(null);
+        ClaimGeometry cached = id != null ? geometryById.get(id) : null;
+        if (cached != null && cached.claim() == claim) {
+            return cached;
+        }
+        long epoch = geometryEpoch.get();
+        ClaimGeometry read = readGeometry(claim);
+        if (id != null) {
+            geometryById.compute(id, (k, current) -> geometryEpoch.get() == epoch ? read : current);
+        }
+        return read;
+    }
+
+    private ClaimGeometry readGeometry(Object claim) {
+        PolygonView polygon = null;
+        Object boundary = resolveClaimBoundaryPolygon(claim);
+        if (boundary != null) {
             try {
-                Field f = claim.getClass().getDeclaredField(fieldName);
-                f.setAccessible(true);
-                Object res = f.get(claim);
-                if (res instanceof java.util.Collection<?>) {
-                    @SuppressWarnings("unchecked")
-                    java.util.Collection<Object> collection = (java.util.Collection<Object>) res;
-                    return collection;
-                }
-                if (res != null && res.getClass().isArray()) {
-                    int len = java.lang.reflect.Array.getLength(res);
-                    java.util.List<Object> list = new java.util.ArrayList<>(len);
-                    for (int i = 0; i < len; i++) list.add(java.lang.reflect.Array.get(res, i));
-                    return list;
-                }
-            } catch (ReflectiveOperationException ignored) {}
+                polygon = buildPolygonView(boundary);
+            } catch (ReflectiveOperationException e) {
+                if (DEBUG) e.printStackTrace();
+            }
+        }
+        return new ClaimGeometry(claim, readClaimCorners(claim), readClaimArea(claim), readIs3D(claim),
+                readIsShaped(claim), polygon);
+    }
+
+    /** Forget the cached geometry of a claim and its subdivisions. */
+    private void dropClaimGeometry(Object claim) {
+        java.util.ArrayDeque<Object> stack = new java.util.ArrayDeque<>();
+        stack.push(claim);
+        while (!stack.isEmpty()) {
+            Object c = stack.pop();
+            getClaimId(c).ifPresent(id -> {
+                geometryEpoch.incrementAndGet();
+                geometryById.remove(id);
+            });
+            for (Object child : getChildrenOfClaim(c)) {
+                if (child != null) stack.push(child);
+            }
+        }
+    }
+
+    private boolean isIndexedClaimLive(Object claim) {
+        try {
+            Boolean live = accessorFor(claim).isInDataStore(claim);
+            return live == null || live;
+        } catch (ReflectiveOperationException e) {
+            return false;
+        }
+    }
+
+    private java.util.Collection<Object> getChildrenOfClaim(Object claim) {
+        if (claim == null) return java.util.Collections.emptyList();
+        try {
+            return accessorFor(claim).getChildren(claim);
+        } catch (ReflectiveOperationException e) {
+            return java.util.Collections.emptyList();
         }
-        
-        return java.util.Collections.emptyList();
     }
     @SuppressWarnings("all")
     public Optional<Location> getClaimCenter(Object claim) {
         if (claim == null) return Optional.empty();
         try {
-            Location lesser = (Location) claim.getClass().getMethod("getLesserBoundaryCorner").invoke(claim);
-            Location greater = (Location) claim.getClass().getMethod("getGreaterBoundaryCorner").invoke(claim);
+            ClaimAccessor gp = accessorFor(claim);
+            Location lesser = gp.getLesserCorner(claim);
+            Location greater = gp.getGreaterCorner(claim);
             if (lesser == null || greater == null || lesser.getWorld() == null) return Optional.empty();
             int minX = Math.min(lesser.getBlockX(), greater.getBlockX());
             int maxX = Math.max(lesser.getBlockX(), greater.getBlockX());
@@ -1251,8 +1463,9 @@ public class GPBridge {
     public Optional<Location> getClaimCenterXZ(Object claim) {
         if (claim == null) return Optional.empty();
         try {
-            Location lesser = (Location) claim.getClass().getMethod("getLesserBoundaryCorner").invoke(claim);
-            Location greater = (Location) claim.getClass().getMethod("getGreaterBoundaryCorner").invoke(claim);
+            ClaimAccessor gp = accessorFor(claim);
+            Location lesser = gp.getLesserCorner(claim);
+            Location greater = gp.getGreaterCorner(claim);
             if (lesser == null || greater == null || lesser.getWorld() == null) return Optional.empty();
             int minX = Math.min(lesser.getBlockX(), greater.getBlockX());
             int maxX = Math.max(lesser.getBlockX(), greater.getBlockX());
@@ -1273,8 +1486,9 @@ public class GPBridge {
     public int getClaimSearchRadius(Object claim) {
         if (claim == null) return 3;
         try {
-            Location lesser = (Location) claim.getClass().getMethod("getLesserBoundaryCorner").invoke(claim);
-            Location greater = (Location) claim.getClass().getMethod("getGreaterBoundaryCorner").invoke(claim);
+            ClaimAccessor gp = accessorFor(claim);
+            Location lesser = gp.getLesserCorner(claim);
+            Location greater = gp.getGreaterCorner(claim);
             if (lesser == null || greater == null) return 3;
             
             int width = Math.abs(greater.getBlockX() - lesser.getBlockX());
@@ -1294,9 +1508,7 @@ public class GPBridge {
     public Optional<Location> getSafeTeleportLocation(Object claim) {
         if (claim == null) return Optional.empty();
         try {
-            Method m = claim.getClass().getMethod("getSafeTeleportLocation");
-            Object loc = m.invoke(claim);
-            if (loc instanceof Location) return Optional.of((Location) loc);
+            return Optional.ofNullable(accessorFor(claim).getSafeTeleportLocation(claim));
         } catch (ReflectiveOperationException ignored) {}
         return Optional.empty();
     }
@@ -1319,92 +1531,50 @@ public class GPBridge {
                 }
             }
 
-            // Try to find trust management methods in the claim
-            Class<?> claimClass = claim.getClass();
+            ClaimAccessor gp = accessorFor(claim);
 
             // Try to add build trust (most common)
-            try {
-                Method addBuildTrust = claimClass.getMethod("addBuildTrust", UUID.class);
-                addBuildTrust.invoke(claim, targetUUID);
-                return true;
-            } catch (NoSuchMethodException ignored) {
-                // Try alternative method names
-            } catch (ReflectiveOperationException e) {
-                return false;
+            if (gp.hasAddBuildTrust()) {
+                try {
+                    gp.addBuildTrust(claim, targetUUID);
+                    return trustChanged(claim);
+                } catch (ReflectiveOperationException e) {
+                    return false;
+                }
             }
 
             // Try setBuildTrust with a collection
-            try {
-                Method getBuildTrust = claimClass.getMethod("getBuildTrust");
-                Object buildTrust = getBuildTrust.invoke(claim);
-
-                if (buildTrust instanceof java.util.Collection) {
-                    @SuppressWarnings("unchecked")
-                    java.util.Collection<UUID> trustList = (java.util.Collection<UUID>) buildTrust;
-
-                    // Create a new list with the target added
-                    java.util.List<UUID> newTrustList = new java.util.ArrayList<>(trustList);
-                    if (!newTrustList.contains(targetUUID)) {
-                        newTrustList.add(targetUUID);
-
-                        // Try to set the trust list back
-                        try {
-                            Method setBuildTrust = claimClass.getMethod("setBuildTrust", java.util.Collection.class);
-                            setBuildTrust.invoke(claim, newTrustList);
-                            return true;
-                        } catch (NoSuchMethodException ignored) {
+            if (gp.hasBuildTrustList()) {
+                try {
+                    Object buildTrust = gp.getBuildTrust(claim);
+                    if (buildTrust instanceof java.util.Collection) {
+                        @SuppressWarnings("unchecked")
+                        java.util.Collection<UUID> trustList = (java.util.Collection<UUID>) buildTrust;
+
+                        // Create a new list with the target added
+                        java.util.List<UUID> newTrustList = new java.util.ArrayList<>(trustList);
+                        if (!newTrustList.contains(targetUUID)) {
+                            newTrustList.add(targetUUID);
+                            gp.setBuildTrust(claim, newTrustList);
+                            return trustChanged(claim);
                         }
                     }
+                } catch (ReflectiveOperationException ignored) {
                 }
-            } catch (ReflectiveOperationException ignored) {
             }
 
-            // Try GP3D fork's setPermission(String, ClaimPermission) method
-            try {
-                // Find ClaimPermission enum using the claim's classloader
-                Class<?> claimPermClass = null;
-                ClassLoader gpClassLoader = claimClass.getClassLoader();
-                String[] permCandidates = new String[]{
-                    "me.ryanhamshire.GriefPrevention.ClaimPermission",
-                    "me.ryanhamshire.griefprevention.ClaimPermission"
-                };
-                for (String cname : permCandidates) {
-                    try {
-                        claimPermClass = gpClassLoader.loadClass(cname);
-                        Bukkit.getLogger().info("[GPBridge] Found ClaimPermission class: " + cname);
-                        break;
-                    } catch (ClassNotFoundException ignored) {}
-                }
-                
-                if (claimPermClass != null) {
-                    // Get ClaimPermission.Build enum constant
-                    Object buildPerm = null;
-                    Object[] enumConstants = claimPermClass.getEnumConstants();
-                    if (enumConstants != null) {
-                        for (Object enumConst : enumConstants) {
-                            if (enumConst != null && enumConst.toString().equalsIgnoreCase("Build")) {
-                                buildPerm = enumConst;
-                                break;
-                            }
-                        }
-                    }
-                    
-                    if (buildPerm != null) {
-                        // Call setPermission(String playerID, ClaimPermission permissionLevel)
-                        Bukkit.getLogger().info("[GPBridge] Attempting setPermission(" + targetUUID.toString() + ", " + buildPerm + ") on claim class: " + claimClass.getName());
-                        Method setPermission = claimClass.getMethod("setPermission", String.class, claimPermClass);
-                        setPermission.invoke(claim, targetUUID.toString(), buildPerm);
-                        Bukkit.getLogger().info("[GPBridge] Successfully granted Build permission via setPermission for " + target);
-                        return true;
-                    } else {
-                        Bukkit.getLogger().warning("[GPBridge] Could not find Build enum constant in ClaimPermission");
-                    }
-                } else {
-                    Bukkit.getLogger().warning("[GPBridge] Could not find ClaimPermission class");
+            // Try GP3D fork's setPermission(String, ClaimPermission.Build)
+            if (gp.hasSetBuildPermission()) {
+                try {
+                    gp.setBuildPermission(claim, targetUUID);
+                    if (DEBUG) Bukkit.getLogger().info("[GPBridge] Granted Build permission via setPermission for " + target);
+                    return trustChanged(claim);
+                } catch (ReflectiveOperationException e) {
+                    Bukkit.getLogger().warning("[GPBridge] setPermission failed: " + e.getClass().getSimpleName() + ": " + e.getMessage());
+                    if (DEBUG) e.printStackTrace();
                 }
-            } catch (ReflectiveOperationException e) {
-                Bukkit.getLogger().warning("[GPBridge] setPermission failed: " + e.getClass().getSimpleName() + ": " + e.getMessage());
-                if (DEBUG) e.printStackTrace();
+            } else {
+                Bukkit.getLogger().warning("[GPBridge] Could not find a way to grant build trust on " + claim.getClass().getName());
             }
 
         } catch (Exception e) {
@@ -1441,7 +1611,7 @@ public class GPBridge {
                 Method dropPermission = claimClass.getMethod("dropPermission", String.class);
                 dropPermission.invoke(claim, targetUUID.toString());
                 if (DEBUG) Bukkit.getLogger().info("[GPBridge] Successfully removed trust via dropPermission for " + target);
-                return true;
+                return trustChanged(claim);
             } catch (NoSuchMethodException ignored) {
             } catch (ReflectiveOperationException e) {
                 if (DEBUG) Bukkit.getLogger().warning("[GPBridge] dropPermission failed: " + e.getMessage());
@@ -1466,7 +1636,7 @@ public class GPBridge {
             
             if (removed) {
                 if (DEBUG) Bukkit.getLogger().info("[GPBridge] Successfully removed trust from collections for " + target);
-                return true;
+                return trustChanged(claim);
             }
 
         } catch (Exception e) {
@@ -1505,7 +1675,7 @@ public class GPBridge {
         if (changed) {
             saveClaim(claim);
         }
-        return changed;
+        return changed && trustChanged(claim);
     }
 
     public boolean grantInventoryTrust(Player executor, String target, Object claim) {
@@ -1533,7 +1703,7 @@ public class GPBridge {
             try {
                 Method addInventoryTrust = claimClass.getMethod("addInventoryTrust", UUID.class);
                 addInventoryTrust.invoke(claim, targetUUID);
-                return true;
+                return trustChanged(claim);
             } catch (NoSuchMethodException ignored) {
                 // Try alternative method names
             } catch (ReflectiveOperationException e) {
@@ -1544,7 +1714,7 @@ public class GPBridge {
             try {
                 Method addContainerTrust = claimClass.getMethod("addContainerTrust", UUID.class);
                 addContainerTrust.invoke(claim, targetUUID);
-                return true;
+                return trustChanged(claim);
             } catch (NoSuchMethodException ignored) {
             } catch (ReflectiveOperationException e) {
                 return false;
@@ -1568,7 +1738,7 @@ public class GPBridge {
                         try {
                             Method setInventoryTrust = claimClass.getMethod("setInventoryTrust", java.util.Collection.class);
                             setInventoryTrust.invoke(claim, newTrustList);
-                            return true;
+                            return trustChanged(claim);
                         } catch (NoSuchMethodException ignored) {
                         }
                     }
@@ -1612,7 +1782,7 @@ public class GPBridge {
                         Method setPermission = claimClass.getMethod("setPermission", String.class, claimPermClass);
                         setPermission.invoke(claim, targetUUID.toString(), inventoryPerm);
                         Bukkit.getLogger().info("[GPBridge] Successfully granted Inventory permission via setPermission for " + target);
-                        return true;
+                        return trustChanged(claim);
                     } else {
                         Bukkit.getLogger().warning("[GPBridge] Could not find Inventory enum constant in ClaimPermission");
                     }
@@ -1647,7 +1817,7 @@ public class GPBridge {
             try {
                 Method addAccessTrust = claimClass.getMethod("addAccessTrust", UUID.class);
                 addAccessTrust.invoke(claim, targetUUID);
-                return true;
+                return trustChanged(claim);
             } catch (NoSuchMethodException ignored) {
             } catch (ReflectiveOperationException e) {
                 return false;
@@ -1662,7 +1832,7 @@ public class GPBridge {
                     if (!trustList.contains(targetUUID)) {
                         trustList.add(targetUUID);
                     }
-                    return true;
+                    return trustChanged(claim);
                 }
             } catch (ReflectiveOperationException ignored) {
             }
@@ -1695,7 +1865,7 @@ public class GPBridge {
                     if (accessPerm != null) {
                         Method setPermission = claimClass.getMethod("setPermission", String.class, claimPermClass);
                         setPermission.invoke(claim, targetUUID.toString(), accessPerm);
-                        return true;
+                        return trustChanged(claim);
                     }
                 }
             } catch (ReflectiveOperationException ignored) {
@@ -1738,14 +1908,14 @@ public class GPBridge {
                         Method setPermission = claimClass.getMethod("setPermission", String.class, claimPermClass);
                         setPermission.invoke(claim, "public", inventoryPerm);
                         if (DEBUG) Bukkit.getLogger().info("[GPBridge] containerTrustPublic: setPermission(public, Inventory) succeeded");
-                        return true;
+                        return trustChanged(claim);
                     }
                 } catch (ClassNotFoundException ignored) {}
             }
             // Fallback: try grantInventoryTrust with "public" (may resolve to special UUID in some forks)
             if (grantInventoryTrust(null, "public", claim)) {
                 if (DEBUG) Bukkit.getLogger().info("[GPBridge] containerTrustPublic: grantInventoryTrust(public) succeeded");
-                return true;
+                return trustChanged(claim);
             }
         } catch (ReflectiveOperationException e) {
             if (DEBUG) Bukkit.getLogger().info("[GPBridge] containerTrustPublic: " + e.getMessage());
@@ -1755,43 +1925,25 @@ public class GPBridge {
 
     /** Return a list of all top-level claims from the datastore. */
     public java.util.List<Object> getAllClaims() {
-        java.util.List<Object> claims = new java.util.ArrayList<>();
-        if (!isAvailable()) return claims;
+        if (!isAvailable()) return new java.util.ArrayList<>();
         try {
-            Method getClaims = dataStore.getClass().getMethod("getClaims");
-            Object raw = getClaims.invoke(dataStore);
-            if (raw == null) return claims;
-            if (raw instanceof java.util.Map<?, ?>) claims.addAll(((java.util.Map<?, ?>) raw).values());
-            else if (raw instanceof java.util.Collection<?>) claims.addAll((java.util.Collection<?>) raw);
-            else if (raw instanceof Iterable<?>) for (Object c : (Iterable<?>) raw) claims.add(c);
-            else if (raw.getClass().isArray()) {
-                int len = java.lang.reflect.Array.getLength(raw);
-                for (int i = 0; i < len; i++) claims.add(java.lang.reflect.Array.get(raw, i));
-            }
-        } catch (ReflectiveOperationException ignored) {}
-        // Fallback: GP3D uses dataStore.claims field; getClaims() may return wrapper that fails instanceof
-        if (claims.isEmpty()) {
-            try {
-                java.lang.reflect.Field f = dataStore.getClass().getDeclaredField("claims");
-                f.setAccessible(true);
-                Object claimsField = f.get(dataStore);
-                if (claimsField instanceof java.util.Collection<?>) claims.addAll((java.util.Collection<?>) claimsField);
-            } catch (ReflectiveOperationException ignored) {}
+            // Falls back to the dataStore.claims field where getClaims() returns a wrapper (GP3D)
+            return accessor().getTopLevelClaims();
+        } catch (ReflectiveOperationException ignored) {
+            return new java.util.ArrayList<>();
         }
-        return claims;
     }
 
     /** Admin claims in GP/GP3D have null ownerID; prefer Claim.isAdminClaim() when available. */
     public boolean isAdminClaim(Object claim) {
         if (claim == null) return false;
+        ClaimAccessor gp = accessorFor(claim);
         try {
-            java.lang.reflect.Method m = claim.getClass().getMethod("isAdminClaim");
-            Object r = m.invoke(claim);
-            if (r instanceof Boolean) return (Boolean) r;
+            Boolean admin = gp.isAdminClaim(claim);
+            if (admin != null) return admin;
         } catch (ReflectiveOperationException ignored) {}
         try {
-            Object owner = claim.getClass().getMethod("getOwnerID").invoke(claim);
-            return owner == null;
+            return gp.hasOwnerId() && gp.getOwnerId(claim) == null;
         } catch (ReflectiveOperationException e) {
             return false;
         }
@@ -1799,11 +1951,8 @@ public class GPBridge {
     
     public boolean isOwner(Object claim, UUID playerId) {
         if (claim == null || playerId == null) return false;
-        Method getOwnerID = lookupMethod(claim.getClass(), "getOwnerID");
-        if (getOwnerID == null) return false;
         try {
-            UUID ownerId = (UUID) getOwnerID.invoke(claim);
-            return playerId.equals(ownerId);
+            return playerId.equals(accessorFor(claim).getOwnerId(claim));
         } catch (ReflectiveOperationException e) {
             return false;
         }
@@ -1812,15 +1961,9 @@ public class GPBridge {
     public Optional<String> getClaimWorld(Object claim) {
         if (claim == null) return Optional.empty();
         try {
-            Method getLesser = lookupMethod(claim.getClass(), "getLesserBoundaryCorner");
-            if (getLesser == null) return Optional.empty();
-            Object loc = getLesser.invoke(claim);
-            Method getWorld = lookupMethod(loc.getClass(), "getWorld");
-            if (getWorld == null) return Optional.empty();
-            Object world = getWorld.invoke(loc);
-            Method getName = lookupMethod(world.getClass(), "getName");
-            if (getName == null) return Optional.empty();
-            return Optional.of((String) getName.invoke(world));
+            Location loc = accessorFor(claim).getLesserCorner(claim);
+            if (loc == null || loc.getWorld() == null) return Optional.empty();
+            return Optional.of(loc.getWorld().getName());
         } catch (Exception e) {
             return Optional.empty();
         }
@@ -1834,7 +1977,7 @@ public class GPBridge {
             Method changeOwner = findChangeOwnerMethod(claimCls);
             if (changeOwner != null) {
                 changeOwner.invoke(dataStore, claim, newOwnerId);
-                return true;
+                return ownerChanged(claim);
             }
 
             if (!setClaimOwnerReflectively(claim, claimCls, newOwnerId)) {
@@ -1842,7 +1985,7 @@ public class GPBridge {
             }
 
             persistClaim(claim, claimCls);
-            return true;
+            return ownerChanged(claim);
         } catch (ReflectiveOperationException e) {
             return false;
         }
@@ -1995,7 +2138,7 @@ public class GPBridge {
         public final ClaimCorners currentCorners;
         public final ClaimCorners newCorners;
 
-        private ResizePreview(
+        ResizePreview(
             boolean supported,
             boolean valid,
             ResizeFailureReason failureReason,
@@ -2064,7 +2207,7 @@ public class GPBridge {
         public final int maxAlongAxis;
         public final boolean horizontal;
 
-        private SegmentEdgeInfo(
+        SegmentEdgeInfo(
                 int edgeIndex,
                 ResizeDirection direction,
                 int axisCoordinate,
@@ -2097,8 +2240,6 @@ public class GPBridge {
         }
     }
 
-    private record GridPoint(int x, int z) { }
-
     public boolean canResizeClaim(Object claim) {
         if (!isAvailable() || claim == null || dataStore == null) return false;
         return findResizeClaimMethod(claim.getClass()) != null;
@@ -2279,6 +2420,7 @@ public class GPBridge {
             if (updatedClaim == null) {
                 updatedClaim = claim;
             }
+            geometryChanged(updatedClaim);
             return new CreateClaimResult(true, true, false, "Segment boundaries prepared.", updatedClaim);
         } catch (ReflectiveOperationException e) {
             if (DEBUG) e.printStackTrace();
@@ -2312,7 +2454,7 @@ public class GPBridge {
             return new CreateClaimResult(true, false, dryRun, "Could not resolve the selected claim boundary polygon.", claim);
         }
 
-        Set<GridPoint> occupied;
+        CellRaster occupied;
         try {
             occupied = extractOccupiedPolygonCells(originalPolygon);
         } catch (ReflectiveOperationException e) {
@@ -2330,12 +2472,8 @@ public class GPBridge {
             return new CreateClaimResult(true, false, dryRun, "No adjacent boundary matched for that map cell.", claim);
         }
 
-        Set<GridPoint> merged = new HashSet<>(occupied);
-        for (int x = Math.min(minX, maxX); x <= Math.max(minX, maxX); x++) {
-            for (int z = Math.min(minZ, maxZ); z <= Math.max(minZ, maxZ); z++) {
-                merged.add(new GridPoint(x, z));
-            }
-        }
+        CellRaster merged = occupied.copy();
+        merged.fillRect(minX, maxX, minZ, maxZ);
 
         List<Object> absorbedClaims = collectAbsorbableConnectedClaims(claim, world, merged);
         Set<String> ignoredClaimIds = new HashSet<>();
@@ -2404,6 +2542,7 @@ public class GPBridge {
             if (updatedClaim == null) {
                 updatedClaim = claim;
             }
+            geometryChanged(updatedClaim);
 
             mergeAbsorbedClaimIcons(player, updatedClaim, claim, absorbedClaimIds);
             return new CreateClaimResult(true, true, false, "Claimed that map cell into the selected claim.", updatedClaim);
@@ -2439,7 +2578,7 @@ public class GPBridge {
             return new CreateClaimResult(true, false, dryRun, "Could not resolve the selected claim boundary polygon.", claim);
         }
 
-        Set<GridPoint> occupied = resolveOccupiedClaimCells(claim, world);
+        CellRaster occupied = resolveOccupiedClaimCells(claim, world);
         if (occupied.isEmpty()) {
             return new CreateClaimResult(true, false, dryRun, "Could not resolve occupied claim cells for that unclaim.", claim);
         }
@@ -2449,11 +2588,8 @@ public class GPBridge {
         int patchMinZ = Math.min(minZ, maxZ);
         int patchMaxZ = Math.max(minZ, maxZ);
 
-        Set<GridPoint> remaining = new HashSet<>(occupied);
-        boolean removedAny = remaining.removeIf(point -> point.x() >= patchMinX
-                && point.x() <= patchMaxX
-                && point.z() >= patchMinZ
-                && point.z() <= patchMaxZ);
+        CellRaster remaining = occupied.copy();
+        boolean removedAny = remaining.clearRect(patchMinX, patchMaxX, patchMinZ, patchMaxZ);
         if (!removedAny) {
             return new CreateClaimResult(true, false, dryRun, "That map cell is not part of the selected claim.", claim);
         }
@@ -2521,6 +2657,7 @@ public class GPBridge {
             if (updatedClaim == null) {
                 updatedClaim = claim;
             }
+            geometryChanged(updatedClaim);
             return new CreateClaimResult(true, true, false, "Unclaimed that map cell from the selected claim.", updatedClaim);
         } catch (ReflectiveOperationException e) {
             if (DEBUG) e.printStackTrace();
@@ -2528,19 +2665,21 @@ public class GPBridge {
         }
     }
 
-    private List<Object> collectAbsorbableConnectedClaims(Object selectedClaim, World world, Set<GridPoint> mergedOccupied) {
+    private List<Object> collectAbsorbableConnectedClaims(Object selectedClaim, World world, CellRaster mergedOccupied) {
         List<Object> absorbedClaims = new ArrayList<>();
         UUID ownerId = getClaimOwner(selectedClaim);
         if (ownerId == null || world == null) {
             return absorbedClaims;
         }
 
-        String worldName = world.getName();
         Set<Object> absorbedSet = Collections.newSetFromMap(new IdentityHashMap<>());
         boolean changed;
         do {
             changed = false;
-            for (Object otherClaim : getAllClaims()) {
+            // Only claims boxed within one block of the merged shape can touch it
+            for (Object otherClaim : getClaimsIntersecting(world,
+                    mergedOccupied.minX() - 1, mergedOccupied.maxX() + 1,
+                    mergedOccupied.minZ() - 1, mergedOccupied.maxZ() + 1)) {
                 if (otherClaim == null
                         || otherClaim == selectedClaim
                         || absorbedSet.contains(otherClaim)
@@ -2553,16 +2692,13 @@ public class GPBridge {
                 if (!ownerId.equals(getClaimOwner(otherClaim))) {
                     continue;
                 }
-                if (!worldName.equals(getClaimWorld(otherClaim).orElse(null))) {
-                    continue;
-                }
 
-                Set<GridPoint> otherOccupied = resolveOccupiedClaimCells(otherClaim, world);
-                if (otherOccupied.isEmpty() || !occupiedSetsTouch(mergedOccupied, otherOccupied)) {
+                CellRaster otherOccupied = resolveOccupiedClaimCells(otherClaim, world);
+                if (otherOccupied.isEmpty() || !mergedOccupied.touches(otherOccupied)) {
                     continue;
                 }
 
-                mergedOccupied.addAll(otherOccupied);
+                mergedOccupied.or(otherOccupied);
                 absorbedClaims.add(otherClaim);
                 absorbedSet.add(otherClaim);
                 changed = true;
@@ -2572,58 +2708,26 @@ public class GPBridge {
         return absorbedClaims;
     }
 
-    private Set<GridPoint> resolveOccupiedClaimCells(Object claim, World world) {
-        Object polygon = resolveClaimBoundaryPolygon(claim);
-        if (polygon != null) {
-            try {
-                return extractOccupiedPolygonCells(polygon);
-            } catch (ReflectiveOperationException e) {
-                if (DEBUG) e.printStackTrace();
-            }
+    private CellRaster resolveOccupiedClaimCells(Object claim, World world) {
+        ClaimGeometry geometry = geometry(claim);
+        if (geometry.polygon() != null) {
+            return extractOccupiedPolygonCells(geometry.polygon());
         }
 
-        ClaimCorners corners = getClaimCorners(claim).orElse(null);
+        ClaimCorners corners = geometry.corners();
         if (corners == null || world == null) {
-            return Set.of();
+            return CellRaster.empty();
         }
         return extractOccupiedClaimCells(claim, world, corners);
     }
 
-    private boolean occupiedSetsTouch(Set<GridPoint> left, Set<GridPoint> right) {
-        if (left.isEmpty() || right.isEmpty()) {
-            return false;
-        }
-
-        for (GridPoint point : left) {
-            if (right.contains(point)
-                    || right.contains(new GridPoint(point.x() + 1, point.z()))
-                    || right.contains(new GridPoint(point.x() - 1, point.z()))
-                    || right.contains(new GridPoint(point.x(), point.z() + 1))
-                    || right.contains(new GridPoint(point.x(), point.z() - 1))) {
-                return true;
-            }
-        }
-
-        return false;
-    }
-
-    private boolean hasExternalClaimConflict(World world, Set<GridPoint> mergedOccupied, Set<String> ignoredClaimIds) {
+    private boolean hasExternalClaimConflict(World world, CellRaster mergedOccupied, Set<String> ignoredClaimIds) {
         if (world == null || mergedOccupied.isEmpty()) {
             return false;
         }
 
-        int minX = Integer.MAX_VALUE;
-        int maxX = Integer.MIN_VALUE;
-        int minZ = Integer.MAX_VALUE;
-        int maxZ = Integer.MIN_VALUE;
-        for (GridPoint point : mergedOccupied) {
-            minX = Math.min(minX, point.x());
-            maxX = Math.max(maxX, point.x());
-            minZ = Math.min(minZ, point.z());
-            maxZ = Math.max(maxZ, point.z());
-        }
-
-        for (Object otherClaim : getAllClaims()) {
+        for (Object otherClaim : getClaimsIntersecting(world,
+                mergedOccupied.minX(), mergedOccupied.maxX(), mergedOccupied.minZ(), mergedOccupied.maxZ())) {
             if (otherClaim == null || isSubdivision(otherClaim)) {
                 continue;
             }
@@ -2632,24 +2736,9 @@ public class GPBridge {
             if (claimId != null && ignoredClaimIds.contains(claimId)) {
                 continue;
             }
-            if (!world.getName().equals(getClaimWorld(otherClaim).orElse(null))) {
-                continue;
-            }
-
-            ClaimCorners corners = getClaimCorners(otherClaim).orElse(null);
-            if (corners == null
-                    || corners.x2 < minX
-                    || corners.x1 > maxX
-                    || corners.z2 < minZ
-                    || corners.z1 > maxZ) {
-                continue;
-            }
 
-            Set<GridPoint> otherOccupied = resolveOccupiedClaimCells(otherClaim, world);
-            for (GridPoint point : otherOccupied) {
-                if (mergedOccupied.contains(point)) {
-                    return true;
-                }
+            if (mergedOccupied.intersects(resolveOccupiedClaimCells(otherClaim, world))) {
+                return true;
             }
         }
 
@@ -2695,7 +2784,7 @@ public class GPBridge {
             ClassLoader loader,
             Object originalPolygon,
             Object patchPolygon,
-            Set<GridPoint> mergedOccupied
+            CellRaster mergedOccupied
     ) throws ReflectiveOperationException {
         Object candidate = tryUnionViaClaimEditorSkeleton(loader, originalPolygon, patchPolygon);
         if (candidate != null) {
@@ -2708,7 +2797,7 @@ public class GPBridge {
             ClassLoader loader,
             Object originalPolygon,
             Object patchPolygon,
-            Set<GridPoint> remainingOccupied
+            CellRaster remainingOccupied
     ) throws ReflectiveOperationException {
         Object candidate = trySubtractViaClaimEditorSkeleton(loader, originalPolygon, patchPolygon);
         if (candidate != null) {
@@ -2795,39 +2884,23 @@ public class GPBridge {
         }
     }
 
-    private Set<GridPoint> extractOccupiedClaimCells(Object claim, World world, ClaimCorners corners) {
-        Set<GridPoint> occupied = new HashSet<>();
+    private CellRaster extractOccupiedClaimCells(Object claim, World world, ClaimCorners corners) {
+        CellRaster occupied = new CellRaster(corners.x1, corners.x2, corners.z1, corners.z2);
         int sampleY = world.getMinHeight() + 1;
         for (int x = corners.x1; x <= corners.x2; x++) {
             for (int z = corners.z1; z <= corners.z2; z++) {
                 if (claimContains(claim, world, x, sampleY, z)) {
-                    occupied.add(new GridPoint(x, z));
+                    occupied.set(x, z);
                 }
             }
         }
         return occupied;
     }
 
-    private boolean patchTouchesClaim(Set<GridPoint> occupied, int minX, int maxX, int minZ, int maxZ) {
-        int patchMinX = Math.min(minX, maxX);
-        int patchMaxX = Math.max(minX, maxX);
-        int patchMinZ = Math.min(minZ, maxZ);
-        int patchMaxZ = Math.max(minZ, maxZ);
-
-        for (int x = patchMinX; x <= patchMaxX; x++) {
-            for (int z = patchMinZ; z <= patchMaxZ; z++) {
-                GridPoint point = new GridPoint(x, z);
-                if (occupied.contains(point)
-                        || occupied.contains(new GridPoint(x + 1, z))
-                        || occupied.contains(new GridPoint(x - 1, z))
-                        || occupied.contains(new GridPoint(x, z + 1))
-                        || occupied.contains(new GridPoint(x, z - 1))) {
-                    return true;
-                }
-            }
-        }
-
-        return false;
+    private boolean patchTouchesClaim(CellRaster occupied, int minX, int maxX, int minZ, int maxZ) {
+        CellRaster patch = new CellRaster(minX, maxX, minZ, maxZ);
+        patch.fillRect(minX, maxX, minZ, maxZ);
+        return occupied.touches(patch);
     }
 
     private String friendlyMapSubtractionFailure(String message) {
@@ -2869,7 +2942,7 @@ public class GPBridge {
      * remapper makes each getMethod("x")/invoke very slow, and the claim-map editor calls
      * containsCell in tight W*H loops.
      */
-    private static final class PolygonView {
+    static final class PolygonView {
         final int[] xs;
         final int[] zs;
         final int minX;
@@ -2979,35 +3052,19 @@ public class GPBridge {
         return new PolygonView(xs, zs, minX, maxX, minZ, maxZ);
     }
 
-    private Set<GridPoint> extractOccupiedPolygonCells(Object polygon) throws ReflectiveOperationException {
-        Set<GridPoint> occupied = new HashSet<>();
+    private CellRaster extractOccupiedPolygonCells(Object polygon) throws ReflectiveOperationException {
         PolygonView view = buildPolygonView(polygon);
-        if (view == null) {
-            return occupied;
-        }
-        for (int x = view.minX; x <= view.maxX; x++) {
-            for (int z = view.minZ; z <= view.maxZ; z++) {
-                if (view.containsCell(x, z)) {
-                    occupied.add(new GridPoint(x, z));
-                }
-            }
-        }
-        return occupied;
+        return view == null ? CellRaster.empty() : extractOccupiedPolygonCells(view);
     }
 
-    private int countPolygonCoverageInCell(
-            Object polygon,
-            int minX,
-            int maxX,
-            int minZ,
-            int maxZ
-    ) throws ReflectiveOperationException {
-        PolygonView view = buildPolygonView(polygon);
-        if (view == null) return 0;
-        return countCoverage(view, minX, maxX, minZ, maxZ);
+    private CellRaster extractOccupiedPolygonCells(PolygonView view) {
+        if (view.xs.length == 0) {
+            return CellRaster.empty();
+        }
+        return CellRaster.ofPolygon(view.xs, view.zs, view.minX, view.maxX, view.minZ, view.maxZ);
     }
 
-    private static int countCoverage(PolygonView view, int minX, int maxX, int minZ, int maxZ) {
+    static int countCoverage(PolygonView view, int minX, int maxX, int minZ, int maxZ) {
         int lowX = Math.max(minX, view.minX);
         int highX = Math.min(maxX, view.maxX);
         int lowZ = Math.max(minZ, view.minZ);
@@ -3051,7 +3108,7 @@ public class GPBridge {
         return (int) Math.min(overlapArea, Math.round(overlapArea * (hits / (double) sampled)));
     }
 
-    private Object buildPolygonFromOccupiedPoints(ClassLoader loader, Set<GridPoint> occupied)
+    private Object buildPolygonFromOccupiedPoints(ClassLoader loader, CellRaster occupied)
             throws ReflectiveOperationException {
         if (loader == null) {
             throw new IllegalArgumentException("Could not resolve claim geometry classes.");
@@ -3060,259 +3117,22 @@ public class GPBridge {
             throw new IllegalArgumentException("That map merge would remove the claim body.");
         }
 
-        List<ContourVertex> tracedContour = traceOccupiedContour(occupied);
-        List<ContourVertex> compressedContour = compressContourPath(tracedContour);
-        List<GridPoint> mappedCorners = mapContourCornersToOccupiedPoints(compressedContour, occupied);
-        List<GridPoint> compressed = compressBoundaryPath(mappedCorners);
+        int[] path = occupied.traceBoundary();
 
         Class<?> pointClass = loader.loadClass("com.griefprevention.geometry.OrthogonalPoint2i");
         Class<?> polygonClass = loader.loadClass("com.griefprevention.geometry.OrthogonalPolygon");
         java.lang.reflect.Constructor<?> pointCtor = pointClass.getDeclaredConstructor(int.class, int.class);
         pointCtor.setAccessible(true);
 
-        List<Object> reflectedPath = new ArrayList<>(compressed.size());
-        for (GridPoint point : compressed) {
-            reflectedPath.add(pointCtor.newInstance(point.x(), point.z()));
+        List<Object> reflectedPath = new ArrayList<>(path.length / 2);
+        for (int i = 0; i < path.length; i += 2) {
+            reflectedPath.add(pointCtor.newInstance(path[i], path[i + 1]));
         }
 
         Method fromClosedPath = polygonClass.getMethod("fromClosedPath", List.class);
         return fromClosedPath.invoke(null, reflectedPath);
     }
 
-    private List<ContourVertex> traceOccupiedContour(Set<GridPoint> occupied) {
-        List<ContourEdge> edges = new ArrayList<>();
-        for (GridPoint point : occupied) {
-            addContourEdgesForPoint(occupied, point, edges);
-        }
-
-        if (edges.isEmpty()) {
-            throw new IllegalArgumentException("Unable to trace merged claim boundary.");
-        }
-
-        Map<ContourVertex, List<ContourEdge>> outgoing = new HashMap<>();
-        for (ContourEdge edge : edges) {
-            outgoing.computeIfAbsent(edge.start(), ignored -> new ArrayList<>()).add(edge);
-        }
-
-        ContourEdge startEdge = edges.stream()
-                .min(Comparator.comparingInt((ContourEdge edge) -> edge.start().z())
-                        .thenComparingInt(edge -> edge.start().x())
-                        .thenComparingInt(edge -> edge.end().x())
-                        .thenComparingInt(edge -> edge.end().z()))
-                .orElseThrow();
-
-        List<ContourVertex> traced = new ArrayList<>();
-        traced.add(startEdge.start());
-
-        Set<ContourEdge> visited = new HashSet<>();
-        ContourEdge current = startEdge;
-        int guard = edges.size() + 1;
-        while (guard-- > 0) {
-            if (!visited.add(current)) {
-                throw new IllegalArgumentException("Merged claim boundary could not be followed.");
-            }
-
-            traced.add(current.end());
-            if (current.end().equals(startEdge.start())) {
-                break;
-            }
-
-            List<ContourEdge> nextEdges = outgoing.get(current.end());
-            if (nextEdges == null || nextEdges.size() != 1) {
-                throw new IllegalArgumentException("Merged claim boundary could not be followed.");
-            }
-
-            current = nextEdges.get(0);
-        }
-
-        if (!traced.get(traced.size() - 1).equals(startEdge.start())) {
-            throw new IllegalArgumentException("Merged claim boundary did not close.");
-        }
-
-        if (visited.size() != edges.size()) {
-            throw new IllegalArgumentException("Merged claim boundary is disconnected.");
-        }
-
-        return traced;
-    }
-
-    private void addContourEdgesForPoint(Set<GridPoint> occupied, GridPoint point, List<ContourEdge> edges) {
-        int x = point.x();
-        int z = point.z();
-
-        if (!occupied.contains(new GridPoint(x, z - 1))) {
-            edges.add(new ContourEdge(
-                    new ContourVertex(2 * x - 1, 2 * z - 1),
-                    new ContourVertex(2 * x + 1, 2 * z - 1)
-            ));
-        }
-
-        if (!occupied.contains(new GridPoint(x + 1, z))) {
-            edges.add(new ContourEdge(
-                    new ContourVertex(2 * x + 1, 2 * z - 1),
-                    new ContourVertex(2 * x + 1, 2 * z + 1)
-            ));
-        }
-
-        if (!occupied.contains(new GridPoint(x, z + 1))) {
-            edges.add(new ContourEdge(
-                    new ContourVertex(2 * x + 1, 2 * z + 1),
-                    new ContourVertex(2 * x - 1, 2 * z + 1)
-            ));
-        }
-
-        if (!occupied.contains(new GridPoint(x - 1, z))) {
-            edges.add(new ContourEdge(
-                    new ContourVertex(2 * x - 1, 2 * z + 1),
-                    new ContourVertex(2 * x - 1, 2 * z - 1)
-            ));
-        }
-    }
-
-    private List<ContourVertex> compressContourPath(List<ContourVertex> traced) {
-        if (traced.size() < 4) {
-            throw new IllegalArgumentException("Merged claim boundary is too small.");
-        }
-
-        List<ContourVertex> compressed = new ArrayList<>();
-        int cycleLength = traced.size() - 1;
-        for (int i = 0; i < cycleLength; i++) {
-            ContourVertex previous = traced.get((i - 1 + cycleLength) % cycleLength);
-            ContourVertex current = traced.get(i);
-            ContourVertex next = traced.get((i + 1) % cycleLength);
-
-            int dx1 = Integer.compare(current.x(), previous.x());
-            int dz1 = Integer.compare(current.z(), previous.z());
-            int dx2 = Integer.compare(next.x(), current.x());
-            int dz2 = Integer.compare(next.z(), current.z());
-
-            if (i == 0 || dx1 != dx2 || dz1 != dz2) {
-                compressed.add(current);
-            }
-        }
-
-        compressed.add(compressed.get(0));
-        return compressed;
-    }
-
-    private List<GridPoint> mapContourCornersToOccupiedPoints(List<ContourVertex> contour, Set<GridPoint> occupied) {
-        List<GridPoint> mapped = new ArrayList<>();
-        int cycleLength = contour.size() - 1;
-        for (int i = 0; i < cycleLength; i++) {
-            ContourVertex previous = contour.get((i - 1 + cycleLength) % cycleLength);
-            ContourVertex current = contour.get(i);
-            ContourVertex next = contour.get((i + 1) % cycleLength);
-            GridPoint point = resolveContourCornerPoint(previous, current, next, occupied);
-            if (mapped.isEmpty() || !mapped.get(mapped.size() - 1).equals(point)) {
-                mapped.add(point);
-            }
-        }
-
-        if (mapped.size() < 4) {
-            throw new IllegalArgumentException("Merged claim boundary is too small.");
-        }
-
-        mapped.add(mapped.get(0));
-        return mapped;
-    }
-
-    private GridPoint resolveContourCornerPoint(
-            ContourVertex previous,
-            ContourVertex vertex,
-            ContourVertex next,
-            Set<GridPoint> occupied
-    ) {
-        int lowX = Math.floorDiv(vertex.x(), 2);
-        int highX = Math.floorDiv(vertex.x() + 1, 2);
-        int lowZ = Math.floorDiv(vertex.z(), 2);
-        int highZ = Math.floorDiv(vertex.z() + 1, 2);
-
-        int incomingDirection = contourDirection(previous, vertex);
-        int outgoingDirection = contourDirection(vertex, next);
-        int interiorFromIncoming = rotateRight(incomingDirection);
-        int interiorFromOutgoing = rotateRight(outgoingDirection);
-
-        int resolvedX;
-        if (interiorFromIncoming == 0 || interiorFromOutgoing == 0) {
-            resolvedX = highX;
-        } else if (interiorFromIncoming == 2 || interiorFromOutgoing == 2) {
-            resolvedX = lowX;
-        } else {
-            throw new IllegalArgumentException("Merged claim boundary could not be followed.");
-        }
-
-        int resolvedZ;
-        if (interiorFromIncoming == 1 || interiorFromOutgoing == 1) {
-            resolvedZ = highZ;
-        } else if (interiorFromIncoming == 3 || interiorFromOutgoing == 3) {
-            resolvedZ = lowZ;
-        } else {
-            throw new IllegalArgumentException("Merged claim boundary could not be followed.");
-        }
-
-        GridPoint point = new GridPoint(resolvedX, resolvedZ);
-        if (!occupied.contains(point)) {
-            throw new IllegalArgumentException("Merged claim boundary could not be followed.");
-        }
-        return point;
-    }
-
-    private int contourDirection(ContourVertex start, ContourVertex end) {
-        if (end.x() > start.x()) {
-            return 0;
-        }
-        if (end.z() > start.z()) {
-            return 1;
-        }
-        if (end.x() < start.x()) {
-            return 2;
-        }
-        if (end.z() < start.z()) {
-            return 3;
-        }
-        throw new IllegalArgumentException("Contour path cannot contain duplicate vertices.");
-    }
-
-    private int rotateRight(int direction) {
-        return switch (direction) {
-            case 0 -> 1;
-            case 1 -> 2;
-            case 2 -> 3;
-            case 3 -> 0;
-            default -> throw new IllegalArgumentException("Unknown contour direction.");
-        };
-    }
-
-    private List<GridPoint> compressBoundaryPath(List<GridPoint> traced) {
-        List<GridPoint> path = new ArrayList<>(traced);
-        if (path.size() < 4) {
-            throw new IllegalArgumentException("Merged claim boundary is too small.");
-        }
-
-        List<GridPoint> compressed = new ArrayList<>();
-        for (int i = 0; i < path.size() - 1; i++) {
-            GridPoint previous = path.get((i - 1 + path.size() - 1) % (path.size() - 1));
-            GridPoint current = path.get(i);
-            GridPoint next = path.get((i + 1) % (path.size() - 1));
-
-            int dx1 = Integer.compare(current.x(), previous.x());
-            int dz1 = Integer.compare(current.z(), previous.z());
-            int dx2 = Integer.compare(next.x(), current.x());
-            int dz2 = Integer.compare(next.z(), current.z());
-
-            if (i == 0 || dx1 != dx2 || dz1 != dz2) {
-                compressed.add(current);
-            }
-        }
-
-        compressed.add(compressed.get(0));
-        return compressed;
-    }
-
-    private record ContourVertex(int x, int z) { }
-
-    private record ContourEdge(ContourVertex start, ContourVertex end) { }
-
     /**
      * Returns true when GP config has AllowShapedClaims enabled.
      * Defaults to true when unavailable so we don't unexpectedly block UI in unknown builds.
@@ -3400,7 +3220,12 @@ public class GPBridge {
                 }
 
                 if (rawResult == null) continue;
-                return parseCreateClaimResult(rawResult, dryRun);
+                CreateClaimResult result = parseCreateClaimResult(rawResult, dryRun);
+                if (result.success && !dryRun) {
+                    // GP's ClaimCreatedEvent is handled a tick late; the map redraws before that
+                    indexClaim(result.claim);
+                }
+                return result;
             } catch (Exception e) {
                 if (DEBUG) e.printStackTrace();
             }
@@ -3583,6 +3408,7 @@ public class GPBridge {
 
             Object resizedClaim = extractResultClaim(result);
             if (resizedClaim == null) resizedClaim = claim;
+            geometryChanged(resizedClaim);
             return new ResizeResult(true, ResizeFailureReason.NONE, preview, resizedClaim);
         } catch (ReflectiveOperationException e) {
             if (DEBUG) e.printStackTrace();
@@ -3724,6 +3550,7 @@ public class GPBridge {
 
             Object resizedClaim = extractResultClaim(updateResult);
             if (resizedClaim == null) resizedClaim = claim;
+            geometryChanged(resizedClaim);
 
             ClaimCorners current = getClaimCorners(claim).orElse(preview.currentCorners);
             ClaimCorners updated = cornersFromPolygonBounds(current, candidatePolygon);
@@ -4099,12 +3926,7 @@ public class GPBridge {
             return null;
         }
         try {
-            Method method = cachedGetPlayerDataMethod;
-            if (method == null) {
-                method = dataStore.getClass().getMethod("getPlayerData", UUID.class);
-                cachedGetPlayerDataMethod = method;
-            }
-            return method.invoke(dataStore, playerId);
+            return accessor().getPlayerData(playerId);
         } catch (ReflectiveOperationException e) {
             if (DEBUG) e.printStackTrace();
             return null;
@@ -4209,34 +4031,32 @@ public class GPBridge {
     /**
      * Get the corners of a claim as (x1,y1,z1) to (x2,y2,z2)
      */
-    @SuppressWarnings("all")
     public Optional<ClaimCorners> getClaimCorners(Object claim) {
         if (claim == null) return Optional.empty();
-        try {
-            Method getLesser = lookupMethod(claim.getClass(), "getLesserBoundaryCorner");
-            Method getGreater = lookupMethod(claim.getClass(), "getGreaterBoundaryCorner");
-            if (getLesser == null || getGreater == null) return Optional.empty();
-
-            Object lesser = getLesser.invoke(claim);
-            Object greater = getGreater.invoke(claim);
+        return Optional.ofNullable(geometry(claim).corners());
+    }
 
-            Method getX = lookupMethod(lesser.getClass(), "getX");
-            Method getZ = lookupMethod(lesser.getClass(), "getZ");
-            if (getX == null || getZ == null) return Optional.empty();
+    @SuppressWarnings("all")
+    private ClaimCorners readClaimCorners(Object claim) {
+        try {
+            ClaimAccessor gp = accessorFor(claim);
+            Location lesser = gp.getLesserCorner(claim);
+            Location greater = gp.getGreaterCorner(claim);
+            if (lesser == null || greater == null) return null;
 
-            int x1 = ((Number) getX.invoke(lesser)).intValue();
-            int z1 = ((Number) getZ.invoke(lesser)).intValue();
+            int x1 = (int) lesser.getX();
+            int z1 = (int) lesser.getZ();
             
-            int x2 = ((Number) getX.invoke(greater)).intValue();
-            int z2 = ((Number) getZ.invoke(greater)).intValue();
+            int x2 = (int) greater.getX();
+            int z2 = (int) greater.getZ();
             
             int y1 = getClaimMinY(claim);
             int y2 = getClaimMaxY(claim);
             
-            return Optional.of(new ClaimCorners(x1, y1, z1, x2, y2, z2));
+            return new ClaimCorners(x1, y1, z1, x2, y2, z2);
         } catch (ReflectiveOperationException e) {
             if (DEBUG) e.printStackTrace();
-            return Optional.empty();
+            return null;
         }
     }
     
@@ -4245,41 +4065,13 @@ public class GPBridge {
      */
     public Optional<Object> getParentClaim(Object claim) {
         if (claim == null) return Optional.empty();
-
-        String[] fieldNames = {"parent", "parentClaim"};
-        for (String fieldName : fieldNames) {
-            Class<?> type = claim.getClass();
-            while (type != null) {
-                try {
-                    Field field = type.getDeclaredField(fieldName);
-                    field.setAccessible(true);
-                    Object parent = field.get(claim);
-                    if (parent != null && parent != claim) {
-                        return Optional.of(parent);
-                    }
-                    break;
-                } catch (NoSuchFieldException e) {
-                    type = type.getSuperclass();
-                } catch (ReflectiveOperationException e) {
-                    if (DEBUG) e.printStackTrace();
-                    break;
-                }
-            }
-        }
-
-        String[] methodNames = {"getParent", "getParentClaim"};
-        for (String methodName : methodNames) {
-            try {
-                Method method = claim.getClass().getMethod(methodName);
-                Object parent = method.invoke(claim);
-                if (parent != null && parent != claim) {
-                    return Optional.of(parent);
-                }
-            } catch (NoSuchMethodException e) {
-                continue;
-            } catch (ReflectiveOperationException e) {
-                if (DEBUG) e.printStackTrace();
+        try {
+            Object parent = accessorFor(claim).getParent(claim);
+            if (parent != null && parent != claim) {
+                return Optional.of(parent);
             }
+        } catch (ReflectiveOperationException e) {
+            if (DEBUG) e.printStackTrace();
         }
         
         // No parent found, return the claim itself
@@ -4290,110 +4082,38 @@ public class GPBridge {
      * Get all subclaims of a claim
      * Supports both old GP (separate subclaim files) and new GP3D (Children in parent YAML)
      */
-    @SuppressWarnings("unchecked")
     public List<Object> getSubclaims(Object claim) {
         if (claim == null) return Collections.emptyList();
-        
-        // First try the new GP3D approach with Children
-        String[] newMethodNames = {"getChildren", "getChildClaims"};
-        for (String methodName : newMethodNames) {
-            try {
-                Method method = claim.getClass().getMethod(methodName);
-                Object children = method.invoke(claim);
-                if (children instanceof Collection) {
-                    List<Object> result = new ArrayList<>((Collection<Object>) children);
-                    if (DEBUG && !result.isEmpty()) {
-                        Bukkit.getLogger().info("[GPExpansion][debug] Found " + result.size() + " children using " + methodName);
-                    }
-                    return result;
-                }
-            } catch (ReflectiveOperationException e) {
-                // Continue to next method name
-            }
-        }
-        
-        // Try field access for Children
-        String[] newFieldNames = {"children", "childClaims"};
-        for (String fieldName : newFieldNames) {
-            try {
-                Field field = claim.getClass().getDeclaredField(fieldName);
-                field.setAccessible(true);
-                Object children = field.get(claim);
-                if (children instanceof Collection) {
-                    List<Object> result = new ArrayList<>((Collection<Object>) children);
-                    if (DEBUG && !result.isEmpty()) {
-                        Bukkit.getLogger().info("[GPExpansion][debug] Found " + result.size() + " children in field " + fieldName);
-                    }
-                    return result;
-                }
-            } catch (ReflectiveOperationException e) {
-                // Continue to next field name
-            }
-        }
-        
-        // Fallback to old GP approach with getSubclaims
         try {
-            Method getSubclaims = claim.getClass().getMethod("getSubclaims");
-            Object subclaims = getSubclaims.invoke(claim);
-            if (subclaims instanceof Collection) {
-                List<Object> result = new ArrayList<>((Collection<Object>) subclaims);
-                if (DEBUG && !result.isEmpty()) {
-                    Bukkit.getLogger().info("[GPExpansion][debug] Found " + result.size() + " subclaims using getSubclaims (old GP)");
-                }
-                return result;
+            List<Object> result = new ArrayList<>(accessorFor(claim).getChildren(claim));
+            if (DEBUG && result.isEmpty()) {
+                Bukkit.getLogger().info("[GPExpansion][debug] No subclaims/children found for claim");
             }
+            return result;
         } catch (ReflectiveOperationException e) {
             if (DEBUG) e.printStackTrace();
+            return Collections.emptyList();
         }
-        
-        // Try old field names as final fallback
-        String[] oldFieldNames = {"subclaims", "subClaims"};
-        for (String fieldName : oldFieldNames) {
-            try {
-                Field field = claim.getClass().getDeclaredField(fieldName);
-                field.setAccessible(true);
-                Object subclaims = field.get(claim);
-                if (subclaims instanceof Collection) {
-                    List<Object> result = new ArrayList<>((Collection<Object>) subclaims);
-                    if (DEBUG && !result.isEmpty()) {
-                        Bukkit.getLogger().info("[GPExpansion][debug] Found " + result.size() + " subclaims in field " + fieldName + " (old GP)");
-                    }
-                    return result;
-                }
-            } catch (ReflectiveOperationException e) {
-                // Continue to next field name
-            }
-        }
-        
-        if (DEBUG) {
-            Bukkit.getLogger().info("[GPExpansion][debug] No subclaims/children found for claim");
-        }
-        
-        return Collections.emptyList();
     }
     
     /**
      * Get all claims where the player has any trust level
      */
     public List<Object> getClaimsWhereTrusted(UUID playerId) {
-        List<Object> result = new ArrayList<>();
-        if (!isAvailable() || playerId == null) return result;
-        
-        try {
-            // Get all claims
-            List<Object> allClaims = getAllClaims();
-            
-            // Check each claim if player has any trust
-            for (Object claim : allClaims) {
-                if (hasAnyTrust(claim, playerId)) {
-                    result.add(claim);
-                }
-            }
-        } catch (Exception e) {
-            if (DEBUG) e.printStackTrace();
+        if (!isAvailable() || playerId == null) return new ArrayList<>();
+        if (!claimIndexBuilt) {
+            rebuildClaimIndex();
         }
-        
-        return result;
+        if (!trustIndexBuilt) {
+            buildTrustIndex();
+        }
+        Set<String> ids = new HashSet<>();
+        ReverseIndex index = reverse;
+        Set<String> owned = index.claimIdsByOwner.get(playerId);
+        if (owned != null) ids.addAll(owned);
+        Set<String> trusted = index.trustedClaimIdsByPlayer.get(playerId);
+        if (trusted != null) ids.addAll(trusted);
+        return claimsForIds(ids);
     }
     
     /**
@@ -4623,28 +4343,6 @@ public class GPBridge {
         return Optional.empty();
     }
 
-    /**
-     * Check if a player has any trust level in a claim
-     */
-    private boolean hasAnyTrust(Object claim, UUID playerId) {
-        if (claim == null || playerId == null) return false;
-        try {
-            Method getOwnerID = claim.getClass().getMethod("getOwnerID");
-            UUID ownerId = (UUID) getOwnerID.invoke(claim);
-            if (playerId.equals(ownerId)) return true;
-            
-            // Check explicit trust
-            if (isTrusted(claim, playerId, "manager")) return true;
-            if (isTrusted(claim, playerId, "build")) return true;
-            if (isTrusted(claim, playerId, "access")) return true;
-            if (isTrusted(claim, playerId, "inventory")) return true;
-            
-        } catch (ReflectiveOperationException e) {
-            if (DEBUG) e.printStackTrace();
-        }
-        return false;
-    }
-
     private void mergeTrustCollection(Map<UUID, EnumSet<TrustLevel>> trusted, Object claim, TrustLevel level, String... trustTypes) {
         for (String trustType : trustTypes) {
             for (UUID playerId : getTrustedPlayersForType(claim, trustType)) {
@@ -4814,17 +4512,16 @@ public class GPBridge {
             }
         }
         
-        // First try direct field access for parent
+        // First try the bound parent accessor (field or getter)
+        ClaimAccessor gp = accessorFor(claim);
         try {
-            Field parentField = claim.getClass().getDeclaredField("parent");
-            parentField.setAccessible(true);
-            Object parent = parentField.get(claim);
+            Object parent = gp.getParent(claim);
             if (parent != null && parent != claim) {
-                if (DEBUG) System.out.println("[GPBridge] Found parent via field access: " + parent);
+                if (DEBUG) System.out.println("[GPBridge] Found parent via accessor: " + parent);
                 return true;
             }
-        } catch (Exception e) {
-            if (DEBUG) System.out.println("[GPBridge] No parent field accessible");
+        } catch (ReflectiveOperationException e) {
+            if (DEBUG) System.out.println("[GPBridge] No parent accessor usable");
         }
         
         // Try multiple possible method names for checking subdivisions
@@ -4915,6 +4612,10 @@ public class GPBridge {
      */
     public boolean is3DClaim(Object claim) {
         if (!isAvailable() || claim == null) return false;
+        return geometry(claim).threeD();
+    }
+
+    private boolean readIs3D(Object claim) {
         try {
             Method getMinY = claim.getClass().getMethod("getMinY");
             Method getMaxY = claim.getClass().getMethod("getMaxY");
@@ -4968,6 +4669,10 @@ public class GPBridge {
      */
     public boolean isShapedClaim(Object claim) {
         if (!isAvailable() || claim == null) return false;
+        return geometry(claim).shaped();
+    }
+
+    private boolean readIsShaped(Object claim) {
         // Older GP builds may not expose shaped geometry.
         Method isShaped = lookupMethod(claim.getClass(), "isShaped");
         if (isShaped == null) return false;
@@ -5643,9 +5348,7 @@ public class GPBridge {
     public UUID getClaimOwner(Object claim) {
         if (claim == null) return null;
         try {
-            Method getOwnerID = claim.getClass().getMethod("getOwnerID");
-            Object owner = getOwnerID.invoke(claim);
-            if (owner instanceof UUID) return (UUID) owner;
+            return accessorFor(claim).getOwnerId(claim);
         } catch (ReflectiveOperationException ignored) {}
         return null;
     }
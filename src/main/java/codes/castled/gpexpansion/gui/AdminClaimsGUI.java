@@ -8,6 +8,7 @@ import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 
 import codes.castled.gpexpansion.gp.GPBridge;
+import codes.castled.gpexpansion.storage.ClaimDataStore;
 import codes.castled.gpexpansion.util.ClaimCustomizationUtil;
 import codes.castled.gpexpansion.util.ClaimGeometryUtil;
 
@@ -71,7 +72,7 @@ public class AdminClaimsGUI extends BaseGUI {
 
     public AdminClaimsGUI(GUIManager manager, Player player, String searchQuery) {
         super(manager, player, "admin-claims");
-        this.gp = new GPBridge();
+        this.gp = plugin.getGPBridge();
         this.searchQuery = searchQuery;
         // Claims loaded via openAsync or synchronously
     }
@@ -129,7 +130,7 @@ public class AdminClaimsGUI extends BaseGUI {
             info.isMailbox = isClaimMailbox(claimId);
             
             // Get claim details
-            info.name = plugin.getClaimDataStore().getCustomName(claimId).orElse("Admin Claim #" + claimId);
+            info.name = plugin.getClaimDataStore().getView(claimId).map(ClaimDataStore.ClaimView::customName).orElse("Admin Claim #" + claimId);
             info.childCount = gp.getSubclaims(claim).size();
             info.area = ClaimGeometryUtil.getClaimArea(claim);
             info.location = ClaimGeometryUtil.getClaimLocation(claim);
@@ -159,11 +160,12 @@ public class AdminClaimsGUI extends BaseGUI {
     }
     
     private boolean isClaimRented(String claimId) {
-        return plugin.getClaimDataStore().isRented(claimId);
+        // Read through the immutable view: this runs on the async loading thread.
+        return plugin.getClaimDataStore().getView(claimId).map(ClaimDataStore.ClaimView::isRented).orElse(false);
     }
     
     private boolean isClaimMailbox(String claimId) {
-        return plugin.getClaimDataStore().isMailbox(claimId);
+        return plugin.getClaimDataStore().getView(claimId).map(view -> view.mailboxOwner() != null).orElse(false);
     }
     
 
@@ -68,14 +68,15 @@ public class BannedPlayersGUI extends BaseGUI {
     private void loadBannedPlayers() {
         bannedPlayers.clear();
 
-        ClaimDataStore.BanData entry = claimDataStore.getBans(claimId);
-        if (entry == null || entry.bannedPlayers.isEmpty()) {
+        // Immutable view: this also runs on the async loading thread.
+        ClaimDataStore.ClaimView view = claimDataStore.getView(claimId).orElse(null);
+        if (view == null || view.bannedPlayers().isEmpty()) {
             return;
         }
 
-        for (UUID playerId : entry.bannedPlayers) {
+        for (UUID playerId : view.bannedPlayers()) {
             OfflinePlayer offlinePlayer = Bukkit.getOfflinePlayer(playerId);
-            String playerName = entry.playerNames.getOrDefault(playerId,
+            String playerName = view.bannedPlayerNames().getOrDefault(playerId,
                 offlinePlayer.getName() != null ? offlinePlayer.getName() : playerId.toString().substring(0, 8));
 
             @SuppressWarnings("deprecation")
@@ -629,12 +629,7 @@ public abstract class BaseGUI {
             return;
         }
 
-        org.bukkit.command.Command stub = new org.bukkit.command.Command("claim") {
-            @Override
-            public boolean execute(org.bukkit.command.CommandSender sender, String commandLabel, String[] commandArgs) {
-                return false;
-            }
-        };
+        org.bukkit.command.Command stub = codes.castled.gpexpansion.command.CommandRouter.stub("claim");
         claimCmd.onCommand(player, stub, "claim", args);
     }
 
@@ -652,12 +647,7 @@ public abstract class BaseGUI {
         args[0] = normalizedRoot;
         System.arraycopy(tailArgs, 0, args, 1, tailArgs.length);
 
-        org.bukkit.command.Command stub = new org.bukkit.command.Command(normalizedRoot) {
-            @Override
-            public boolean execute(org.bukkit.command.CommandSender sender, String commandLabel, String[] commandArgs) {
-                return false;
-            }
-        };
+        org.bukkit.command.Command stub = codes.castled.gpexpansion.command.CommandRouter.stub(normalizedRoot);
         claimCmd.onCommand(player, stub, normalizedRoot, args);
     }
 }
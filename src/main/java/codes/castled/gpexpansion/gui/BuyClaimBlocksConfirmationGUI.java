@@ -39,7 +39,7 @@ public class BuyClaimBlocksConfirmationGUI extends BaseGUI {
     public BuyClaimBlocksConfirmationGUI(GUIManager manager, Player player, int amount, double costPerBlock) {
         // Backing YAML: src/main/resources/guis/buyclaimblocks-confirm.yml
         super(manager, player, "buyclaimblocks-confirm");
-        this.gp = new GPBridge();
+        this.gp = plugin.getGPBridge();
         this.amount = amount;
         this.costPerBlock = costPerBlock;
         this.totalCost = amount * costPerBlock;
@@ -64,7 +64,7 @@ public class ChildrenClaimsGUI extends BaseGUI {
     
     public ChildrenClaimsGUI(GUIManager manager, Player player, Object parentClaim, String parentClaimId) {
         super(manager, player, "children-claims");
-        this.gp = new GPBridge();
+        this.gp = plugin.getGPBridge();
         this.parentClaim = parentClaim;
         this.parentClaimId = parentClaimId;
         loadChildren();
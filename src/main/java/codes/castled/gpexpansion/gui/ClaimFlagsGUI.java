@@ -43,7 +43,7 @@ public class ClaimFlagsGUI extends BaseGUI {
         this.claim = claim;
         this.claimId = claimId;
         
-        GPBridge gp = new GPBridge();
+        GPBridge gp = plugin.getGPBridge();
         this.isOwner = gp.isOwner(claim, player.getUniqueId()) || player.hasPermission("griefprevention.admin");
         
         // Load slot positions from config
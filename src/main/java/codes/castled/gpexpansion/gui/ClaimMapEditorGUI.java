@@ -73,7 +73,7 @@ public final class ClaimMapEditorGUI extends BaseGUI {
 
     public ClaimMapEditorGUI(GUIManager manager, Player player, Object claim, String claimId) {
         super(manager, player, "claim-map-editor");
-        this.gp = new GPBridge();
+        this.gp = plugin.getGPBridge();
         this.mapBridge = new ClaimMapEditorBridge(gp);
         this.initialClaimId = claimId;
         this.selectedClaim = claim;
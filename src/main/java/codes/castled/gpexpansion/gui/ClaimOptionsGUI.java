@@ -44,7 +44,7 @@ public class ClaimOptionsGUI extends BaseGUI {
         super(manager, player, "claim-options");
         this.claim = claim;
         this.claimId = claimId;
-        this.gp = new GPBridge();
+        this.gp = plugin.getGPBridge();
         this.confirmAbandon = armAbandonConfirm;
 
         if (config != null) {
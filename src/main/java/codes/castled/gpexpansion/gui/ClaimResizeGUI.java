@@ -40,7 +40,7 @@ public class ClaimResizeGUI extends BaseGUI {
         super(manager, player, "claim-resize");
         this.claim = claim;
         this.claimId = claimId;
-        this.gp = new GPBridge();
+        this.gp = plugin.getGPBridge();
         Location loc = player.getLocation();
         this.openingLocation = loc != null ? loc.clone() : null;
         this.openingFacing = openingLocation != null ? facingFromYaw(openingLocation.getYaw()) : GPBridge.ResizeDirection.SOUTH;
@@ -31,7 +31,7 @@ public class ClaimSettingsGUI extends BaseGUI {
         super(manager, player, "claim-settings");
         this.claim = claim;
         this.claimId = claimId;
-        this.gp = new GPBridge();
+        this.gp = plugin.getGPBridge();
         
         if (config != null) {
             viewChildrenSlot = config.getInt("slots.view-children", 0);
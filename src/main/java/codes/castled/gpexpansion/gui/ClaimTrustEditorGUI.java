@@ -37,7 +37,7 @@ public class ClaimTrustEditorGUI extends BaseGUI {
         super(manager, player, "claim-trust-editor");
         this.claim = claim;
         this.claimId = claimId;
-        this.gp = new GPBridge();
+        this.gp = plugin.getGPBridge();
         this.claimDataStore = plugin.getClaimDataStore();
         this.targetName = targetName;
         this.targetId = targetId;
@@ -48,7 +48,7 @@ public class ClaimTrustedPlayersGUI extends BaseGUI {
         super(manager, player, "claim-trusted-players");
         this.claim = claim;
         this.claimId = claimId;
-        this.gp = new GPBridge();
+        this.gp = plugin.getGPBridge();
         this.claimDataStore = plugin.getClaimDataStore();
     }
 
@@ -29,10 +29,11 @@ public class DescriptionInputManager {
     
     private final GPExpansionPlugin plugin;
     private final Map<UUID, Pending> pending = new ConcurrentHashMap<>();
-    private final GPBridge gp = new GPBridge();
+    private final GPBridge gp;
     
     public DescriptionInputManager(GPExpansionPlugin plugin) {
         this.plugin = plugin;
+        this.gp = plugin.getGPBridge();
     }
     
     public boolean hasPending(UUID playerId) {
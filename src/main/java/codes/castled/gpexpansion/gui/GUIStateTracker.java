@@ -133,7 +133,7 @@ public class GUIStateTracker {
                 
             case CLAIM_OPTIONS:
                 if (state.claimId != null) {
-                    new codes.castled.gpexpansion.gp.GPBridge().findClaimById(state.claimId).ifPresent(claim -> {
+                    manager.getPlugin().getGPBridge().findClaimById(state.claimId).ifPresent(claim -> {
                         manager.openClaimOptions(player, claim, state.claimId);
                     });
                 }
@@ -141,7 +141,7 @@ public class GUIStateTracker {
 
             case CLAIM_TRUSTED_PLAYERS:
                 if (state.claimId != null) {
-                    new codes.castled.gpexpansion.gp.GPBridge().findClaimById(state.claimId).ifPresent(claim -> {
+                    manager.getPlugin().getGPBridge().findClaimById(state.claimId).ifPresent(claim -> {
                         manager.openClaimTrustedPlayers(player, claim, state.claimId);
                     });
                 }
@@ -149,7 +149,7 @@ public class GUIStateTracker {
 
             case CLAIM_RESIZE:
                 if (state.claimId != null) {
-                    new codes.castled.gpexpansion.gp.GPBridge().findClaimById(state.claimId).ifPresent(claim -> {
+                    manager.getPlugin().getGPBridge().findClaimById(state.claimId).ifPresent(claim -> {
                         manager.openClaimResize(player, claim, state.claimId);
                     });
                 }
@@ -157,7 +157,7 @@ public class GUIStateTracker {
 
             case CLAIM_MAP_EDITOR:
                 if (state.claimId != null) {
-                    new codes.castled.gpexpansion.gp.GPBridge().findClaimById(state.claimId).ifPresent(claim -> {
+                    manager.getPlugin().getGPBridge().findClaimById(state.claimId).ifPresent(claim -> {
                         manager.openClaimMapEditor(player, claim, state.claimId);
                     });
                 }
@@ -165,7 +165,7 @@ public class GUIStateTracker {
 
             case BANNED_PLAYERS:
                 if (state.claimId != null) {
-                    new codes.castled.gpexpansion.gp.GPBridge().findClaimById(state.claimId).ifPresent(claim -> {
+                    manager.getPlugin().getGPBridge().findClaimById(state.claimId).ifPresent(claim -> {
                         manager.openBannedPlayers(player, claim, state.claimId);
                     });
                 }
@@ -173,7 +173,7 @@ public class GUIStateTracker {
                 
             case CHILDREN_CLAIMS:
                 if (state.claimId != null) {
-                    new codes.castled.gpexpansion.gp.GPBridge().findClaimById(state.claimId).ifPresent(claim -> {
+                    manager.getPlugin().getGPBridge().findClaimById(state.claimId).ifPresent(claim -> {
                         manager.openChildrenClaims(player, claim, state.claimId);
                     });
                 }
@@ -181,7 +181,7 @@ public class GUIStateTracker {
                 
             case CLAIM_SETTINGS:
                 if (state.claimId != null) {
-                    new codes.castled.gpexpansion.gp.GPBridge().findClaimById(state.claimId).ifPresent(claim -> {
+                    manager.getPlugin().getGPBridge().findClaimById(state.claimId).ifPresent(claim -> {
                         manager.openClaimSettings(player, claim, state.claimId);
                     });
                 }
@@ -189,7 +189,7 @@ public class GUIStateTracker {
                 
             case SETUP_WIZARDS:
                 if (state.claimId != null) {
-                    new codes.castled.gpexpansion.gp.GPBridge().findClaimById(state.claimId).ifPresent(claim -> {
+                    manager.getPlugin().getGPBridge().findClaimById(state.claimId).ifPresent(claim -> {
                         manager.openSetupWizards(player, claim, state.claimId);
                     });
                 }
@@ -197,7 +197,7 @@ public class GUIStateTracker {
                 
             case CLAIM_FLAGS:
                 if (state.claimId != null) {
-                    new codes.castled.gpexpansion.gp.GPBridge().findClaimById(state.claimId).ifPresent(claim -> {
+                    manager.getPlugin().getGPBridge().findClaimById(state.claimId).ifPresent(claim -> {
                         manager.openClaimFlags(player, claim, state.claimId);
                     });
                 }
@@ -79,7 +79,7 @@ public class GlobalClaimListGUI extends BaseGUI {
     
     public GlobalClaimListGUI(GUIManager manager, Player player, String searchQuery) {
         super(manager, player, "global-claim-list");
-        this.gp = new GPBridge();
+        this.gp = plugin.getGPBridge();
         this.searchQuery = searchQuery;
         
         // Load slot positions from config
@@ -140,13 +140,14 @@ public class GlobalClaimListGUI extends BaseGUI {
             Object claim = claimOpt.get();
             ClaimInfo info = new ClaimInfo(claim, claimId);
             
-            // Get claim data
-            ClaimDataStore.ClaimData data = dataStore.get(claimId);
-            info.icon = data.icon;
-            info.description = data.description;
+            // Get claim data from its immutable view; this runs on an async thread
+            ClaimDataStore.ClaimView view = dataStore.getView(claimId).orElse(null);
+            if (view == null) continue;
+            info.icon = view.icon();
+            info.description = view.description();
             
             // Get claim name
-            info.name = plugin.getClaimDataStore().getCustomName(claimId).orElse("Claim #" + claimId);
+            info.name = view.customName() != null ? view.customName() : "Claim #" + claimId;
             
             // Get owner name
             info.ownerName = ClaimGeometryUtil.getOwnerName(claim);
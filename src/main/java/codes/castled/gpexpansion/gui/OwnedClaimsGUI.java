@@ -8,6 +8,7 @@ import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 
 import codes.castled.gpexpansion.gp.GPBridge;
+import codes.castled.gpexpansion.storage.ClaimDataStore;
 import codes.castled.gpexpansion.util.ClaimCustomizationUtil;
 import codes.castled.gpexpansion.util.ClaimGeometryUtil;
 
@@ -72,7 +73,7 @@ public class OwnedClaimsGUI extends BaseGUI {
 
     public OwnedClaimsGUI(GUIManager manager, Player player, String searchQuery) {
         super(manager, player, "owned-claims");
-        this.gp = new GPBridge();
+        this.gp = plugin.getGPBridge();
         this.searchQuery = searchQuery;
         // Claims loaded via openAsync or synchronously
     }
@@ -131,7 +132,7 @@ public class OwnedClaimsGUI extends BaseGUI {
             info.isMailbox = isClaimMailbox(claimId);
             
             // Get claim details
-            info.name = plugin.getClaimDataStore().getCustomName(claimId).orElse("Claim #" + claimId);
+            info.name = plugin.getClaimDataStore().getView(claimId).map(ClaimDataStore.ClaimView::customName).orElse("Claim #" + claimId);
             info.ownerName = player.getName();
             info.childCount = gp.getSubclaims(claim).size();
             info.area = ClaimGeometryUtil.getClaimArea(claim);
@@ -164,7 +165,8 @@ public class OwnedClaimsGUI extends BaseGUI {
     }
     
     private boolean isClaimRented(String claimId) {
-        return plugin.getClaimDataStore().isRented(claimId);
+        // Read through the immutable view: this runs on the async loading thread.
+        return plugin.getClaimDataStore().getView(claimId).map(ClaimDataStore.ClaimView::isRented).orElse(false);
     }
     
     private boolean isClaimForSale(String claimId) {
@@ -175,7 +177,7 @@ public class OwnedClaimsGUI extends BaseGUI {
     
     private boolean isClaimMailbox(String claimId) {
         // Check if claim is used as mailbox
-        return plugin.getClaimDataStore().isMailbox(claimId);
+        return plugin.getClaimDataStore().getView(claimId).map(view -> view.mailboxOwner() != null).orElse(false);
     }
     
 
@@ -65,7 +65,7 @@ public class TrustedClaimsGUI extends BaseGUI {
     
     public TrustedClaimsGUI(GUIManager manager, Player player) {
         super(manager, player, "trusted-claims");
-        this.gp = new GPBridge();
+        this.gp = plugin.getGPBridge();
         loadClaims();
     }
     
@@ -14,6 +14,7 @@ import org.bukkit.event.player.PlayerTeleportEvent;
 import org.bukkit.util.Vector;
 
 import codes.castled.gpexpansion.GPExpansionPlugin;
+import codes.castled.gpexpansion.gp.ClaimSpatialIndex;
 import codes.castled.gpexpansion.gp.GPBridge;
 import codes.castled.gpexpansion.scheduler.SchedulerAdapter;
 import codes.castled.gpexpansion.scheduler.TaskHandle;
@@ -22,12 +23,14 @@ import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
 public class BanEnforcementListener implements Listener {
     private final GPExpansionPlugin plugin;
-    private final GPBridge gp = new GPBridge();
+    private final GPBridge gp;
+    private final ClaimPositionTracker positions;
     
     // Track players currently being ejected to prevent movement during teleport
     private final java.util.Set<UUID> beingEjected = java.util.concurrent.ConcurrentHashMap.newKeySet();
@@ -37,106 +40,186 @@ public class BanEnforcementListener implements Listener {
     private static final double KNOCKBACK_Y = 0.3;
     private static final long BAN_VISUALIZATION_TICKS = 200L;
     private static final long BAN_ENTER_MESSAGE_COOLDOWN_MS = 10_000L;
-    /** How often the ban index is rebuilt to pick up claim creation, resizing and deletion. */
-    private static final long BAN_INDEX_REBUILD_TICKS = 100L;
+    /** How long to wait before retrying a ban index build that found no claim data. */
+    private static final long BAN_INDEX_RETRY_MS = 5_000L;
 
     private final Map<UUID, TaskHandle> visualizationClearTasks = new ConcurrentHashMap<>();
     private final Map<UUID, Long> lastEnterMessageAt = new ConcurrentHashMap<>();
 
     /**
-     * Flat X/Z footprints of the top-level claims that ban somebody, used to reject the vast
-     * majority of movements without touching GriefPrevention.
+     * X/Z footprints of the top-level claims that ban somebody, on a per-world chunk grid, used to
+     * reject the vast majority of movements without touching GriefPrevention. Kept current from ban
+     * revision and claim layout version changes.
      */
-    private volatile List<BanBox> banBoxes = List.of();
+    private volatile ClaimSpatialIndex banBoxes = new ClaimSpatialIndex();
+    /** The subset of {@link #banBoxes} banning the public, the only ones every player must check. */
+    private volatile ClaimSpatialIndex publicBanBoxes = new ClaimSpatialIndex();
     /**
-     * False while claim data is unreachable, in which case the index says nothing and every
-     * move has to be checked the slow way rather than silently waved through.
+     * Banned and public-banned claim IDs the index was last synced with, whether or not their claim
+     * still exists. Guarded by {@link #banIndexLock}.
      */
-    private volatile boolean banIndexComplete = true;
+    private Set<String> indexedBanIds = Set.of();
+    private Set<String> indexedPublicBanIds = Set.of();
+    /**
+     * False until the index is built, and while claim data is unreachable, in which case the index
+     * says nothing and every move has to be checked the slow way rather than silently waved through.
+     */
+    private volatile boolean banIndexComplete = false;
     private volatile int indexedBanRevision = Integer.MIN_VALUE;
+    /** {@link GPBridge#getClaimLayoutVersion()} the boxes were last read under. */
+    private volatile long indexedLayout = Long.MIN_VALUE;
+    private volatile long lastBanIndexBuild;
     private final Object banIndexLock = new Object();
 
     public BanEnforcementListener(GPExpansionPlugin plugin) {
         this.plugin = plugin;
+        this.gp = plugin.getGPBridge();
+        this.positions = plugin.getClaimPositionTracker();
         scheduleInitialEjectionCheck();
-        // Claim geometry changes without touching ban data, so refresh on a timer as well as
-        // on ban revision changes.
-        SchedulerAdapter.runRepeatingGlobal(plugin, this::rebuildBanIndex,
-                BAN_INDEX_REBUILD_TICKS, BAN_INDEX_REBUILD_TICKS);
-    }
-
-    /** X/Z footprint of a claim that bans at least one player, or the public. */
-    private record BanBox(String worldName, int minX, int maxX, int minZ, int maxZ) {
-        boolean contains(String world, int x, int z) {
-            return worldName.equals(world) && x >= minX && x <= maxX && z >= minZ && z <= maxZ;
-        }
     }
 
     /**
-     * True when the location could be inside a claim that bans somebody. This is only a
-     * pre-filter: {@link #checkBanned} still decides whether the player in particular is
-     * banned. Returns true whenever the index is unusable so enforcement never silently stops.
+     * True when the location could be inside a claim that bans this player. This is only a
+     * pre-filter: {@link #checkBanned} still decides, trust and bypass permissions included.
+     * Public bans are checked by location; name bans only for players someone has banned, so
+     * everybody else is settled by one grid probe. Returns true whenever the index is unusable
+     * so enforcement never silently stops.
      */
-    private boolean nearBannedClaim(Location location) {
-        if (plugin.getClaimDataStore().getBanRevision() != indexedBanRevision) {
-            rebuildBanIndex();
+    private boolean nearBannedClaim(Player player, Location location) {
+        if (!banIndexComplete) {
+            if (System.currentTimeMillis() - lastBanIndexBuild >= BAN_INDEX_RETRY_MS) {
+                rebuildBanIndex();
+            }
+        } else {
+            if (plugin.getClaimDataStore().getBanRevision() != indexedBanRevision) {
+                syncBanIndex();
+            }
+            if (gp.getClaimLayoutVersion() != indexedLayout) {
+                reboxBanIndex();
+            }
         }
         if (!banIndexComplete) return true;
 
-        List<BanBox> boxes = banBoxes;
+        ClaimSpatialIndex boxes = banBoxes;
         if (boxes.isEmpty()) return false;
         if (location == null || location.getWorld() == null) return false;
-
         String worldName = location.getWorld().getName();
         int x = location.getBlockX();
         int z = location.getBlockZ();
-        for (BanBox box : boxes) {
-            if (box.contains(worldName, x, z)) return true;
+        if (publicBanBoxes.anyAt(worldName, x, z)) return true;
+
+        UUID playerId = player.getUniqueId();
+        if (!plugin.getClaimDataStore().isBannedAnywhere(playerId)) return false;
+        for (String claimId : plugin.getClaimDataStore().getClaimIdsBanning(playerId)) {
+            ClaimSpatialIndex.Bounds bounds = boxes.get(claimId);
+            if (bounds != null && bounds.world().equals(worldName) && bounds.contains(x, z)) return true;
         }
         return false;
     }
 
-    private void rebuildBanIndex() {
+    /** Apply ban list changes since the last sync: box newly banning claims, drop cleared ones. */
+    private void syncBanIndex() {
         synchronized (banIndexLock) {
             int revision = plugin.getClaimDataStore().getBanRevision();
-            java.util.Set<String> bannedClaimIds = plugin.getClaimDataStore().getClaimIdsWithBans();
-            if (bannedClaimIds.isEmpty()) {
-                banBoxes = List.of();
-                banIndexComplete = true;
-                indexedBanRevision = revision;
-                return;
+            if (!banIndexComplete || revision == indexedBanRevision) return;
+            Set<String> bannedClaimIds = plugin.getClaimDataStore().getClaimIdsWithBans();
+            Set<String> publicClaimIds = plugin.getClaimDataStore().getPublicBannedClaimIds();
+            ClaimSpatialIndex boxes = banBoxes;
+            ClaimSpatialIndex publicBoxes = publicBanBoxes;
+            for (String claimId : indexedBanIds) {
+                if (!bannedClaimIds.contains(claimId)) boxes.remove(claimId);
             }
-
-            List<Object> claims = gp.getAllClaims();
-            if (claims.isEmpty()) {
-                // Claim data is not reachable (GriefPrevention still loading, or no claims at
-                // all). Check every move until it is rather than assume nobody is banned.
-                banBoxes = List.of();
-                banIndexComplete = false;
-                indexedBanRevision = revision;
-                return;
+            for (String claimId : bannedClaimIds) {
+                if (!indexedBanIds.contains(claimId)) {
+                    indexBanBox(boxes, claimId, gp.findClaimById(claimId).orElse(null));
+                }
+            }
+            for (String claimId : indexedPublicBanIds) {
+                if (!publicClaimIds.contains(claimId)) publicBoxes.remove(claimId);
+            }
+            for (String claimId : publicClaimIds) {
+                if (!indexedPublicBanIds.contains(claimId)) copyBox(boxes, publicBoxes, claimId);
             }
+            indexedBanIds = bannedClaimIds;
+            indexedPublicBanIds = publicClaimIds;
+            indexedBanRevision = revision;
+        }
+    }
 
-            List<BanBox> boxes = new java.util.ArrayList<>(bannedClaimIds.size());
-            for (Object claim : claims) {
-                String claimId = gp.getClaimId(claim).orElse(null);
-                if (claimId == null || !bannedClaimIds.contains(claimId)) continue;
-                String worldName = gp.getClaimWorld(claim).orElse(null);
-                GPBridge.ClaimCorners corners = gp.getClaimCorners(claim).orElse(null);
-                if (worldName == null || corners == null) continue;
-                boxes.add(new BanBox(
-                        worldName,
-                        Math.min(corners.x1, corners.x2),
-                        Math.max(corners.x1, corners.x2),
-                        Math.min(corners.z1, corners.z2),
-                        Math.max(corners.z1, corners.z2)));
+    private void rebuildBanIndex() {
+        synchronized (banIndexLock) {
+            lastBanIndexBuild = System.currentTimeMillis();
+            int revision = plugin.getClaimDataStore().getBanRevision();
+            long layout = gp.getClaimLayoutVersion();
+            Set<String> bannedClaimIds = plugin.getClaimDataStore().getClaimIdsWithBans();
+            Set<String> publicClaimIds = plugin.getClaimDataStore().getPublicBannedClaimIds();
+            ClaimSpatialIndex boxes = new ClaimSpatialIndex();
+            ClaimSpatialIndex publicBoxes = new ClaimSpatialIndex();
+            if (!bannedClaimIds.isEmpty()) {
+                List<Object> claims = gp.getAllClaims();
+                if (claims.isEmpty()) {
+                    // Claim data is not reachable (GriefPrevention still loading, or no claims at
+                    // all). Check every move until it is rather than assume nobody is banned.
+                    banIndexComplete = false;
+                    return;
+                }
+                for (Object claim : claims) {
+                    String claimId = gp.getClaimId(claim).orElse(null);
+                    if (claimId != null && bannedClaimIds.contains(claimId)) {
+                        indexBanBox(boxes, claimId, claim);
+                    }
+                }
+                for (String claimId : publicClaimIds) {
+                    copyBox(boxes, publicBoxes, claimId);
+                }
             }
 
             // Ban data can outlive its claim, so resolving fewer footprints than banned IDs is
             // expected and does not invalidate the index.
-            banBoxes = List.copyOf(boxes);
-            banIndexComplete = true;
+            banBoxes = boxes;
+            publicBanBoxes = publicBoxes;
+            indexedBanIds = bannedClaimIds;
+            indexedPublicBanIds = publicClaimIds;
             indexedBanRevision = revision;
+            indexedLayout = layout;
+            banIndexComplete = true;
+        }
+    }
+
+    private void indexBanBox(ClaimSpatialIndex boxes, String claimId, Object claim) {
+        String worldName = claim != null ? gp.getClaimWorld(claim).orElse(null) : null;
+        GPBridge.ClaimCorners corners = claim != null ? gp.getClaimCorners(claim).orElse(null) : null;
+        if (worldName == null || corners == null) {
+            boxes.remove(claimId);
+        } else {
+            boxes.put(claimId, worldName, corners.x1, corners.z1, corners.x2, corners.z2);
+        }
+    }
+
+    private static void copyBox(ClaimSpatialIndex from, ClaimSpatialIndex to, String claimId) {
+        ClaimSpatialIndex.Bounds bounds = from.get(claimId);
+        if (bounds == null) {
+            to.remove(claimId);
+        } else {
+            to.put(claimId, bounds.world(), bounds.minX(), bounds.minZ(), bounds.maxX(), bounds.maxZ());
+        }
+    }
+
+    /**
+     * Re-box every banned claim after claims were created, resized, reshaped or deleted, whether by
+     * GriefPrevention or through {@link GPBridge}'s own reshape paths, which fire no resize event.
+     */
+    private void reboxBanIndex() {
+        synchronized (banIndexLock) {
+            long layout = gp.getClaimLayoutVersion();
+            if (!banIndexComplete || layout == indexedLayout) return;
+            for (String claimId : indexedBanIds) {
+                indexBanBox(banBoxes, claimId, gp.findClaimById(claimId).orElse(null));
+            }
+            for (String claimId : indexedPublicBanIds) {
+                copyBox(banBoxes, publicBanBoxes, claimId);
+            }
+            indexedLayout = layout;
         }
     }
 
@@ -174,9 +257,9 @@ public class BanEnforcementListener implements Listener {
         Location to = e.getTo();
         if (from.getBlockX() == to.getBlockX() && from.getBlockZ() == to.getBlockZ() && from.getWorld() == to.getWorld()) return;
 
-        // This runs for every block every player walks, so reject the common case (nowhere
-        // near a claim that bans anyone) before doing any claim lookup or config read.
-        if (!nearBannedClaim(to)) return;
+        // This runs for every block every player walks, so reject the common case (not inside
+        // a claim that bans this player or the public) before doing any claim lookup or config read.
+        if (!nearBannedClaim(player, to)) return;
 
         if (!plugin.getConfigManager().isClaimBanEntryPreventionEnabled()) {
             return;
@@ -187,7 +270,7 @@ public class BanEnforcementListener implements Listener {
         if (result == null) return;
         
         // Check if player was OUTSIDE the claim before (boundary crossing)
-        boolean wasOutside = !isInsideClaim(from, result.claim);
+        boolean wasOutside = !isInsideClaim(player, from, result.claim);
         
         if (wasOutside) {
             // BOUNDARY CROSSING - apply immediate knockback/rebound effect
@@ -217,7 +300,7 @@ public class BanEnforcementListener implements Listener {
         notifyBanned(player, "claim.ban-blocked-teleport", result.claim);
         
         // If they're currently in the claim, eject them
-        if (isInsideClaim(player.getLocation(), result.claim)) {
+        if (isInsideClaim(player, player.getLocation(), result.claim)) {
             handleDeepEjection(player, result.claim);
         }
     }
@@ -226,7 +309,7 @@ public class BanEnforcementListener implements Listener {
     public void onInteract(PlayerInteractEvent e) {
         Player p = e.getPlayer();
         Location location = p.getLocation();
-        if (!nearBannedClaim(location)) {
+        if (!nearBannedClaim(p, location)) {
             return;
         }
         if (!plugin.getConfigManager().isClaimBanEntryPreventionEnabled()) {
@@ -325,10 +408,10 @@ public class BanEnforcementListener implements Listener {
             (!banBypass.isEmpty() && player.hasPermission(banBypass))) {
             return null;
         }
-        Optional<Object> oc = gp.getClaimAt(loc, player);
-        if (!oc.isPresent()) return null;
+        // Shared with the position tracker, which records the accepted move without a second lookup
+        Object claim = positions.claimAt(player, loc);
+        if (claim == null) return null;
         
-        Object claim = oc.get();
         Object main = toMainClaim(claim);
         
         // Respect 3D subdivisions
@@ -350,14 +433,17 @@ public class BanEnforcementListener implements Listener {
     /**
      * Check if location is inside the claim boundaries.
      */
-    private boolean isInsideClaim(Location loc, Object claim) {
+    private boolean isInsideClaim(Player player, Location loc, Object claim) {
         if (loc == null || claim == null) return false;
-        Optional<Object> claimAtLoc = gp.getClaimAt(loc, null);
-        if (!claimAtLoc.isPresent()) return false;
+        // Unfollowed moves leave the tracker's recorded block behind the player; ask GP directly then
+        Object claimAtLoc = positions.followsMoves()
+                ? positions.claimAt(player, loc)
+                : gp.getClaimAt(loc, player).orElse(null);
+        if (claimAtLoc == null) return false;
         
         // Check if same claim or same parent claim
         Object main1 = toMainClaim(claim);
-        Object main2 = toMainClaim(claimAtLoc.get());
+        Object main2 = toMainClaim(claimAtLoc);
         
         Optional<String> id1 = gp.getClaimId(main1);
         Optional<String> id2 = gp.getClaimId(main2);
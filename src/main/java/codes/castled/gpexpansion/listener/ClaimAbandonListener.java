@@ -7,6 +7,7 @@ import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerCommandPreprocessEvent;
 
 import codes.castled.gpexpansion.GPExpansionPlugin;
+import codes.castled.gpexpansion.command.CommandRouter;
 import codes.castled.gpexpansion.scheduler.SchedulerAdapter;
 import codes.castled.gpexpansion.storage.ClaimDataStore;
 
@@ -23,19 +24,19 @@ public class ClaimAbandonListener implements Listener {
     
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = false)
     public void onPlayerCommandPreprocess(PlayerCommandPreprocessEvent event) {
-        String command = event.getMessage().toLowerCase();
+        CommandRouter.Invocation invocation = CommandRouter.parse(event.getMessage());
+        if (invocation == null) return;
         Player player = event.getPlayer();
         
         // Check for abandonclaim commands
-        if (command.startsWith("/abandonclaim") || command.startsWith("/claim abandon")) {
-            // Extract claim ID if present
-            String[] args = command.split(" ");
+        if (isAbandon(invocation)) {
+            String[] args = invocation.args();
             String claimId = null;
             
             // Find claim ID in arguments
-            for (int i = 1; i < args.length; i++) {
-                if (args[i].matches("\\d+")) {
-                    claimId = args[i];
+            for (String arg : args) {
+                if (CommandRouter.isNumeric(arg)) {
+                    claimId = arg;
                     break;
                 }
             }
@@ -78,12 +79,20 @@ public class ClaimAbandonListener implements Listener {
         }
     }
 
+    /** /abandonclaim, or /claim abandon and /claim abandonall. */
+    private boolean isAbandon(CommandRouter.Invocation invocation) {
+        if (invocation.route() == CommandRouter.Route.ABANDON) return true;
+        if (invocation.route() != CommandRouter.Route.CLAIM) return false;
+        CommandRouter.Subcommand sub = invocation.subcommand();
+        return sub != null && (sub.name().equals("abandon") || sub.name().equals("abandonall"));
+    }
+
     private void scheduleRentalCleanupAfterAbandon(Player player, String claimId) {
         if (!plugin.getConfigManager().isRentClearedOnAbandon()) return;
         if (claimId == null || claimId.isBlank()) return;
 
         SchedulerAdapter.runLaterEntity(plugin, player, () -> {
-            var gp = new codes.castled.gpexpansion.gp.GPBridge();
+            var gp = plugin.getGPBridge();
             if (gp.findClaimById(claimId).isPresent()) {
                 return;
             }
@@ -106,7 +115,7 @@ public class ClaimAbandonListener implements Listener {
      */
     private String getCurrentClaimId(Player player) {
         try {
-            var gp = new codes.castled.gpexpansion.gp.GPBridge();
+            var gp = plugin.getGPBridge();
             java.util.Optional<Object> claimOpt = gp.getClaimAt(player.getLocation());
             if (claimOpt.isPresent()) {
                 Object claim = claimOpt.get();
@@ -146,7 +155,7 @@ public class ClaimAbandonListener implements Listener {
     @SuppressWarnings("all")
     private boolean hasRenterSign(String claimId) {
         try {
-            var gp = new codes.castled.gpexpansion.gp.GPBridge();
+            var gp = plugin.getGPBridge();
             var claimOpt = gp.findClaimById(claimId);
             if (claimOpt.isPresent()) {
                 Object claim = claimOpt.get();
@@ -2,9 +2,10 @@ package codes.castled.gpexpansion.listener;
 
 import codes.castled.gpexpansion.GPExpansionPlugin;
 import codes.castled.gpexpansion.claimfly.ClaimFlyManager;
+import codes.castled.gpexpansion.events.PlayerClaimChangeEvent;
 import codes.castled.gpexpansion.gp.GPBridge;
+import codes.castled.gpexpansion.scheduler.PlayerTimingWheel;
 import codes.castled.gpexpansion.scheduler.SchedulerAdapter;
-import codes.castled.gpexpansion.scheduler.TaskHandle;
 import org.bukkit.GameMode;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
@@ -15,15 +16,13 @@ import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntityDamageByEntityEvent;
 import org.bukkit.event.entity.EntityDamageEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
-import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
-import org.bukkit.event.player.PlayerTeleportEvent;
+import org.bukkit.event.player.PlayerToggleFlightEvent;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
 import org.bukkit.projectiles.ProjectileSource;
 
 import java.util.EnumSet;
-import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -32,12 +31,19 @@ import java.util.concurrent.ConcurrentHashMap;
  * Listener for claim flight feature.
  * Grants flight to players with claimfly.use permission when inside claims they have access to.
  * Automatically revokes flight when leaving claims, with slow falling effect if they were flying.
+ * Claim crossings come from {@link ClaimPositionTracker}, which does the per-move claim lookup.
  */
 public class ClaimFlyListener implements Listener {
 
+    // Reconcile players whose flight can change without them moving every 2 seconds; others,
+    // in the wilderness without claim flight, only need the idle pass.
+    private static final long RECONCILE_TICKS = 40L;
+    private static final long IDLE_RECONCILE_TICKS = 200L;
+
     private final GPExpansionPlugin plugin;
     private final GPBridge gpBridge;
     private final ClaimFlyManager claimFlyManager;
+    private final ClaimPositionTracker positionTracker;
 
     // Tracks UUIDs whose current allow-flight state was granted by this listener.
     // Without this, we would strip flight that other plugins (Essentials /fly, gamemode permission, etc.)
@@ -48,18 +54,17 @@ public class ClaimFlyListener implements Listener {
     // We preserve their flight when they exit claims instead of disabling it.
     private final Set<UUID> externalFlightEnabled = ConcurrentHashMap.newKeySet();
 
-    // Track last claim for each player (replaces PlayerData.lastClaim access)
-    private final Map<UUID, Object> playerLastClaim = new ConcurrentHashMap<>();
-
-    // Per-player periodic flight reconciler. Catches state changes (gamemode, trust,
-    // permission revocation) that happen between border crossings, plus closes the
+    // Periodic flight reconciler, batched per region on the shared wheel. Catches state changes
+    // (gamemode, trust, permission revocation) that happen between border crossings, plus closes the
     // race window where setAllowFlight calls can be stomped by other plugins.
-    private final ConcurrentHashMap<UUID, TaskHandle> flightReconcilerTasks = new ConcurrentHashMap<>();
+    private final PlayerTimingWheel reconcilerWheel;
 
     public ClaimFlyListener(GPExpansionPlugin plugin) {
         this.plugin = plugin;
-        this.gpBridge = new GPBridge();
+        this.gpBridge = plugin.getGPBridge();
         this.claimFlyManager = plugin.getClaimFlyManager();
+        this.positionTracker = plugin.getClaimPositionTracker();
+        this.reconcilerWheel = plugin.getPlayerTimingWheel();
     }
 
     /**
@@ -83,17 +88,12 @@ public class ClaimFlyListener implements Listener {
         }
 
         // Initialize flight state based on whether the login location is inside a claim.
-        Object spawnClaim = gpBridge.getClaimAt(player.getLocation()).orElse(null);
-        if (spawnClaim != null) {
-            playerLastClaim.put(playerID, spawnClaim);
-        } else {
-            playerLastClaim.remove(playerID);
-        }
+        Object spawnClaim = positionTracker.refresh(player);
         reconcileFlightForClaim(player, spawnClaim);
 
         // Start periodic flight reconciliation - runs every 2 seconds while the player
-        // is online. Catches trust changes, permission revocation, and gamemode changes
-        // that the move/teleport listeners can't see.
+        // is in a claim or holds claim flight, and on the idle pass otherwise. Catches trust
+        // changes, permission revocation, and gamemode changes that crossings can't see.
         startFlightReconciler(player);
     }
 
@@ -103,9 +103,10 @@ public class ClaimFlyListener implements Listener {
         UUID playerID = player.getUniqueId();
 
         // Cancel the periodic flight reconciler for this player.
-        TaskHandle reconciler = flightReconcilerTasks.remove(playerID);
-        if (reconciler != null && reconciler.isScheduled()) {
-            reconciler.cancel();
+        reconcilerWheel.cancel(playerID);
+        // Debit the flight time charged up to now
+        if (claimFlyManager != null) {
+            claimFlyManager.stopMetering(playerID);
         }
 
         // Drop our claim-flight grant marker; reconcileFlightForClaim will re-add it
@@ -114,68 +115,30 @@ public class ClaimFlyListener implements Listener {
         
         // Clean up external flight tracking
         externalFlightEnabled.remove(playerID);
-        
-        // Clean up last claim tracking
-        playerLastClaim.remove(playerID);
     }
 
-    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
-    public void onPlayerMove(PlayerMoveEvent event) {
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onClaimChange(PlayerClaimChangeEvent event) {
         if (!isFeatureEnabled()) return;
 
-        // Only check if the player has moved a full block
-        if (event.getFrom().getBlockX() == event.getTo().getBlockX() &&
-                event.getFrom().getBlockZ() == event.getTo().getBlockZ() &&
-                event.getFrom().getBlockY() == event.getTo().getBlockY()) {
-            return;
-        }
-
         Player player = event.getPlayer();
-        UUID playerID = player.getUniqueId();
-
-        // Get the claim at the new location
-        Object toClaim = gpBridge.getClaimAt(event.getTo()).orElse(null);
-        Object fromClaim = playerLastClaim.get(playerID);
-
-        // If we're moving between claims or to/from wilderness
-        if (fromClaim != toClaim) {
-            // Update the last claim reference
-            if (toClaim != null) {
-                playerLastClaim.put(playerID, toClaim);
-            } else {
-                playerLastClaim.remove(playerID);
-            }
-
-            // Update commands to reflect the new location
-            player.updateCommands();
-
-            // Auto-toggle flight based on claim membership
-            applyClaimFlightTransition(player, fromClaim, toClaim);
+        // Update commands to reflect the new location
+        player.updateCommands();
+
+        // Auto-toggle flight based on claim membership
+        applyClaimFlightTransition(player, event.getFromClaim(), event.getToClaim());
+        // Entering a claim moves the player off the idle pass
+        if (event.getToClaim() != null || claimFlightGranted.contains(player.getUniqueId())) {
+            reconcilerWheel.expedite(player, RECONCILE_TICKS);
         }
     }
 
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
-    public void onPlayerTeleport(PlayerTeleportEvent event) {
+    public void onToggleFlight(PlayerToggleFlightEvent event) {
         if (!isFeatureEnabled()) return;
-
-        Player player = event.getPlayer();
-        UUID playerID = player.getUniqueId();
-
-        Object fromClaim = playerLastClaim.get(playerID);
-        Object toClaim = gpBridge.getClaimAt(event.getTo()).orElse(null);
-
-        // Update the lastClaim to the new location (only when teleport proceeds)
-        if (toClaim != null) {
-            playerLastClaim.put(playerID, toClaim);
-        } else {
-            playerLastClaim.remove(playerID);
-        }
-
-        // If we're moving from one claim to another, or from a claim to wilderness,
-        // we need to update the player's permissions
-        if (fromClaim != toClaim) {
-            player.updateCommands();
-            applyClaimFlightTransition(player, fromClaim, toClaim);
+        // Whether hovering is charged can hinge on flying; settle it on the next tick, once it applies
+        if (claimFlightGranted.contains(event.getPlayer().getUniqueId())) {
+            reconcilerWheel.expedite(event.getPlayer(), 1L);
         }
     }
 
@@ -226,6 +189,7 @@ public class ClaimFlyListener implements Listener {
             }
 
             claimFlightGranted.add(playerID);
+            updateFlightMetering(player);
             return;
         }
 
@@ -233,59 +197,39 @@ public class ClaimFlyListener implements Listener {
     }
 
     private void startFlightReconciler(Player player) {
-        UUID playerID = player.getUniqueId();
-
-        // If somehow already running, cancel the previous one first.
-        TaskHandle existing = flightReconcilerTasks.remove(playerID);
-        if (existing != null && existing.isScheduled()) {
-            existing.cancel();
-        }
-
-        scheduleFlightReconcilerTick(playerID);
+        // Replaces any reconcile already pending for this player; the first pass picks the cadence
+        reconcilerWheel.schedule(player, isFeatureEnabled() ? RECONCILE_TICKS : IDLE_RECONCILE_TICKS, this::reconcileTick);
     }
 
-    private void scheduleFlightReconcilerTick(UUID playerID) {
-        Player player = plugin.getServer().getPlayer(playerID);
-        if (player == null || !player.isOnline()) {
-            flightReconcilerTasks.remove(playerID);
+    private void reconcileTick(Player p) {
+        UUID playerID = p.getUniqueId();
+        if (!isFeatureEnabled()) {
+            // Undo any grant we made before the feature was switched off, then idle without any
+            // claim lookup, so a config reload can re-enable claim flight without a restart.
+            revokeClaimFlight(p);
+            reconcilerWheel.schedule(p, IDLE_RECONCILE_TICKS, this::reconcileTick);
             return;
         }
+        // Free unless the player moved untracked or claims changed since the last lookup
+        Object currentClaim = positionTracker.refresh(p);
+        reconcileFlightForClaim(p, currentClaim);
+        updateFlightMetering(p);
 
-        // When the feature is off we still tick, but slowly and without any claim lookup,
-        // so a config reload can re-enable claim flight without requiring a restart.
-        long delay = isFeatureEnabled() ? 40L : 200L;
-
-        TaskHandle handle = SchedulerAdapter.runLaterEntity(plugin, player, () -> {
-            Player p = plugin.getServer().getPlayer(playerID);
-            if (p == null || !p.isOnline()) {
-                flightReconcilerTasks.remove(playerID);
-                return;
-            }
-            if (!isFeatureEnabled()) {
-                // Undo any grant we made before the feature was switched off, then idle.
-                revokeClaimFlight(p);
-                playerLastClaim.remove(playerID);
-                scheduleFlightReconcilerTick(playerID);
-                return;
-            }
-            Object currentClaim = gpBridge.getClaimAt(p.getLocation()).orElse(null);
-            if (currentClaim != null) {
-                playerLastClaim.put(playerID, currentClaim);
-            } else {
-                playerLastClaim.remove(playerID);
-            }
-            if (claimFlightGranted.contains(playerID)
-                    && claimFlyManager != null
-                    && claimFlyManager.shouldConsumeFlightTime(p)) {
-                claimFlyManager.consume(playerID, 40L * 50L);
-            }
-            reconcileFlightForClaim(p, currentClaim);
-
-            // Reschedule the next tick.
-            scheduleFlightReconcilerTick(playerID);
-        }, delay);
+        reconcilerWheel.schedule(p, nextReconcileDelay(p, currentClaim), this::reconcileTick);
+    }
 
-        flightReconcilerTasks.put(playerID, handle);
+    /**
+     * Players holding claim flight (who are charged flight time each pass) or standing in a claim
+     * (where trust, permission or gamemode changes decide flight) are reconciled every pass. Anyone
+     * else only gains claim flight by moving into a claim, which the position tracker reports, so
+     * the idle pass just catches claims created around them.
+     */
+    private long nextReconcileDelay(Player player, Object currentClaim) {
+        if (!isFeatureEnabled()) return IDLE_RECONCILE_TICKS;
+        boolean active = currentClaim != null
+                || claimFlightGranted.contains(player.getUniqueId())
+                || player.isFlying();
+        return active ? RECONCILE_TICKS : IDLE_RECONCILE_TICKS;
     }
 
     private boolean hasClaimFlightAccess(Object claim, UUID playerID) {
@@ -317,8 +261,25 @@ public class ClaimFlyListener implements Listener {
         claimFlightGranted.add(playerId);
     }
 
+    /**
+     * Charge flight time while the player holds claim flight and is in a state that costs time. The
+     * manager debits on start and stop, so this only records transitions.
+     */
+    private void updateFlightMetering(Player player) {
+        if (claimFlyManager == null) return;
+        UUID playerID = player.getUniqueId();
+        if (claimFlightGranted.contains(playerID) && claimFlyManager.shouldConsumeFlightTime(player)) {
+            claimFlyManager.startMetering(playerID);
+        } else {
+            claimFlyManager.stopMetering(playerID);
+        }
+    }
+
     private void revokeClaimFlight(Player player) {
         UUID playerID = player.getUniqueId();
+        if (claimFlyManager != null) {
+            claimFlyManager.stopMetering(playerID);
+        }
         if (!claimFlightGranted.remove(playerID) || !player.getAllowFlight()) return;
 
         if (externalFlightEnabled.remove(playerID)) {
@@ -0,0 +1,76 @@
+package codes.castled.gpexpansion.listener;
+
+import codes.castled.gpexpansion.GPExpansionPlugin;
+import codes.castled.gpexpansion.scheduler.SchedulerAdapter;
+import me.ryanhamshire.GriefPrevention.Claim;
+import me.ryanhamshire.GriefPrevention.events.ClaimCreatedEvent;
+import me.ryanhamshire.GriefPrevention.events.ClaimDeletedEvent;
+import me.ryanhamshire.GriefPrevention.events.ClaimResizeEvent;
+import me.ryanhamshire.GriefPrevention.events.ClaimTransferEvent;
+import me.ryanhamshire.GriefPrevention.events.TrustChangedEvent;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+
+/**
+ * Keeps the GP-derived indexes current: the claim-ID, owner, trustee, spatial and geometry caches in
+ * {@link codes.castled.gpexpansion.gp.GPBridge} and the GP-derived parts of the
+ * {@link codes.castled.gpexpansion.storage.ClaimDataStore} indexes.
+ *
+ * <p>Most store indexes follow the store's own setters, but claims and their ownership live in GP,
+ * so they are cached and this listener says when they change. Creations, resizes, transfers and trust
+ * changes are deferred by a tick: GP assigns a new claim's ID only after the created event, swaps in the
+ * resized claim object after the resize event, and GP3D fires the transfer and trust events before
+ * the change is written.
+ */
+public final class ClaimIndexListener implements Listener {
+
+    private final GPExpansionPlugin plugin;
+
+    public ClaimIndexListener(GPExpansionPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onClaimCreated(ClaimCreatedEvent event) {
+        Claim claim = event.getClaim();
+        if (claim == null) return;
+        SchedulerAdapter.runLaterGlobal(plugin, () -> plugin.getGPBridge().indexClaim(claim), 1L);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onClaimDeleted(ClaimDeletedEvent event) {
+        if (event.getClaim() == null) return;
+        plugin.getGPBridge().unindexClaim(event.getClaim());
+        plugin.getClaimDataStore().invalidateClaimOwner(String.valueOf(event.getClaim().getID()));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onClaimResized(ClaimResizeEvent event) {
+        Claim resized = event.getTo();
+        if (resized == null) return;
+        SchedulerAdapter.runLaterGlobal(plugin, () -> plugin.getGPBridge().indexClaim(resized), 1L);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onClaimTransferred(ClaimTransferEvent event) {
+        Claim claim = event.getClaim();
+        if (claim == null) return;
+        String claimId = String.valueOf(claim.getID());
+        SchedulerAdapter.runLaterGlobal(plugin, () -> {
+            plugin.getGPBridge().indexClaim(claim);
+            plugin.getClaimDataStore().invalidateClaimOwner(claimId);
+        }, 1L);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onTrustChanged(TrustChangedEvent event) {
+        if (event.getClaims() == null || event.getClaims().isEmpty()) return;
+        java.util.List<Claim> claims = new java.util.ArrayList<>(event.getClaims());
+        SchedulerAdapter.runLaterGlobal(plugin, () -> {
+            for (Claim claim : claims) {
+                plugin.getGPBridge().reindexClaimTrust(claim);
+            }
+        }, 1L);
+    }
+}
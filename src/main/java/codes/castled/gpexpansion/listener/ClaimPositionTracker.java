@@ -0,0 +1,150 @@
+package codes.castled.gpexpansion.listener;
+
+import codes.castled.gpexpansion.GPExpansionPlugin;
+import codes.castled.gpexpansion.events.PlayerClaimChangeEvent;
+import codes.castled.gpexpansion.gp.GPBridge;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One claim lookup per block a player moves to, shared by every feature that cares which claim a
+ * player is in.
+ *
+ * <p>Each player's last resolved block and claim is remembered, along with the
+ * {@link GPBridge#getClaimLayoutVersion() claim layout version} it was resolved under, so asking again
+ * for the same block is free until a claim is created, resized or deleted. A HIGHEST-priority listener
+ * that needs the destination's claim before a move is allowed resolves it through
+ * {@link #claimAt(Player, Location)}, and the MONITOR pass that records the accepted move reuses that
+ * answer instead of asking GriefPrevention a second time.
+ *
+ * <p>Transitions are published as {@link PlayerClaimChangeEvent}. Moves are only followed while a
+ * feature acts on transitions (claim flight, or current-claim placeholders once
+ * {@link #followMoves()} is called); {@link #refresh(Player)} catches up on demand otherwise.
+ */
+public final class ClaimPositionTracker implements Listener {
+
+    /** A resolved block: world, block coordinates, layout version and the claim found there. */
+    private record Position(UUID world, int x, int y, int z, long layout, Object claim) {
+        boolean matches(Location location, long currentLayout) {
+            return layout == currentLayout
+                    && x == location.getBlockX()
+                    && y == location.getBlockY()
+                    && z == location.getBlockZ()
+                    && location.getWorld() != null
+                    && world.equals(location.getWorld().getUID());
+        }
+    }
+
+    private final GPExpansionPlugin plugin;
+    private final GPBridge gp;
+
+    /** Where each player was last recorded as standing. */
+    private final Map<UUID, Position> current = new ConcurrentHashMap<>();
+    /** The last destination looked up for each player that has not been recorded yet. */
+    private final Map<UUID, Position> pending = new ConcurrentHashMap<>();
+    private volatile boolean following;
+
+    public ClaimPositionTracker(GPExpansionPlugin plugin) {
+        this.plugin = plugin;
+        this.gp = plugin.getGPBridge();
+    }
+
+    /**
+     * The claim at a location for this player, or null for the wilderness. Answers from the player's
+     * recorded or pending block when it matches, so a move checked by several listeners costs one lookup.
+     */
+    public Object claimAt(Player player, Location location) {
+        Position position = resolve(player, location);
+        return position != null ? position.claim() : null;
+    }
+
+    /**
+     * Record the player at their current block and return the claim there. Only looks the claim up
+     * when the player moved without a tracked event or claims changed since, and calls
+     * {@link PlayerClaimChangeEvent} if that changed the claim.
+     */
+    public Object refresh(Player player) {
+        return record(player, player.getLocation());
+    }
+
+    /** Follow every block-crossing move and teleport from now on, whatever the claim flight setting. */
+    public void followMoves() {
+        following = true;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerMove(PlayerMoveEvent event) {
+        Location from = event.getFrom();
+        Location to = event.getTo();
+        if (from.getBlockX() == to.getBlockX()
+                && from.getBlockY() == to.getBlockY()
+                && from.getBlockZ() == to.getBlockZ()
+                && from.getWorld() == to.getWorld()) {
+            return;
+        }
+        if (!followsMoves()) return;
+        record(event.getPlayer(), to);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerTeleport(PlayerTeleportEvent event) {
+        if (!followsMoves()) return;
+        record(event.getPlayer(), event.getTo());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        UUID playerId = event.getPlayer().getUniqueId();
+        current.remove(playerId);
+        pending.remove(playerId);
+    }
+
+    /**
+     * Whether every move and teleport is being recorded. When not, a player's recorded block may lag
+     * behind where they stand, so callers that need the claim under a player should look it up.
+     */
+    public boolean followsMoves() {
+        return following || plugin.getConfigManager().isClaimFlightEnabled();
+    }
+
+    private Position resolve(Player player, Location location) {
+        if (location == null || location.getWorld() == null) return null;
+        UUID playerId = player.getUniqueId();
+        long layout = gp.getClaimLayoutVersion();
+        Position known = current.get(playerId);
+        if (known != null && known.matches(location, layout)) return known;
+        known = pending.get(playerId);
+        if (known != null && known.matches(location, layout)) return known;
+
+        Object claim = gp.getClaimAt(location, player).orElse(null);
+        Position resolved = new Position(location.getWorld().getUID(), location.getBlockX(),
+                location.getBlockY(), location.getBlockZ(), layout, claim);
+        pending.put(playerId, resolved);
+        return resolved;
+    }
+
+    private Object record(Player player, Location location) {
+        Position next = resolve(player, location);
+        if (next == null) return null;
+        UUID playerId = player.getUniqueId();
+        pending.remove(playerId);
+        Position previous = current.put(playerId, next);
+        // The first position recorded for a player is a baseline, not a crossing
+        if (previous != null && previous.claim() != next.claim()) {
+            Bukkit.getPluginManager().callEvent(
+                    new PlayerClaimChangeEvent(player, previous.claim(), next.claim(), location.clone()));
+        }
+        return next.claim();
+    }
+}
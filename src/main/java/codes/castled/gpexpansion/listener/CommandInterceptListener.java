@@ -2,7 +2,6 @@ package codes.castled.gpexpansion.listener;
 
 import org.bukkit.Bukkit;
 import org.bukkit.OfflinePlayer;
-import org.bukkit.command.Command;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
@@ -12,6 +11,7 @@ import org.bukkit.event.server.TabCompleteEvent;
 
 import codes.castled.gpexpansion.GPExpansionPlugin;
 import codes.castled.gpexpansion.command.ClaimCommand;
+import codes.castled.gpexpansion.command.CommandRouter;
 import codes.castled.gpexpansion.gp.GPBridge;
 import codes.castled.gpexpansion.storage.ClaimDataStore;
 
@@ -23,154 +23,84 @@ import java.util.UUID;
 public class CommandInterceptListener implements Listener {
 
     private final GPExpansionPlugin plugin;
-    private final GPBridge gp = new GPBridge();
+    private final GPBridge gp;
 
     public CommandInterceptListener(GPExpansionPlugin plugin) {
         this.plugin = plugin;
+        this.gp = plugin.getGPBridge();
     }
 
     @EventHandler(priority = EventPriority.HIGHEST)
     public void onPreprocess(PlayerCommandPreprocessEvent event) {
-        String msg = event.getMessage();
-        if (msg == null) return;
-        if (!msg.startsWith("/")) return;
-        String noSlash = msg.substring(1);
-        // Ignore if explicitly namespaced already
-        if (noSlash.startsWith("gpexpansion:claim")) return;
+        // Unrelated and namespaced commands (including gpexpansion:claim) come back null
+        CommandRouter.Invocation invocation = CommandRouter.parse(event.getMessage());
+        if (invocation == null) return;
+        String[] args = invocation.args();
+        ClaimCommand claimCmd = plugin.getClaimCommand();
 
-        String lower = noSlash.toLowerCase();
-        if (lower.equals("claim") || lower.startsWith("claim ")) {
-            if (plugin.isGp3dClaimMode()) {
-                // GP3D present: only intercept our subcommands, let GP3D handle the rest (e.g. /claim help)
-                String sub = noSlash.length() > 5 ? noSlash.substring(5).trim().split("\\s+")[0].toLowerCase() : "";
-                boolean weHandle = sub.isEmpty() || ClaimCommand.HANDLED_SUBCOMMANDS.contains(sub);
-                if (weHandle) {
-                    ClaimCommand claimCmd = plugin.getClaimCommand();
-                    if (claimCmd != null) {
-                        String[] args = noSlash.length() > 5 ? noSlash.substring(5).trim().split("\\s+", -1) : new String[0];
-                        Command stub = new Command("claim") {
-                            @Override
-                            public boolean execute(org.bukkit.command.CommandSender sender, String commandLabel, String[] args) {
-                                return false;
-                            }
-                        };
+        switch (invocation.route()) {
+            case CLAIM -> {
+                if (plugin.isGp3dClaimMode()) {
+                    // GP3D present: only intercept our subcommands, let GP3D handle the rest (e.g. /claim help)
+                    CommandRouter.Subcommand sub = invocation.subcommand();
+                    boolean weHandle = args.length == 0 || (sub != null && sub.intercepted());
+                    if (weHandle && claimCmd != null) {
                         event.setCancelled(true);
-                        claimCmd.onCommand(event.getPlayer(), stub, "claim", args);
+                        claimCmd.onCommand(event.getPlayer(), CommandRouter.stub("claim"), "claim", args);
                     }
+                } else {
+                    // GPExpansion owns /claim: reroute to our namespaced handler
+                    event.setCancelled(true);
+                    Bukkit.dispatchCommand(event.getPlayer(), "gpexpansion:claim" + (args.length == 0 ? "" : " " + invocation.rest()));
                 }
-            } else {
-                // GPExpansion owns /claim: reroute to our namespaced handler
-                String rest = noSlash.length() > 5 ? noSlash.substring(5).trim() : "";
-                String reroute = "gpexpansion:claim" + (rest.isEmpty() ? "" : " " + rest);
-                event.setCancelled(true);
-                Bukkit.dispatchCommand(event.getPlayer(), reroute);
             }
-            return;
-        }
-
-        if (isStandaloneTrustCommand(lower)) {
-            if ((lower.equals("untrust") || lower.startsWith("untrust ")) && interceptUntrustCommand(event)) {
-                return;
-            }
-            ClaimCommand claimCmd = plugin.getClaimCommand();
-            if (claimCmd != null) {
-                event.setCancelled(true);
-                String[] args = noSlash.trim().split("\\s+", -1);
-                Command stub = new Command(args[0].toLowerCase(Locale.ROOT)) {
-                    @Override
-                    public boolean execute(org.bukkit.command.CommandSender sender, String commandLabel, String[] a) {
-                        return false;
-                    }
-                };
-                String[] claimArgs = new String[args.length];
-                claimArgs[0] = args[0].toLowerCase(Locale.ROOT);
-                if (args.length > 1) {
-                    System.arraycopy(args, 1, claimArgs, 1, args.length - 1);
+            case TRUST -> {
+                String label = invocation.label();
+                if (label.equals("untrust") && interceptUntrustCommand(event, args)) {
+                    return;
+                }
+                if (claimCmd != null) {
+                    event.setCancelled(true);
+                    String[] claimArgs = new String[args.length + 1];
+                    claimArgs[0] = label;
+                    System.arraycopy(args, 0, claimArgs, 1, args.length);
+                    claimCmd.onCommand(event.getPlayer(), CommandRouter.stub(label), label, claimArgs);
                 }
-                claimCmd.onCommand(event.getPlayer(), stub, args[0].toLowerCase(Locale.ROOT), claimArgs);
             }
-            return;
-        }
-
-        if (lower.equals("expandclaim") || lower.equals("extendclaim")) {
-            ClaimCommand claimCmd = plugin.getClaimCommand();
-            if (claimCmd != null) {
-                event.setCancelled(true);
-                Command stub = new Command("resizeclaim") {
-                    @Override
-                    public boolean execute(org.bukkit.command.CommandSender sender, String commandLabel, String[] a) {
-                        return false;
-                    }
-                };
-                claimCmd.onCommand(event.getPlayer(), stub, "resizeclaim", new String[0]);
-                return;
+            case RESIZE -> {
+                // Only the bare GP-native aliases; /resizeclaim is ours already
+                if (claimCmd != null && args.length == 0 && !invocation.label().equals("resizeclaim")) {
+                    event.setCancelled(true);
+                    claimCmd.onCommand(event.getPlayer(), CommandRouter.stub("resizeclaim"), "resizeclaim", args);
+                }
             }
-        }
-
-        // Support overriding /claimlist and /claimslist by rerouting to our /claim list
-        if (lower.equals("claimlist") || lower.startsWith("claimlist ") || lower.equals("claimslist") || lower.startsWith("claimslist ")) {
-            int prefixLen = lower.startsWith("claimslist") ? 10 : 9;
-            ClaimCommand claimCmd = plugin.getClaimCommand();
-            if (claimCmd != null) {
-                event.setCancelled(true);
-                String rest = noSlash.length() > prefixLen ? noSlash.substring(prefixLen).trim() : "";
-                String[] args = rest.isEmpty() ? new String[]{"list"} : ("list " + rest).split("\\s+", -1);
-                Command stub = new Command("claimlist") {
-                    @Override
-                    public boolean execute(org.bukkit.command.CommandSender sender, String commandLabel, String[] a) {
-                        return false;
-                    }
-                };
-                claimCmd.onCommand(event.getPlayer(), stub, "claimlist", args);
-            } else if (!plugin.isGp3dClaimMode()) {
-                // GPExpansion owns /claim: reroute to namespaced handler
-                event.setCancelled(true);
-                String rest = noSlash.length() > prefixLen ? noSlash.substring(prefixLen).trim() : "";
-                Bukkit.dispatchCommand(event.getPlayer(), "gpexpansion:claim list" + (rest.isEmpty() ? "" : " " + rest));
+            case CLAIM_LIST -> {
+                // Support overriding /claimlist and /claimslist by rerouting to our /claim list
+                if (claimCmd != null) {
+                    event.setCancelled(true);
+                    String[] listArgs = new String[args.length + 1];
+                    listArgs[0] = "list";
+                    System.arraycopy(args, 0, listArgs, 1, args.length);
+                    claimCmd.onCommand(event.getPlayer(), CommandRouter.stub("claimlist"), "claimlist", listArgs);
+                } else if (!plugin.isGp3dClaimMode()) {
+                    // GPExpansion owns /claim: reroute to namespaced handler
+                    event.setCancelled(true);
+                    Bukkit.dispatchCommand(event.getPlayer(), "gpexpansion:claim list" + (args.length == 0 ? "" : " " + invocation.rest()));
+                }
             }
-            return;
-        }
-
-        // Support overriding /adminclaimlist and /adminclaimslist with our enhanced display (ID + name)
-        if (lower.equals("adminclaimlist") || lower.startsWith("adminclaimlist ") || lower.equals("adminclaimslist") || lower.startsWith("adminclaimslist ")) {
-            int prefixLen = lower.startsWith("adminclaimslist") ? 15 : 14;
-            ClaimCommand claimCmd = plugin.getClaimCommand();
-            if (claimCmd != null) {
-                event.setCancelled(true);
-                String rest = noSlash.length() > prefixLen ? noSlash.substring(prefixLen).trim() : "";
-                String[] args = rest.isEmpty() ? new String[0] : rest.split("\\s+", -1);
-                Command stub = new Command("adminclaimlist") {
-                    @Override
-                    public boolean execute(org.bukkit.command.CommandSender sender, String commandLabel, String[] a) {
-                        return false;
-                    }
-                };
-                claimCmd.onCommand(event.getPlayer(), stub, "adminclaimlist", args);
+            case ADMIN_CLAIM_LIST -> {
+                // Support overriding /adminclaimlist and /adminclaimslist with our enhanced display (ID + name)
+                if (claimCmd != null) {
+                    event.setCancelled(true);
+                    claimCmd.onCommand(event.getPlayer(), CommandRouter.stub("adminclaimlist"), "adminclaimlist", args);
+                }
             }
-            return;
-        }
-
-        // Intercept untrust commands to prevent untrusting renters
-        if (lower.equals("untrust") || lower.startsWith("untrust ")) {
-            if (interceptUntrustCommand(event)) {
-                return;
+            default -> {
+                // Our other labels are registered commands and reach ClaimCommand directly
             }
         }
     }
 
-    private boolean isStandaloneTrustCommand(String lower) {
-        return lower.equals("trust")
-            || lower.startsWith("trust ")
-            || lower.equals("untrust")
-            || lower.startsWith("untrust ")
-            || lower.equals("accesstrust")
-            || lower.startsWith("accesstrust ")
-            || lower.equals("containertrust")
-            || lower.startsWith("containertrust ")
-            || lower.equals("permissiontrust")
-            || lower.startsWith("permissiontrust ");
-    }
-
     /**
      * When GP3D owns /claim, inject our sub-arg completions for snapshot and evict so that
      * "/claim snapshot " and "/claim evict " get list/remove/create and cancel/status/ etc.
@@ -178,28 +108,15 @@ public class CommandInterceptListener implements Listener {
     @EventHandler(priority = EventPriority.NORMAL)
     public void onTabComplete(TabCompleteEvent event) {
         if (!plugin.isGp3dClaimMode()) return;
-        String buffer = event.getBuffer();
-        if (buffer == null) return;
-        String trimmed = buffer.trim();
-        if (!trimmed.startsWith("/claim") && !trimmed.startsWith("claim")) return;
-        // Parse args: first token is /claim or claim, rest are args
-        String afterCommand = trimmed.startsWith("/") ? trimmed.substring(1) : trimmed;
-        int claimLen = "claim".length();
-        if (afterCommand.length() > claimLen && !Character.isWhitespace(afterCommand.charAt(claimLen))) return;
-        String argsStr = afterCommand.length() > claimLen ? afterCommand.substring(claimLen).trim() : "";
-        String[] args = argsStr.isEmpty() ? new String[0] : argsStr.split("\\s+", -1);
+        CommandRouter.Invocation invocation = CommandRouter.parseCompletion(event.getBuffer());
+        if (invocation == null || invocation.route() != CommandRouter.Route.CLAIM) return;
+        String[] args = invocation.args();
         if (args.length == 0) return;
-        String first = (args[0] != null ? args[0].trim() : "").toLowerCase(Locale.ROOT);
+        String first = args[0].toLowerCase(Locale.ROOT);
         if (!"snapshot".equals(first) && !"evict".equals(first)) return;
         ClaimCommand claimCmd = plugin.getClaimCommand();
         if (claimCmd == null) return;
-        org.bukkit.command.Command stub = new org.bukkit.command.Command("claim") {
-            @Override
-            public boolean execute(org.bukkit.command.CommandSender sender, String commandLabel, String[] a) {
-                return false;
-            }
-        };
-        List<String> ours = claimCmd.onTabComplete(event.getSender(), stub, "claim", args);
+        List<String> ours = claimCmd.onTabComplete(event.getSender(), CommandRouter.stub("claim"), "claim", args);
         if (ours != null && !ours.isEmpty()) {
             List<String> current = event.getCompletions();
             for (String s : ours) {
@@ -208,15 +125,11 @@ public class CommandInterceptListener implements Listener {
         }
     }
 
-    private boolean interceptUntrustCommand(PlayerCommandPreprocessEvent event) {
+    private boolean interceptUntrustCommand(PlayerCommandPreprocessEvent event, String[] args) {
         Player player = event.getPlayer();
-        String command = event.getMessage();
-
-        // Parse the untrust command to get the target player name
-        String[] parts = command.split("\\s+");
-        if (parts.length < 2) return false; // Not enough arguments
+        if (args.length < 1) return false; // Not enough arguments
 
-        String targetName = parts[1];
+        String targetName = args[0];
 
         // Resolve target player UUID
         UUID targetUuid = null;
@@ -234,7 +147,7 @@ public class CommandInterceptListener implements Listener {
 
         // Check if the target is renting any claims owned by this player
         ClaimDataStore dataStore = plugin.getClaimDataStore();
-        for (var entry : dataStore.getAllRentals().entrySet()) {
+        for (var entry : dataStore.getRentalsForRenter(targetUuid).entrySet()) {
             String claimId = entry.getKey();
             ClaimDataStore.RentalData rental = entry.getValue();
             if (rental != null && rental.renter.equals(targetUuid)) {
@@ -93,7 +93,7 @@ public class MailboxListener implements Listener {
 
     public MailboxListener(GPExpansionPlugin plugin) {
         this.plugin = plugin;
-        this.gp = new GPBridge();
+        this.gp = plugin.getGPBridge();
         this.claimDataStore = plugin.getClaimDataStore();
         
         // Note: GP3D detection is delayed until needed
@@ -219,6 +219,7 @@ public class MailboxListener implements Listener {
                     front.line(2, net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer.legacySection().deserialize("§0(Click to buy)"));
                     front.line(3, net.kyori.adventure.text.Component.empty());
                     sign.update(true);
+                    plugin.getManagedSignRegistry().register(signBlock);
                 }
             });
             plugin.getMessages().send(player, "mailbox.buyable-created");
@@ -339,6 +340,7 @@ public class MailboxListener implements Listener {
                 front.line(2, net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer.legacySection().deserialize("§0(Click to open)"));
                 front.line(3, net.kyori.adventure.text.Component.empty());
                 sign.update(true);
+                plugin.getManagedSignRegistry().register(signBlock);
             }
         });
 
@@ -354,15 +356,14 @@ public class MailboxListener implements Listener {
                 gp.getClaimId(child).ifPresent(claimIds::add);
             }
         } catch (Exception ignored) {}
-        for (Map.Entry<String, UUID> e : claimDataStore.getAllMailboxes().entrySet()) {
-            if (!e.getValue().equals(playerId)) continue;
-            if (claimIds.contains(e.getKey())) {
+        for (String mailboxId : claimDataStore.getMailboxesOwnedBy(playerId)) {
+            if (claimIds.contains(mailboxId)) {
                 count++;
                 continue;
             }
             // Virtual mailbox: count if container is inside this parent claim
-            if (e.getKey().startsWith("v:")) {
-                Location containerLoc = claimDataStore.getMailboxContainerLocation(e.getKey()).orElse(null);
+            if (mailboxId.startsWith("v:")) {
+                Location containerLoc = claimDataStore.getMailboxContainerLocation(mailboxId).orElse(null);
                 if (containerLoc != null) {
                     java.util.Optional<Object> at = gp.getClaimAt(containerLoc);
                     if (at.isPresent()) {
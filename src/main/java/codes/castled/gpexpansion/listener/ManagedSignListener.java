@@ -0,0 +1,53 @@
+package codes.castled.gpexpansion.listener;
+
+import codes.castled.gpexpansion.GPExpansionPlugin;
+import codes.castled.gpexpansion.sign.CountdownSignScheduler;
+import codes.castled.gpexpansion.sign.ManagedSignRegistry;
+import org.bukkit.Tag;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+
+/**
+ * Keeps the {@link ManagedSignRegistry} in step with the world: chunks are scanned for managed
+ * signs as they load and forgotten as they unload, and broken signs are dropped straight away.
+ * Sign creation registers itself where {@code sign.kind} is written. Rent signs whose countdown
+ * woke while their chunk was unloaded resume when it loads.
+ */
+public final class ManagedSignListener implements Listener {
+
+    private final ManagedSignRegistry registry;
+    private final CountdownSignScheduler countdowns;
+
+    public ManagedSignListener(GPExpansionPlugin plugin) {
+        this.registry = plugin.getManagedSignRegistry();
+        this.countdowns = plugin.getCountdownSignScheduler();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkLoad(ChunkLoadEvent event) {
+        registry.scanChunk(event.getChunk());
+        countdowns.chunkLoaded(event.getChunk());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        registry.unloadChunk(event.getChunk());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onWorldUnload(WorldUnloadEvent event) {
+        registry.unloadWorld(event.getWorld());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBreak(BlockBreakEvent event) {
+        if (Tag.ALL_SIGNS.isTagged(event.getBlock().getType())) {
+            registry.unregister(event.getBlock());
+        }
+    }
+}
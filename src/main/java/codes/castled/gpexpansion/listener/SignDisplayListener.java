@@ -13,6 +13,7 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
 
@@ -20,9 +21,12 @@ import codes.castled.gpexpansion.GPExpansionPlugin;
 import codes.castled.gpexpansion.sign.RentalSignManager;
 import codes.castled.gpexpansion.util.EcoKind;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class SignDisplayListener implements Listener {
     private final GPExpansionPlugin plugin;
@@ -40,6 +44,9 @@ public class SignDisplayListener implements Listener {
 
     private final Map<java.util.UUID, Long> lastScan = new HashMap<>();
     private final Map<java.util.UUID, Long> lastAnimate = new HashMap<>();
+    // Renter -> their rent signs last sent as [Renew], with when
+    private final Map<UUID, Map<Location, Long>> renewShown = new ConcurrentHashMap<>();
+    private static final long RENEW_RESEND_MS = 5000L;
 
     public SignDisplayListener(GPExpansionPlugin plugin) {
         this.plugin = plugin;
@@ -80,152 +87,199 @@ public class SignDisplayListener implements Listener {
     }
 
     /**
-     * Scan signs near the given location and update displays (eviction countdown, [Renew], etc).
-     * Called from onPlayerMove and from periodic eviction tick. No throttle when called from periodic.
+     * Update the managed signs near the given location for this player (eviction countdown, [Renew],
+     * etc). Countdowns also advance without anyone moving through the countdown scheduler.
      */
-    @SuppressWarnings("null")
     public void scanAndUpdateSignsNear(Player p, Location base, long now) {
-        // Scan nearby 4-block radius cube
-        int r = 4;
-        for (int dx = -r; dx <= r; dx++) {
-            for (int dy = -r; dy <= r; dy++) {
-                for (int dz = -r; dz <= r; dz++) {
-                    Block b = base.getWorld().getBlockAt(base.getBlockX() + dx, base.getBlockY() + dy, base.getBlockZ() + dz);
-                    Material type = b.getType();
-                    if (!type.name().endsWith("_SIGN") && !type.name().endsWith("_WALL_SIGN")) continue;
-                    Sign sign = (Sign) b.getState();
-                    PersistentDataContainer pdc = sign.getPersistentDataContainer();
-                    if (!pdc.has(keyKind, PersistentDataType.STRING)) continue;
-                    String signType = pdc.get(keyKind, PersistentDataType.STRING);
-                    String claimId = pdc.get(keyClaim, PersistentDataType.STRING);
-                    String renterStr = pdc.get(keyRenter, PersistentDataType.STRING);
-                    Long expiry = pdc.get(keyExpiry, PersistentDataType.LONG);
-                    boolean isRented = renterStr != null && expiry != null && expiry > now;
-                    boolean isRenter = isRented && renterStr.equalsIgnoreCase(p.getUniqueId().toString());
-                    
-                    // Check if this is a mailbox and handle display
-                    if ("MAILBOX".equals(signType)) {
-                        codes.castled.gpexpansion.storage.ClaimDataStore dataStore = plugin.getClaimDataStore();
-                        if (dataStore.isMailbox(claimId)) {
-                            UUID owner = dataStore.getMailboxOwner(claimId).orElse(null);
-                            if (owner != null) {
-                                String ownerName = Bukkit.getOfflinePlayer(owner).getName();
-                                if (ownerName == null) ownerName = "Unknown";
-                                
-                                // Update sign display for owned mailbox
-                                org.bukkit.block.sign.SignSide front = sign.getSide(org.bukkit.block.sign.Side.FRONT);
-                                net.kyori.adventure.text.Component line0 = front.line(0);
-                                String line0Str = PlainTextComponentSerializer.plainText().serialize(line0 != null ? line0 : net.kyori.adventure.text.Component.empty());
-                                String expectedLine0 = PlainTextComponentSerializer.plainText().serialize(getMailboxHeader(b));
-                                if (!line0Str.equals(expectedLine0)) {
-                                    front.line(0, getMailboxHeader(b));
-                                    front.line(1, LegacyComponentSerializer.legacySection().deserialize("§a" + ownerName));
-                                    front.line(2, LegacyComponentSerializer.legacySection().deserialize("§0(Click to open)"));
-                                    front.line(3, net.kyori.adventure.text.Component.empty());
-                                    sign.update();
-                                }
-                            }
-                        }
-                        // Continue to next sign for mailboxes
-                        continue;
-                    }
+        // Only registered managed signs in the 4-block cube around the player, not every block in it
+        for (Block b : plugin.getManagedSignRegistry().signsNear(base, 4)) {
+            updateSignDisplay(p, b, now);
+        }
+    }
 
-                    // Toggle display for renter near sign
-                    org.bukkit.block.sign.SignSide front = sign.getSide(org.bukkit.block.sign.Side.FRONT);
-                    net.kyori.adventure.text.Component line0Comp = front.line(0);
-                    String line0Plain = PlainTextComponentSerializer.plainText().serialize(line0Comp != null ? line0Comp : net.kyori.adventure.text.Component.empty());
-                    
-                    // Check eviction state for this claim
-                    codes.castled.gpexpansion.storage.ClaimDataStore dataStore = plugin.getClaimDataStore();
-                    codes.castled.gpexpansion.storage.ClaimDataStore.EvictionData eviction = (claimId != null && !claimId.isEmpty())
-                        ? dataStore.getEviction(claimId).orElse(null) : null;
-                    long nowMs = System.currentTimeMillis();
-                    boolean evictionPending = eviction != null && nowMs < eviction.effectiveAt;
-                    boolean evictionEffective = eviction != null && nowMs >= eviction.effectiveAt;
-                    long evictionRemaining = evictionPending ? (eviction.effectiveAt - nowMs) : 0;
+    @SuppressWarnings("null")
+    private void updateSignDisplay(Player p, Block b, long now) {
+        if (!refreshSharedDisplay(b, now)) return;
+        // The shared refresh may have reset or removed the sign
+        if (!(b.getState() instanceof Sign sign)) return;
+        PersistentDataContainer pdc = sign.getPersistentDataContainer();
+        String signType = pdc.get(keyKind, PersistentDataType.STRING);
+        if (signType == null || "MAILBOX".equals(signType)) return;
+        String claimId = pdc.get(keyClaim, PersistentDataType.STRING);
+        String renterStr = pdc.get(keyRenter, PersistentDataType.STRING);
+        Long expiry = pdc.get(keyExpiry, PersistentDataType.LONG);
+        boolean isRented = renterStr != null && expiry != null && expiry > now;
+        boolean isRenter = isRented && renterStr.equalsIgnoreCase(p.getUniqueId().toString());
+        boolean evictionPending = claimId != null && !claimId.isEmpty() && plugin.getClaimDataStore().getEviction(claimId)
+            .map(eviction -> now < eviction.effectiveAt).orElse(false);
 
-                    // Auto-reset sign when eviction has become effective (no sneak+break needed)
-                    if (evictionEffective && "RENT".equals(signType)) {
-                        plugin.getRentalSignManager().resetRentalSign(b, RentalSignManager.ResetCause.EVICT);
-                        continue; // resetRentalSign updated the sign; skip display logic this tick
-                    }
+        // The renter alone sees [Renew]; the sign itself keeps [Rented] for everyone else
+        if (isRenter && !evictionPending) {
+            showRenewTo(p, b, sign, now);
+        }
 
-                    // Auto-reset when rental has naturally expired (no eviction was started)
-                    if ("RENT".equals(signType) && renterStr != null && expiry != null && expiry <= nowMs && eviction == null) {
-                        plugin.getRentalSignManager().resetRentalSign(b, RentalSignManager.ResetCause.EXPIRE);
-                        if (plugin.getConfigManager().areExpiredRentSignsAutoRemoved()) {
-                            b.setType(Material.AIR);
-                        }
-                        continue;
-                    }
+        // Animate item name when player is looking at this sign
+        Block target = p.getTargetBlockExact(5);
+        if (target != null && target.getLocation().equals(b.getLocation())) {
+            long la = lastAnimate.getOrDefault(p.getUniqueId(), 0L);
+            if (now - la >= 200L) { // animate every 0.2s while looking
+                lastAnimate.put(p.getUniqueId(), now);
+                animateItemLine(sign, pdc);
+            }
+        }
+    }
 
-                    // When eviction is pending: always show [Evicted] for everyone (not per-player)
-                    if (evictionPending) {
-                        if (!line0Plain.equalsIgnoreCase("[Evicted]")) {
-                            front.line(0, LegacyComponentSerializer.legacySection().deserialize("§4§l[Evicted]"));
-                        }
-                        front.line(2, LegacyComponentSerializer.legacySection().deserialize("§4Remaining Time"));
-                        front.line(3, LegacyComponentSerializer.legacySection().deserialize("§c" + formatDuration(evictionRemaining)));
+    /**
+     * Bring the parts of a managed sign that every viewer sees up to date: the mailbox header, the
+     * [Evicted] countdown, and the automatic reset once an eviction or rental has run out. Writes the
+     * sign only when its text actually changes. Called on the sign's region thread by players moving
+     * nearby and by the {@link codes.castled.gpexpansion.sign.CountdownSignScheduler}.
+     *
+     * @return false if the block is no longer a managed sign
+     */
+    @SuppressWarnings("null")
+    public boolean refreshSharedDisplay(Block b, long now) {
+        Material type = b.getType();
+        if (!(b.getState() instanceof Sign sign)) return false;
+        PersistentDataContainer pdc = sign.getPersistentDataContainer();
+        if (!pdc.has(keyKind, PersistentDataType.STRING)) return false;
+        String signType = pdc.get(keyKind, PersistentDataType.STRING);
+        String claimId = pdc.get(keyClaim, PersistentDataType.STRING);
+        String renterStr = pdc.get(keyRenter, PersistentDataType.STRING);
+        Long expiry = pdc.get(keyExpiry, PersistentDataType.LONG);
+        boolean isRented = renterStr != null && expiry != null && expiry > now;
+        
+        // Check if this is a mailbox and handle display
+        if ("MAILBOX".equals(signType)) {
+            codes.castled.gpexpansion.storage.ClaimDataStore dataStore = plugin.getClaimDataStore();
+            if (dataStore.isMailbox(claimId)) {
+                UUID owner = dataStore.getMailboxOwner(claimId).orElse(null);
+                if (owner != null) {
+                    String ownerName = Bukkit.getOfflinePlayer(owner).getName();
+                    if (ownerName == null) ownerName = "Unknown";
+                    
+                    // Update sign display for owned mailbox
+                    org.bukkit.block.sign.SignSide front = sign.getSide(org.bukkit.block.sign.Side.FRONT);
+                    net.kyori.adventure.text.Component line0 = front.line(0);
+                    String line0Str = PlainTextComponentSerializer.plainText().serialize(line0 != null ? line0 : net.kyori.adventure.text.Component.empty());
+                    String expectedLine0 = PlainTextComponentSerializer.plainText().serialize(getMailboxHeader(b));
+                    if (!line0Str.equals(expectedLine0)) {
+                        front.line(0, getMailboxHeader(b));
+                        front.line(1, LegacyComponentSerializer.legacySection().deserialize("§a" + ownerName));
+                        front.line(2, LegacyComponentSerializer.legacySection().deserialize("§0(Click to open)"));
+                        front.line(3, net.kyori.adventure.text.Component.empty());
                         sign.update();
-                        continue;
                     }
+                }
+            }
+            // Nothing else to display for mailboxes
+            return true;
+        }
 
-                    // No eviction pending: show [Renew] for renter, [Rented] for others when rented
-                    if (isRenter) {
-                        if (!line0Plain.equalsIgnoreCase("[Renew]")) {
-                            front.line(0, LegacyComponentSerializer.legacySection().deserialize("§a§l[Renew]"));
-                            sign.update();
-                        }
-                    } else {
-                        if (line0Plain.equalsIgnoreCase("[Renew]") || line0Plain.equalsIgnoreCase("[Evicted]")) {
-                            if (isRented) {
-                                front.line(0, LegacyComponentSerializer.legacySection().deserialize("§c§l[Rented]"));
-                                String renterName = resolveRenterName(renterStr);
-                                front.line(1, LegacyComponentSerializer.legacySection().deserialize("§0" + renterName));
-                                String ecoAmt = pdc.get(keyEcoAmt, PersistentDataType.STRING);
-                                String ecoKindStr = pdc.get(keyEcoKind, PersistentDataType.STRING);
-                                String perClick = pdc.get(keyPerClick, PersistentDataType.STRING);
-                                String maxCap = pdc.get(keyMaxCap, PersistentDataType.STRING);
-                                if (ecoAmt == null) ecoAmt = "";
-                                if (perClick == null) perClick = "";
-                                if (maxCap == null) maxCap = "";
-                                String ecoFormatted = formatEcoForSign(ecoKindStr, ecoAmt);
-                                front.line(2, LegacyComponentSerializer.legacySection().deserialize("§0" + ecoFormatted + "§0/" + perClick));
-                                front.line(3, LegacyComponentSerializer.legacySection().deserialize("§0Max: " + maxCap));
-                            } else {
-                                boolean hanging = isHangingSign(type);
-                                String kind = pdc.get(keyKind, PersistentDataType.STRING);
-                                String displayKey = "RENT".equals(kind)
-                                    ? (hanging ? "sign-interaction.sign-display-rent-hanging" : "sign-interaction.sign-display-rent-full")
-                                    : (hanging ? "sign-interaction.sign-display-buy-hanging" : "sign-interaction.sign-display-buy-full");
-                                String display = LegacyComponentSerializer.legacySection().serialize(
-                                    LegacyComponentSerializer.legacyAmpersand().deserialize(plugin.getMessages().getRaw(displayKey)));
-                                front.line(0, LegacyComponentSerializer.legacySection().deserialize(display));
-                            }
-                            sign.update();
-                        }
-                    }
+        org.bukkit.block.sign.SignSide front = sign.getSide(org.bukkit.block.sign.Side.FRONT);
+        String line0Plain = plainLine(front, 0);
+        
+        // Check eviction state for this claim
+        codes.castled.gpexpansion.storage.ClaimDataStore dataStore = plugin.getClaimDataStore();
+        codes.castled.gpexpansion.storage.ClaimDataStore.EvictionData eviction = (claimId != null && !claimId.isEmpty())
+            ? dataStore.getEviction(claimId).orElse(null) : null;
+        boolean evictionPending = eviction != null && now < eviction.effectiveAt;
+        boolean evictionEffective = eviction != null && now >= eviction.effectiveAt;
+        long evictionRemaining = evictionPending ? (eviction.effectiveAt - now) : 0;
 
-                    // Animate item name when player is looking at this sign
-                    Block target = p.getTargetBlockExact(5);
-                    if (target != null && target.getLocation().equals(b.getLocation())) {
-                        long la = lastAnimate.getOrDefault(p.getUniqueId(), 0L);
-                        if (now - la >= 200L) { // animate every 0.2s while looking
-                            lastAnimate.put(p.getUniqueId(), now);
-                            animateItemLine(sign, pdc);
-                        }
-                    }
-                }
+        // Auto-reset sign when eviction has become effective (no sneak+break needed)
+        if (evictionEffective && "RENT".equals(signType)) {
+            plugin.getRentalSignManager().resetRentalSign(b, RentalSignManager.ResetCause.EVICT);
+            return true; // resetRentalSign updated the sign; skip display logic this tick
+        }
+
+        // Auto-reset when rental has naturally expired (no eviction was started)
+        if ("RENT".equals(signType) && renterStr != null && expiry != null && expiry <= now && eviction == null) {
+            plugin.getRentalSignManager().resetRentalSign(b, RentalSignManager.ResetCause.EXPIRE);
+            if (plugin.getConfigManager().areExpiredRentSignsAutoRemoved()) {
+                b.setType(Material.AIR);
             }
+            return true;
+        }
+
+        // Anything still counting down gets woken by the countdown scheduler, even with nobody nearby
+        if ("RENT".equals(signType) && (evictionPending || isRented)) {
+            plugin.getCountdownSignScheduler().ensureTracked(claimId, b.getLocation());
         }
+
+        // When eviction is pending: always show [Evicted] for everyone (not per-player)
+        if (evictionPending) {
+            String remaining = formatDuration(evictionRemaining);
+            if (!line0Plain.equalsIgnoreCase("[Evicted]")
+                    || !plainLine(front, 2).equals("Remaining Time")
+                    || !plainLine(front, 3).equals(remaining)) {
+                front.line(0, LegacyComponentSerializer.legacySection().deserialize("§4§l[Evicted]"));
+                front.line(2, LegacyComponentSerializer.legacySection().deserialize("§4Remaining Time"));
+                front.line(3, LegacyComponentSerializer.legacySection().deserialize("§c" + remaining));
+                sign.update();
+            }
+            return true;
+        }
+
+        // No eviction pending: [Renew] is only ever sent to the renter, so a stored [Renew] (older
+        // versions wrote it to the sign) or a leftover [Evicted] goes back to the normal display
+        if (line0Plain.equalsIgnoreCase("[Renew]") || line0Plain.equalsIgnoreCase("[Evicted]")) {
+            if (isRented) {
+                front.line(0, LegacyComponentSerializer.legacySection().deserialize("§c§l[Rented]"));
+                String renterName = resolveRenterName(renterStr);
+                front.line(1, LegacyComponentSerializer.legacySection().deserialize("§0" + renterName));
+                String ecoAmt = pdc.get(keyEcoAmt, PersistentDataType.STRING);
+                String ecoKindStr = pdc.get(keyEcoKind, PersistentDataType.STRING);
+                String perClick = pdc.get(keyPerClick, PersistentDataType.STRING);
+                String maxCap = pdc.get(keyMaxCap, PersistentDataType.STRING);
+                if (ecoAmt == null) ecoAmt = "";
+                if (perClick == null) perClick = "";
+                if (maxCap == null) maxCap = "";
+                String ecoFormatted = formatEcoForSign(ecoKindStr, ecoAmt);
+                front.line(2, LegacyComponentSerializer.legacySection().deserialize("§0" + ecoFormatted + "§0/" + perClick));
+                front.line(3, LegacyComponentSerializer.legacySection().deserialize("§0Max: " + maxCap));
+            } else {
+                boolean hanging = isHangingSign(type);
+                String displayKey = "RENT".equals(signType)
+                    ? (hanging ? "sign-interaction.sign-display-rent-hanging" : "sign-interaction.sign-display-rent-full")
+                    : (hanging ? "sign-interaction.sign-display-buy-hanging" : "sign-interaction.sign-display-buy-full");
+                String display = LegacyComponentSerializer.legacySection().serialize(
+                    LegacyComponentSerializer.legacyAmpersand().deserialize(plugin.getMessages().getRaw(displayKey)));
+                front.line(0, LegacyComponentSerializer.legacySection().deserialize(display));
+            }
+            sign.update();
+        }
+        return true;
+    }
+
+    /**
+     * Show the renter their sign with [Renew] on top, as a client-side sign change for them alone.
+     * Sent when they come near and again every few seconds while they stay, since any real update to
+     * the sign replaces it on their client.
+     */
+    private void showRenewTo(Player p, Block b, Sign sign, long now) {
+        Map<Location, Long> shown = renewShown.computeIfAbsent(p.getUniqueId(), k -> new ConcurrentHashMap<>());
+        Location loc = b.getLocation();
+        Long sentAt = shown.get(loc);
+        if (sentAt != null && now - sentAt < RENEW_RESEND_MS) return;
+        shown.put(loc, now);
+        List<net.kyori.adventure.text.Component> lines =
+            new ArrayList<>(sign.getSide(org.bukkit.block.sign.Side.FRONT).lines());
+        lines.set(0, LegacyComponentSerializer.legacySection().deserialize("§a§l[Renew]"));
+        p.sendSignChange(loc, lines);
+    }
+
+    private String plainLine(org.bukkit.block.sign.SignSide side, int index) {
+        net.kyori.adventure.text.Component line = side.line(index);
+        return PlainTextComponentSerializer.plainText().serialize(line != null ? line : net.kyori.adventure.text.Component.empty());
     }
 
-    /** Called by periodic task to update eviction countdowns when player stands still. */
-    public void tickEvictionDisplays(Player p) {
-        if (!p.isOnline()) return;
-        Location loc = p.getLocation();
-        if (loc == null || loc.getWorld() == null) return;
-        scanAndUpdateSignsNear(p, loc, System.currentTimeMillis());
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        UUID playerId = event.getPlayer().getUniqueId();
+        lastScan.remove(playerId);
+        lastAnimate.remove(playerId);
+        renewShown.remove(playerId);
     }
 
     @SuppressWarnings("all")
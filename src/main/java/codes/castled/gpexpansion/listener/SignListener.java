@@ -46,7 +46,7 @@ import java.util.UUID;
 public class SignListener implements Listener {
 
     private final GPExpansionPlugin plugin;
-    private final GPBridge gp = new GPBridge();
+    private final GPBridge gp;
     private final SignLimitManager signLimitManager;
 
     /** True if player has the permission, or has full access (op or wildcard *). Ensures server owners with * aren't blocked. */
@@ -64,6 +64,7 @@ public class SignListener implements Listener {
 
     public SignListener(GPExpansionPlugin plugin) {
         this.plugin = plugin;
+        this.gp = plugin.getGPBridge();
         // Must share the plugin's instance so admin-set limits (/gpx max) apply to sign creation
         this.signLimitManager = plugin.getSignLimitManager();
         plugin.getLogger().info("SignListener has been instantiated");
@@ -970,6 +971,7 @@ public class SignListener implements Listener {
                     }
                     
                     sign.update(true);
+                    plugin.getManagedSignRegistry().register(block);
                 }
             });
         }
@@ -1686,6 +1688,7 @@ public class SignListener implements Listener {
         frontSide.line(3, Component.empty());
         
         sign.update(true);
+        plugin.getManagedSignRegistry().register(signLocation.getBlock());
         
         if (!allowSignToggle) {
             plugin.getMessages().send(player, "sign-creation.sign-created", "{type}", "global", "{id}", claimId);
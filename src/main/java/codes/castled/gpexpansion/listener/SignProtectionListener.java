@@ -27,6 +27,7 @@ import org.bukkit.persistence.PersistentDataType;
 
 import codes.castled.gpexpansion.GPExpansionPlugin;
 import codes.castled.gpexpansion.gp.GPBridge;
+import codes.castled.gpexpansion.sign.ManagedSignRegistry;
 import codes.castled.gpexpansion.sign.RentalSignManager;
 import codes.castled.gpexpansion.storage.ClaimDataStore;
 
@@ -37,7 +38,8 @@ import java.util.UUID;
 
 public class SignProtectionListener implements Listener {
     private final GPExpansionPlugin plugin;
-    private final GPBridge gp = new GPBridge();
+    private final GPBridge gp;
+    private final ManagedSignRegistry signs;
     private final NamespacedKey keyKind;
     private final NamespacedKey keyClaim;
     private final NamespacedKey keyRenter;
@@ -46,6 +48,8 @@ public class SignProtectionListener implements Listener {
 
     public SignProtectionListener(GPExpansionPlugin plugin) {
         this.plugin = plugin;
+        this.gp = plugin.getGPBridge();
+        this.signs = plugin.getManagedSignRegistry();
         this.keyKind = new NamespacedKey(plugin, "sign.kind");
         this.keyClaim = new NamespacedKey(plugin, "sign.claimId");
         this.keyRenter = new NamespacedKey(plugin, "rent.renter");
@@ -74,20 +78,7 @@ public class SignProtectionListener implements Listener {
     }
 
     private Block getSupport(Block signBlock) {
-        Material t = signBlock.getType();
-        if (t.name().endsWith("_WALL_SIGN")) {
-            // Determine attached face from block data
-            try {
-                org.bukkit.block.data.type.WallSign data = (org.bukkit.block.data.type.WallSign) signBlock.getBlockData();
-                BlockFace face = data.getFacing().getOppositeFace();
-                return signBlock.getRelative(face);
-            } catch (ClassCastException ignored) {
-                return signBlock.getRelative(BlockFace.NORTH);
-            }
-        } else if (t.name().endsWith("_SIGN")) {
-            return signBlock.getRelative(BlockFace.DOWN);
-        }
-        return null;
+        return ManagedSignRegistry.supportOf(signBlock);
     }
 
     private boolean canAdminister(Player p) {
@@ -123,6 +114,8 @@ public class SignProtectionListener implements Listener {
     public void onBlockBreak(BlockBreakEvent event) {
         Block b = event.getBlock();
         Player p = event.getPlayer();
+        // Nearly every block broken is neither a managed sign nor holding one up
+        if (!signs.isSignOrSupport(b)) return;
 
         // Protect supporting blocks of managed signs
         if (!isOurSign(b)) {
@@ -455,29 +448,36 @@ public class SignProtectionListener implements Listener {
 
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
     public void onExplode(EntityExplodeEvent event) {
-        event.blockList().removeIf(b -> isOurSign(b) || isSupportOfManagedSign(b));
+        event.blockList().removeIf(this::isProtectedBlock);
     }
 
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
     public void onBlockExplode(BlockExplodeEvent event) {
-        event.blockList().removeIf(b -> isOurSign(b) || isSupportOfManagedSign(b));
+        event.blockList().removeIf(this::isProtectedBlock);
     }
 
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
     public void onEnderman(EntityChangeBlockEvent event) {
         if (!(event.getEntity() instanceof Enderman)) return;
-        Block b = event.getBlock();
-        if (isOurSign(b) || isSupportOfManagedSign(b)) {
+        if (isProtectedBlock(event.getBlock())) {
             event.setCancelled(true);
         }
     }
 
+    /**
+     * A protected sign or the block holding one up. The registry rules out unrelated blocks with a set
+     * lookup, so block states are only read for the few that might be.
+     */
+    private boolean isProtectedBlock(Block b) {
+        return signs.isSignOrSupport(b) && (isOurSign(b) || isSupportOfManagedSign(b));
+    }
+
     private boolean isSupportOfManagedSign(Block b) {
-        for (BlockFace face : new BlockFace[]{BlockFace.NORTH, BlockFace.SOUTH, BlockFace.EAST, BlockFace.WEST, BlockFace.DOWN}) {
+        for (BlockFace face : new BlockFace[]{BlockFace.NORTH, BlockFace.SOUTH, BlockFace.EAST, BlockFace.WEST, BlockFace.DOWN, BlockFace.UP}) {
             Block adj = b.getRelative(face);
             if (isOurSign(adj)) {
                 Block support = getSupport(adj);
-                return support != null && support.equals(b);
+                if (support != null && support.equals(b)) return true;
             }
         }
         return false;
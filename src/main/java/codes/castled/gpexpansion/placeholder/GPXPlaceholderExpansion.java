@@ -2,7 +2,6 @@ package codes.castled.gpexpansion.placeholder;
 
 import codes.castled.gpexpansion.GPExpansionPlugin;
 import codes.castled.gpexpansion.claimfly.ClaimFlyManager;
-import codes.castled.gpexpansion.gp.GPBridge;
 import me.clip.placeholderapi.expansion.PlaceholderExpansion;
 import org.bukkit.Bukkit;
 import org.bukkit.OfflinePlayer;
@@ -10,16 +9,14 @@ import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Optional;
-
 public class GPXPlaceholderExpansion extends PlaceholderExpansion {
 
     private final GPExpansionPlugin plugin;
-    private final GPBridge gpBridge;
+    private final PlaceholderClaimContext claimContext;
 
     public GPXPlaceholderExpansion(GPExpansionPlugin plugin) {
         this.plugin = plugin;
-        this.gpBridge = new GPBridge();
+        this.claimContext = plugin.getPlaceholderClaimContext();
     }
 
     @Override
@@ -65,23 +62,24 @@ public class GPXPlaceholderExpansion extends PlaceholderExpansion {
         Player online = Bukkit.getPlayer(player.getUniqueId());
         if (online == null) return "";
 
-        if (params.equalsIgnoreCase("in_claim")) {
-            return gpBridge.getClaimAt(online.getLocation(), online).isPresent() ? "yes" : "no";
+        // Served from the per-player context, so scoreboards can poll from any thread
+        PlaceholderClaimContext.Context context = claimContext.get(online);
+        if (context == null) {
+            return params.equalsIgnoreCase("in_claim") ? "no" : "";
         }
 
-        Optional<Object> claimOpt = gpBridge.getClaimAt(online.getLocation(), online);
-        if (claimOpt.isEmpty()) return "";
+        if (params.equalsIgnoreCase("in_claim")) {
+            return context.inClaim() ? "yes" : "no";
+        }
 
-        Object claim = claimOpt.get();
+        if (!context.inClaim()) return "";
 
         if (params.equalsIgnoreCase("currentclaim_claimid")) {
-            return gpBridge.getClaimId(claim).orElse("");
+            return context.claimId();
         }
 
         if (params.equalsIgnoreCase("currentclaim_claimname")) {
-            return gpBridge.getClaimId(claim)
-                    .flatMap(id -> plugin.getMetadataService().getName(id))
-                    .orElse("");
+            return context.claimName();
         }
 
         return null;
@@ -0,0 +1,131 @@
+package codes.castled.gpexpansion.placeholder;
+
+import codes.castled.gpexpansion.GPExpansionPlugin;
+import codes.castled.gpexpansion.events.ClaimRenamedEvent;
+import codes.castled.gpexpansion.events.PlayerClaimChangeEvent;
+import codes.castled.gpexpansion.gp.GPBridge;
+import codes.castled.gpexpansion.listener.ClaimPositionTracker;
+import codes.castled.gpexpansion.scheduler.SchedulerAdapter;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The claim each online player stands in, with the placeholder strings for it already built, so
+ * {@code %gpx_in_claim%} and {@code %gpx_currentclaim_*%} are a map lookup however often a scoreboard
+ * asks and from whichever thread.
+ *
+ * <p>Filled in when a player joins and kept current from {@link PlayerClaimChangeEvent}, which the
+ * {@link ClaimPositionTracker} publishes for block-crossing moves and teleports while it is told to
+ * follow them. Claim renames rewrite the name in place. A context resolved under an older
+ * {@link GPBridge#getClaimLayoutVersion() claim layout version} is refreshed on the player's own thread
+ * the next time it is read; until then the previous answer is served.
+ */
+public final class PlaceholderClaimContext implements Listener {
+
+    /**
+     * What the claim placeholders show for a player: the claim's ID and name, both empty strings in
+     * the wilderness.
+     */
+    public record Context(long layout, boolean inClaim, String claimId, String claimName) {}
+
+    private final GPExpansionPlugin plugin;
+    private final GPBridge gp;
+    private final ClaimPositionTracker positions;
+    private final Map<UUID, Context> contexts = new ConcurrentHashMap<>();
+    // Players with a refresh already queued on their own thread
+    private final Set<UUID> refreshing = ConcurrentHashMap.newKeySet();
+
+    public PlaceholderClaimContext(GPExpansionPlugin plugin) {
+        this.plugin = plugin;
+        this.gp = plugin.getGPBridge();
+        this.positions = plugin.getClaimPositionTracker();
+    }
+
+    /** Resolve every player already online, as after a reload. */
+    public void start() {
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            queueRefresh(player);
+        }
+    }
+
+    /**
+     * The player's current context, or null if none has been resolved yet. A missing or outdated
+     * context is resolved inline when called on the player's thread, otherwise queued there.
+     */
+    public Context get(Player player) {
+        Context context = contexts.get(player.getUniqueId());
+        if (context != null && context.layout() == gp.getClaimLayoutVersion()) {
+            return context;
+        }
+        if (SchedulerAdapter.isOwnedByCurrentThread(player)) {
+            return refresh(player);
+        }
+        queueRefresh(player);
+        return context;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent event) {
+        refresh(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        contexts.remove(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onClaimChange(PlayerClaimChangeEvent event) {
+        contexts.put(event.getPlayer().getUniqueId(), contextFor(event.getToClaim(), gp.getClaimLayoutVersion()));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onClaimRenamed(ClaimRenamedEvent event) {
+        String claimId = gp.getClaimId(event.getClaim()).orElse(null);
+        if (claimId == null) return;
+        String name = nameOf(claimId);
+        contexts.replaceAll((playerId, context) -> context.inClaim() && claimId.equals(context.claimId())
+                ? new Context(context.layout(), true, claimId, name)
+                : context);
+    }
+
+    private void queueRefresh(Player player) {
+        UUID playerId = player.getUniqueId();
+        if (!refreshing.add(playerId)) return;
+        SchedulerAdapter.runEntity(plugin, player, () -> {
+            refreshing.remove(playerId);
+            if (player.isOnline()) {
+                refresh(player);
+            }
+        }, () -> refreshing.remove(playerId));
+    }
+
+    private Context refresh(Player player) {
+        long layout = gp.getClaimLayoutVersion();
+        Context context = contextFor(positions.refresh(player), layout);
+        contexts.put(player.getUniqueId(), context);
+        return context;
+    }
+
+    private Context contextFor(Object claim, long layout) {
+        if (claim == null) {
+            return new Context(layout, false, "", "");
+        }
+        String claimId = gp.getClaimId(claim).orElse("");
+        return new Context(layout, true, claimId, claimId.isEmpty() ? "" : nameOf(claimId));
+    }
+
+    private String nameOf(String claimId) {
+        return plugin.getMetadataService().getName(claimId).orElse("");
+    }
+}
@@ -148,6 +148,7 @@ public class RentalReminderService {
                     } else {
                         // flag a pending notice
                         entry.pendingPayment = true;
+                        dataStore.markDirty(claimId);
                         dataStore.save();
                     }
                     mask |= (1 << BIT_EXPIRED);
@@ -236,7 +237,7 @@ public class RentalReminderService {
 
     private String getClaimCoordinates(String claimId) {
         try {
-            GPBridge gp = new GPBridge();
+            GPBridge gp = plugin.getGPBridge();
             var claimOpt = gp.findClaimById(claimId);
             if (claimOpt.isPresent()) {
                 Object claim = claimOpt.get();
@@ -281,6 +282,7 @@ public class RentalReminderService {
             if (entry.expiry <= now && entry.pendingPayment) {
                 player.sendMessage(color("&6Your rented claim has expired."));
                 entry.pendingPayment = false; // clear flag after shown
+                dataStore.markDirty(e.getKey());
                 dataStore.save();
                 continue;
             }
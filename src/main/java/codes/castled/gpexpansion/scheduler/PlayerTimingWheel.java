@@ -0,0 +1,159 @@
+package codes.castled.gpexpansion.scheduler;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * One shared timer for recurring per-player work, in place of a delayed task per player.
+ *
+ * <p>A single global task advances a wheel of {@link #SLOTS} tick slots; each player has at most one
+ * pending entry, filed in the slot of the tick it is due. When a slot comes up its players are grouped
+ * by region section and each group runs as one task on that region (on plain Paper, everything due
+ * runs right there on the main thread). A player who changed region since being grouped is handed to
+ * their own entity scheduler instead. Tasks run on the player's thread and reschedule themselves.
+ *
+ * <p>Delays are capped just under one revolution ({@link #SLOTS} ticks).
+ */
+public final class PlayerTimingWheel {
+
+    static final int SLOTS = 256;
+    private static final int MASK = SLOTS - 1;
+    // Matches Folia's default region section of 16x16 chunks
+    private static final int SECTION_SHIFT = 4;
+
+    private final Plugin plugin;
+    private final AtomicLong tick = new AtomicLong();
+    @SuppressWarnings("unchecked")
+    private final Queue<Entry>[] slots = new Queue[SLOTS];
+    private final Map<UUID, Entry> pending = new ConcurrentHashMap<>();
+    private TaskHandle driver;
+
+    private record Entry(UUID playerId, long due, Consumer<Player> task) {}
+
+    private record Due(Player player, Consumer<Player> task) {}
+
+    public PlayerTimingWheel(Plugin plugin) {
+        this.plugin = plugin;
+        for (int i = 0; i < SLOTS; i++) {
+            slots[i] = new ConcurrentLinkedQueue<>();
+        }
+    }
+
+    public void start() {
+        if (driver != null) return;
+        driver = SchedulerAdapter.runRepeatingGlobal(plugin, this::advance, 1L, 1L);
+    }
+
+    public void stop() {
+        if (driver != null) {
+            driver.cancel();
+            driver = null;
+        }
+        pending.clear();
+        for (Queue<Entry> slot : slots) {
+            slot.clear();
+        }
+    }
+
+    /** Run the task for this player after the delay, replacing anything already pending for them. */
+    public void schedule(Player player, long delayTicks, Consumer<Player> task) {
+        long delay = Math.max(1L, Math.min(delayTicks, SLOTS - 1L));
+        Entry entry = new Entry(player.getUniqueId(), tick.get() + delay, task);
+        pending.put(entry.playerId(), entry);
+        slots[(int) (entry.due() & MASK)].add(entry);
+    }
+
+    /**
+     * Bring the player's pending task forward to run within the delay. Does nothing if it is already
+     * due sooner or nothing is pending.
+     */
+    public void expedite(Player player, long delayTicks) {
+        Entry current = pending.get(player.getUniqueId());
+        long delay = Math.max(1L, Math.min(delayTicks, SLOTS - 1L));
+        if (current == null || current.due() <= tick.get() + delay) return;
+        schedule(player, delay, current.task());
+    }
+
+    public void cancel(UUID playerId) {
+        pending.remove(playerId);
+    }
+
+    private void advance() {
+        long now = tick.incrementAndGet();
+        Queue<Entry> slot = slots[(int) (now & MASK)];
+        List<Entry> later = null;
+        List<Due> here = null;
+        Map<String, List<Due>> sections = null;
+        Entry entry;
+        while ((entry = slot.poll()) != null) {
+            // Replaced or cancelled since it was filed
+            if (pending.get(entry.playerId()) != entry) continue;
+            if (entry.due() > now) {
+                // Filed a revolution ahead by a schedule racing this tick
+                if (later == null) later = new ArrayList<>();
+                later.add(entry);
+                continue;
+            }
+            pending.remove(entry.playerId(), entry);
+            Player player = Bukkit.getPlayer(entry.playerId());
+            if (player == null) continue;
+            Due due = new Due(player, entry.task());
+            if (!SchedulerAdapter.isFolia()) {
+                if (here == null) here = new ArrayList<>();
+                here.add(due);
+                continue;
+            }
+            if (sections == null) sections = new HashMap<>();
+            sections.computeIfAbsent(sectionKey(player.getLocation()), k -> new ArrayList<>()).add(due);
+        }
+        if (later != null) {
+            slot.addAll(later);
+        }
+        if (here != null) {
+            for (Due due : here) {
+                run(due);
+            }
+        }
+        if (sections == null) return;
+        for (List<Due> group : sections.values()) {
+            SchedulerAdapter.runAtLocation(plugin, group.get(0).player().getLocation(), () -> {
+                for (Due due : group) {
+                    if (SchedulerAdapter.isOwnedByCurrentThread(due.player())) {
+                        run(due);
+                    } else {
+                        SchedulerAdapter.runEntity(plugin, due.player(), () -> run(due), null);
+                    }
+                }
+            });
+        }
+    }
+
+    /** Run one due task; a task that throws is logged so the rest of its batch still runs. */
+    private void run(Due due) {
+        if (!due.player().isOnline()) return;
+        try {
+            due.task().accept(due.player());
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.WARNING, "Scheduled task for " + due.player().getName() + " failed", e);
+        }
+    }
+
+    private static String sectionKey(Location location) {
+        String world = location.getWorld() != null ? location.getWorld().getName() : "";
+        return world + ':' + (location.getBlockX() >> (4 + SECTION_SHIFT)) + ':' + (location.getBlockZ() >> (4 + SECTION_SHIFT));
+    }
+}
@@ -2,6 +2,7 @@ package codes.castled.gpexpansion.scheduler;
 
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
@@ -19,6 +20,8 @@ import java.util.function.Consumer;
 public final class SchedulerAdapter {
 
     private static final boolean FOLIA_PRESENT;
+    private static volatile Method ownedByCurrentRegion;
+    private static volatile Method chunkOwnedByCurrentRegion;
 
     static {
         FOLIA_PRESENT = detectFolia();
@@ -385,6 +388,48 @@ public final class SchedulerAdapter {
 
     // ====================== UTILS ======================
 
+    /**
+     * Whether the calling thread may touch the entity right now: its owning region thread on Folia,
+     * the main thread otherwise.
+     */
+    public static boolean isOwnedByCurrentThread(Entity entity) {
+        Objects.requireNonNull(entity);
+        if (FOLIA_PRESENT) {
+            try {
+                Method m = ownedByCurrentRegion;
+                if (m == null) {
+                    m = Bukkit.class.getMethod("isOwnedByCurrentRegion", Entity.class);
+                    ownedByCurrentRegion = m;
+                }
+                return (boolean) m.invoke(null, entity);
+            } catch (Throwable ignored) {
+                return false;
+            }
+        }
+        return Bukkit.isPrimaryThread();
+    }
+
+    /**
+     * Whether the calling thread may touch the chunk right now: its owning region thread on Folia,
+     * the main thread otherwise.
+     */
+    public static boolean isOwnedByCurrentThread(World world, int chunkX, int chunkZ) {
+        Objects.requireNonNull(world);
+        if (FOLIA_PRESENT) {
+            try {
+                Method m = chunkOwnedByCurrentRegion;
+                if (m == null) {
+                    m = Bukkit.class.getMethod("isOwnedByCurrentRegion", World.class, int.class, int.class);
+                    chunkOwnedByCurrentRegion = m;
+                }
+                return (boolean) m.invoke(null, world, chunkX, chunkZ);
+            } catch (Throwable ignored) {
+                return false;
+            }
+        }
+        return Bukkit.isPrimaryThread();
+    }
+
     public static void cancelTasks(Plugin plugin) {
         Objects.requireNonNull(plugin);
         if (FOLIA_PRESENT) {
@@ -113,7 +113,7 @@ public class SetupWizardManager {
     
     public SetupWizardManager(GPExpansionPlugin plugin) {
         this.plugin = plugin;
-        this.gp = new GPBridge();
+        this.gp = plugin.getGPBridge();
         
         // Cleanup expired sessions every minute
         SchedulerAdapter.runRepeatingGlobal(plugin, () -> {
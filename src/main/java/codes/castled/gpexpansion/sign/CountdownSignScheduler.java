@@ -0,0 +1,193 @@
+package codes.castled.gpexpansion.sign;
+
+import codes.castled.gpexpansion.GPExpansionPlugin;
+import codes.castled.gpexpansion.scheduler.SchedulerAdapter;
+import codes.castled.gpexpansion.scheduler.TaskHandle;
+import codes.castled.gpexpansion.storage.ClaimDataStore;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Wakes rent signs only when something on them is due to change, instead of rescanning around every
+ * player every second.
+ *
+ * <p>Each claim with an active rental has one entry, keyed by claim ID and pointing at its rent sign.
+ * While an eviction is pending the entry wakes whenever the countdown text next changes: hourly while
+ * days remain, each minute while hours remain, and each second in the final hour. Otherwise it wakes
+ * at the rental's expiry. Every wake is also capped at {@link #MAX_DELAY_MS} so a lagging server cannot
+ * drift far from the wall clock. On waking, the sign's shared display is refreshed on its region thread
+ * (which also resets it once the eviction or rental has run out) and the next wake is planned from the
+ * claim data as it stands then, so cancelled evictions and renewals need no extra bookkeeping.
+ *
+ * <p>A sign whose chunk is unloaded when it wakes is parked until the chunk loads again.
+ */
+public final class CountdownSignScheduler {
+
+    static final long MAX_DELAY_MS = 5L * 60_000L;
+
+    private static final long SECOND = 1000L;
+    private static final long MINUTE = 60L * SECOND;
+    private static final long HOUR = 60L * MINUTE;
+    private static final long DAY = 24L * HOUR;
+
+    private final GPExpansionPlugin plugin;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    // World UID + chunk key -> claims whose sign sits in that unloaded chunk
+    private final Map<String, Set<String>> parked = new ConcurrentHashMap<>();
+
+    private static final class Entry {
+        final Location sign;
+        volatile TaskHandle task;
+
+        Entry(Location sign) {
+            this.sign = sign;
+        }
+    }
+
+    public CountdownSignScheduler(GPExpansionPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /** Plan a wake for every rental already on record. */
+    public void start() {
+        for (String claimId : plugin.getClaimDataStore().getRentedClaimIds()) {
+            track(claimId);
+        }
+    }
+
+    public void stop() {
+        for (Entry entry : entries.values()) {
+            cancel(entry);
+        }
+        entries.clear();
+        parked.clear();
+    }
+
+    /**
+     * Replan the claim's sign after its rental or eviction changed. The sign is refreshed on the next
+     * tick, so a started or cancelled eviction shows straight away.
+     */
+    public void track(String claimId) {
+        ClaimDataStore.RentalData rental = plugin.getClaimDataStore().getRental(claimId).orElse(null);
+        if (rental == null || rental.signLocation == null || rental.signLocation.getWorld() == null) {
+            untrack(claimId);
+            return;
+        }
+        schedule(claimId, new Entry(rental.signLocation.clone()), 1L);
+    }
+
+    /**
+     * Start tracking a sign found with a live countdown, for rentals stored without their sign
+     * location. Does nothing if the claim is already tracked.
+     */
+    public void ensureTracked(String claimId, Location sign) {
+        if (claimId == null || entries.containsKey(claimId)) return;
+        Entry entry = new Entry(sign.clone());
+        if (entries.putIfAbsent(claimId, entry) == null) {
+            plan(claimId, entry, System.currentTimeMillis(), false);
+        }
+    }
+
+    public void untrack(String claimId) {
+        Entry previous = entries.remove(claimId);
+        if (previous != null) {
+            cancel(previous);
+        }
+    }
+
+    /** Resume the signs parked in a chunk that just loaded. */
+    public void chunkLoaded(Chunk chunk) {
+        Set<String> claimIds = parked.remove(chunkKey(chunk.getWorld(), chunk.getX(), chunk.getZ()));
+        if (claimIds == null) return;
+        for (String claimId : claimIds) {
+            Entry entry = entries.get(claimId);
+            if (entry != null) {
+                schedule(claimId, entry, 1L);
+            }
+        }
+    }
+
+    private void wake(String claimId, Entry entry) {
+        if (entries.get(claimId) != entry) return;
+        World world = entry.sign.getWorld();
+        if (world == null) {
+            entries.remove(claimId, entry);
+            return;
+        }
+        int chunkX = entry.sign.getBlockX() >> 4;
+        int chunkZ = entry.sign.getBlockZ() >> 4;
+        if (!world.isChunkLoaded(chunkX, chunkZ)) {
+            parked.computeIfAbsent(chunkKey(world, chunkX, chunkZ), k -> ConcurrentHashMap.newKeySet()).add(claimId);
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (plugin.getSignDisplayListener() == null
+                || !plugin.getSignDisplayListener().refreshSharedDisplay(entry.sign.getBlock(), now)) {
+            // The sign is gone; a player walking past a replacement tracks it again
+            entries.remove(claimId, entry);
+            return;
+        }
+        plan(claimId, entry, now, true);
+    }
+
+    /** Schedule the entry's next wake from the claim data, or drop it once nothing is pending. */
+    private void plan(String claimId, Entry entry, long now, boolean refreshed) {
+        ClaimDataStore dataStore = plugin.getClaimDataStore();
+        ClaimDataStore.RentalData rental = dataStore.getRental(claimId).orElse(null);
+        ClaimDataStore.EvictionData eviction = dataStore.getEviction(claimId).orElse(null);
+        long delayMs;
+        if (eviction != null) {
+            delayMs = nextTextChangeMs(eviction.effectiveAt - now);
+        } else if (rental != null) {
+            delayMs = rental.expiry - now;
+        } else {
+            entries.remove(claimId, entry);
+            return;
+        }
+        if (delayMs <= 0 && refreshed) {
+            // Already due and the refresh did not reset the sign; leave it to the next player nearby
+            entries.remove(claimId, entry);
+            return;
+        }
+        // Replanned from elsewhere in the meantime
+        if (entries.get(claimId) != entry) return;
+        long delayTicks = (Math.max(0L, Math.min(delayMs, MAX_DELAY_MS)) + 49L) / 50L;
+        schedule(claimId, entry, delayTicks);
+    }
+
+    private void schedule(String claimId, Entry entry, long delayTicks) {
+        if (entries.get(claimId) != entry) {
+            Entry previous = entries.put(claimId, entry);
+            if (previous != null) {
+                cancel(previous);
+            }
+        }
+        entry.task = SchedulerAdapter.runAtLocationLater(plugin, entry.sign, () -> wake(claimId, entry), delayTicks);
+    }
+
+    private static void cancel(Entry entry) {
+        TaskHandle task = entry.task;
+        if (task != null) {
+            task.cancel();
+        }
+    }
+
+    /**
+     * Milliseconds until a countdown with this much time left next shows different text, matching the
+     * sign's "Xd Yh" / "Xh Ym" / "Xm Ys" / "Xs" format, which floors to its smallest unit.
+     */
+    static long nextTextChangeMs(long remainingMs) {
+        if (remainingMs <= 0) return 0L;
+        long unit = remainingMs >= DAY ? HOUR : remainingMs >= HOUR ? MINUTE : SECOND;
+        return remainingMs % unit + 1L;
+    }
+
+    private static String chunkKey(World world, int chunkX, int chunkZ) {
+        return world.getUID() + ":" + chunkX + ":" + chunkZ;
+    }
+}
@@ -0,0 +1,268 @@
+package codes.castled.gpexpansion.sign;
+
+import codes.castled.gpexpansion.GPExpansionPlugin;
+import codes.castled.gpexpansion.scheduler.SchedulerAdapter;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Tag;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.block.BlockState;
+import org.bukkit.block.Sign;
+import org.bukkit.persistence.PersistentDataType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Where the GPExpansion-managed signs (rent, sell, mailbox, global; anything carrying
+ * {@code sign.kind}) and the blocks holding them up are, per world and chunk, so sign displays and
+ * protection only visit those blocks instead of scanning every block around a player or reading the
+ * neighbours of every block an explosion touches.
+ *
+ * <p>A chunk is scanned for managed signs once, from its tile entities, when it loads or the first
+ * time it is asked about; signs created afterwards are registered by whoever writes their
+ * {@code sign.kind}. Entries are dropped when a sign is broken or its chunk unloads, and any entry
+ * that no longer points at a managed sign is dropped when it is next read, so a sign removed some
+ * other way (explosion, plugin edit) cannot linger. Membership is a candidate test: callers that act
+ * on a hit still check the block itself, so a stale entry costs one extra check, never a wrong answer.
+ *
+ * <p>Chunks are only scanned and read on the thread that owns them, as for any block access.
+ */
+public final class ManagedSignRegistry {
+
+    private final NamespacedKey keyKind;
+    // World UID -> chunk key -> the managed signs in that chunk. A chunk present with no signs has
+    // been scanned and holds none.
+    private final Map<UUID, Map<Long, ChunkSigns>> signs = new ConcurrentHashMap<>();
+
+    /**
+     * One chunk's managed signs, each with the position of the block it rests on. Supports are counted
+     * because two signs can hang off the same block. A support is filed under its sign's chunk, so it
+     * can sit just across the chunk border.
+     */
+    private static final class ChunkSigns {
+        final Map<Long, Long> supportBySign = new ConcurrentHashMap<>();
+        final Map<Long, Integer> supports = new ConcurrentHashMap<>();
+
+        synchronized void add(long sign, long support) {
+            Long previous = supportBySign.put(sign, support);
+            if (previous != null) {
+                release(previous);
+            }
+            supports.merge(support, 1, Integer::sum);
+        }
+
+        synchronized void remove(long sign) {
+            Long support = supportBySign.remove(sign);
+            if (support != null) {
+                release(support);
+            }
+        }
+
+        private void release(long support) {
+            supports.computeIfPresent(support, (k, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+
+    public ManagedSignRegistry(GPExpansionPlugin plugin) {
+        this.keyKind = new NamespacedKey(plugin, "sign.kind");
+    }
+
+    /** Record a sign whose {@code sign.kind} was just written. */
+    public void register(Block block) {
+        ChunkSigns chunk = chunksOf(block.getWorld()).get(chunkKey(block.getX() >> 4, block.getZ() >> 4));
+        if (chunk == null) {
+            // Scanning picks this sign up along with any others
+            scanChunk(block.getChunk());
+            return;
+        }
+        chunk.add(pack(block.getX(), block.getY(), block.getZ()), packSupport(block));
+    }
+
+    public void unregister(Block block) {
+        ChunkSigns chunk = chunkAt(block.getWorld(), block.getX() >> 4, block.getZ() >> 4);
+        if (chunk != null) {
+            chunk.remove(pack(block.getX(), block.getY(), block.getZ()));
+        }
+    }
+
+    /** Whether the block is a registered managed sign. Does not scan an unscanned chunk. */
+    public boolean isRegistered(Block block) {
+        ChunkSigns chunk = chunkAt(block.getWorld(), block.getX() >> 4, block.getZ() >> 4);
+        return chunk != null && chunk.supportBySign.containsKey(pack(block.getX(), block.getY(), block.getZ()));
+    }
+
+    /**
+     * Whether the block may be a managed sign or the block one rests on. Set lookups only, apart from
+     * scanning the block's chunk, or a neighbour it borders, if that was loaded before it could be
+     * scanned; a false answer means the block certainly is neither.
+     */
+    public boolean isSignOrSupport(Block block) {
+        World world = block.getWorld();
+        int x = block.getX();
+        int z = block.getZ();
+        int chunkX = x >> 4;
+        int chunkZ = z >> 4;
+        long packed = pack(x, block.getY(), z);
+        ChunkSigns chunk = chunkAt(world, chunkX, chunkZ);
+        if (chunk == null) {
+            scanChunk(block.getChunk());
+            chunk = chunkAt(world, chunkX, chunkZ);
+        }
+        if (chunk != null && (chunk.supportBySign.containsKey(packed) || chunk.supports.containsKey(packed))) {
+            return true;
+        }
+        // A sign just across a chunk border can rest on this block
+        int localX = x & 15;
+        int localZ = z & 15;
+        return (localX == 0 && supportsIn(world, chunkX - 1, chunkZ, packed))
+                || (localX == 15 && supportsIn(world, chunkX + 1, chunkZ, packed))
+                || (localZ == 0 && supportsIn(world, chunkX, chunkZ - 1, packed))
+                || (localZ == 15 && supportsIn(world, chunkX, chunkZ + 1, packed));
+    }
+
+    /** Find the managed signs in a freshly loaded chunk. */
+    public void scanChunk(Chunk chunk) {
+        ChunkSigns found = new ChunkSigns();
+        for (BlockState state : chunk.getTileEntities(block -> Tag.ALL_SIGNS.isTagged(block.getType()), false)) {
+            if (isManagedSign(state)) {
+                found.add(pack(state.getX(), state.getY(), state.getZ()), packSupport(state.getBlock()));
+            }
+        }
+        chunksOf(chunk.getWorld()).put(chunkKey(chunk.getX(), chunk.getZ()), found);
+    }
+
+    public void unloadChunk(Chunk chunk) {
+        Map<Long, ChunkSigns> chunks = signs.get(chunk.getWorld().getUID());
+        if (chunks != null) {
+            chunks.remove(chunkKey(chunk.getX(), chunk.getZ()));
+        }
+    }
+
+    public void unloadWorld(World world) {
+        signs.remove(world.getUID());
+    }
+
+    /**
+     * Managed sign blocks within {@code radius} blocks of the location on every axis. Loaded chunks
+     * not yet scanned are scanned first; unloaded ones are skipped.
+     */
+    public List<Block> signsNear(Location base, int radius) {
+        List<Block> result = new ArrayList<>();
+        World world = base.getWorld();
+        if (world == null) return result;
+        int minX = base.getBlockX() - radius;
+        int maxX = base.getBlockX() + radius;
+        int minY = base.getBlockY() - radius;
+        int maxY = base.getBlockY() + radius;
+        int minZ = base.getBlockZ() - radius;
+        int maxZ = base.getBlockZ() + radius;
+        for (int cx = minX >> 4; cx <= maxX >> 4; cx++) {
+            for (int cz = minZ >> 4; cz <= maxZ >> 4; cz++) {
+                ChunkSigns chunk = chunkAt(world, cx, cz);
+                if (chunk == null) {
+                    if (!world.isChunkLoaded(cx, cz)) continue;
+                    scanChunk(world.getChunkAt(cx, cz));
+                    chunk = chunkAt(world, cx, cz);
+                    if (chunk == null) continue;
+                }
+                if (chunk.supportBySign.isEmpty()) continue;
+                for (Long packed : chunk.supportBySign.keySet()) {
+                    int x = unpackX(packed);
+                    int y = unpackY(packed);
+                    int z = unpackZ(packed);
+                    if (x < minX || x > maxX || y < minY || y > maxY || z < minZ || z > maxZ) continue;
+                    Block block = world.getBlockAt(x, y, z);
+                    if (isManagedSign(block.getState(false))) {
+                        result.add(block);
+                    } else {
+                        chunk.remove(packed);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The block a sign rests on: the block behind a wall sign, otherwise the block below. Null if the
+     * block is not a sign.
+     */
+    public static Block supportOf(Block signBlock) {
+        Material t = signBlock.getType();
+        if (t.name().endsWith("_WALL_SIGN")) {
+            // Determine attached face from block data
+            try {
+                org.bukkit.block.data.type.WallSign data = (org.bukkit.block.data.type.WallSign) signBlock.getBlockData();
+                BlockFace face = data.getFacing().getOppositeFace();
+                return signBlock.getRelative(face);
+            } catch (ClassCastException ignored) {
+                return signBlock.getRelative(BlockFace.NORTH);
+            }
+        } else if (t.name().endsWith("_SIGN")) {
+            return signBlock.getRelative(BlockFace.DOWN);
+        }
+        return null;
+    }
+
+    private boolean supportsIn(World world, int chunkX, int chunkZ, long packed) {
+        ChunkSigns chunk = chunkAt(world, chunkX, chunkZ);
+        if (chunk == null) {
+            // Loaded before it could be scanned, as chunks already loaded at enable are
+            if (!world.isChunkLoaded(chunkX, chunkZ)) return false;
+            // Another region's chunk cannot be read from here; leave the answer to the caller's block check
+            if (!SchedulerAdapter.isOwnedByCurrentThread(world, chunkX, chunkZ)) return true;
+            scanChunk(world.getChunkAt(chunkX, chunkZ));
+            chunk = chunkAt(world, chunkX, chunkZ);
+        }
+        return chunk != null && chunk.supports.containsKey(packed);
+    }
+
+    private boolean isManagedSign(BlockState state) {
+        return state instanceof Sign sign && sign.getPersistentDataContainer().has(keyKind, PersistentDataType.STRING);
+    }
+
+    private ChunkSigns chunkAt(World world, int chunkX, int chunkZ) {
+        Map<Long, ChunkSigns> chunks = signs.get(world.getUID());
+        return chunks != null ? chunks.get(chunkKey(chunkX, chunkZ)) : null;
+    }
+
+    private Map<Long, ChunkSigns> chunksOf(World world) {
+        return signs.computeIfAbsent(world.getUID(), k -> new ConcurrentHashMap<>());
+    }
+
+    private static long packSupport(Block signBlock) {
+        Block support = supportOf(signBlock);
+        // A non-sign has no support; filing it under its own position keeps the counts balanced
+        Block at = support != null ? support : signBlock;
+        return pack(at.getX(), at.getY(), at.getZ());
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xffffffffL);
+    }
+
+    // 26 bits each of X and Z, 12 of Y: the whole world border and build height range.
+    private static long pack(int x, int y, int z) {
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+    }
+
+    private static int unpackX(long packed) {
+        return (int) (packed >> 38);
+    }
+
+    private static int unpackZ(long packed) {
+        return (int) (packed << 26 >> 38);
+    }
+
+    private static int unpackY(long packed) {
+        return (int) (packed << 52 >> 52);
+    }
+}
@@ -59,7 +59,7 @@ public class RentalSignManager {
             dataStore.getRental(claimId).isPresent() || dataStore.getEviction(claimId).isPresent());
 
         if (claimId != null && hasActiveRentalOrEviction && plugin.getSnapshotStore() != null) {
-            codes.castled.gpexpansion.gp.GPBridge gpBridge = new codes.castled.gpexpansion.gp.GPBridge();
+            codes.castled.gpexpansion.gp.GPBridge gpBridge = plugin.getGPBridge();
             Optional<Object> claimOpt = gpBridge.findClaimById(claimId);
             if (claimOpt.isPresent()) {
                 org.bukkit.World world = signBlock.getWorld();
@@ -87,7 +87,7 @@ public class RentalSignManager {
         }
 
         if (cause == ResetCause.EVICT && claimId != null && plugin.getConfigManager().isOwnerNotifiedOnEvictionComplete()) {
-            codes.castled.gpexpansion.gp.GPBridge gpBridge = new codes.castled.gpexpansion.gp.GPBridge();
+            codes.castled.gpexpansion.gp.GPBridge gpBridge = plugin.getGPBridge();
             Optional<Object> claimOpt = gpBridge.findClaimById(claimId);
             claimOpt.map(gpBridge::getClaimOwner)
                 .map(Bukkit::getPlayer)
@@ -105,7 +105,7 @@ public class RentalSignManager {
             case GENERAL -> true;
         };
         if (clearRenterTrust && claimId != null && renterStr != null) {
-            codes.castled.gpexpansion.gp.GPBridge gpBridge = new codes.castled.gpexpansion.gp.GPBridge();
+            codes.castled.gpexpansion.gp.GPBridge gpBridge = plugin.getGPBridge();
             Optional<Object> claimOpt = gpBridge.findClaimById(claimId);
             if (claimOpt.isPresent()) {
                 try {
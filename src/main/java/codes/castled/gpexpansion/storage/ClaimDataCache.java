@@ -0,0 +1,669 @@
+package codes.castled.gpexpansion.storage;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+
+import codes.castled.gpexpansion.storage.ClaimDataStore.BanData;
+import codes.castled.gpexpansion.storage.ClaimDataStore.ClaimData;
+import codes.castled.gpexpansion.storage.ClaimDataStore.EvictionData;
+import codes.castled.gpexpansion.storage.ClaimDataStore.MailboxData;
+import codes.castled.gpexpansion.storage.ClaimDataStore.PendingRentData;
+import codes.castled.gpexpansion.storage.ClaimDataStore.RentalData;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.zip.CRC32;
+
+/**
+ * Binary snapshot of claimdata.yml, so startup and reload can skip YAML parsing.
+ *
+ * <p>The cache records the length and CRC32 of the YAML it was written from and is only used
+ * while both still match, so a hand-edited or restored claimdata.yml always wins. A second CRC32
+ * covers the body, so a cache cut short or damaged on disk is rejected instead of trusted.
+ *
+ * <p>Each claim is a fixed run of typed fields that is decoded straight into a {@link ClaimData}:
+ * a bitmask of the parts present, UUIDs as two longs, locations as a world plus packed coordinates,
+ * and numbers as varints. Strings (claim IDs, world and material names, player names, text) go into
+ * one table and are referenced by index, and each world and material in that table is looked up
+ * once per read rather than once per claim.
+ *
+ * <p>A location whose world is not loaded decodes to null, as it does from YAML, but its stored
+ * world and coordinates are kept in the {@link Snapshot} so claimdata.yml is rewritten with them.
+ */
+final class ClaimDataCache {
+
+    private static final int MAGIC = 0x47505843; // "GPXC"
+    private static final int FORMAT_VERSION = 2;
+    // Magic, version, YAML length and checksum, body length and checksum
+    private static final int HEADER_SIZE = 4 + 1 + 8 + 8 + 4 + 8;
+
+    // Which parts of a claim follow its bitmask
+    private static final int F_PUBLIC = 1;
+    private static final int F_APPROVAL_PENDING = 1 << 1;
+    private static final int F_PUBLIC_WAYPOINT = 1 << 2;
+    private static final int F_DESCRIPTION = 1 << 3;
+    private static final int F_NAME = 1 << 4;
+    private static final int F_COLOR = 1 << 5;
+    private static final int F_BANS = 1 << 6;
+    private static final int F_RENTAL = 1 << 7;
+    private static final int F_MAILBOX = 1 << 8;
+    private static final int F_EVICTION = 1 << 9;
+    private static final int F_PENDING_RENT = 1 << 10;
+    private static final int F_SPAWN = 1 << 11;
+
+    private ClaimDataCache() {}
+
+    /** CRC32 of the given YAML bytes, the value a cache must carry to be used for them. */
+    static long checksum(byte[] yaml) {
+        CRC32 crc = new CRC32();
+        crc.update(yaml);
+        return crc.getValue();
+    }
+
+    /**
+     * Read the cache if it was written from YAML with this length and checksum. Worlds are
+     * resolved as the claims are decoded, so call this where {@link Bukkit#getWorld(String)} may be.
+     *
+     * @return the claims, or null if the cache is missing, stale, damaged or unreadable
+     */
+    static Snapshot read(File file, long yamlLength, long yamlChecksum) {
+        if (!file.isFile()) {
+            return null;
+        }
+        try {
+            byte[] bytes = Files.readAllBytes(file.toPath());
+            if (bytes.length < HEADER_SIZE) {
+                return null;
+            }
+            ByteBuffer header = ByteBuffer.wrap(bytes, 0, HEADER_SIZE);
+            if (header.getInt() != MAGIC || header.get() != FORMAT_VERSION) {
+                return null;
+            }
+            if (header.getLong() != yamlLength || header.getLong() != yamlChecksum) {
+                return null;
+            }
+            int bodyLength = header.getInt();
+            long bodyChecksum = header.getLong();
+            if (bodyLength != bytes.length - HEADER_SIZE) {
+                return null;
+            }
+            CRC32 crc = new CRC32();
+            crc.update(bytes, HEADER_SIZE, bodyLength);
+            if (crc.getValue() != bodyChecksum) {
+                return null;
+            }
+            return new Decoder(new DataInputStream(new ByteArrayInputStream(bytes, HEADER_SIZE, bodyLength))).snapshot();
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Write the cache for YAML with this length and checksum, via a temp file and atomic move.
+     * Claims are given in the claimdata.yml key layout and are read the way the YAML load reads
+     * them, so decoding the cache yields the same claims as parsing the file.
+     */
+    static void write(File file, Map<String, Map<String, Object>> claims, long yamlLength, long yamlChecksum)
+            throws IOException {
+        Encoder encoder = new Encoder();
+        for (Map.Entry<String, Map<String, Object>> entry : claims.entrySet()) {
+            encoder.claim(entry.getKey(), entry.getValue());
+        }
+        byte[] body = encoder.body();
+        CRC32 crc = new CRC32();
+        crc.update(body);
+
+        File temp = new File(file.getParentFile(), file.getName() + ".tmp");
+        try (OutputStream raw = new BufferedOutputStream(Files.newOutputStream(temp.toPath()));
+             DataOutputStream out = new DataOutputStream(raw)) {
+            out.writeInt(MAGIC);
+            out.writeByte(FORMAT_VERSION);
+            out.writeLong(yamlLength);
+            out.writeLong(yamlChecksum);
+            out.writeInt(body.length);
+            out.writeLong(crc.getValue());
+            out.write(body);
+        }
+        try {
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Decoded claims, plus the stored values of locations whose world was not loaded, keyed by
+     * claim ID and then by the claim section they belong to ({@code ""} for the claim itself).
+     */
+    record Snapshot(Map<String, ClaimData> claims, Map<String, Map<String, Map<String, Object>>> unresolved) {
+
+        /** The claim in the claimdata.yml layout, with any unresolved locations as they were stored. */
+        Map<String, Object> plainMap(String claimId) {
+            Map<String, Object> map = ClaimDataStore.toPlainMap(claims.get(claimId));
+            Map<String, Map<String, Object>> raw = unresolved.get(claimId);
+            if (raw == null) {
+                return map;
+            }
+            Map<String, Object> merged = new LinkedHashMap<>(map);
+            for (Map.Entry<String, Map<String, Object>> entry : raw.entrySet()) {
+                if (entry.getKey().isEmpty()) {
+                    merged.putAll(entry.getValue());
+                    continue;
+                }
+                Map<String, Object> section = section(merged, entry.getKey());
+                if (section != null) {
+                    Map<String, Object> child = new LinkedHashMap<>(section);
+                    child.putAll(entry.getValue());
+                    merged.put(entry.getKey(), Collections.unmodifiableMap(child));
+                }
+            }
+            return Collections.unmodifiableMap(merged);
+        }
+    }
+
+    /** Turns plain-map claims into the body: the string table, the claim count, then each claim. */
+    private static final class Encoder {
+        private final Map<String, Integer> strings = new LinkedHashMap<>();
+        private final ByteArrayOutputStream claimBytes = new ByteArrayOutputStream(64 * 1024);
+        private final DataOutputStream out = new DataOutputStream(claimBytes);
+        private int count;
+
+        void claim(String claimId, Map<String, Object> claim) throws IOException {
+            Map<String, Object> bans = section(claim, "bans");
+            Map<String, Object> rental = section(claim, "rental");
+            UUID renter = rental != null ? uuid(rental.get("renter")) : null;
+            Map<String, Object> mailbox = section(claim, "mailbox");
+            UUID mailboxOwner = mailbox != null ? uuid(mailbox.get("owner")) : null;
+            Map<String, Object> eviction = section(claim, "eviction");
+            UUID evictionOwner = eviction != null ? uuid(eviction.get("owner")) : null;
+            UUID evictionRenter = eviction != null ? uuid(eviction.get("renter")) : null;
+            Map<String, Object> pending = section(claim, "pendingRent");
+            UUID pendingOwner = pending != null ? uuid(pending.get("owner")) : null;
+            boolean pendingComplete = pendingOwner != null && string(pending, "renterName") != null
+                && string(pending, "kind") != null && string(pending, "amount") != null;
+            String description = string(claim, "description");
+            String name = string(claim, "name");
+            String color = string(claim, "color");
+            String[] spawn = spawnParts(string(claim, "spawn"));
+
+            int flags = 0;
+            if (bool(claim, "public")) flags |= F_PUBLIC;
+            if (bool(claim, "globalApprovalPending")) flags |= F_APPROVAL_PENDING;
+            if (bool(claim, "publicWaypoint")) flags |= F_PUBLIC_WAYPOINT;
+            if (description != null) flags |= F_DESCRIPTION;
+            if (name != null) flags |= F_NAME;
+            if (color != null) flags |= F_COLOR;
+            if (bans != null) flags |= F_BANS;
+            if (renter != null) flags |= F_RENTAL;
+            if (mailboxOwner != null) flags |= F_MAILBOX;
+            if (evictionOwner != null && evictionRenter != null) flags |= F_EVICTION;
+            if (pendingComplete) flags |= F_PENDING_RENT;
+            if (spawn != null) flags |= F_SPAWN;
+
+            writeVarInt(out, intern(claimId));
+            writeVarInt(out, flags);
+            List<String> icons = stringList(claim, "icons");
+            writeVarInt(out, icons.size());
+            for (String icon : icons) {
+                writeVarInt(out, intern(icon));
+            }
+            optionalString(string(claim, "icon"));
+            if (description != null) writeVarInt(out, intern(description));
+            if (name != null) writeVarInt(out, intern(name));
+            if (color != null) writeVarInt(out, intern(color));
+
+            if (bans != null) {
+                out.writeBoolean(bool(bans, "public"));
+                uuids(stringList(bans, "players"));
+                names(section(bans, "names"));
+            }
+            Map<String, Object> trust = section(claim, "trustedPlayers");
+            uuids(trust != null ? stringList(trust, "players") : List.of());
+            names(trust != null ? section(trust, "names") : null);
+
+            if (renter != null) {
+                uuid(renter);
+                writeVarLong(out, number(rental, "expiry"));
+                writeVarLong(out, number(rental, "start"));
+                blockLocation(rental, "sign");
+                List<Long> reminders = longList(rental, "reminders");
+                writeVarInt(out, reminders.size());
+                for (long reminder : reminders) {
+                    writeVarLong(out, reminder);
+                }
+                out.writeByte((bool(rental, "pendingPayment") ? 1 : 0) | (bool(rental, "paymentFailed") ? 2 : 0));
+            }
+            if (mailboxOwner != null) {
+                uuid(mailboxOwner);
+                blockLocation(mailbox, "sign");
+                blockLocation(mailbox, "container");
+            }
+            if (evictionOwner != null && evictionRenter != null) {
+                uuid(evictionOwner);
+                uuid(evictionRenter);
+                writeVarLong(out, number(eviction, "initiatedAt"));
+                writeVarLong(out, number(eviction, "effectiveAt"));
+            }
+            if (pendingComplete) {
+                uuid(pendingOwner);
+                writeVarInt(out, intern(string(pending, "renterName")));
+                writeVarInt(out, intern(string(pending, "kind")));
+                writeVarInt(out, intern(string(pending, "amount")));
+                writeVarLong(out, number(pending, "timestamp"));
+                out.writeBoolean(bool(pending, "isPurchase"));
+            }
+            if (spawn != null) {
+                writeVarInt(out, intern(spawn[0]));
+                out.writeDouble(Double.parseDouble(spawn[1]));
+                out.writeDouble(Double.parseDouble(spawn[2]));
+                out.writeDouble(Double.parseDouble(spawn[3]));
+                out.writeFloat(spawn.length > 4 ? Float.parseFloat(spawn[4]) : 0f);
+                out.writeFloat(spawn.length > 5 ? Float.parseFloat(spawn[5]) : 0f);
+            }
+            count++;
+        }
+
+        byte[] body() throws IOException {
+            out.flush();
+            ByteArrayOutputStream body = new ByteArrayOutputStream(claimBytes.size() + strings.size() * 16 + 16);
+            DataOutputStream table = new DataOutputStream(body);
+            writeVarInt(table, strings.size());
+            for (String s : strings.keySet()) {
+                byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+                writeVarInt(table, bytes.length);
+                table.write(bytes);
+            }
+            writeVarInt(table, count);
+            table.flush();
+            claimBytes.writeTo(body);
+            return body.toByteArray();
+        }
+
+        private int intern(String s) {
+            return strings.computeIfAbsent(s, k -> strings.size());
+        }
+
+        /** Index plus one, or zero for null. */
+        private void optionalString(String s) throws IOException {
+            writeVarInt(out, s != null ? intern(s) + 1 : 0);
+        }
+
+        private void uuid(UUID uuid) throws IOException {
+            out.writeLong(uuid.getMostSignificantBits());
+            out.writeLong(uuid.getLeastSignificantBits());
+        }
+
+        private void uuids(List<String> values) throws IOException {
+            List<UUID> parsed = new ArrayList<>(values.size());
+            for (String value : values) {
+                UUID uuid = uuid(value);
+                if (uuid != null) parsed.add(uuid);
+            }
+            writeVarInt(out, parsed.size());
+            for (UUID uuid : parsed) {
+                uuid(uuid);
+            }
+        }
+
+        private void names(Map<String, Object> names) throws IOException {
+            Map<UUID, String> parsed = new LinkedHashMap<>();
+            if (names != null) {
+                for (Map.Entry<String, Object> entry : names.entrySet()) {
+                    UUID uuid = uuid(entry.getKey());
+                    if (uuid != null && entry.getValue() != null) {
+                        parsed.put(uuid, String.valueOf(entry.getValue()));
+                    }
+                }
+            }
+            writeVarInt(out, parsed.size());
+            for (Map.Entry<UUID, String> entry : parsed.entrySet()) {
+                uuid(entry.getKey());
+                writeVarInt(out, intern(entry.getValue()));
+            }
+        }
+
+        /** {@code <prefix>World/X/Y/Z} as a world index plus one (zero for none) and three varints. */
+        private void blockLocation(Map<String, Object> section, String prefix) throws IOException {
+            String world = string(section, prefix + "World");
+            optionalString(world);
+            if (world != null) {
+                writeVarLong(out, (int) number(section, prefix + "X"));
+                writeVarLong(out, (int) number(section, prefix + "Y"));
+                writeVarLong(out, (int) number(section, prefix + "Z"));
+            }
+        }
+    }
+
+    /** Reads a body back, resolving each world and material in the string table at most once. */
+    private static final class Decoder {
+        private final DataInputStream in;
+        private final Map<String, Map<String, Map<String, Object>>> unresolved = new HashMap<>();
+        // Stored values of the current claim's locations in worlds that are not loaded
+        private Map<String, Map<String, Object>> claimUnresolved;
+        private String[] strings;
+        private World[] worlds;
+        private Material[] materials;
+        private boolean[] worldResolved;
+        private boolean[] materialResolved;
+
+        Decoder(DataInputStream in) {
+            this.in = in;
+        }
+
+        Snapshot snapshot() throws IOException {
+            strings = new String[readVarInt(in)];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[readVarInt(in)];
+                in.readFully(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+            worlds = new World[strings.length];
+            materials = new Material[strings.length];
+            worldResolved = new boolean[strings.length];
+            materialResolved = new boolean[strings.length];
+
+            int count = readVarInt(in);
+            Map<String, ClaimData> claims = new LinkedHashMap<>(count * 4 / 3 + 1);
+            for (int i = 0; i < count; i++) {
+                String claimId = string();
+                claimUnresolved = null;
+                claims.put(claimId, claim());
+                if (claimUnresolved != null) {
+                    unresolved.put(claimId, claimUnresolved);
+                }
+            }
+            if (in.available() != 0) {
+                throw new IOException("Trailing bytes after last claim");
+            }
+            return new Snapshot(claims, unresolved);
+        }
+
+        private ClaimData claim() throws IOException {
+            ClaimData data = new ClaimData();
+            int flags = readVarInt(in);
+            data.publicListed = (flags & F_PUBLIC) != 0;
+            data.globalApprovalPending = (flags & F_APPROVAL_PENDING) != 0;
+            data.publicWaypoint = (flags & F_PUBLIC_WAYPOINT) != 0;
+
+            int icons = readVarInt(in);
+            for (int i = 0; i < icons; i++) {
+                addIcon(data, material(readVarInt(in)));
+            }
+            int fallbackIcon = readVarInt(in);
+            if (data.iconHistory.isEmpty() && fallbackIcon > 0) {
+                addIcon(data, material(fallbackIcon - 1));
+            }
+            data.icon = data.iconHistory.isEmpty() ? null : data.iconHistory.get(0);
+            if ((flags & F_DESCRIPTION) != 0) data.description = string();
+            if ((flags & F_NAME) != 0) data.customName = string();
+            if ((flags & F_COLOR) != 0) data.waypointColor = string();
+
+            if ((flags & F_BANS) != 0) {
+                BanData bans = new BanData();
+                bans.publicBanned = in.readBoolean();
+                readUuids(bans.bannedPlayers, readVarInt(in));
+                readNames(bans.playerNames, readVarInt(in));
+                if (!bans.isEmpty()) {
+                    data.bans = bans;
+                }
+            }
+            int trusted = readVarInt(in);
+            if (trusted > 0) {
+                readUuids(ClaimDataStore.trusted(data), trusted);
+            }
+            int names = readVarInt(in);
+            if (names > 0) {
+                readNames(ClaimDataStore.trustedNames(data), names);
+            }
+
+            if ((flags & F_RENTAL) != 0) {
+                data.rental = new RentalData(uuid(), readVarLong(in), readVarLong(in));
+                data.rental.signLocation = blockLocation("rental", "sign");
+                int reminders = readVarInt(in);
+                for (int i = 0; i < reminders; i++) {
+                    data.rental.reminders.add(readVarLong(in));
+                }
+                int rentalFlags = in.readUnsignedByte();
+                data.rental.pendingPayment = (rentalFlags & 1) != 0;
+                data.rental.paymentFailed = (rentalFlags & 2) != 0;
+            }
+            if ((flags & F_MAILBOX) != 0) {
+                data.mailbox = new MailboxData(uuid());
+                data.mailbox.signLocation = blockLocation("mailbox", "sign");
+                data.mailbox.containerLocation = blockLocation("mailbox", "container");
+            }
+            if ((flags & F_EVICTION) != 0) {
+                data.eviction = new EvictionData(uuid(), uuid(), readVarLong(in), readVarLong(in));
+            }
+            if ((flags & F_PENDING_RENT) != 0) {
+                data.pendingRent = new PendingRentData(uuid(), string(), string(), string(), readVarLong(in), in.readBoolean());
+            }
+            if ((flags & F_SPAWN) != 0) {
+                int worldIndex = readVarInt(in);
+                World world = world(worldIndex);
+                double x = in.readDouble();
+                double y = in.readDouble();
+                double z = in.readDouble();
+                float yaw = in.readFloat();
+                float pitch = in.readFloat();
+                if (world != null) {
+                    data.spawn = new Location(world, x, y, z, yaw, pitch);
+                } else {
+                    keepUnresolved("", "spawn",
+                            strings[worldIndex] + "," + x + "," + y + "," + z + "," + yaw + "," + pitch);
+                }
+            }
+            return data;
+        }
+
+        private static void addIcon(ClaimData data, Material material) {
+            if (material != null && material != Material.AIR && !data.iconHistory.contains(material)
+                    && data.iconHistory.size() < ClaimDataStore.MAX_RECENT_ICONS) {
+                ClaimDataStore.icons(data).add(material);
+            }
+        }
+
+        private String string() throws IOException {
+            return strings[readVarInt(in)];
+        }
+
+        private UUID uuid() throws IOException {
+            return ClaimDataInterner.uuid(new UUID(in.readLong(), in.readLong()));
+        }
+
+        private void readUuids(Set<UUID> target, int size) throws IOException {
+            for (int i = 0; i < size; i++) {
+                target.add(uuid());
+            }
+        }
+
+        private void readNames(Map<UUID, String> target, int size) throws IOException {
+            for (int i = 0; i < size; i++) {
+                UUID uuid = uuid();
+                target.put(uuid, ClaimDataInterner.name(string()));
+            }
+        }
+
+        /**
+         * Null when no location was stored or its world is not loaded; in the latter case the
+         * stored {@code <prefix>World/X/Y/Z} values are kept for the given claim section.
+         */
+        private Location blockLocation(String section, String prefix) throws IOException {
+            int worldIndex = readVarInt(in);
+            if (worldIndex == 0) {
+                return null;
+            }
+            World world = world(worldIndex - 1);
+            int x = (int) readVarLong(in);
+            int y = (int) readVarLong(in);
+            int z = (int) readVarLong(in);
+            if (world != null) {
+                return new Location(world, x, y, z);
+            }
+            keepUnresolved(section, prefix + "World", strings[worldIndex - 1]);
+            keepUnresolved(section, prefix + "X", x);
+            keepUnresolved(section, prefix + "Y", y);
+            keepUnresolved(section, prefix + "Z", z);
+            return null;
+        }
+
+        private void keepUnresolved(String section, String key, Object value) {
+            if (claimUnresolved == null) {
+                claimUnresolved = new LinkedHashMap<>();
+            }
+            claimUnresolved.computeIfAbsent(section, s -> new LinkedHashMap<>()).put(key, value);
+        }
+
+        private World world(int index) {
+            if (!worldResolved[index]) {
+                worlds[index] = Bukkit.getWorld(strings[index]);
+                worldResolved[index] = true;
+            }
+            return worlds[index];
+        }
+
+        private Material material(int index) {
+            if (!materialResolved[index]) {
+                materials[index] = Material.matchMaterial(strings[index]);
+                materialResolved[index] = true;
+            }
+            return materials[index];
+        }
+    }
+
+    // Plain-map accessors that read values the way ConfigurationSection's getters do
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> section(Map<String, Object> map, String key) {
+        return map.get(key) instanceof Map<?, ?> child ? (Map<String, Object>) child : null;
+    }
+
+    private static String string(Map<String, Object> map, String key) {
+        Object value = map.get(key);
+        return value != null ? value.toString() : null;
+    }
+
+    private static boolean bool(Map<String, Object> map, String key) {
+        return map.get(key) instanceof Boolean b && b;
+    }
+
+    private static long number(Map<String, Object> map, String key) {
+        return map.get(key) instanceof Number n ? n.longValue() : 0L;
+    }
+
+    private static List<String> stringList(Map<String, Object> map, String key) {
+        if (!(map.get(key) instanceof List<?> list)) {
+            return List.of();
+        }
+        List<String> result = new ArrayList<>(list.size());
+        for (Object element : list) {
+            if (element instanceof String || element instanceof Number
+                    || element instanceof Boolean || element instanceof Character) {
+                result.add(String.valueOf(element));
+            }
+        }
+        return result;
+    }
+
+    private static List<Long> longList(Map<String, Object> map, String key) {
+        if (!(map.get(key) instanceof List<?> list)) {
+            return List.of();
+        }
+        List<Long> result = new ArrayList<>(list.size());
+        for (Object element : list) {
+            if (element instanceof Number n) {
+                result.add(n.longValue());
+            } else if (element instanceof String s) {
+                try {
+                    result.add(Long.valueOf(s));
+                } catch (NumberFormatException ignored) {}
+            }
+        }
+        return result;
+    }
+
+    private static UUID uuid(Object value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(value.toString());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /** The parts of a {@code world,x,y,z[,yaw[,pitch]]} spawn string, or null if it does not parse. */
+    private static String[] spawnParts(String spawn) {
+        if (spawn == null) {
+            return null;
+        }
+        String[] parts = spawn.split(",");
+        if (parts.length < 4) {
+            return null;
+        }
+        try {
+            for (int i = 1; i < Math.min(parts.length, 6); i++) {
+                Double.parseDouble(parts[i]);
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        return parts;
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(InputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.read();
+            if (b < 0) throw new IOException("Truncated varint");
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    /** Zig-zag encoded so small negative values stay short too. */
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        long v = (value << 1) ^ (value >> 63);
+        while ((v & ~0x7FL) != 0) {
+            out.writeByte((int) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+        out.writeByte((int) v);
+    }
+
+    private static long readVarLong(InputStream in) throws IOException {
+        long v = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            int b = in.read();
+            if (b < 0) throw new IOException("Truncated varint");
+            v |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return (v >>> 1) ^ -(v & 1);
+        }
+        throw new IOException("Malformed varint");
+    }
+}
@@ -0,0 +1,45 @@
+package codes.castled.gpexpansion.storage;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.UUID;
+import java.util.WeakHashMap;
+
+/**
+ * Canonical instances for the UUIDs and player names stored on claims. A player who is trusted or
+ * banned on many claims is then held once, not once per claim. Entries are weak, so a player drops
+ * out once no claim, ban or trust entry refers to them any more.
+ */
+final class ClaimDataInterner {
+
+    private static final Map<UUID, WeakReference<UUID>> UUIDS = new WeakHashMap<>();
+    private static final Map<String, WeakReference<String>> NAMES = new WeakHashMap<>();
+
+    private ClaimDataInterner() {}
+
+    static UUID uuid(UUID uuid) {
+        if (uuid == null) return null;
+        return intern(UUIDS, uuid);
+    }
+
+    static UUID uuid(String uuid) {
+        return uuid(UUID.fromString(uuid));
+    }
+
+    static String name(String name) {
+        if (name == null) return null;
+        return intern(NAMES, name);
+    }
+
+    private static <T> T intern(Map<T, WeakReference<T>> pool, T value) {
+        synchronized (pool) {
+            WeakReference<T> ref = pool.get(value);
+            T existing = ref != null ? ref.get() : null;
+            if (existing != null) {
+                return existing;
+            }
+            pool.put(value, new WeakReference<>(value));
+            return value;
+        }
+    }
+}
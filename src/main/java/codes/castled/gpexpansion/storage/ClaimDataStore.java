@@ -4,37 +4,77 @@ import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.World;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.MemoryConfiguration;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
 
 import codes.castled.gpexpansion.GPExpansionPlugin;
+import codes.castled.gpexpansion.scheduler.SchedulerAdapter;
 import me.ryanhamshire.GriefPrevention.Claim;
 import me.ryanhamshire.GriefPrevention.GriefPrevention;
 import org.bukkit.command.CommandSender;
 
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 /**
  * Consolidated claim data storage that combines icons, bans, names, rentals, mailboxes, evictions, and spawns
- * into a single smart YAML structure organized by claim ID.
+ * into a single structure organized by claim ID. Data lives in memory and is persisted through a
+ * {@link ClaimMetadataRepository} selected by {@code storage.mode}: claimdata.yml by default.
  */
 public class ClaimDataStore {
-    private static final int MAX_RECENT_ICONS = 5;
+    static final int MAX_RECENT_ICONS = 5;
 
     private final GPExpansionPlugin plugin;
-    private final File file;
-    private FileConfiguration config;
+    private ClaimMetadataRepository repository;
     
     // In-memory cache
-    private final Map<String, ClaimData> claimData = new HashMap<>();
+    private final Map<String, ClaimData> claimData = new ConcurrentHashMap<>();
+
+    // Immutable per-claim views for off-thread readers. Each is rebuilt on the owning thread when
+    // its claim changes and swapped in whole, so a reader sees either the old or the new state.
+    private final Map<String, ClaimView> views = new ConcurrentHashMap<>();
+    private final AtomicLong viewVersion = new AtomicLong();
+
+    // Write-behind state: claims changed since the last flush. Only these are re-serialised and
+    // handed to the repository, which is flushed by one writer at a time.
+    private final Set<String> dirtyClaims = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+    private final Object flushLock = new Object();
+
+    // Secondary indexes over claimData, kept in step by reindex() so the listing queries below
+    // cost O(result) rather than a scan of every claim.
+    private final Set<String> publicListedIndex = ConcurrentHashMap.newKeySet();
+    private final Set<String> approvalQueueIndex = ConcurrentHashMap.newKeySet();
+    private final Set<String> bannedClaimIndex = ConcurrentHashMap.newKeySet();
+    private final Set<String> publicBannedIndex = ConcurrentHashMap.newKeySet();
+    // Player -> claims banning them, with each claim's last indexed ban list to diff against.
+    private final Map<UUID, Set<String>> bannedClaimsByPlayer = new ConcurrentHashMap<>();
+    private final Map<String, Set<UUID>> indexedBannedPlayers = new ConcurrentHashMap<>();
+    private final Set<String> pendingRentIndex = ConcurrentHashMap.newKeySet();
+    private final Set<String> rentedClaimIndex = ConcurrentHashMap.newKeySet();
+    private final Map<String, UUID> renterByClaim = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<String>> rentalsByRenter = new ConcurrentHashMap<>();
+    private final Map<String, UUID> mailboxOwnerByClaim = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<String>> mailboxesByOwner = new ConcurrentHashMap<>();
+    // GP owner of each global (listed or pending) or rented claim, bucketed per owner so sign and
+    // global-claim limits are a lookup. The owner is not part of ClaimData, so new entries wait in
+    // unresolvedOwners until the next count and are re-queued when GP reports a transfer.
+    private final Map<String, UUID> ownerByClaim = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<String>> globalClaimsByOwner = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<String>> rentalsByOwner = new ConcurrentHashMap<>();
+    private final Set<String> unresolvedOwners = ConcurrentHashMap.newKeySet();
 
     // Incremented on every ban mutation so ban enforcement can invalidate its claim index.
-    private volatile int banRevision;
+    private final AtomicInteger banRevision = new AtomicInteger();
 
     /**
      * Resolve a claim ID string to a GP3D Claim object.
@@ -59,7 +99,8 @@ public class ClaimDataStore {
         public boolean publicListed = false;
         public boolean globalApprovalPending = false;
         public Material icon = null;
-        public final List<Material> iconHistory = new ArrayList<>();
+        // Collections start as shared empties and are allocated on first write, see icons(ClaimData)
+        public List<Material> iconHistory = List.of();
         public String description = null;
         public String customName = null;
         /** Lowercase Adventure {@link net.kyori.adventure.text.format.NamedTextColor} name, or null for the default. */
@@ -67,12 +108,12 @@ public class ClaimDataStore {
         /** Whether this claim's waypoint is shown to everyone rather than only owner and trusted. */
         public boolean publicWaypoint = false;
 
-        // Ban data
-        public BanData bans = new BanData();
+        // Ban data, null until the claim bans someone
+        public BanData bans = null;
 
         // Cached trusted players for GUI friendliness
-        public final Set<UUID> trustedPlayers = new HashSet<>();
-        public final Map<UUID, String> trustedPlayerNames = new HashMap<>();
+        public Set<UUID> trustedPlayers = Set.of();
+        public Map<UUID, String> trustedPlayerNames = Map.of();
         
         // Rental data
         public RentalData rental = null;
@@ -94,8 +135,12 @@ public class ClaimDataStore {
     
     public static class BanData {
         public boolean publicBanned = false;
-        public final Set<UUID> bannedPlayers = new HashSet<>();
-        public final Map<UUID, String> playerNames = new HashMap<>();
+        public final Set<UUID> bannedPlayers = new CompactUuidSet();
+        public final Map<UUID, String> playerNames = new CompactNameMap();
+
+        boolean isEmpty() {
+            return !publicBanned && bannedPlayers.isEmpty() && playerNames.isEmpty();
+        }
     }
     
     public static class RentalData {
@@ -157,41 +202,107 @@ public class ClaimDataStore {
         }
     }
     
+    /**
+     * Read-only copy of a claim's data, safe to read from any thread. Obtain one from
+     * {@link #getView(String)}; it never changes, so hold on to it only as long as slightly stale
+     * data is acceptable. {@link #version()} increases with every rebuild across all claims.
+     */
+    public record ClaimView(
+        long version,
+        boolean publicListed,
+        boolean globalApprovalPending,
+        Material icon,
+        List<Material> iconHistory,
+        String description,
+        String customName,
+        String waypointColor,
+        boolean publicWaypoint,
+        boolean publicBanned,
+        Set<UUID> bannedPlayers,
+        Map<UUID, String> bannedPlayerNames,
+        Set<UUID> trustedPlayers,
+        Map<UUID, String> trustedPlayerNames,
+        UUID renter,
+        long rentalExpiry,
+        UUID mailboxOwner,
+        Location spawn
+    ) {
+        static ClaimView of(long version, ClaimData data) {
+            return new ClaimView(
+                version,
+                data.publicListed,
+                data.globalApprovalPending,
+                data.icon,
+                List.copyOf(data.iconHistory),
+                data.description,
+                data.customName,
+                data.waypointColor,
+                data.publicWaypoint,
+                data.bans != null && data.bans.publicBanned,
+                data.bans != null ? Set.copyOf(data.bans.bannedPlayers) : Set.of(),
+                data.bans != null ? Map.copyOf(data.bans.playerNames) : Map.of(),
+                Set.copyOf(data.trustedPlayers),
+                Map.copyOf(data.trustedPlayerNames),
+                data.rental != null ? data.rental.renter : null,
+                data.rental != null ? data.rental.expiry : 0L,
+                data.mailbox != null ? data.mailbox.owner : null,
+                data.spawn != null ? data.spawn.clone() : null);
+        }
+
+        /** The claim spawn, copied because {@link Location} is mutable. */
+        @Override
+        public Location spawn() {
+            return spawn != null ? spawn.clone() : null;
+        }
+
+        public boolean isRented() {
+            return renter != null && rentalExpiry > System.currentTimeMillis();
+        }
+    }
+
     public ClaimDataStore(GPExpansionPlugin plugin) {
         this.plugin = plugin;
-        this.file = new File(plugin.getDataFolder(), "claimdata.yml");
     }
     
     public void load() {
-        try {
-            if (!plugin.getDataFolder().exists()) {
-                plugin.getDataFolder().mkdirs();
-            }
-            if (!file.exists()) {
-                file.createNewFile();
-                // Initialize with basic structure
-                try (FileWriter writer = new FileWriter(file)) {
-                    writer.write("# GPExpansion Consolidated Claim Data\n");
-                    writer.write("# This file stores all claim-related data in one place\n\n");
-                    writer.write("claims: {}\n");
-                }
+        claimData.clear();
+        dirtyClaims.clear();
+        clearIndexes();
+        views.clear();
+
+        synchronized (flushLock) {
+            if (repository != null) {
+                repository.close();
             }
-        } catch (IOException e) {
-            plugin.getLogger().warning("Failed creating claimdata.yml: " + e.getMessage());
+            repository = createRepository();
         }
-        
-        config = YamlConfiguration.loadConfiguration(file);
-        claimData.clear();
-        
-        if (config.isConfigurationSection("claims")) {
-            for (String claimId : config.getConfigurationSection("claims").getKeys(false)) {
-                ClaimData data = loadClaimData(claimId);
-                claimData.put(claimId, data);
+        Map<String, Map<String, Object>> stored;
+        boolean seedFromYaml;
+        try {
+            stored = repository.loadAll();
+            // Only a database with no rows at all is seeded; an empty read is not proof of that
+            seedFromYaml = repository instanceof SqliteClaimMetadataRepository sqlite && sqlite.isEmpty();
+        } catch (IOException e) {
+            plugin.getLogger().severe(e.getMessage());
+            plugin.getLogger().severe("Claim data was not loaded. Changes will not be saved until a reload reads it successfully.");
+            synchronized (flushLock) {
+                // With no repository nothing is staged or written, so the stored rows stay intact
+                repository.close();
+                repository = null;
             }
+            return;
+        }
+        Map<String, ClaimData> decoded = repository.takeDecodedClaims();
+        for (Map.Entry<String, Map<String, Object>> entry : stored.entrySet()) {
+            claimData.put(entry.getKey(), adoptOrLoad(decoded.get(entry.getKey()), entry.getValue()));
+            reindex(entry.getKey());
+        }
+        if (seedFromYaml) {
+            importFromYaml();
         }
         
-        banRevision++;
-        plugin.getLogger().info("Loaded " + claimData.size() + " claim data entries.");
+        banRevision.incrementAndGet();
+        plugin.getLogger().info("Loaded " + claimData.size() + " claim data entries from " + repository.getName() + ".");
 
         // Always check for old files and show safe-to-delete messages
         checkForOldFiles();
@@ -200,127 +311,191 @@ public class ClaimDataStore {
         checkAndMigrateOldFiles();
     }
     
+    private ClaimMetadataRepository createRepository() {
+        String mode = plugin.getConfigManager().getClaimDataStorageMode();
+        if (mode.equals("sqlite")) {
+            File db = new File(plugin.getDataFolder(), plugin.getConfigManager().getClaimDataSqliteFile());
+            return new SqliteClaimMetadataRepository(plugin, db);
+        }
+        return new YamlClaimMetadataRepository(plugin, mode.equals("journal"));
+    }
+
+    /**
+     * Seed an empty database from claimdata.yml (and any journal beside it) the first time the
+     * SQL backend is enabled, so switching backends does not start from nothing. The YAML files
+     * are left in place as a fallback.
+     */
+    private void importFromYaml() {
+        if (!new File(plugin.getDataFolder(), "claimdata.yml").exists()) {
+            return;
+        }
+        YamlClaimMetadataRepository yaml = new YamlClaimMetadataRepository(plugin, true);
+        Map<String, Map<String, Object>> imported;
+        try {
+            imported = yaml.loadAll();
+        } catch (IOException e) {
+            // The database stays empty, so the import is tried again on the next load
+            plugin.getLogger().severe(e.getMessage());
+            plugin.getLogger().severe("Claim data was not imported from claimdata.yml.");
+            return;
+        }
+        if (imported.isEmpty()) {
+            return;
+        }
+        Map<String, ClaimData> decoded = yaml.takeDecodedClaims();
+        for (Map.Entry<String, Map<String, Object>> entry : imported.entrySet()) {
+            claimData.put(entry.getKey(), adoptOrLoad(decoded.get(entry.getKey()), entry.getValue()));
+            markDirty(entry.getKey());
+        }
+        if (saveNow()) {
+            plugin.getLogger().info("Imported " + imported.size() + " claim(s) from claimdata.yml into " + repository.getName() + ".");
+        }
+    }
+
+    /** A claim the repository already decoded, held to this config's limits, or else one built from its map. */
+    private ClaimData adoptOrLoad(ClaimData decoded, Map<String, Object> stored) {
+        if (decoded == null) {
+            return loadClaimData(toSection(stored));
+        }
+        applyLoadLimits(decoded);
+        return decoded;
+    }
+
+    static ConfigurationSection toSection(Map<String, Object> data) {
+        return new MemoryConfiguration().createSection("claim", data);
+    }
+
     /**
-     * Reload the claim data store
+     * Reload the claim data store. Pending changes are flushed first so the re-read sees them;
+     * the flush is a shutdown flush so the binary cache is refreshed and the re-read can use it.
      */
     public void reload() {
+        flushScheduled.set(false);
+        collectDirtyClaims();
+        writeChanges(true);
         load();
     }
     
-    private ClaimData loadClaimData(String claimId) {
-        String path = "claims." + claimId + ".";
+    private ClaimData loadClaimData(ConfigurationSection section) {
+        ClaimData data = readClaim(section);
+        applyLoadLimits(data);
+        return data;
+    }
+
+    /** A claim from its claimdata.yml section, before the configured limits are applied. */
+    static ClaimData readClaim(ConfigurationSection section) {
         ClaimData data = new ClaimData();
         
         // Basic data
-        data.publicListed = config.getBoolean(path + "public", false);
-        data.globalApprovalPending = config.getBoolean(path + "globalApprovalPending", false);
-        loadIconHistory(path, data);
-        data.description = config.getString(path + "description");
-        data.customName = truncateCustomName(config.getString(path + "name"));
-        data.waypointColor = normalizeWaypointColor(config.getString(path + "color"));
-        data.publicWaypoint = config.getBoolean(path + "publicWaypoint", false);
-        int maxDescriptionLength = plugin.getConfigManager().getClaimDescriptionMaxLength();
-        if (data.description != null && data.description.length() > maxDescriptionLength) {
-            data.description = data.description.substring(0, maxDescriptionLength);
-        }
+        data.publicListed = section.getBoolean("public", false);
+        data.globalApprovalPending = section.getBoolean("globalApprovalPending", false);
+        loadIconHistory(section, data);
+        data.description = section.getString("description");
+        data.customName = section.getString("name");
+        data.waypointColor = section.getString("color");
+        data.publicWaypoint = section.getBoolean("publicWaypoint", false);
         
         // Ban data
-        String banPath = path + "bans.";
-        data.bans.publicBanned = config.getBoolean(banPath + "public", false);
-        List<String> bannedUuids = config.getStringList(banPath + "players");
+        String banPath = "bans.";
+        BanData bans = new BanData();
+        bans.publicBanned = section.getBoolean(banPath + "public", false);
+        List<String> bannedUuids = section.getStringList(banPath + "players");
         for (String uuidStr : bannedUuids) {
             try {
-                data.bans.bannedPlayers.add(UUID.fromString(uuidStr));
+                bans.bannedPlayers.add(ClaimDataInterner.uuid(uuidStr));
             } catch (IllegalArgumentException ignored) {}
         }
-        if (config.isConfigurationSection(banPath + "names")) {
-            for (String key : config.getConfigurationSection(banPath + "names").getKeys(false)) {
+        if (section.isConfigurationSection(banPath + "names")) {
+            for (String key : section.getConfigurationSection(banPath + "names").getKeys(false)) {
                 try {
-                    UUID uuid = UUID.fromString(key);
-                    String name = config.getString(banPath + "names." + key);
+                    UUID uuid = ClaimDataInterner.uuid(key);
+                    String name = section.getString(banPath + "names." + key);
                     if (name != null) {
-                        data.bans.playerNames.put(uuid, name);
+                        bans.playerNames.put(uuid, ClaimDataInterner.name(name));
                     }
                 } catch (IllegalArgumentException ignored) {}
             }
         }
+        if (!bans.isEmpty()) {
+            data.bans = bans;
+        }
 
-        String trustPath = path + "trustedPlayers.";
-        List<String> trustedUuids = config.getStringList(trustPath + "players");
+        String trustPath = "trustedPlayers.";
+        List<String> trustedUuids = section.getStringList(trustPath + "players");
         for (String uuidStr : trustedUuids) {
             try {
-                data.trustedPlayers.add(UUID.fromString(uuidStr));
+                trusted(data).add(ClaimDataInterner.uuid(uuidStr));
             } catch (IllegalArgumentException ignored) {}
         }
-        if (config.isConfigurationSection(trustPath + "names")) {
-            for (String key : config.getConfigurationSection(trustPath + "names").getKeys(false)) {
+        if (section.isConfigurationSection(trustPath + "names")) {
+            for (String key : section.getConfigurationSection(trustPath + "names").getKeys(false)) {
                 try {
-                    UUID uuid = UUID.fromString(key);
-                    String name = config.getString(trustPath + "names." + key);
+                    UUID uuid = ClaimDataInterner.uuid(key);
+                    String name = section.getString(trustPath + "names." + key);
                     if (name != null) {
-                        data.trustedPlayerNames.put(uuid, name);
+                        trustedNames(data).put(uuid, ClaimDataInterner.name(name));
                     }
                 } catch (IllegalArgumentException ignored) {}
             }
         }
         
         // Rental data
-        if (config.contains(path + "rental")) {
-            String rentalPath = path + "rental.";
-            String renterStr = config.getString(rentalPath + "renter");
+        if (section.contains("rental")) {
+            String rentalPath = "rental.";
+            String renterStr = section.getString(rentalPath + "renter");
             if (renterStr != null) {
                 try {
-                    UUID renter = UUID.fromString(renterStr);
-                    long expiry = config.getLong(rentalPath + "expiry", 0L);
-                    long start = config.getLong(rentalPath + "start", 0L);
+                    UUID renter = ClaimDataInterner.uuid(renterStr);
+                    long expiry = section.getLong(rentalPath + "expiry", 0L);
+                    long start = section.getLong(rentalPath + "start", 0L);
                     data.rental = new RentalData(renter, expiry, start);
-                    String signWorldName = config.getString(rentalPath + "signWorld");
+                    String signWorldName = section.getString(rentalPath + "signWorld");
                     if (signWorldName != null) {
                         World signWorld = Bukkit.getWorld(signWorldName);
                         if (signWorld != null) {
-                            int x = config.getInt(rentalPath + "signX");
-                            int y = config.getInt(rentalPath + "signY");
-                            int z = config.getInt(rentalPath + "signZ");
+                            int x = section.getInt(rentalPath + "signX");
+                            int y = section.getInt(rentalPath + "signY");
+                            int z = section.getInt(rentalPath + "signZ");
                             data.rental.signLocation = new Location(signWorld, x, y, z);
                         }
                     }
                     
-                    List<Long> reminders = config.getLongList(rentalPath + "reminders");
+                    List<Long> reminders = section.getLongList(rentalPath + "reminders");
                     data.rental.reminders.addAll(reminders);
-                    data.rental.pendingPayment = config.getBoolean(rentalPath + "pendingPayment", false);
-                    data.rental.paymentFailed = config.getBoolean(rentalPath + "paymentFailed", false);
+                    data.rental.pendingPayment = section.getBoolean(rentalPath + "pendingPayment", false);
+                    data.rental.paymentFailed = section.getBoolean(rentalPath + "paymentFailed", false);
                 } catch (IllegalArgumentException ignored) {}
             }
         }
         
         // Mailbox data
-        if (config.contains(path + "mailbox")) {
-            String mailboxPath = path + "mailbox.";
-            String ownerStr = config.getString(mailboxPath + "owner");
+        if (section.contains("mailbox")) {
+            String mailboxPath = "mailbox.";
+            String ownerStr = section.getString(mailboxPath + "owner");
             if (ownerStr != null) {
                 try {
-                    UUID owner = UUID.fromString(ownerStr);
+                    UUID owner = ClaimDataInterner.uuid(ownerStr);
                     data.mailbox = new MailboxData(owner);
                     
                     // Load sign location
-                    String worldName = config.getString(mailboxPath + "signWorld");
+                    String worldName = section.getString(mailboxPath + "signWorld");
                     if (worldName != null) {
                         World world = Bukkit.getWorld(worldName);
                         if (world != null) {
-                            int x = config.getInt(mailboxPath + "signX");
-                            int y = config.getInt(mailboxPath + "signY");
-                            int z = config.getInt(mailboxPath + "signZ");
+                            int x = section.getInt(mailboxPath + "signX");
+                            int y = section.getInt(mailboxPath + "signY");
+                            int z = section.getInt(mailboxPath + "signZ");
                             data.mailbox.signLocation = new Location(world, x, y, z);
                         }
                     }
                     // Load container location (virtual protocol)
-                    String contWorld = config.getString(mailboxPath + "containerWorld");
+                    String contWorld = section.getString(mailboxPath + "containerWorld");
                     if (contWorld != null) {
                         World world = Bukkit.getWorld(contWorld);
                         if (world != null) {
-                            int x = config.getInt(mailboxPath + "containerX");
-                            int y = config.getInt(mailboxPath + "containerY");
-                            int z = config.getInt(mailboxPath + "containerZ");
+                            int x = section.getInt(mailboxPath + "containerX");
+                            int y = section.getInt(mailboxPath + "containerY");
+                            int z = section.getInt(mailboxPath + "containerZ");
                             data.mailbox.containerLocation = new Location(world, x, y, z);
                         }
                     }
@@ -329,40 +504,40 @@ public class ClaimDataStore {
         }
         
         // Eviction data
-        if (config.contains(path + "eviction")) {
-            String evictionPath = path + "eviction.";
-            String ownerStr = config.getString(evictionPath + "owner");
-            String renterStr = config.getString(evictionPath + "renter");
+        if (section.contains("eviction")) {
+            String evictionPath = "eviction.";
+            String ownerStr = section.getString(evictionPath + "owner");
+            String renterStr = section.getString(evictionPath + "renter");
             if (ownerStr != null && renterStr != null) {
                 try {
-                    UUID owner = UUID.fromString(ownerStr);
-                    UUID renter = UUID.fromString(renterStr);
-                    long initiatedAt = config.getLong(evictionPath + "initiatedAt", 0L);
-                    long effectiveAt = config.getLong(evictionPath + "effectiveAt", 0L);
+                    UUID owner = ClaimDataInterner.uuid(ownerStr);
+                    UUID renter = ClaimDataInterner.uuid(renterStr);
+                    long initiatedAt = section.getLong(evictionPath + "initiatedAt", 0L);
+                    long effectiveAt = section.getLong(evictionPath + "effectiveAt", 0L);
                     data.eviction = new EvictionData(owner, renter, initiatedAt, effectiveAt);
                 } catch (IllegalArgumentException ignored) {}
             }
         }
 
         // Pending rent data
-        if (config.contains(path + "pendingRent")) {
-            String pendingPath = path + "pendingRent.";
-            String ownerStr = config.getString(pendingPath + "owner");
-            String renterName = config.getString(pendingPath + "renterName");
-            String kind = config.getString(pendingPath + "kind");
-            String amount = config.getString(pendingPath + "amount");
-            long timestamp = config.getLong(pendingPath + "timestamp", 0L);
-            boolean isPurchase = config.getBoolean(pendingPath + "isPurchase", false);
+        if (section.contains("pendingRent")) {
+            String pendingPath = "pendingRent.";
+            String ownerStr = section.getString(pendingPath + "owner");
+            String renterName = section.getString(pendingPath + "renterName");
+            String kind = section.getString(pendingPath + "kind");
+            String amount = section.getString(pendingPath + "amount");
+            long timestamp = section.getLong(pendingPath + "timestamp", 0L);
+            boolean isPurchase = section.getBoolean(pendingPath + "isPurchase", false);
             if (ownerStr != null && renterName != null && kind != null && amount != null) {
                 try {
-                    UUID owner = UUID.fromString(ownerStr);
+                    UUID owner = ClaimDataInterner.uuid(ownerStr);
                     data.pendingRent = new PendingRentData(owner, renterName, kind, amount, timestamp, isPurchase);
                 } catch (IllegalArgumentException ignored) {}
             }
         }
         
         // Spawn data
-        String spawnStr = config.getString(path + "spawn");
+        String spawnStr = section.getString("spawn");
         if (spawnStr != null) {
             data.spawn = deserializeLocation(spawnStr);
         }
@@ -370,134 +545,422 @@ public class ClaimDataStore {
         return data;
     }
     
+    /** Clamp stored text to the configured lengths and drop a colour the waypoint layer cannot show. */
+    private void applyLoadLimits(ClaimData data) {
+        data.customName = truncateCustomName(data.customName);
+        data.waypointColor = normalizeWaypointColor(data.waypointColor);
+        int maxDescriptionLength = plugin.getConfigManager().getClaimDescriptionMaxLength();
+        if (data.description != null && data.description.length() > maxDescriptionLength) {
+            data.description = data.description.substring(0, maxDescriptionLength);
+        }
+    }
+
+    /**
+     * Request that pending changes reach disk.
+     *
+     * <p>This is write-behind: claims marked dirty since the last flush are serialised on the next
+     * flush tick and the file is written off the main thread, so any number of calls within the
+     * flush window cost one write. Use {@link #saveNow()} when the data must be on disk before
+     * returning.
+     */
     public void save() {
-        if (config == null) config = new YamlConfiguration();
-        config.set("claims", null);
-        
-        for (Map.Entry<String, ClaimData> entry : claimData.entrySet()) {
-            String path = "claims." + entry.getKey() + ".";
-            ClaimData data = entry.getValue();
-            
-            // Basic data
-            config.set(path + "public", data.publicListed);
-            if (data.globalApprovalPending) {
-                config.set(path + "globalApprovalPending", true);
-            }
-            syncCurrentIcon(data);
-            if (!data.iconHistory.isEmpty()) {
-                config.set(path + "icons", data.iconHistory.stream().map(Material::name).collect(Collectors.toList()));
-                config.set(path + "icon", data.icon.name());
-            }
-            if (data.description != null) {
-                config.set(path + "description", data.description);
-            }
-            if (data.customName != null) {
-                config.set(path + "name", data.customName);
-            }
-            if (data.waypointColor != null) {
-                config.set(path + "color", data.waypointColor);
-            }
-            if (data.publicWaypoint) {
-                config.set(path + "publicWaypoint", true);
-            }
-            
-            // Ban data
-            String banPath = path + "bans.";
-            config.set(banPath + "public", data.bans.publicBanned);
-            List<String> bannedUuids = data.bans.bannedPlayers.stream()
-                .map(UUID::toString)
-                .collect(Collectors.toList());
-            config.set(banPath + "players", bannedUuids);
-            
-            if (!data.bans.playerNames.isEmpty()) {
-                Map<String, String> namesMap = data.bans.playerNames.entrySet().stream()
-                    .collect(Collectors.toMap(
-                        e -> e.getKey().toString(),
-                        Map.Entry::getValue
-                    ));
-                config.createSection(banPath + "names", namesMap);
+        if (dirtyClaims.isEmpty()) {
+            return;
+        }
+        if (!plugin.isEnabled()) {
+            saveNow();
+            return;
+        }
+        if (!flushScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        long delay = plugin.getConfigManager().getClaimDataSaveDelayTicks();
+        try {
+            SchedulerAdapter.runLaterGlobal(plugin, this::flushAsync, delay);
+        } catch (UnsupportedOperationException e) {
+            flushScheduled.set(false);
+            saveNow();
+        }
+    }
+
+    /**
+     * Serialise every dirty claim and write it to the repository synchronously. Used before a
+     * reload re-reads the data, and by {@code /gpx save}.
+     *
+     * @return true if the write succeeded
+     */
+    public boolean saveNow() {
+        flushScheduled.set(false);
+        collectDirtyClaims();
+        return writeChanges(false);
+    }
+
+    /**
+     * Flush pending changes and, in journal mode, fold the journal into claimdata.yml so the next
+     * startup reads a single file. Called on disable.
+     */
+    public void shutdown() {
+        flushScheduled.set(false);
+        collectDirtyClaims();
+        writeChanges(true);
+        synchronized (flushLock) {
+            if (repository != null) {
+                repository.close();
             }
+        }
+    }
 
-            String trustedPath = path + "trustedPlayers.";
-            List<String> trustedUuids = data.trustedPlayers.stream()
-                .map(UUID::toString)
-                .collect(Collectors.toList());
-            config.set(trustedPath + "players", trustedUuids);
+    /**
+     * Flag a claim whose {@link ClaimData} was changed through its public fields rather than a
+     * setter, so the next flush picks it up and the listing indexes reflect it.
+     */
+    public void markDirty(String claimId) {
+        if (claimId != null) {
+            dirtyClaims.add(claimId);
+            reindex(claimId);
+        }
+    }
 
-            if (!data.trustedPlayerNames.isEmpty()) {
-                Map<String, String> namesMap = data.trustedPlayerNames.entrySet().stream()
-                    .collect(Collectors.toMap(
-                        e -> e.getKey().toString(),
-                        Map.Entry::getValue
-                    ));
-                config.createSection(trustedPath + "names", namesMap);
+    /**
+     * Bring every secondary index in line with the claim's current data. Each index only holds
+     * claims that match, so this is a handful of set updates regardless of how many claims exist.
+     */
+    private void reindex(String claimId) {
+        ClaimData data = claimData.get(claimId);
+        boolean listed = data != null && data.publicListed;
+        boolean pending = data != null && data.globalApprovalPending;
+        toggle(publicListedIndex, claimId, listed);
+        toggle(approvalQueueIndex, claimId, pending);
+        boolean bansChanged = toggle(bannedClaimIndex, claimId, data != null && data.bans != null
+            && (data.bans.publicBanned || !data.bans.bannedPlayers.isEmpty()));
+        bansChanged |= toggle(publicBannedIndex, claimId, data != null && data.bans != null && data.bans.publicBanned);
+        bansChanged |= refreshBannedPlayers(claimId, data != null && data.bans != null ? data.bans.bannedPlayers : Set.of());
+        if (bansChanged) {
+            // Only once the ban indexes hold the change, so a reader seeing the new revision syncs to it
+            banRevision.incrementAndGet();
+        }
+        toggle(pendingRentIndex, claimId, data != null && data.pendingRent != null);
+        toggle(rentedClaimIndex, claimId, data != null && data.rental != null);
+        moveBucket(renterByClaim, rentalsByRenter, claimId,
+            data != null && data.rental != null ? data.rental.renter : null);
+        moveBucket(mailboxOwnerByClaim, mailboxesByOwner, claimId,
+            data != null && data.mailbox != null ? data.mailbox.owner : null);
+        refreshOwnerBuckets(claimId);
+        refreshView(claimId);
+    }
+
+    private void refreshView(String claimId) {
+        ClaimData data = claimData.get(claimId);
+        if (data == null) {
+            views.remove(claimId);
+            return;
+        }
+        syncCurrentIcon(data);
+        views.put(claimId, ClaimView.of(viewVersion.incrementAndGet(), data));
+    }
+
+    /**
+     * Immutable view of a claim for readers off the main thread, such as async GUI loading and
+     * the public API. Empty when the claim has no stored data.
+     */
+    public Optional<ClaimView> getView(String claimId) {
+        return claimId == null ? Optional.empty() : Optional.ofNullable(views.get(claimId));
+    }
+
+    /**
+     * Changes whenever any claim's view is rebuilt, so a consumer can cache derived data and
+     * rebuild it only when this moves.
+     */
+    public long getViewVersion() {
+        return viewVersion.get();
+    }
+
+    /**
+     * Place a claim in the per-owner global and rental buckets that match its current flags, or
+     * queue it for owner resolution if GP has not been asked yet.
+     */
+    private void refreshOwnerBuckets(String claimId) {
+        boolean global = publicListedIndex.contains(claimId) || approvalQueueIndex.contains(claimId);
+        boolean rented = rentedClaimIndex.contains(claimId);
+        UUID owner = ownerByClaim.get(claimId);
+        if (!global && !rented) {
+            unresolvedOwners.remove(claimId);
+            if (owner != null) {
+                ownerByClaim.remove(claimId);
+                setBucketMember(globalClaimsByOwner, owner, claimId, false);
+                setBucketMember(rentalsByOwner, owner, claimId, false);
             }
-            
-            // Rental data
-            if (data.rental != null) {
-                String rentalPath = path + "rental.";
-                config.set(rentalPath + "renter", data.rental.renter.toString());
-                config.set(rentalPath + "expiry", data.rental.expiry);
-                config.set(rentalPath + "start", data.rental.start);
-                if (data.rental.signLocation != null && data.rental.signLocation.getWorld() != null) {
-                    config.set(rentalPath + "signWorld", data.rental.signLocation.getWorld().getName());
-                    config.set(rentalPath + "signX", data.rental.signLocation.getBlockX());
-                    config.set(rentalPath + "signY", data.rental.signLocation.getBlockY());
-                    config.set(rentalPath + "signZ", data.rental.signLocation.getBlockZ());
+            return;
+        }
+        if (owner == null) {
+            unresolvedOwners.add(claimId);
+            return;
+        }
+        setBucketMember(globalClaimsByOwner, owner, claimId, global);
+        setBucketMember(rentalsByOwner, owner, claimId, rented);
+    }
+
+    private static void setBucketMember(Map<UUID, Set<String>> buckets, UUID key, String claimId, boolean member) {
+        if (member) {
+            buckets.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(claimId);
+        } else {
+            buckets.computeIfPresent(key, (k, ids) -> {
+                ids.remove(claimId);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    /** @return true if the claim was added or removed */
+    private static boolean toggle(Set<String> index, String claimId, boolean member) {
+        return member ? index.add(claimId) : index.remove(claimId);
+    }
+
+    /** Move a claim between per-player buckets, dropping it entirely when the key is null. */
+    private static void moveBucket(Map<String, UUID> keyByClaim, Map<UUID, Set<String>> buckets,
+                                   String claimId, UUID key) {
+        UUID previous = key == null ? keyByClaim.remove(claimId) : keyByClaim.put(claimId, key);
+        if (previous != null && !previous.equals(key)) {
+            setBucketMember(buckets, previous, claimId, false);
+        }
+        if (key != null) {
+            setBucketMember(buckets, key, claimId, true);
+        }
+    }
+
+    /**
+     * Re-bucket a claim under the players it bans, touching only those added or removed.
+     *
+     * @return true if anybody was added or removed
+     */
+    private boolean refreshBannedPlayers(String claimId, Set<UUID> bannedPlayers) {
+        Set<UUID> current = bannedPlayers.isEmpty() ? Set.of() : Set.copyOf(bannedPlayers);
+        Set<UUID> previous = current.isEmpty()
+            ? indexedBannedPlayers.remove(claimId)
+            : indexedBannedPlayers.put(claimId, current);
+        if (previous != null) {
+            for (UUID player : previous) {
+                if (!current.contains(player)) {
+                    setBucketMember(bannedClaimsByPlayer, player, claimId, false);
                 }
-                config.set(rentalPath + "reminders", new ArrayList<>(data.rental.reminders));
-                config.set(rentalPath + "pendingPayment", data.rental.pendingPayment);
-                config.set(rentalPath + "paymentFailed", data.rental.paymentFailed);
             }
-            
-            // Mailbox data
-            if (data.mailbox != null) {
-                String mailboxPath = path + "mailbox.";
-                config.set(mailboxPath + "owner", data.mailbox.owner.toString());
-                if (data.mailbox.signLocation != null && data.mailbox.signLocation.getWorld() != null) {
-                    config.set(mailboxPath + "signWorld", data.mailbox.signLocation.getWorld().getName());
-                    config.set(mailboxPath + "signX", data.mailbox.signLocation.getBlockX());
-                    config.set(mailboxPath + "signY", data.mailbox.signLocation.getBlockY());
-                    config.set(mailboxPath + "signZ", data.mailbox.signLocation.getBlockZ());
-                }
-                if (data.mailbox.containerLocation != null && data.mailbox.containerLocation.getWorld() != null) {
-                    config.set(mailboxPath + "containerWorld", data.mailbox.containerLocation.getWorld().getName());
-                    config.set(mailboxPath + "containerX", data.mailbox.containerLocation.getBlockX());
-                    config.set(mailboxPath + "containerY", data.mailbox.containerLocation.getBlockY());
-                    config.set(mailboxPath + "containerZ", data.mailbox.containerLocation.getBlockZ());
-                }
+        }
+        boolean changed = false;
+        for (UUID player : current) {
+            if (previous == null || !previous.contains(player)) {
+                setBucketMember(bannedClaimsByPlayer, player, claimId, true);
+                changed = true;
             }
-            
-            // Eviction data
-            if (data.eviction != null) {
-                String evictionPath = path + "eviction.";
-                config.set(evictionPath + "owner", data.eviction.ownerId.toString());
-                config.set(evictionPath + "renter", data.eviction.renterId.toString());
-                config.set(evictionPath + "initiatedAt", data.eviction.initiatedAt);
-                config.set(evictionPath + "effectiveAt", data.eviction.effectiveAt);
+        }
+        return changed || (previous != null && previous.size() != current.size());
+    }
+
+    private void clearIndexes() {
+        publicListedIndex.clear();
+        approvalQueueIndex.clear();
+        bannedClaimIndex.clear();
+        publicBannedIndex.clear();
+        bannedClaimsByPlayer.clear();
+        indexedBannedPlayers.clear();
+        pendingRentIndex.clear();
+        rentedClaimIndex.clear();
+        renterByClaim.clear();
+        rentalsByRenter.clear();
+        mailboxOwnerByClaim.clear();
+        mailboxesByOwner.clear();
+        ownerByClaim.clear();
+        globalClaimsByOwner.clear();
+        rentalsByOwner.clear();
+        unresolvedOwners.clear();
+    }
+
+    /**
+     * Forget the cached GP owner of a claim so global-claim and sign counts re-resolve it. Called
+     * when GP transfers or deletes the claim.
+     */
+    public void invalidateClaimOwner(String claimId) {
+        if (claimId == null) return;
+        UUID owner = ownerByClaim.remove(claimId);
+        if (owner != null) {
+            setBucketMember(globalClaimsByOwner, owner, claimId, false);
+            setBucketMember(rentalsByOwner, owner, claimId, false);
+        }
+        refreshOwnerBuckets(claimId);
+    }
+
+    /** Number of claims changed since the last flush. */
+    public int getDirtyCount() {
+        return dirtyClaims.size();
+    }
+
+    private void flushAsync() {
+        flushScheduled.set(false);
+        if (collectDirtyClaims() == 0) {
+            return;
+        }
+        SchedulerAdapter.runAsyncNow(plugin, () -> writeChanges(false));
+    }
+
+    /**
+     * Re-serialise dirty claims and stage them with the repository. Runs on the thread that owns
+     * the claim data; only the resulting plain maps are handed to the writer thread.
+     */
+    private int collectDirtyClaims() {
+        if (repository == null) {
+            return 0; // not loaded yet; dirty claims wait for the first load
+        }
+        int collected = 0;
+        Iterator<String> it = dirtyClaims.iterator();
+        while (it.hasNext()) {
+            String claimId = it.next();
+            it.remove();
+            ClaimData data = claimData.get(claimId);
+            repository.stage(claimId, data == null ? null : toPlainMap(data));
+            // Picks up fields assigned directly after the last setter call, before save().
+            refreshView(claimId);
+            collected++;
+        }
+        return collected;
+    }
+
+    /** Persist staged changes; {@code shutdown} lets the repository compact before exit. */
+    private boolean writeChanges(boolean shutdown) {
+        synchronized (flushLock) {
+            return repository != null && repository.flush(shutdown);
+        }
+    }
+
+    /** Sections become nested maps so the snapshot shares nothing mutable with the writer. */
+    static Map<String, Object> toPlainMap(ConfigurationSection section) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (String key : section.getKeys(false)) {
+            Object value = section.get(key);
+            map.put(key, value instanceof ConfigurationSection child ? toPlainMap(child) : value);
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * A claim in the claimdata.yml key layout, built straight into nested immutable maps so the
+     * snapshot shares nothing mutable with the live object.
+     */
+    static Map<String, Object> toPlainMap(ClaimData data) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        // Basic data
+        map.put("public", data.publicListed);
+        if (data.globalApprovalPending) {
+            map.put("globalApprovalPending", true);
+        }
+        syncCurrentIcon(data);
+        if (!data.iconHistory.isEmpty()) {
+            map.put("icons", data.iconHistory.stream().map(Material::name).collect(Collectors.toUnmodifiableList()));
+            map.put("icon", data.icon.name());
+        }
+        if (data.description != null) {
+            map.put("description", data.description);
+        }
+        if (data.customName != null) {
+            map.put("name", data.customName);
+        }
+        if (data.waypointColor != null) {
+            map.put("color", data.waypointColor);
+        }
+        if (data.publicWaypoint) {
+            map.put("publicWaypoint", true);
+        }
+
+        // Ban data (omitted entirely for the many claims that never ban anyone)
+        if (data.bans != null && !data.bans.isEmpty()) {
+            Map<String, Object> bans = new LinkedHashMap<>();
+            bans.put("public", data.bans.publicBanned);
+            bans.put("players", uuidStrings(data.bans.bannedPlayers));
+            if (!data.bans.playerNames.isEmpty()) {
+                bans.put("names", nameMap(data.bans.playerNames));
             }
+            map.put("bans", Collections.unmodifiableMap(bans));
+        }
 
-            // Pending rent data
-            if (data.pendingRent != null) {
-                String pendingPath = path + "pendingRent.";
-                config.set(pendingPath + "owner", data.pendingRent.ownerId.toString());
-                config.set(pendingPath + "renterName", data.pendingRent.renterName);
-                config.set(pendingPath + "kind", data.pendingRent.kind);
-                config.set(pendingPath + "amount", data.pendingRent.amount);
-                config.set(pendingPath + "timestamp", data.pendingRent.timestamp);
-                config.set(pendingPath + "isPurchase", data.pendingRent.isPurchase);
+        if (!data.trustedPlayers.isEmpty() || !data.trustedPlayerNames.isEmpty()) {
+            Map<String, Object> trusted = new LinkedHashMap<>();
+            if (!data.trustedPlayers.isEmpty()) {
+                trusted.put("players", uuidStrings(data.trustedPlayers));
             }
-            
-            // Spawn data
-            if (data.spawn != null) {
-                config.set(path + "spawn", serializeLocation(data.spawn));
+            if (!data.trustedPlayerNames.isEmpty()) {
+                trusted.put("names", nameMap(data.trustedPlayerNames));
             }
+            map.put("trustedPlayers", Collections.unmodifiableMap(trusted));
         }
-        
-        try {
-            config.save(file);
-        } catch (IOException e) {
-            plugin.getLogger().warning("Failed saving claimdata.yml: " + e.getMessage());
+
+        // Rental data
+        if (data.rental != null) {
+            Map<String, Object> rental = new LinkedHashMap<>();
+            rental.put("renter", data.rental.renter.toString());
+            rental.put("expiry", data.rental.expiry);
+            rental.put("start", data.rental.start);
+            putBlockLocation(rental, "sign", data.rental.signLocation);
+            rental.put("reminders", List.copyOf(data.rental.reminders));
+            rental.put("pendingPayment", data.rental.pendingPayment);
+            rental.put("paymentFailed", data.rental.paymentFailed);
+            map.put("rental", Collections.unmodifiableMap(rental));
+        }
+
+        // Mailbox data
+        if (data.mailbox != null) {
+            Map<String, Object> mailbox = new LinkedHashMap<>();
+            mailbox.put("owner", data.mailbox.owner.toString());
+            putBlockLocation(mailbox, "sign", data.mailbox.signLocation);
+            putBlockLocation(mailbox, "container", data.mailbox.containerLocation);
+            map.put("mailbox", Collections.unmodifiableMap(mailbox));
+        }
+
+        // Eviction data
+        if (data.eviction != null) {
+            Map<String, Object> eviction = new LinkedHashMap<>();
+            eviction.put("owner", data.eviction.ownerId.toString());
+            eviction.put("renter", data.eviction.renterId.toString());
+            eviction.put("initiatedAt", data.eviction.initiatedAt);
+            eviction.put("effectiveAt", data.eviction.effectiveAt);
+            map.put("eviction", Collections.unmodifiableMap(eviction));
+        }
+
+        // Pending rent data
+        if (data.pendingRent != null) {
+            Map<String, Object> pending = new LinkedHashMap<>();
+            pending.put("owner", data.pendingRent.ownerId.toString());
+            pending.put("renterName", data.pendingRent.renterName);
+            pending.put("kind", data.pendingRent.kind);
+            pending.put("amount", data.pendingRent.amount);
+            pending.put("timestamp", data.pendingRent.timestamp);
+            pending.put("isPurchase", data.pendingRent.isPurchase);
+            map.put("pendingRent", Collections.unmodifiableMap(pending));
+        }
+
+        // Spawn data
+        if (data.spawn != null) {
+            map.put("spawn", serializeLocation(data.spawn));
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    private static List<String> uuidStrings(Collection<UUID> uuids) {
+        return uuids.stream().map(UUID::toString).collect(Collectors.toUnmodifiableList());
+    }
+
+    private static Map<String, Object> nameMap(Map<UUID, String> names) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (Map.Entry<UUID, String> entry : names.entrySet()) {
+            map.put(entry.getKey().toString(), entry.getValue());
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    /** {@code <prefix>World/X/Y/Z}, skipped when the location or its world is gone. */
+    private static void putBlockLocation(Map<String, Object> map, String prefix, Location location) {
+        if (location != null && location.getWorld() != null) {
+            map.put(prefix + "World", location.getWorld().getName());
+            map.put(prefix + "X", location.getBlockX());
+            map.put(prefix + "Y", location.getBlockY());
+            map.put(prefix + "Z", location.getBlockZ());
         }
     }
     
@@ -545,7 +1008,10 @@ public class ClaimDataStore {
                     
                     if (migrated) {
                         // Save the migrated data
-                        save();
+                        for (String claimId : claimData.keySet()) {
+                            markDirty(claimId);
+                        }
+                        saveNow();
                         plugin.getLogger().info("Successfully migrated all old storage files to consolidated claimdata.yml");
                     }
                 }
@@ -589,22 +1055,23 @@ public class ClaimDataStore {
                     ClaimData data = claimData.computeIfAbsent(claimId, k -> new ClaimData());
                     String path = "bans." + claimId + ".";
                     
-                    data.bans.publicBanned = bansConfig.getBoolean(path + "public", false);
+                    BanData bans = bans(data);
+                    bans.publicBanned = bansConfig.getBoolean(path + "public", false);
                     
                     List<String> players = bansConfig.getStringList(path + "players");
                     for (String playerStr : players) {
                         try {
-                            data.bans.bannedPlayers.add(UUID.fromString(playerStr));
+                            bans.bannedPlayers.add(ClaimDataInterner.uuid(playerStr));
                         } catch (IllegalArgumentException ignored) {}
                     }
                     
                     if (bansConfig.isConfigurationSection(path + "playersNames")) {
                         for (String key : bansConfig.getConfigurationSection(path + "playersNames").getKeys(false)) {
                             try {
-                                UUID uuid = UUID.fromString(key);
+                                UUID uuid = ClaimDataInterner.uuid(key);
                                 String name = bansConfig.getString(path + "playersNames." + key);
                                 if (name != null) {
-                                    data.bans.playerNames.put(uuid, name);
+                                    bans.playerNames.put(uuid, ClaimDataInterner.name(name));
                                 }
                             } catch (IllegalArgumentException ignored) {}
                         }
@@ -612,7 +1079,7 @@ public class ClaimDataStore {
                     migratedCount++;
                 }
                 if (migratedCount > 0) {
-                    banRevision++;
+                    banRevision.incrementAndGet();
                     plugin.getLogger().info("Migrated bans from bans.yml");
                     return true;
                 }
@@ -808,11 +1275,11 @@ public class ClaimDataStore {
         return false;
     }
     
-    private String serializeLocation(Location loc) {
+    private static String serializeLocation(Location loc) {
         return loc.getWorld().getName() + "," + loc.getX() + "," + loc.getY() + "," + loc.getZ() + "," + loc.getYaw() + "," + loc.getPitch();
     }
     
-    private Location deserializeLocation(String str) {
+    private static Location deserializeLocation(String str) {
         String[] parts = str.split(",");
         if (parts.length >= 4) {
             try {
@@ -837,13 +1304,17 @@ public class ClaimDataStore {
     }
     
     public void set(String claimId, ClaimData data) {
+        if (data == null) {
+            remove(claimId);
+            return;
+        }
         claimData.put(claimId, data);
-        banRevision++;
+        markDirty(claimId);
     }
 
     public void remove(String claimId) {
         claimData.remove(claimId);
-        banRevision++;
+        markDirty(claimId);
     }
     
     // Basic claim data methods
@@ -863,6 +1334,7 @@ public class ClaimDataStore {
         if (listed) {
             data.globalApprovalPending = false;
         }
+        markDirty(claimId);
         Claim claim = resolveClaim(claimId);
         if (claim != null) {
             Bukkit.getPluginManager().callEvent(
@@ -881,6 +1353,7 @@ public class ClaimDataStore {
         if (pending) {
             data.publicListed = false;
         }
+        markDirty(claimId);
     }
     
     public Optional<Material> getIcon(String claimId) {
@@ -909,11 +1382,12 @@ public class ClaimDataStore {
         Material oldIcon = getIcon(claimId).orElse(null);
         ClaimData data = get(claimId);
         if (icon == null || icon == Material.AIR) {
-            data.iconHistory.clear();
+            data.iconHistory = List.of();
             data.icon = null;
         } else {
             pushRecentIcon(data, icon);
         }
+        markDirty(claimId);
         Claim claim = resolveClaim(claimId);
         if (claim != null) {
             Bukkit.getPluginManager().callEvent(
@@ -927,10 +1401,11 @@ public class ClaimDataStore {
             return Optional.empty();
         }
         if (data.iconHistory.size() > 1) {
-            Material current = data.iconHistory.remove(0);
-            data.iconHistory.add(current);
+            List<Material> icons = icons(data);
+            icons.add(icons.remove(0));
         }
         syncCurrentIcon(data);
+        markDirty(claimId);
         return Optional.ofNullable(data.icon);
     }
 
@@ -939,8 +1414,13 @@ public class ClaimDataStore {
         if (data == null || data.iconHistory.isEmpty()) {
             return Optional.empty();
         }
-        data.iconHistory.remove(0);
+        List<Material> icons = icons(data);
+        icons.remove(0);
+        if (icons.isEmpty()) {
+            data.iconHistory = List.of();
+        }
         syncCurrentIcon(data);
+        markDirty(claimId);
         return Optional.ofNullable(data.icon);
     }
 
@@ -986,9 +1466,9 @@ public class ClaimDataStore {
         }
 
         ClaimData target = get(targetClaimId);
-        target.iconHistory.clear();
-        target.iconHistory.addAll(merged);
+        target.iconHistory = merged.isEmpty() ? List.of() : merged;
         syncCurrentIcon(target);
+        markDirty(targetClaimId);
 
         for (String claimId : orderedIds) {
             if (claimId != null && !claimId.equals(targetClaimId)) {
@@ -1013,6 +1493,7 @@ public class ClaimDataStore {
             description = description.substring(0, maxDescriptionLength);
         }
         get(claimId).description = description;
+        markDirty(claimId);
         Claim claim = resolveClaim(claimId);
         if (claim != null) {
             Bukkit.getPluginManager().callEvent(
@@ -1032,6 +1513,7 @@ public class ClaimDataStore {
     public void setCustomName(String claimId, String name, @org.jetbrains.annotations.Nullable CommandSender actor) {
         String oldName = getCustomName(claimId).orElse(null);
         get(claimId).customName = truncateCustomName(name);
+        markDirty(claimId);
         Claim claim = resolveClaim(claimId);
         if (claim != null) {
             Bukkit.getPluginManager().callEvent(
@@ -1057,6 +1539,7 @@ public class ClaimDataStore {
     public void setWaypointColor(String claimId, String color, @org.jetbrains.annotations.Nullable CommandSender actor) {
         String oldColor = getWaypointColor(claimId).orElse(null);
         get(claimId).waypointColor = normalizeWaypointColor(color);
+        markDirty(claimId);
         Claim claim = resolveClaim(claimId);
         if (claim != null) {
             Bukkit.getPluginManager().callEvent(
@@ -1093,6 +1576,7 @@ public class ClaimDataStore {
     public void setPublicWaypoint(String claimId, boolean publicWaypoint, @org.jetbrains.annotations.Nullable CommandSender actor) {
         boolean oldValue = isPublicWaypoint(claimId);
         get(claimId).publicWaypoint = publicWaypoint;
+        markDirty(claimId);
         Claim claim = resolveClaim(claimId);
         if (claim != null) {
             Bukkit.getPluginManager().callEvent(
@@ -1121,13 +1605,13 @@ public class ClaimDataStore {
         return name;
     }
 
-    private void loadIconHistory(String path, ClaimData data) {
-        List<String> iconNames = config.getStringList(path + "icons");
+    private static void loadIconHistory(ConfigurationSection section, ClaimData data) {
+        List<String> iconNames = section.getStringList("icons");
         if (!iconNames.isEmpty()) {
             for (String iconName : iconNames) {
                 Material material = Material.matchMaterial(iconName);
                 if (material != null && material != Material.AIR && !data.iconHistory.contains(material)) {
-                    data.iconHistory.add(material);
+                    icons(data).add(material);
                     if (data.iconHistory.size() >= MAX_RECENT_ICONS) {
                         break;
                     }
@@ -1136,11 +1620,11 @@ public class ClaimDataStore {
         }
 
         if (data.iconHistory.isEmpty()) {
-            String iconName = config.getString(path + "icon");
+            String iconName = section.getString("icon");
             if (iconName != null) {
                 Material material = Material.matchMaterial(iconName);
                 if (material != null && material != Material.AIR) {
-                    data.iconHistory.add(material);
+                    icons(data).add(material);
                 }
             }
         }
@@ -1152,52 +1636,81 @@ public class ClaimDataStore {
         if (icon == null || icon == Material.AIR) {
             return;
         }
-        data.iconHistory.remove(icon);
-        data.iconHistory.add(0, icon);
-        while (data.iconHistory.size() > MAX_RECENT_ICONS) {
-            data.iconHistory.remove(data.iconHistory.size() - 1);
+        List<Material> icons = icons(data);
+        icons.remove(icon);
+        icons.add(0, icon);
+        while (icons.size() > MAX_RECENT_ICONS) {
+            icons.remove(icons.size() - 1);
         }
         syncCurrentIcon(data);
     }
 
-    private void syncCurrentIcon(ClaimData data) {
+    private static void syncCurrentIcon(ClaimData data) {
         data.icon = data.iconHistory.isEmpty() ? null : data.iconHistory.get(0);
     }
+
+    /** The claim's icon history as a list that can be written, allocated on first use. */
+    static List<Material> icons(ClaimData data) {
+        if (!(data.iconHistory instanceof ArrayList)) {
+            data.iconHistory = new ArrayList<>(data.iconHistory);
+        }
+        return data.iconHistory;
+    }
     
     // Ban methods
     public BanData getBans(String claimId) {
-        return get(claimId).bans;
+        return bans(get(claimId));
+    }
+
+    /** The claim's ban data, allocated on first use. */
+    private static BanData bans(ClaimData data) {
+        if (data.bans == null) {
+            data.bans = new BanData();
+        }
+        return data.bans;
     }
 
     /**
      * Bumped whenever any ban changes. Ban enforcement keeps a spatial index of the claims
      * that ban somebody so it can reject most player moves without a claim lookup; comparing
-     * this counter tells it when that index has to be rebuilt.
+     * this counter tells it when that index has to be synced.
      */
     public int getBanRevision() {
-        return banRevision;
+        return banRevision.get();
     }
 
     /** Claim IDs that ban at least one player or the public, for ban enforcement. */
     public Set<String> getClaimIdsWithBans() {
-        Set<String> ids = new HashSet<>();
-        for (Map.Entry<String, ClaimData> entry : claimData.entrySet()) {
-            BanData bans = entry.getValue().bans;
-            if (bans.publicBanned || !bans.bannedPlayers.isEmpty()) {
-                ids.add(entry.getKey());
-            }
-        }
-        return ids;
+        return new HashSet<>(bannedClaimIndex);
+    }
+
+    /** Claim IDs that ban the public, for ban enforcement. */
+    public Set<String> getPublicBannedClaimIds() {
+        return new HashSet<>(publicBannedIndex);
+    }
+
+    /**
+     * Whether any claim bans this player by name. False for almost everybody, which lets ban
+     * enforcement skip the player entirely away from public bans.
+     */
+    public boolean isBannedAnywhere(UUID player) {
+        return player != null && bannedClaimsByPlayer.containsKey(player);
+    }
+
+    /** Claim IDs that ban this player by name. */
+    public Set<String> getClaimIdsBanning(UUID player) {
+        Set<String> ids = player != null ? bannedClaimsByPlayer.get(player) : null;
+        return ids == null ? Collections.emptySet() : new HashSet<>(ids);
     }
 
     public boolean isPublicBanned(String claimId) {
         ClaimData data = claimData.get(claimId);
-        return data != null && data.bans.publicBanned;
+        return data != null && data.bans != null && data.bans.publicBanned;
     }
 
     public void setPublicBanned(String claimId, boolean banned) {
-        get(claimId).bans.publicBanned = banned;
-        banRevision++;
+        bans(get(claimId)).publicBanned = banned;
+        markDirty(claimId);
     }
 
     public void addBannedPlayer(String claimId, UUID player) {
@@ -1205,15 +1718,16 @@ public class ClaimDataStore {
     }
 
     public void addBannedPlayer(String claimId, UUID player, @org.jetbrains.annotations.Nullable CommandSender actor) {
-        BanData bans = get(claimId).bans;
+        BanData bans = bans(get(claimId));
+        player = ClaimDataInterner.uuid(player);
         bans.bannedPlayers.add(player);
-        banRevision++;
         try {
             String name = Bukkit.getOfflinePlayer(player).getName();
             if (name != null) {
-                bans.playerNames.put(player, name);
+                bans.playerNames.put(player, ClaimDataInterner.name(name));
             }
         } catch (Throwable ignored) {}
+        markDirty(claimId);
         Claim claim = resolveClaim(claimId);
         if (claim != null) {
             Bukkit.getPluginManager().callEvent(
@@ -1226,10 +1740,15 @@ public class ClaimDataStore {
     }
 
     public void removeBannedPlayer(String claimId, UUID player, @org.jetbrains.annotations.Nullable CommandSender actor) {
-        BanData bans = get(claimId).bans;
-        bans.bannedPlayers.remove(player);
-        bans.playerNames.remove(player);
-        banRevision++;
+        ClaimData data = claimData.get(claimId);
+        if (data != null && data.bans != null) {
+            data.bans.bannedPlayers.remove(player);
+            data.bans.playerNames.remove(player);
+            if (data.bans.isEmpty()) {
+                data.bans = null;
+            }
+        }
+        markDirty(claimId);
         Claim claim = resolveClaim(claimId);
         if (claim != null) {
             Bukkit.getPluginManager().callEvent(
@@ -1239,7 +1758,7 @@ public class ClaimDataStore {
     
     public Set<UUID> getBannedPlayers(String claimId) {
         ClaimData data = claimData.get(claimId);
-        return data == null ? Collections.emptySet() : Collections.unmodifiableSet(data.bans.bannedPlayers);
+        return data == null || data.bans == null ? Collections.emptySet() : Collections.unmodifiableSet(data.bans.bannedPlayers);
     }
 
     public Set<UUID> getTrustedPlayers(String claimId) {
@@ -1252,27 +1771,61 @@ public class ClaimDataStore {
 
     public void addTrustedPlayer(String claimId, UUID player) {
         ClaimData data = get(claimId);
-        data.trustedPlayers.add(player);
+        player = ClaimDataInterner.uuid(player);
+        trusted(data).add(player);
         try {
             String name = Bukkit.getOfflinePlayer(player).getName();
             if (name != null) {
-                data.trustedPlayerNames.put(player, name);
+                trustedNames(data).put(player, ClaimDataInterner.name(name));
             }
         } catch (Throwable ignored) {}
+        markDirty(claimId);
     }
 
     public void addTrustedPlayer(String claimId, UUID player, String name) {
         ClaimData data = get(claimId);
-        data.trustedPlayers.add(player);
+        player = ClaimDataInterner.uuid(player);
+        trusted(data).add(player);
         if (name != null && !name.isBlank()) {
-            data.trustedPlayerNames.put(player, name);
+            trustedNames(data).put(player, ClaimDataInterner.name(name));
         }
+        markDirty(claimId);
     }
 
     public void removeTrustedPlayer(String claimId, UUID player) {
-        ClaimData data = get(claimId);
-        data.trustedPlayers.remove(player);
-        data.trustedPlayerNames.remove(player);
+        untrust(get(claimId), player);
+        markDirty(claimId);
+    }
+
+    /**
+     * Drops a player from the claim's trust data. Collections that were never allocated are
+     * still the shared immutable empties and are left alone; emptied ones go back to them.
+     */
+    static void untrust(ClaimData data, UUID player) {
+        if (data.trustedPlayers instanceof CompactUuidSet players
+                && players.remove(player) && players.isEmpty()) {
+            data.trustedPlayers = Set.of();
+        }
+        if (data.trustedPlayerNames instanceof CompactNameMap names
+                && names.remove(player) != null && names.isEmpty()) {
+            data.trustedPlayerNames = Map.of();
+        }
+    }
+
+    /** The claim's trusted players as a set that can be written, allocated on first use. */
+    static Set<UUID> trusted(ClaimData data) {
+        if (!(data.trustedPlayers instanceof CompactUuidSet)) {
+            data.trustedPlayers = new CompactUuidSet();
+        }
+        return data.trustedPlayers;
+    }
+
+    /** The trusted players' last known names as a map that can be written, allocated on first use. */
+    static Map<UUID, String> trustedNames(ClaimData data) {
+        if (!(data.trustedPlayerNames instanceof CompactNameMap)) {
+            data.trustedPlayerNames = new CompactNameMap();
+        }
+        return data.trustedPlayerNames;
     }
     
     // Rental methods
@@ -1283,16 +1836,19 @@ public class ClaimDataStore {
     
     public void setRental(String claimId, UUID renter, long expiry, long start) {
         get(claimId).rental = new RentalData(renter, expiry, start);
+        markDirty(claimId);
     }
 
     public void setRental(String claimId, UUID renter, long expiry, long start, Location signLocation) {
         RentalData rental = new RentalData(renter, expiry, start);
         rental.signLocation = signLocation;
         get(claimId).rental = rental;
+        markDirty(claimId);
     }
     
     public void clearRental(String claimId) {
         get(claimId).rental = null;
+        markDirty(claimId);
     }
     
     public boolean isRented(String claimId) {
@@ -1320,12 +1876,14 @@ public class ClaimDataStore {
     
     public void setMailbox(String claimId, UUID owner) {
         get(claimId).mailbox = new MailboxData(owner);
+        markDirty(claimId);
     }
     
     public void setMailboxSignLocation(String claimId, Location location) {
         MailboxData mailbox = get(claimId).mailbox;
         if (mailbox != null) {
             mailbox.signLocation = location;
+            markDirty(claimId);
         }
     }
     
@@ -1337,11 +1895,13 @@ public class ClaimDataStore {
         MailboxData mailbox = get(claimId).mailbox;
         if (mailbox != null) {
             mailbox.containerLocation = location;
+            markDirty(claimId);
         }
     }
     
     public void clearMailbox(String claimId) {
         get(claimId).mailbox = null;
+        markDirty(claimId);
     }
     
     // Eviction methods
@@ -1352,10 +1912,12 @@ public class ClaimDataStore {
     
     public void setEviction(String claimId, UUID ownerId, UUID renterId, long initiatedAt, long effectiveAt) {
         get(claimId).eviction = new EvictionData(ownerId, renterId, initiatedAt, effectiveAt);
+        markDirty(claimId);
     }
     
     public void clearEviction(String claimId) {
         get(claimId).eviction = null;
+        markDirty(claimId);
     }
 
     // Pending rent methods
@@ -1366,17 +1928,20 @@ public class ClaimDataStore {
 
     public void setPendingRent(String claimId, UUID ownerId, String renterName, String kind, String amount, long timestamp, boolean isPurchase) {
         get(claimId).pendingRent = new PendingRentData(ownerId, renterName, kind, amount, timestamp, isPurchase);
+        markDirty(claimId);
     }
 
     public void clearPendingRent(String claimId) {
         get(claimId).pendingRent = null;
+        markDirty(claimId);
     }
 
     public Map<String, PendingRentData> getAllPendingRents() {
         Map<String, PendingRentData> result = new HashMap<>();
-        for (Map.Entry<String, ClaimData> entry : claimData.entrySet()) {
-            if (entry.getValue().pendingRent != null) {
-                result.put(entry.getKey(), entry.getValue().pendingRent);
+        for (String claimId : pendingRentIndex) {
+            ClaimData data = claimData.get(claimId);
+            if (data != null && data.pendingRent != null) {
+                result.put(claimId, data.pendingRent);
             }
         }
         return result;
@@ -1400,6 +1965,7 @@ public class ClaimDataStore {
     public void setSpawn(String claimId, Location location, @org.jetbrains.annotations.Nullable CommandSender actor) {
         Location oldSpawn = getSpawn(claimId).orElse(null);
         get(claimId).spawn = location;
+        markDirty(claimId);
         Claim claim = resolveClaim(claimId);
         if (claim != null) {
             Bukkit.getPluginManager().callEvent(
@@ -1414,6 +1980,7 @@ public class ClaimDataStore {
     public void clearSpawn(String claimId, @org.jetbrains.annotations.Nullable CommandSender actor) {
         Location oldSpawn = getSpawn(claimId).orElse(null);
         get(claimId).spawn = null;
+        markDirty(claimId);
         Claim claim = resolveClaim(claimId);
         if (claim != null) {
             Bukkit.getPluginManager().callEvent(
@@ -1423,50 +1990,49 @@ public class ClaimDataStore {
     
     // Utility methods
     public Set<String> getPublicListedClaims() {
-        Set<String> result = new HashSet<>();
-        for (Map.Entry<String, ClaimData> entry : claimData.entrySet()) {
-            if (entry.getValue().publicListed) {
-                result.add(entry.getKey());
-            }
-        }
-        return result;
+        return new HashSet<>(publicListedIndex);
     }
 
     public Set<String> getPendingGlobalApprovalClaims() {
-        Set<String> result = new HashSet<>();
-        for (Map.Entry<String, ClaimData> entry : claimData.entrySet()) {
-            if (entry.getValue().globalApprovalPending) {
-                result.add(entry.getKey());
-            }
-        }
-        return result;
+        return new HashSet<>(approvalQueueIndex);
     }
     
     public Map<String, UUID> getAllMailboxes() {
-        Map<String, UUID> result = new HashMap<>();
-        for (Map.Entry<String, ClaimData> entry : claimData.entrySet()) {
-            if (entry.getValue().mailbox != null) {
-                result.put(entry.getKey(), entry.getValue().mailbox.owner);
-            }
-        }
-        return result;
+        return new HashMap<>(mailboxOwnerByClaim);
+    }
+
+    /** Claim IDs of the mailboxes owned by a player. */
+    public Set<String> getMailboxesOwnedBy(UUID owner) {
+        Set<String> ids = owner == null ? null : mailboxesByOwner.get(owner);
+        return ids == null ? Collections.emptySet() : new HashSet<>(ids);
     }
     
     public Set<String> getRentedClaimIds() {
-        Set<String> result = new HashSet<>();
-        for (Map.Entry<String, ClaimData> entry : claimData.entrySet()) {
-            if (entry.getValue().rental != null) {
-                result.add(entry.getKey());
+        return new HashSet<>(rentedClaimIndex);
+    }
+    
+    public Map<String, RentalData> getAllRentals() {
+        Map<String, RentalData> result = new HashMap<>();
+        for (String claimId : rentedClaimIndex) {
+            ClaimData data = claimData.get(claimId);
+            if (data != null && data.rental != null) {
+                result.put(claimId, data.rental);
             }
         }
         return result;
     }
-    
-    public Map<String, RentalData> getAllRentals() {
+
+    /** Rentals held by a player, keyed by claim ID. */
+    public Map<String, RentalData> getRentalsForRenter(UUID renter) {
+        Set<String> ids = renter == null ? null : rentalsByRenter.get(renter);
+        if (ids == null) {
+            return Collections.emptyMap();
+        }
         Map<String, RentalData> result = new HashMap<>();
-        for (Map.Entry<String, ClaimData> entry : claimData.entrySet()) {
-            if (entry.getValue().rental != null) {
-                result.put(entry.getKey(), entry.getValue().rental);
+        for (String claimId : ids) {
+            ClaimData data = claimData.get(claimId);
+            if (data != null && data.rental != null) {
+                result.put(claimId, data.rental);
             }
         }
         return result;
@@ -1478,28 +2044,42 @@ public class ClaimDataStore {
 
     public int countGlobalClaimsForPlayer(UUID playerId, boolean countUnlistedClaims) {
         if (playerId == null) return 0;
-        
-        codes.castled.gpexpansion.gp.GPBridge gp = new codes.castled.gpexpansion.gp.GPBridge();
+
+        resolveClaimOwners();
+        Set<String> owned = globalClaimsByOwner.get(playerId);
+        if (owned == null) return 0;
+
         int count = 0;
-        
-        for (Map.Entry<String, ClaimData> entry : claimData.entrySet()) {
+        for (String claimId : owned) {
             // Only claims that are actually global count toward the limit; countUnlistedClaims
             // controls whether claims still awaiting approval are included.
-            if (entry.getValue().publicListed || (countUnlistedClaims && entry.getValue().globalApprovalPending)) {
-                String claimId = entry.getKey();
-                java.util.Optional<Object> claimOpt = gp.findClaimById(claimId);
-                if (claimOpt.isPresent()) {
-                    UUID ownerId = gp.getClaimOwner(claimOpt.get());
-                    if (playerId.equals(ownerId)) {
-                        count++;
-                    }
-                }
+            if (publicListedIndex.contains(claimId) || (countUnlistedClaims && approvalQueueIndex.contains(claimId))) {
+                count++;
             }
         }
-        
         return count;
     }
 
+    /**
+     * Ask GP for the owner of every claim queued since the last count. Claims GP no longer knows
+     * are dropped, matching the old scan which skipped them.
+     */
+    private void resolveClaimOwners() {
+        if (unresolvedOwners.isEmpty()) return;
+        codes.castled.gpexpansion.gp.GPBridge gp = plugin.getGPBridge();
+        for (String claimId : new ArrayList<>(unresolvedOwners)) {
+            unresolvedOwners.remove(claimId);
+            if (ownerByClaim.containsKey(claimId)) continue;
+            java.util.Optional<Object> claimOpt = gp.findClaimById(claimId);
+            if (claimOpt.isEmpty()) continue;
+            UUID ownerId = gp.getClaimOwner(claimOpt.get());
+            if (ownerId != null) {
+                ownerByClaim.put(claimId, ownerId);
+                refreshOwnerBuckets(claimId);
+            }
+        }
+    }
+
     /**
      * Count the number of sell signs a player has created (claims for sale)
      */
@@ -1508,32 +2088,8 @@ public class ClaimDataStore {
     }
 
     public int countSellSignsForPlayer(UUID playerId, boolean countInactiveSigns) {
-        if (playerId == null) return 0;
-        
-        codes.castled.gpexpansion.gp.GPBridge gp = new codes.castled.gpexpansion.gp.GPBridge();
-        int count = 0;
-        
-        for (Map.Entry<String, ClaimData> entry : claimData.entrySet()) {
-            ClaimData data = entry.getValue();
-            // Check if claim has rental data (for sale/rent) and is owned by the player
-            if (data.rental != null) {
-                if (!countInactiveSigns && !isSignLocationActive(data.rental.signLocation)) {
-                    continue;
-                }
-                String claimId = entry.getKey();
-                java.util.Optional<Object> claimOpt = gp.findClaimById(claimId);
-                if (claimOpt.isPresent()) {
-                    UUID ownerId = gp.getClaimOwner(claimOpt.get());
-                    if (playerId.equals(ownerId)) {
-                        // Check if it's for sale (has rental data but no current renter, or check for sale flag)
-                        // For now, any claim with rental data owned by the player counts as a sell sign
-                        count++;
-                    }
-                }
-            }
-        }
-        
-        return count;
+        // For now, any claim with rental data owned by the player counts as a sell sign
+        return countRentSignsForPlayer(playerId, true, countInactiveSigns);
     }
 
     /**
@@ -1545,32 +2101,21 @@ public class ClaimDataStore {
 
     public int countRentSignsForPlayer(UUID playerId, boolean countExpiredRentals, boolean countInactiveSigns) {
         if (playerId == null) return 0;
-        
-        codes.castled.gpexpansion.gp.GPBridge gp = new codes.castled.gpexpansion.gp.GPBridge();
+
+        resolveClaimOwners();
+        Set<String> owned = rentalsByOwner.get(playerId);
+        if (owned == null) return 0;
+        if (countExpiredRentals && countInactiveSigns) return owned.size();
+
         long now = System.currentTimeMillis();
         int count = 0;
-        
-        for (Map.Entry<String, ClaimData> entry : claimData.entrySet()) {
-            ClaimData data = entry.getValue();
-            // Check if claim has rental data and is owned by the player
-            if (data.rental != null) {
-                if (!countExpiredRentals && data.rental.expiry <= now) {
-                    continue;
-                }
-                if (!countInactiveSigns && !isSignLocationActive(data.rental.signLocation)) {
-                    continue;
-                }
-                String claimId = entry.getKey();
-                java.util.Optional<Object> claimOpt = gp.findClaimById(claimId);
-                if (claimOpt.isPresent()) {
-                    UUID ownerId = gp.getClaimOwner(claimOpt.get());
-                    if (playerId.equals(ownerId)) {
-                        count++;
-                    }
-                }
-            }
+        for (String claimId : owned) {
+            ClaimData data = claimData.get(claimId);
+            if (data == null || data.rental == null) continue;
+            if (!countExpiredRentals && data.rental.expiry <= now) continue;
+            if (!countInactiveSigns && !isSignLocationActive(data.rental.signLocation)) continue;
+            count++;
         }
-        
         return count;
     }
 
@@ -1583,20 +2128,18 @@ public class ClaimDataStore {
 
     public int countMailboxSignsForPlayer(UUID playerId, boolean countInactiveSigns) {
         if (playerId == null) return 0;
-        
+
+        Set<String> owned = mailboxesByOwner.get(playerId);
+        if (owned == null) return 0;
+        if (countInactiveSigns) return owned.size();
+
         int count = 0;
-        
-        for (Map.Entry<String, ClaimData> entry : claimData.entrySet()) {
-            ClaimData data = entry.getValue();
-            // Check if claim has mailbox data and is owned by the player
-            if (data.mailbox != null && playerId.equals(data.mailbox.owner)) {
-                if (!countInactiveSigns && !isSignLocationActive(data.mailbox.signLocation)) {
-                    continue;
-                }
+        for (String claimId : owned) {
+            ClaimData data = claimData.get(claimId);
+            if (data != null && data.mailbox != null && isSignLocationActive(data.mailbox.signLocation)) {
                 count++;
             }
         }
-        
         return count;
     }
 
@@ -0,0 +1,57 @@
+package codes.castled.gpexpansion.storage;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Persistence backend behind {@link ClaimDataStore}.
+ *
+ * <p>The store keeps the live {@link ClaimDataStore.ClaimData} objects and all lookups in memory;
+ * a repository only loads and saves them. Claims cross this boundary as immutable plain maps in the
+ * claimdata.yml key layout, so a backend never touches the live objects and can write from any
+ * thread.
+ *
+ * <p>Calls to {@link #stage} come from the thread that owns the claim data. {@link #flush} may run
+ * on an async thread, but the store never runs two flushes at once.
+ */
+public interface ClaimMetadataRepository {
+
+    /** Short name for log messages, e.g. {@code claimdata.yml}. */
+    String getName();
+
+    /**
+     * Read every stored claim.
+     *
+     * @return claim ID to serialised claim, in load order
+     * @throws IOException if the backend could not be read in full; nothing partially read is returned
+     */
+    Map<String, Map<String, Object>> loadAll() throws IOException;
+
+    /**
+     * Claims the last {@link #loadAll()} could decode straight into {@link ClaimDataStore.ClaimData},
+     * such as from a binary cache, keyed as in its result. The store adopts these instead of
+     * rebuilding them from their maps. Each call hands them over once; the backend keeps no
+     * reference to them.
+     */
+    default Map<String, ClaimDataStore.ClaimData> takeDecodedClaims() {
+        return Map.of();
+    }
+
+    /**
+     * Queue a claim's full serialised state for the next flush.
+     *
+     * @param data the claim, or null when the claim was removed
+     */
+    void stage(String claimId, Map<String, Object> data);
+
+    /**
+     * Write staged claims. Records that fail to write stay staged for the next flush.
+     *
+     * @param shutdown true on plugin disable, letting the backend compact before exit
+     * @return true if everything staged was written
+     */
+    boolean flush(boolean shutdown);
+
+    /** Release files or connections. The repository is not used again after this. */
+    void close();
+}
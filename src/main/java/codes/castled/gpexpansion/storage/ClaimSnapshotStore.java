@@ -70,7 +70,7 @@ public class ClaimSnapshotStore {
      * Create a snapshot of the claim's blocks using .snap (block-by-block YAML). Any claim size is supported.
      */
     public SnapshotEntry createSnapshot(String claimId, Object claim, World world) {
-        GPBridge gp = new GPBridge();
+        GPBridge gp = plugin.getGPBridge();
         Optional<GPBridge.ClaimCorners> cornersOpt = gp.getClaimCorners(claim);
         if (!cornersOpt.isPresent()) return null;
         GPBridge.ClaimCorners c = cornersOpt.get();
@@ -0,0 +1,145 @@
+package codes.castled.gpexpansion.storage;
+
+import java.util.*;
+
+/**
+ * Mutable UUID-to-name map with the same layout as {@link CompactUuidSet}: sorted parallel
+ * arrays up to {@link CompactUuidSet#ARRAY_LIMIT} entries, then a {@link HashMap}. Used for the
+ * cached player names on each claim, where most maps hold no entries or only a few.
+ */
+final class CompactNameMap extends AbstractMap<UUID, String> {
+
+    private static final UUID[] NO_KEYS = new UUID[0];
+    private static final String[] NO_VALUES = new String[0];
+
+    private UUID[] keys = NO_KEYS;
+    private String[] values = NO_VALUES;
+    private int size;
+    private Map<UUID, String> large;
+
+    @Override
+    public int size() {
+        return large != null ? large.size() : size;
+    }
+
+    private int indexOf(Object key) {
+        return key instanceof UUID uuid ? Arrays.binarySearch(keys, 0, size, uuid) : -1;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (large != null) return large.containsKey(key);
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public String get(Object key) {
+        if (large != null) return large.get(key);
+        int index = indexOf(key);
+        return index >= 0 ? values[index] : null;
+    }
+
+    @Override
+    public String put(UUID key, String value) {
+        Objects.requireNonNull(key, "key");
+        if (large != null) return large.put(key, value);
+        int index = Arrays.binarySearch(keys, 0, size, key);
+        if (index >= 0) {
+            String previous = values[index];
+            values[index] = value;
+            return previous;
+        }
+        if (size == CompactUuidSet.ARRAY_LIMIT) {
+            large = new HashMap<>();
+            for (int i = 0; i < size; i++) {
+                large.put(keys[i], values[i]);
+            }
+            keys = NO_KEYS;
+            values = NO_VALUES;
+            size = 0;
+            return large.put(key, value);
+        }
+        int insert = -index - 1;
+        if (size == keys.length) {
+            int capacity = Math.min(CompactUuidSet.ARRAY_LIMIT, Math.max(2, size * 2));
+            keys = Arrays.copyOf(keys, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        System.arraycopy(keys, insert, keys, insert + 1, size - insert);
+        System.arraycopy(values, insert, values, insert + 1, size - insert);
+        keys[insert] = key;
+        values[insert] = value;
+        size++;
+        return null;
+    }
+
+    @Override
+    public String remove(Object key) {
+        if (large != null) return large.remove(key);
+        int index = indexOf(key);
+        if (index < 0) return null;
+        String previous = values[index];
+        removeAt(index);
+        return previous;
+    }
+
+    private void removeAt(int index) {
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        size--;
+        keys[size] = null;
+        values[size] = null;
+        if (size == 0) {
+            keys = NO_KEYS;
+            values = NO_VALUES;
+        }
+    }
+
+    @Override
+    public void clear() {
+        large = null;
+        keys = NO_KEYS;
+        values = NO_VALUES;
+        size = 0;
+    }
+
+    @Override
+    public Set<Entry<UUID, String>> entrySet() {
+        if (large != null) return large.entrySet();
+        return new AbstractSet<>() {
+            @Override
+            public int size() {
+                return CompactNameMap.this.size();
+            }
+
+            @Override
+            public Iterator<Entry<UUID, String>> iterator() {
+                if (large != null) return large.entrySet().iterator();
+                return new Iterator<>() {
+                    private int next;
+                    private int last = -1;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < size;
+                    }
+
+                    @Override
+                    public Entry<UUID, String> next() {
+                        if (next >= size) throw new NoSuchElementException();
+                        last = next++;
+                        return new SimpleImmutableEntry<>(keys[last], values[last]);
+                    }
+
+                    @Override
+                    public void remove() {
+                        if (last < 0) throw new IllegalStateException();
+                        removeAt(last);
+                        next = last;
+                        last = -1;
+                    }
+                };
+            }
+        };
+    }
+}
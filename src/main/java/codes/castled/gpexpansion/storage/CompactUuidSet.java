@@ -0,0 +1,104 @@
+package codes.castled.gpexpansion.storage;
+
+import java.util.*;
+
+/**
+ * Mutable UUID set sized for the common case of a claim with a handful of trusted or banned
+ * players. Up to {@link #ARRAY_LIMIT} entries live in a sorted array searched by bisection; past
+ * that it switches to a {@link HashSet}. An empty set shares one zero-length array, so claims
+ * without players cost a single small object.
+ */
+final class CompactUuidSet extends AbstractSet<UUID> {
+
+    static final int ARRAY_LIMIT = 8;
+    private static final UUID[] EMPTY = new UUID[0];
+
+    private UUID[] small = EMPTY;
+    private int size;
+    private Set<UUID> large;
+
+    @Override
+    public int size() {
+        return large != null ? large.size() : size;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (large != null) return large.contains(o);
+        return o instanceof UUID uuid && Arrays.binarySearch(small, 0, size, uuid) >= 0;
+    }
+
+    @Override
+    public boolean add(UUID uuid) {
+        Objects.requireNonNull(uuid, "uuid");
+        if (large != null) return large.add(uuid);
+        int index = Arrays.binarySearch(small, 0, size, uuid);
+        if (index >= 0) return false;
+        if (size == ARRAY_LIMIT) {
+            large = new HashSet<>(Arrays.asList(small).subList(0, size));
+            small = EMPTY;
+            size = 0;
+            return large.add(uuid);
+        }
+        int insert = -index - 1;
+        if (size == small.length) {
+            small = Arrays.copyOf(small, Math.min(ARRAY_LIMIT, Math.max(2, size * 2)));
+        }
+        System.arraycopy(small, insert, small, insert + 1, size - insert);
+        small[insert] = uuid;
+        size++;
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (large != null) return large.remove(o);
+        if (!(o instanceof UUID uuid)) return false;
+        int index = Arrays.binarySearch(small, 0, size, uuid);
+        if (index < 0) return false;
+        removeAt(index);
+        return true;
+    }
+
+    private void removeAt(int index) {
+        System.arraycopy(small, index + 1, small, index, size - index - 1);
+        small[--size] = null;
+        if (size == 0) small = EMPTY;
+    }
+
+    @Override
+    public void clear() {
+        large = null;
+        small = EMPTY;
+        size = 0;
+    }
+
+    @Override
+    public Iterator<UUID> iterator() {
+        if (large != null) return large.iterator();
+        return new Iterator<>() {
+            private int next;
+            private int last = -1;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public UUID next() {
+                if (next >= size) throw new NoSuchElementException();
+                last = next++;
+                return small[last];
+            }
+
+            @Override
+            public void remove() {
+                if (last < 0) throw new IllegalStateException();
+                removeAt(last);
+                next = last;
+                last = -1;
+            }
+        };
+    }
+}
@@ -0,0 +1,550 @@
+package codes.castled.gpexpansion.storage;
+
+import codes.castled.gpexpansion.GPExpansionPlugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Claim metadata in an embedded SQLite database, one row per claim plus normalised child tables
+ * for icon history, bans, trusted names, rentals, reminders, mailboxes, evictions and pending rent.
+ *
+ * <p>A flush rewrites only the rows of the claims that changed, in a single transaction, and the
+ * rental, mailbox and eviction tables are indexed by renter, owner and expiry for external tools
+ * and future queries. The SQLite driver ships with the server, so no extra dependency is needed.
+ */
+public class SqliteClaimMetadataRepository implements ClaimMetadataRepository {
+
+    private static final String[] CHILD_TABLES = {
+        "claim_icon_history", "claim_bans", "claim_trusted", "claim_rentals",
+        "claim_rental_reminders", "claim_mailboxes", "claim_evictions", "claim_pending_rents"
+    };
+
+    private static final String[] SCHEMA = {
+        "CREATE TABLE IF NOT EXISTS claims ("
+            + "claim_id TEXT PRIMARY KEY, public_listed INTEGER NOT NULL DEFAULT 0, "
+            + "approval_pending INTEGER NOT NULL DEFAULT 0, icon TEXT, description TEXT, custom_name TEXT, "
+            + "waypoint_color TEXT, public_waypoint INTEGER NOT NULL DEFAULT 0, "
+            + "public_banned INTEGER NOT NULL DEFAULT 0, spawn TEXT)",
+        "CREATE TABLE IF NOT EXISTS claim_icon_history ("
+            + "claim_id TEXT NOT NULL, position INTEGER NOT NULL, material TEXT NOT NULL, "
+            + "PRIMARY KEY (claim_id, position))",
+        "CREATE TABLE IF NOT EXISTS claim_bans ("
+            + "claim_id TEXT NOT NULL, player_uuid TEXT NOT NULL, player_name TEXT, banned INTEGER NOT NULL, "
+            + "PRIMARY KEY (claim_id, player_uuid))",
+        "CREATE INDEX IF NOT EXISTS idx_claim_bans_player ON claim_bans (player_uuid)",
+        "CREATE TABLE IF NOT EXISTS claim_trusted ("
+            + "claim_id TEXT NOT NULL, player_uuid TEXT NOT NULL, player_name TEXT, trusted INTEGER NOT NULL, "
+            + "PRIMARY KEY (claim_id, player_uuid))",
+        "CREATE TABLE IF NOT EXISTS claim_rentals ("
+            + "claim_id TEXT PRIMARY KEY, renter TEXT NOT NULL, expiry INTEGER NOT NULL, start INTEGER NOT NULL, "
+            + "sign_world TEXT, sign_x INTEGER, sign_y INTEGER, sign_z INTEGER, "
+            + "pending_payment INTEGER NOT NULL DEFAULT 0, payment_failed INTEGER NOT NULL DEFAULT 0)",
+        "CREATE INDEX IF NOT EXISTS idx_claim_rentals_renter ON claim_rentals (renter)",
+        "CREATE INDEX IF NOT EXISTS idx_claim_rentals_expiry ON claim_rentals (expiry)",
+        "CREATE TABLE IF NOT EXISTS claim_rental_reminders ("
+            + "claim_id TEXT NOT NULL, reminder INTEGER NOT NULL, PRIMARY KEY (claim_id, reminder))",
+        "CREATE TABLE IF NOT EXISTS claim_mailboxes ("
+            + "claim_id TEXT PRIMARY KEY, owner TEXT NOT NULL, sign_world TEXT, sign_x INTEGER, sign_y INTEGER, "
+            + "sign_z INTEGER, container_world TEXT, container_x INTEGER, container_y INTEGER, container_z INTEGER)",
+        "CREATE INDEX IF NOT EXISTS idx_claim_mailboxes_owner ON claim_mailboxes (owner)",
+        "CREATE TABLE IF NOT EXISTS claim_evictions ("
+            + "claim_id TEXT PRIMARY KEY, owner TEXT NOT NULL, renter TEXT NOT NULL, "
+            + "initiated_at INTEGER NOT NULL, effective_at INTEGER NOT NULL)",
+        "CREATE INDEX IF NOT EXISTS idx_claim_evictions_effective ON claim_evictions (effective_at)",
+        "CREATE TABLE IF NOT EXISTS claim_pending_rents ("
+            + "claim_id TEXT PRIMARY KEY, owner TEXT NOT NULL, renter_name TEXT NOT NULL, kind TEXT NOT NULL, "
+            + "amount TEXT NOT NULL, timestamp INTEGER NOT NULL, is_purchase INTEGER NOT NULL DEFAULT 0)",
+        "CREATE INDEX IF NOT EXISTS idx_claim_pending_rents_owner ON claim_pending_rents (owner)"
+    };
+
+    private final GPExpansionPlugin plugin;
+    private final File file;
+    private final Queue<Staged> pending = new ConcurrentLinkedQueue<>();
+    private final Object connectionLock = new Object();
+    private Connection connection; // guarded by connectionLock
+
+    /** A claim's full serialised state, or null data for a removed claim. */
+    private record Staged(String claimId, Map<String, Object> data) {}
+
+    public SqliteClaimMetadataRepository(GPExpansionPlugin plugin, File file) {
+        this.plugin = plugin;
+        this.file = file;
+    }
+
+    @Override
+    public String getName() {
+        return file.getName();
+    }
+
+    @Override
+    public Map<String, Map<String, Object>> loadAll() throws IOException {
+        Map<String, Map<String, Object>> claims = new LinkedHashMap<>();
+        synchronized (connectionLock) {
+            try {
+                Connection conn = connection();
+                try (Statement st = conn.createStatement();
+                     ResultSet rs = st.executeQuery("SELECT * FROM claims")) {
+                    while (rs.next()) {
+                        Map<String, Object> claim = new LinkedHashMap<>();
+                        claim.put("public", rs.getInt("public_listed") != 0);
+                        if (rs.getInt("approval_pending") != 0) claim.put("globalApprovalPending", true);
+                        putIfNotNull(claim, "icon", rs.getString("icon"));
+                        putIfNotNull(claim, "description", rs.getString("description"));
+                        putIfNotNull(claim, "name", rs.getString("custom_name"));
+                        putIfNotNull(claim, "color", rs.getString("waypoint_color"));
+                        if (rs.getInt("public_waypoint") != 0) claim.put("publicWaypoint", true);
+                        putIfNotNull(claim, "spawn", rs.getString("spawn"));
+                        Map<String, Object> bans = new LinkedHashMap<>();
+                        bans.put("public", rs.getInt("public_banned") != 0);
+                        bans.put("players", new ArrayList<String>());
+                        claim.put("bans", bans);
+                        Map<String, Object> trusted = new LinkedHashMap<>();
+                        trusted.put("players", new ArrayList<String>());
+                        claim.put("trustedPlayers", trusted);
+                        claims.put(rs.getString("claim_id"), claim);
+                    }
+                }
+                loadIconHistory(conn, claims);
+                loadPlayerRows(conn, claims, "claim_bans", "banned", "bans");
+                loadPlayerRows(conn, claims, "claim_trusted", "trusted", "trustedPlayers");
+                loadRentals(conn, claims);
+                loadMailboxes(conn, claims);
+                loadEvictions(conn, claims);
+                loadPendingRents(conn, claims);
+            } catch (SQLException e) {
+                throw new IOException("Failed loading claim data from " + file.getName() + ": " + e.getMessage(), e);
+            }
+        }
+        return claims;
+    }
+
+    /**
+     * Whether the {@code claims} table holds no rows at all, as in a database created moments ago.
+     * Counted directly rather than inferred from {@link #loadAll()}.
+     */
+    public boolean isEmpty() throws IOException {
+        synchronized (connectionLock) {
+            try (Statement st = connection().createStatement();
+                 ResultSet rs = st.executeQuery("SELECT COUNT(*) FROM claims")) {
+                return rs.next() && rs.getLong(1) == 0L;
+            } catch (SQLException e) {
+                throw new IOException("Failed counting claims in " + file.getName() + ": " + e.getMessage(), e);
+            }
+        }
+    }
+
+    @Override
+    public void stage(String claimId, Map<String, Object> data) {
+        pending.add(new Staged(claimId, data));
+    }
+
+    @Override
+    public boolean flush(boolean shutdown) {
+        if (pending.isEmpty()) {
+            return true;
+        }
+        // Later records for the same claim supersede earlier ones, so only the last is written.
+        Map<String, Map<String, Object>> latest = new LinkedHashMap<>();
+        List<Staged> drained = new ArrayList<>();
+        Staged staged;
+        while ((staged = pending.poll()) != null) {
+            drained.add(staged);
+            latest.remove(staged.claimId());
+            latest.put(staged.claimId(), staged.data());
+        }
+
+        synchronized (connectionLock) {
+            Connection conn = null;
+            try {
+                conn = connection();
+                conn.setAutoCommit(false);
+                for (Map.Entry<String, Map<String, Object>> entry : latest.entrySet()) {
+                    deleteClaim(conn, entry.getKey());
+                    if (entry.getValue() != null) {
+                        insertClaim(conn, entry.getKey(), entry.getValue());
+                    }
+                }
+                conn.commit();
+                return true;
+            } catch (SQLException e) {
+                plugin.getLogger().warning("Failed saving claim data to " + file.getName() + ": " + e.getMessage());
+                if (conn != null) {
+                    try {
+                        conn.rollback();
+                    } catch (SQLException ignored) {}
+                }
+                // Keep the records for the next flush rather than dropping them.
+                List<Staged> retry = new ArrayList<>(drained);
+                retry.addAll(pending);
+                pending.clear();
+                pending.addAll(retry);
+                return false;
+            } finally {
+                if (conn != null) {
+                    try {
+                        conn.setAutoCommit(true);
+                    } catch (SQLException ignored) {}
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (connectionLock) {
+            if (connection == null) return;
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                plugin.getLogger().warning("Failed closing " + file.getName() + ": " + e.getMessage());
+            }
+            connection = null;
+        }
+    }
+
+    /** Open the database and create the schema on first use. Called under {@link #connectionLock}. */
+    private Connection connection() throws SQLException {
+        if (connection != null && !connection.isClosed()) {
+            return connection;
+        }
+        if (file.getParentFile() != null && !file.getParentFile().exists()) {
+            file.getParentFile().mkdirs();
+        }
+        try {
+            Class.forName("org.sqlite.JDBC");
+        } catch (ClassNotFoundException e) {
+            throw new SQLException("SQLite driver not available on this server", e);
+        }
+        connection = DriverManager.getConnection("jdbc:sqlite:" + file.getAbsolutePath());
+        try (Statement st = connection.createStatement()) {
+            // WAL keeps readers unblocked during a flush; NORMAL sync is durable across crashes
+            // of the server process, which is the failure this plugin has to survive.
+            st.execute("PRAGMA journal_mode=WAL");
+            st.execute("PRAGMA synchronous=NORMAL");
+            for (String ddl : SCHEMA) {
+                st.execute(ddl);
+            }
+        }
+        return connection;
+    }
+
+    // ---- Reading ----
+
+    private static void loadIconHistory(Connection conn, Map<String, Map<String, Object>> claims) throws SQLException {
+        try (Statement st = conn.createStatement();
+             ResultSet rs = st.executeQuery("SELECT claim_id, material FROM claim_icon_history ORDER BY claim_id, position")) {
+            while (rs.next()) {
+                Map<String, Object> claim = claims.get(rs.getString("claim_id"));
+                if (claim == null) continue;
+                listAt(claim, "icons").add(rs.getString("material"));
+            }
+        }
+    }
+
+    /** Bans and trusted players share a shape: a UUID list plus a UUID-to-name map. */
+    private static void loadPlayerRows(Connection conn, Map<String, Map<String, Object>> claims,
+                                       String table, String flagColumn, String key) throws SQLException {
+        try (Statement st = conn.createStatement();
+             ResultSet rs = st.executeQuery("SELECT claim_id, player_uuid, player_name, " + flagColumn + " FROM " + table)) {
+            while (rs.next()) {
+                Map<String, Object> claim = claims.get(rs.getString("claim_id"));
+                if (claim == null) continue;
+                Map<String, Object> section = mapAt(claim, key);
+                String uuid = rs.getString("player_uuid");
+                if (rs.getInt(flagColumn) != 0) {
+                    listAt(section, "players").add(uuid);
+                }
+                String name = rs.getString("player_name");
+                if (name != null) {
+                    mapAt(section, "names").put(uuid, name);
+                }
+            }
+        }
+    }
+
+    private static void loadRentals(Connection conn, Map<String, Map<String, Object>> claims) throws SQLException {
+        try (Statement st = conn.createStatement();
+             ResultSet rs = st.executeQuery("SELECT * FROM claim_rentals")) {
+            while (rs.next()) {
+                Map<String, Object> claim = claims.get(rs.getString("claim_id"));
+                if (claim == null) continue;
+                Map<String, Object> rental = mapAt(claim, "rental");
+                rental.put("renter", rs.getString("renter"));
+                rental.put("expiry", rs.getLong("expiry"));
+                rental.put("start", rs.getLong("start"));
+                readBlock(rs, rental, "sign_", "sign");
+                rental.put("reminders", new ArrayList<Long>());
+                rental.put("pendingPayment", rs.getInt("pending_payment") != 0);
+                rental.put("paymentFailed", rs.getInt("payment_failed") != 0);
+            }
+        }
+        try (Statement st = conn.createStatement();
+             ResultSet rs = st.executeQuery("SELECT claim_id, reminder FROM claim_rental_reminders")) {
+            while (rs.next()) {
+                Map<String, Object> claim = claims.get(rs.getString("claim_id"));
+                if (claim == null || !(claim.get("rental") instanceof Map)) continue;
+                listAt(mapAt(claim, "rental"), "reminders").add(rs.getLong("reminder"));
+            }
+        }
+    }
+
+    private static void loadMailboxes(Connection conn, Map<String, Map<String, Object>> claims) throws SQLException {
+        try (Statement st = conn.createStatement();
+             ResultSet rs = st.executeQuery("SELECT * FROM claim_mailboxes")) {
+            while (rs.next()) {
+                Map<String, Object> claim = claims.get(rs.getString("claim_id"));
+                if (claim == null) continue;
+                Map<String, Object> mailbox = mapAt(claim, "mailbox");
+                mailbox.put("owner", rs.getString("owner"));
+                readBlock(rs, mailbox, "sign_", "sign");
+                readBlock(rs, mailbox, "container_", "container");
+            }
+        }
+    }
+
+    private static void loadEvictions(Connection conn, Map<String, Map<String, Object>> claims) throws SQLException {
+        try (Statement st = conn.createStatement();
+             ResultSet rs = st.executeQuery("SELECT * FROM claim_evictions")) {
+            while (rs.next()) {
+                Map<String, Object> claim = claims.get(rs.getString("claim_id"));
+                if (claim == null) continue;
+                Map<String, Object> eviction = mapAt(claim, "eviction");
+                eviction.put("owner", rs.getString("owner"));
+                eviction.put("renter", rs.getString("renter"));
+                eviction.put("initiatedAt", rs.getLong("initiated_at"));
+                eviction.put("effectiveAt", rs.getLong("effective_at"));
+            }
+        }
+    }
+
+    private static void loadPendingRents(Connection conn, Map<String, Map<String, Object>> claims) throws SQLException {
+        try (Statement st = conn.createStatement();
+             ResultSet rs = st.executeQuery("SELECT * FROM claim_pending_rents")) {
+            while (rs.next()) {
+                Map<String, Object> claim = claims.get(rs.getString("claim_id"));
+                if (claim == null) continue;
+                Map<String, Object> pendingRent = mapAt(claim, "pendingRent");
+                pendingRent.put("owner", rs.getString("owner"));
+                pendingRent.put("renterName", rs.getString("renter_name"));
+                pendingRent.put("kind", rs.getString("kind"));
+                pendingRent.put("amount", rs.getString("amount"));
+                pendingRent.put("timestamp", rs.getLong("timestamp"));
+                pendingRent.put("isPurchase", rs.getInt("is_purchase") != 0);
+            }
+        }
+    }
+
+    /** Copy a {@code <prefix>world/x/y/z} column group into {@code <key>World/X/Y/Z} entries. */
+    private static void readBlock(ResultSet rs, Map<String, Object> target, String prefix, String key) throws SQLException {
+        String world = rs.getString(prefix + "world");
+        if (world == null) return;
+        target.put(key + "World", world);
+        target.put(key + "X", rs.getInt(prefix + "x"));
+        target.put(key + "Y", rs.getInt(prefix + "y"));
+        target.put(key + "Z", rs.getInt(prefix + "z"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> mapAt(Map<String, Object> parent, String key) {
+        return (Map<String, Object>) parent.computeIfAbsent(key, k -> new LinkedHashMap<String, Object>());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Object> listAt(Map<String, Object> parent, String key) {
+        return (List<Object>) parent.computeIfAbsent(key, k -> new ArrayList<>());
+    }
+
+    private static void putIfNotNull(Map<String, Object> map, String key, Object value) {
+        if (value != null) map.put(key, value);
+    }
+
+    // ---- Writing ----
+
+    private static void deleteClaim(Connection conn, String claimId) throws SQLException {
+        for (String table : CHILD_TABLES) {
+            try (PreparedStatement ps = conn.prepareStatement("DELETE FROM " + table + " WHERE claim_id = ?")) {
+                ps.setString(1, claimId);
+                ps.executeUpdate();
+            }
+        }
+        try (PreparedStatement ps = conn.prepareStatement("DELETE FROM claims WHERE claim_id = ?")) {
+            ps.setString(1, claimId);
+            ps.executeUpdate();
+        }
+    }
+
+    private static void insertClaim(Connection conn, String claimId, Map<String, Object> claim) throws SQLException {
+        Map<String, Object> bans = section(claim, "bans");
+        try (PreparedStatement ps = conn.prepareStatement(
+                "INSERT INTO claims (claim_id, public_listed, approval_pending, icon, description, custom_name, "
+                    + "waypoint_color, public_waypoint, public_banned, spawn) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            ps.setString(1, claimId);
+            ps.setInt(2, bool(claim, "public") ? 1 : 0);
+            ps.setInt(3, bool(claim, "globalApprovalPending") ? 1 : 0);
+            ps.setString(4, str(claim, "icon"));
+            ps.setString(5, str(claim, "description"));
+            ps.setString(6, str(claim, "name"));
+            ps.setString(7, str(claim, "color"));
+            ps.setInt(8, bool(claim, "publicWaypoint") ? 1 : 0);
+            ps.setInt(9, bans != null && bool(bans, "public") ? 1 : 0);
+            ps.setString(10, str(claim, "spawn"));
+            ps.executeUpdate();
+        }
+
+        if (claim.get("icons") instanceof List<?> icons && !icons.isEmpty()) {
+            try (PreparedStatement ps = conn.prepareStatement(
+                    "INSERT INTO claim_icon_history (claim_id, position, material) VALUES (?, ?, ?)")) {
+                for (int i = 0; i < icons.size(); i++) {
+                    ps.setString(1, claimId);
+                    ps.setInt(2, i);
+                    ps.setString(3, String.valueOf(icons.get(i)));
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+            }
+        }
+
+        insertPlayerRows(conn, claimId, bans, "claim_bans", "banned");
+        insertPlayerRows(conn, claimId, section(claim, "trustedPlayers"), "claim_trusted", "trusted");
+
+        Map<String, Object> rental = section(claim, "rental");
+        if (rental != null && str(rental, "renter") != null) {
+            try (PreparedStatement ps = conn.prepareStatement(
+                    "INSERT INTO claim_rentals (claim_id, renter, expiry, start, sign_world, sign_x, sign_y, sign_z, "
+                        + "pending_payment, payment_failed) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+                ps.setString(1, claimId);
+                ps.setString(2, str(rental, "renter"));
+                ps.setLong(3, num(rental, "expiry"));
+                ps.setLong(4, num(rental, "start"));
+                bindBlock(ps, 5, rental, "sign");
+                ps.setInt(9, bool(rental, "pendingPayment") ? 1 : 0);
+                ps.setInt(10, bool(rental, "paymentFailed") ? 1 : 0);
+                ps.executeUpdate();
+            }
+            if (rental.get("reminders") instanceof List<?> reminders && !reminders.isEmpty()) {
+                try (PreparedStatement ps = conn.prepareStatement(
+                        "INSERT OR IGNORE INTO claim_rental_reminders (claim_id, reminder) VALUES (?, ?)")) {
+                    for (Object reminder : reminders) {
+                        if (!(reminder instanceof Number n)) continue;
+                        ps.setString(1, claimId);
+                        ps.setLong(2, n.longValue());
+                        ps.addBatch();
+                    }
+                    ps.executeBatch();
+                }
+            }
+        }
+
+        Map<String, Object> mailbox = section(claim, "mailbox");
+        if (mailbox != null && str(mailbox, "owner") != null) {
+            try (PreparedStatement ps = conn.prepareStatement(
+                    "INSERT INTO claim_mailboxes (claim_id, owner, sign_world, sign_x, sign_y, sign_z, "
+                        + "container_world, container_x, container_y, container_z) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+                ps.setString(1, claimId);
+                ps.setString(2, str(mailbox, "owner"));
+                bindBlock(ps, 3, mailbox, "sign");
+                bindBlock(ps, 7, mailbox, "container");
+                ps.executeUpdate();
+            }
+        }
+
+        Map<String, Object> eviction = section(claim, "eviction");
+        if (eviction != null && str(eviction, "owner") != null && str(eviction, "renter") != null) {
+            try (PreparedStatement ps = conn.prepareStatement(
+                    "INSERT INTO claim_evictions (claim_id, owner, renter, initiated_at, effective_at) VALUES (?, ?, ?, ?, ?)")) {
+                ps.setString(1, claimId);
+                ps.setString(2, str(eviction, "owner"));
+                ps.setString(3, str(eviction, "renter"));
+                ps.setLong(4, num(eviction, "initiatedAt"));
+                ps.setLong(5, num(eviction, "effectiveAt"));
+                ps.executeUpdate();
+            }
+        }
+
+        Map<String, Object> pendingRent = section(claim, "pendingRent");
+        if (pendingRent != null && str(pendingRent, "owner") != null && str(pendingRent, "renterName") != null
+                && str(pendingRent, "kind") != null && str(pendingRent, "amount") != null) {
+            try (PreparedStatement ps = conn.prepareStatement(
+                    "INSERT INTO claim_pending_rents (claim_id, owner, renter_name, kind, amount, timestamp, is_purchase) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+                ps.setString(1, claimId);
+                ps.setString(2, str(pendingRent, "owner"));
+                ps.setString(3, str(pendingRent, "renterName"));
+                ps.setString(4, str(pendingRent, "kind"));
+                ps.setString(5, str(pendingRent, "amount"));
+                ps.setLong(6, num(pendingRent, "timestamp"));
+                ps.setInt(7, bool(pendingRent, "isPurchase") ? 1 : 0);
+                ps.executeUpdate();
+            }
+        }
+    }
+
+    /** One row per player that is either listed or has a cached name. */
+    private static void insertPlayerRows(Connection conn, String claimId, Map<String, Object> section,
+                                         String table, String flagColumn) throws SQLException {
+        if (section == null) return;
+        Set<String> listed = new LinkedHashSet<>();
+        if (section.get("players") instanceof List<?> players) {
+            for (Object p : players) listed.add(String.valueOf(p));
+        }
+        Map<String, Object> names = section(section, "names");
+        Set<String> all = new LinkedHashSet<>(listed);
+        if (names != null) all.addAll(names.keySet());
+        if (all.isEmpty()) return;
+        try (PreparedStatement ps = conn.prepareStatement(
+                "INSERT INTO " + table + " (claim_id, player_uuid, player_name, " + flagColumn + ") VALUES (?, ?, ?, ?)")) {
+            for (String uuid : all) {
+                ps.setString(1, claimId);
+                ps.setString(2, uuid);
+                ps.setString(3, names != null ? str(names, uuid) : null);
+                ps.setInt(4, listed.contains(uuid) ? 1 : 0);
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+    }
+
+    /** Bind {@code <key>World/X/Y/Z} to four parameters starting at {@code index}, or nulls. */
+    private static void bindBlock(PreparedStatement ps, int index, Map<String, Object> source, String key) throws SQLException {
+        String world = str(source, key + "World");
+        if (world == null) {
+            ps.setNull(index, Types.VARCHAR);
+            ps.setNull(index + 1, Types.INTEGER);
+            ps.setNull(index + 2, Types.INTEGER);
+            ps.setNull(index + 3, Types.INTEGER);
+            return;
+        }
+        ps.setString(index, world);
+        ps.setInt(index + 1, (int) num(source, key + "X"));
+        ps.setInt(index + 2, (int) num(source, key + "Y"));
+        ps.setInt(index + 3, (int) num(source, key + "Z"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> section(Map<String, Object> parent, String key) {
+        return parent.get(key) instanceof Map<?, ?> map ? (Map<String, Object>) map : null;
+    }
+
+    private static String str(Map<String, Object> map, String key) {
+        Object value = map.get(key);
+        return value == null ? null : String.valueOf(value);
+    }
+
+    private static long num(Map<String, Object> map, String key) {
+        return map.get(key) instanceof Number n ? n.longValue() : 0L;
+    }
+
+    private static boolean bool(Map<String, Object> map, String key) {
+        return map.get(key) instanceof Boolean b && b;
+    }
+}
@@ -0,0 +1,364 @@
+package codes.castled.gpexpansion.storage;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import codes.castled.gpexpansion.GPExpansionPlugin;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * The default claim metadata backend: claimdata.yml, optionally fronted by an append-only journal.
+ *
+ * <p>In plain YAML mode every flush rewrites the file. In journal mode each flush appends one
+ * record per changed claim to claimdata.journal, and the journal is folded back into claimdata.yml
+ * once it grows past {@code storage.journal.compact-after-records} or on shutdown.
+ *
+ * <p>On shutdown a {@link ClaimDataCache} is written beside claimdata.yml. Startup reads it instead
+ * of parsing the YAML as long as claimdata.yml has not changed since.
+ */
+public class YamlClaimMetadataRepository implements ClaimMetadataRepository {
+
+    private final GPExpansionPlugin plugin;
+    private final File file;
+    private final File journalFile;
+    private final File cacheFile;
+    private final boolean journalMode;
+    private final boolean cacheEnabled;
+
+    // The last serialised form of every claim, which is what a full rewrite writes out.
+    private final Map<String, Map<String, Object>> persistedClaims = new ConcurrentHashMap<>();
+    private final Queue<JournalRecord> pendingRecords = new ConcurrentLinkedQueue<>();
+    private final Object fileLock = new Object();
+    private int journalRecords; // guarded by fileLock
+    // Length, CRC32 and content of claimdata.yml as last written; guarded by fileLock.
+    private long baseLength = -1;
+    private long baseChecksum;
+    private Map<String, Map<String, Object>> baseClaims;
+    // Claims the last load decoded from the binary cache, until the store takes them; guarded by fileLock.
+    private Map<String, ClaimDataStore.ClaimData> decodedClaims = new LinkedHashMap<>();
+
+    /** A claim's full serialised state, or null data for a removed claim. */
+    private record JournalRecord(String claimId, Map<String, Object> data) {}
+
+    public YamlClaimMetadataRepository(GPExpansionPlugin plugin, boolean journalMode) {
+        this.plugin = plugin;
+        this.file = new File(plugin.getDataFolder(), "claimdata.yml");
+        this.journalFile = new File(plugin.getDataFolder(), "claimdata.journal");
+        this.cacheFile = new File(plugin.getDataFolder(), "claimdata.cache");
+        this.journalMode = journalMode;
+        this.cacheEnabled = plugin.getConfigManager().isClaimDataCacheEnabled();
+    }
+
+    @Override
+    public String getName() {
+        return journalMode ? "claimdata.yml + claimdata.journal" : "claimdata.yml";
+    }
+
+    @Override
+    public Map<String, Map<String, Object>> loadAll() throws IOException {
+        try {
+            if (!plugin.getDataFolder().exists()) {
+                plugin.getDataFolder().mkdirs();
+            }
+            if (!file.exists()) {
+                file.createNewFile();
+                // Initialize with basic structure
+                try (FileWriter writer = new FileWriter(file)) {
+                    writer.write("# GPExpansion Consolidated Claim Data\n");
+                    writer.write("# This file stores all claim-related data in one place\n\n");
+                    writer.write("claims: {}\n");
+                }
+            }
+        } catch (IOException e) {
+            throw new IOException("Failed creating claimdata.yml: " + e.getMessage(), e);
+        }
+
+        synchronized (fileLock) {
+            persistedClaims.clear();
+            pendingRecords.clear();
+            decodedClaims = new LinkedHashMap<>();
+            int replayed;
+            try {
+                loadBase();
+                replayed = replayJournal();
+            } catch (IOException e) {
+                // Nothing partially read is kept, so nothing can be written back over the files
+                persistedClaims.clear();
+                decodedClaims = new LinkedHashMap<>();
+                throw e;
+            }
+            journalRecords = replayed;
+            if (replayed > 0) {
+                plugin.getLogger().info("Replayed " + replayed + " record(s) from claimdata.journal.");
+                // Journal switched off since the last run: fold what it holds into the base file.
+                if (!journalMode) {
+                    compactJournal();
+                }
+            }
+            return new LinkedHashMap<>(persistedClaims);
+        }
+    }
+
+    /**
+     * Fill {@link #persistedClaims} from claimdata.yml, or from the binary cache when it was
+     * written from exactly the bytes on disk.
+     *
+     * @throws IOException if claimdata.yml could not be read or parsed
+     */
+    private void loadBase() throws IOException {
+        byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(file.toPath());
+        } catch (IOException e) {
+            throw new IOException("Failed reading claimdata.yml: " + e.getMessage(), e);
+        }
+        long length = bytes.length;
+        long checksum = ClaimDataCache.checksum(bytes);
+
+        if (cacheEnabled) {
+            ClaimDataCache.Snapshot cached = ClaimDataCache.read(cacheFile, length, checksum);
+            if (cached != null) {
+                // The store adopts these objects; the maps are what a later rewrite writes out, and
+                // keep locations in worlds that are not loaded yet, as the YAML path does.
+                for (String claimId : cached.claims().keySet()) {
+                    persistedClaims.put(claimId, cached.plainMap(claimId));
+                }
+                decodedClaims = cached.claims();
+                return;
+            }
+        }
+
+        YamlConfiguration config = new YamlConfiguration();
+        try {
+            config.loadFromString(new String(bytes, StandardCharsets.UTF_8));
+        } catch (InvalidConfigurationException e) {
+            throw new IOException("Failed parsing claimdata.yml: " + e.getMessage(), e);
+        }
+        ConfigurationSection claims = config.getConfigurationSection("claims");
+        if (claims != null) {
+            for (String claimId : claims.getKeys(false)) {
+                ConfigurationSection section = claims.getConfigurationSection(claimId);
+                if (section != null) {
+                    persistedClaims.put(claimId, ClaimDataStore.toPlainMap(section));
+                }
+            }
+        }
+    }
+
+    @Override
+    public Map<String, ClaimDataStore.ClaimData> takeDecodedClaims() {
+        synchronized (fileLock) {
+            Map<String, ClaimDataStore.ClaimData> taken = decodedClaims;
+            decodedClaims = new LinkedHashMap<>();
+            return taken;
+        }
+    }
+
+    /** Write the binary cache for the claimdata.yml just written. Called under {@link #fileLock}. */
+    private void writeCache() {
+        if (!cacheEnabled || baseClaims == null) {
+            return;
+        }
+        try {
+            ClaimDataCache.write(cacheFile, baseClaims, baseLength, baseChecksum);
+        } catch (IOException e) {
+            plugin.getLogger().warning("Failed writing claimdata.cache: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void stage(String claimId, Map<String, Object> data) {
+        if (data == null) {
+            persistedClaims.remove(claimId);
+        } else {
+            persistedClaims.put(claimId, data);
+        }
+        if (journalMode) {
+            pendingRecords.add(new JournalRecord(claimId, data));
+        }
+    }
+
+    @Override
+    public boolean flush(boolean shutdown) {
+        synchronized (fileLock) {
+            if (!journalMode) {
+                if (!writeBase()) {
+                    return false;
+                }
+            } else {
+                if (!appendJournal()) {
+                    return false;
+                }
+                if (shutdown || journalRecords >= plugin.getConfigManager().getClaimDataJournalCompactThreshold()) {
+                    if (!compactJournal()) {
+                        return false;
+                    }
+                }
+            }
+            // Only now does claimdata.yml alone describe every claim, which the cache depends on.
+            if (shutdown) {
+                writeCache();
+            }
+            return true;
+        }
+    }
+
+    @Override
+    public void close() {
+        // Nothing held open between flushes.
+    }
+
+    /**
+     * Append queued records to the journal as {@code P<TAB>id<TAB>base64 yaml} or
+     * {@code D<TAB>id} lines, then fsync so a crash loses at most the current flush window.
+     */
+    private boolean appendJournal() {
+        if (pendingRecords.isEmpty()) {
+            return true;
+        }
+        StringBuilder lines = new StringBuilder();
+        List<JournalRecord> drained = new ArrayList<>();
+        JournalRecord record;
+        while ((record = pendingRecords.poll()) != null) {
+            drained.add(record);
+            if (record.data() == null) {
+                lines.append("D\t").append(record.claimId()).append('\n');
+            } else {
+                YamlConfiguration yaml = new YamlConfiguration();
+                yaml.createSection("claim", record.data());
+                lines.append("P\t").append(record.claimId()).append('\t')
+                    .append(Base64.getEncoder().encodeToString(yaml.saveToString().getBytes(StandardCharsets.UTF_8)))
+                    .append('\n');
+            }
+        }
+
+        try (FileChannel channel = FileChannel.open(journalFile.toPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+            journalRecords += drained.size();
+            return true;
+        } catch (IOException e) {
+            plugin.getLogger().warning("Failed appending to claimdata.journal: " + e.getMessage());
+            // Keep the records for the next flush rather than dropping them.
+            List<JournalRecord> retry = new ArrayList<>(drained);
+            retry.addAll(pendingRecords);
+            pendingRecords.clear();
+            pendingRecords.addAll(retry);
+            return false;
+        }
+    }
+
+    /**
+     * Write the base file from the current state and drop the journal. Replaying a journal over a
+     * base that already contains it is harmless, since every record carries a claim's full state.
+     */
+    private boolean compactJournal() {
+        if (!writeBase()) {
+            return false;
+        }
+        try {
+            Files.deleteIfExists(journalFile.toPath());
+            journalRecords = 0;
+            return true;
+        } catch (IOException e) {
+            plugin.getLogger().warning("Failed truncating claimdata.journal: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Apply journal records on top of the base file. Called under {@link #fileLock} from load.
+     * Records cut short by a crash are skipped; a journal that cannot be read at all is an error.
+     */
+    private int replayJournal() throws IOException {
+        if (!journalFile.exists()) {
+            return 0;
+        }
+        int applied = 0;
+        int skipped = 0;
+        try (BufferedReader reader = Files.newBufferedReader(journalFile.toPath(), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) continue;
+                String[] parts = line.split("\t", 3);
+                try {
+                    if (parts.length == 2 && parts[0].equals("D")) {
+                        persistedClaims.remove(parts[1]);
+                        decodedClaims.remove(parts[1]);
+                    } else if (parts.length == 3 && parts[0].equals("P")) {
+                        YamlConfiguration yaml = new YamlConfiguration();
+                        yaml.loadFromString(new String(Base64.getDecoder().decode(parts[2]), StandardCharsets.UTF_8));
+                        ConfigurationSection section = yaml.getConfigurationSection("claim");
+                        persistedClaims.put(parts[1], section != null ? ClaimDataStore.toPlainMap(section) : Map.of());
+                        decodedClaims.remove(parts[1]);
+                    } else {
+                        skipped++;
+                        continue;
+                    }
+                    applied++;
+                } catch (IllegalArgumentException | InvalidConfigurationException e) {
+                    // Typically a record cut short by a crash mid-append.
+                    skipped++;
+                }
+            }
+        } catch (IOException e) {
+            throw new IOException("Failed reading claimdata.journal: " + e.getMessage(), e);
+        }
+        if (skipped > 0) {
+            plugin.getLogger().warning("Skipped " + skipped + " unreadable claimdata.journal record(s).");
+        }
+        return applied;
+    }
+
+    /** Rewrite claimdata.yml from {@link #persistedClaims} via a temp file and atomic move. */
+    private boolean writeBase() {
+        YamlConfiguration out = new YamlConfiguration();
+        out.options().setHeader(List.of(
+            "GPExpansion Consolidated Claim Data",
+            "This file stores all claim-related data in one place"));
+        out.createSection("claims");
+        // Snapshot so the cache written from this base matches it even if a claim is staged meanwhile.
+        Map<String, Map<String, Object>> snapshot = new LinkedHashMap<>(persistedClaims);
+        for (Map.Entry<String, Map<String, Object>> entry : snapshot.entrySet()) {
+            out.createSection("claims." + entry.getKey(), entry.getValue());
+        }
+
+        byte[] bytes = out.saveToString().getBytes(StandardCharsets.UTF_8);
+        File temp = new File(file.getParentFile(), file.getName() + ".tmp");
+        try {
+            Files.write(temp.toPath(), bytes);
+            try {
+                Files.move(temp.toPath(), file.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+            baseLength = bytes.length;
+            baseChecksum = ClaimDataCache.checksum(bytes);
+            baseClaims = snapshot;
+            return true;
+        } catch (IOException e) {
+            plugin.getLogger().warning("Failed saving claimdata.yml: " + e.getMessage());
+            return false;
+        }
+    }
+}
@@ -31,6 +31,13 @@ public class Config {
     static {
         // Debug settings
         DEFAULTS.put("debug.enabled", false);
+
+        // Claim data storage settings
+        DEFAULTS.put("storage.save-delay-ticks", 100);
+        DEFAULTS.put("storage.mode", "yaml");
+        DEFAULTS.put("storage.journal.compact-after-records", 5000);
+        DEFAULTS.put("storage.sqlite.file", "claimdata.db");
+        DEFAULTS.put("storage.cache.enabled", true);
         
         // Message settings
         DEFAULTS.put("messages.show-permission-details", true);
@@ -462,6 +469,42 @@ public class Config {
         return config.getBoolean("debug.enabled", false);
     }
     
+    /**
+     * Longest a claim change waits in memory before claimdata.yml is rewritten. Saves requested
+     * within this window are coalesced into a single off-thread write.
+     */
+    public long getClaimDataSaveDelayTicks() {
+        return Math.max(1L, config.getLong("storage.save-delay-ticks", 100L));
+    }
+    
+    /**
+     * Claim data backend: {@code yaml} rewrites claimdata.yml on every flush, {@code journal}
+     * appends changes to claimdata.journal, {@code sqlite} stores rows in an embedded database.
+     * Unknown values fall back to {@code yaml}.
+     */
+    public String getClaimDataStorageMode() {
+        String mode = config.getString("storage.mode", "yaml").toLowerCase(java.util.Locale.ROOT);
+        return mode.equals("journal") || mode.equals("sqlite") ? mode : "yaml";
+    }
+
+    /**
+     * Whether a binary copy of claimdata.yml is written on shutdown and used on the next startup
+     * while claimdata.yml is unchanged.
+     */
+    public boolean isClaimDataCacheEnabled() {
+        return config.getBoolean("storage.cache.enabled", true);
+    }
+
+    /** SQLite database file for claim data, relative to the plugin folder. */
+    public String getClaimDataSqliteFile() {
+        return config.getString("storage.sqlite.file", "claimdata.db");
+    }
+
+    /** Journal records after which the journal is folded back into claimdata.yml. */
+    public int getClaimDataJournalCompactThreshold() {
+        return Math.max(1, config.getInt("storage.journal.compact-after-records", 5000));
+    }
+    
     public boolean showPermissionDetails() {
         return config.getBoolean("messages.show-permission-details", true);
     }
@@ -281,6 +281,9 @@ public class Messages {
         DEFAULTS.put("admin.gpx-debug", "&e/gpx debug &7- Toggle debug mode");
         DEFAULTS.put("admin.gpx-max", "&e/gpx max &7- Modify player creation limits.");
         DEFAULTS.put("admin.gpx-accruals", "&e/gpx accruals &7- Check and modify claim block accrual profiles.");
+        DEFAULTS.put("admin.gpx-save", "&e/gpx save &7- Write pending claim data changes to disk now.");
+        DEFAULTS.put("admin.save-success", "&aClaim data saved ({count} pending changes written).");
+        DEFAULTS.put("admin.save-failed", "&cFailed to save claim data. Check the console for details.");
         DEFAULTS.put("admin.debug-enabled", "&aDebug mode enabled.");
         DEFAULTS.put("admin.debug-disabled", "&cDebug mode disabled.");
         DEFAULTS.put("admin.no-permission", "&cYou don't have permission to use this command.");
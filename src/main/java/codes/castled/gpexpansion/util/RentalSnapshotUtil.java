@@ -26,7 +26,7 @@ public final class RentalSnapshotUtil {
             return;
         }
 
-        GPBridge gp = new GPBridge();
+        GPBridge gp = plugin.getGPBridge();
         Optional<String> worldNameOpt = gp.getClaimWorld(claim);
         Optional<GPBridge.ClaimCorners> cornersOpt = gp.getClaimCorners(claim);
         if (!worldNameOpt.isPresent() || !cornersOpt.isPresent()) {
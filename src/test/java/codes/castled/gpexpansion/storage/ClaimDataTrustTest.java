@@ -0,0 +1,51 @@
+package codes.castled.gpexpansion.storage;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClaimDataTrustTest {
+
+    private static final UUID ALICE = UUID.fromString("00000000-0000-0000-0000-00000000a11c");
+    private static final UUID BOB = UUID.fromString("00000000-0000-0000-0000-000000000b0b");
+
+    @Test
+    void untrustOnFreshClaimLeavesSharedEmpties() {
+        ClaimDataStore.ClaimData data = new ClaimDataStore.ClaimData();
+
+        ClaimDataStore.untrust(data, ALICE);
+
+        assertSame(Set.of(), data.trustedPlayers);
+        assertSame(Map.of(), data.trustedPlayerNames);
+    }
+
+    @Test
+    void untrustWithoutCachedNamesOnlyTouchesPlayers() {
+        ClaimDataStore.ClaimData data = new ClaimDataStore.ClaimData();
+        ClaimDataStore.trusted(data).add(ALICE);
+        ClaimDataStore.trusted(data).add(BOB);
+
+        ClaimDataStore.untrust(data, ALICE);
+
+        assertEquals(Set.of(BOB), Set.copyOf(data.trustedPlayers));
+        assertTrue(data.trustedPlayerNames.isEmpty());
+    }
+
+    @Test
+    void untrustingLastPlayerResetsToSharedEmpties() {
+        ClaimDataStore.ClaimData data = new ClaimDataStore.ClaimData();
+        ClaimDataStore.trusted(data).add(ALICE);
+        ClaimDataStore.trustedNames(data).put(ALICE, "Alice");
+
+        ClaimDataStore.untrust(data, ALICE);
+
+        assertSame(Set.of(), data.trustedPlayers);
+        assertSame(Map.of(), data.trustedPlayerNames);
+    }
+}